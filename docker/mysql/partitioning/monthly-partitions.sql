@@ -0,0 +1,40 @@
+-- notifications / messages 월 단위 범위 파티셔닝 (created_at)
+--
+-- 일회성 전환 스크립트. 테이블을 다시 쓰므로 트래픽이 적은 시간에 실행하고 (대용량이면 온라인 스키마 변경 도구 사용),
+-- 완료 후 app.partitioning.enabled=true로 파티션 유지 작업을 활성화한다.
+--
+-- * 파티션 키는 모든 유니크 키에 포함되어야 하므로 기본 키를 (id, created_at)으로 바꾼다.
+--   id는 AUTO_INCREMENT로 계속 유일하며, 엔티티의 @Id 매핑은 그대로 둔다.
+-- * 파티셔닝된 테이블에는 외래 키와 created_at을 포함하지 않는 유니크 제약을 둘 수 없다.
+-- * 전환 이전 행은 phistory 파티션에 남으며 (관리 대상 아님), 기존 행 단위 정리로 비워진 뒤 직접 삭제한다.
+-- * 다음 달 이후 파티션은 파티션 유지 작업이 pmax를 분할하여 미리 만든다.
+
+SET @current_month = DATE_FORMAT(CURDATE(), '%Y-%m-01');
+SET @next_month = DATE_FORMAT(CURDATE() + INTERVAL 1 MONTH, '%Y-%m-01');
+SET @current_partition = CONCAT('p', DATE_FORMAT(CURDATE(), '%Y%m'));
+SET @partitions = CONCAT(
+    ' PARTITION BY RANGE COLUMNS(created_at) (',
+    'PARTITION phistory VALUES LESS THAN (''', @current_month, '''), ',
+    'PARTITION ', @current_partition, ' VALUES LESS THAN (''', @next_month, '''), ',
+    'PARTITION pmax VALUES LESS THAN (MAXVALUE))'
+);
+
+-- 알림
+ALTER TABLE notifications DROP PRIMARY KEY, ADD PRIMARY KEY (id, created_at);
+SET @ddl = CONCAT('ALTER TABLE notifications', @partitions);
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 메시지
+ALTER TABLE messages DROP PRIMARY KEY, ADD PRIMARY KEY (id, created_at);
+SET @ddl = CONCAT('ALTER TABLE messages', @partitions);
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 확인
+SELECT TABLE_NAME, PARTITION_NAME, PARTITION_DESCRIPTION, TABLE_ROWS
+FROM information_schema.PARTITIONS
+WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME IN ('notifications', 'messages')
+ORDER BY TABLE_NAME, PARTITION_ORDINAL_POSITION;
@@ -2,6 +2,7 @@
 Chat API endpoints for AI message generation
 """
 
+import asyncio
 import time
 import uuid
 from typing import Dict, Any
@@ -10,8 +11,15 @@ import structlog
 
 from app.core.config import get_settings
 from app.core.exceptions import MessageGenerationError, GrokAPIError, ValidationError
-from app.models.requests import ChatRequest, InactivityNotificationRequest
-from app.models.responses import ChatResponse, InactivityNotificationResponse, ErrorResponse, ErrorDetail
+from app.models.requests import ChatRequest, InactivityNotificationRequest, BatchInactivityNotificationRequest
+from app.models.responses import (
+    ChatResponse,
+    InactivityNotificationResponse,
+    BatchInactivityNotificationItem,
+    BatchInactivityNotificationResponse,
+    ErrorResponse,
+    ErrorDetail
+)
 from app.services.grok_service import GrokService
 from app.utils.validators import validate_chat_request, validate_notification_request
 
@@ -22,6 +30,7 @@ settings = get_settings()
 # Constants
 MAX_RESPONSE_TIME_MS = 30000  # 30 seconds
 MIN_RESPONSE_TIME_MS = 100    # 100ms
+BATCH_CONCURRENCY = 10        # Concurrent Grok calls per batch request
 
 
 def get_grok_service() -> GrokService:
@@ -342,6 +351,133 @@ async def generate_inactivity_notification(
         )
 
 
+@router.post(
+    "/chat/inactivity-notification/batch",
+    response_model=BatchInactivityNotificationResponse,
+    summary="Generate inactivity notifications in batch",
+    description="Generate notification messages for many inactive users in one call. "
+                "Failures are reported per item and do not fail the whole batch."
+)
+async def generate_inactivity_notifications_batch(
+    request: BatchInactivityNotificationRequest,
+    background_tasks: BackgroundTasks,
+    grok_service: GrokService = Depends(get_grok_service)
+) -> BatchInactivityNotificationResponse:
+    """
+    Generate inactivity notification messages for multiple users
+    
+    Args:
+        request: Batch of inactivity notification requests
+        background_tasks: Background tasks for async operations
+        grok_service: Grok service instance
+        
+    Returns:
+        Batch response with per-item results in request order
+    """
+    start_time = time.time()
+    request_id = str(uuid.uuid4())
+    semaphore = asyncio.Semaphore(BATCH_CONCURRENCY)
+    
+    logger.info(
+        "Batch inactivity notification request received",
+        request_id=request_id,
+        item_count=len(request.requests)
+    )
+    
+    async def generate_item(index: int, item: InactivityNotificationRequest) -> BatchInactivityNotificationItem:
+        validation_errors = validate_notification_request(item)
+        if validation_errors:
+            return BatchInactivityNotificationItem(
+                index=index,
+                user_id=item.user_id,
+                success=False,
+                error=ErrorDetail(
+                    error_code="VALIDATION_ERROR",
+                    message=f"Request validation failed: {', '.join(validation_errors)}"
+                )
+            )
+        
+        async with semaphore:
+            try:
+                notification_message = await grok_service.generate_inactivity_notification(
+                    pet_name=item.pet_persona.name,
+                    pet_persona=item.pet_persona.type.value,
+                    personality_traits=item.pet_persona.personality_traits,
+                    hours_since_last_activity=item.hours_since_last_activity,
+                    time_of_day=item.time_of_day,
+                    last_messages=item.last_messages
+                )
+                return BatchInactivityNotificationItem(
+                    index=index,
+                    user_id=item.user_id,
+                    success=True,
+                    notification_message=notification_message
+                )
+            except (MessageGenerationError, GrokAPIError) as e:
+                logger.warning(
+                    "Batch item generation failed",
+                    request_id=request_id,
+                    index=index,
+                    user_id=item.user_id,
+                    error=str(e)
+                )
+                return BatchInactivityNotificationItem(
+                    index=index,
+                    user_id=item.user_id,
+                    success=False,
+                    error=ErrorDetail(error_code=e.error_code, message=e.message)
+                )
+            except Exception as e:
+                logger.error(
+                    "Unexpected error during batch item generation",
+                    request_id=request_id,
+                    index=index,
+                    user_id=item.user_id,
+                    error=str(e),
+                    exc_info=True
+                )
+                return BatchInactivityNotificationItem(
+                    index=index,
+                    user_id=item.user_id,
+                    success=False,
+                    error=ErrorDetail(error_code="INTERNAL_ERROR", message="Internal server error occurred")
+                )
+    
+    results = await asyncio.gather(
+        *(generate_item(index, item) for index, item in enumerate(request.requests))
+    )
+    
+    successful_count = sum(1 for result in results if result.success)
+    generation_time = int((time.time() - start_time) * 1000)
+    
+    logger.info(
+        "Batch inactivity notification completed",
+        request_id=request_id,
+        processed_count=len(results),
+        successful_count=successful_count,
+        generation_time_ms=generation_time
+    )
+    
+    for result in results:
+        background_tasks.add_task(
+            log_notification_metrics,
+            request_id=request_id,
+            user_id=result.user_id,
+            generation_time_ms=generation_time,
+            success=result.success,
+            message_length=len(result.notification_message or "")
+        )
+    
+    return BatchInactivityNotificationResponse(
+        success=successful_count > 0,
+        processed_count=len(results),
+        successful_count=successful_count,
+        failed_count=len(results) - successful_count,
+        results=list(results),
+        total_processing_time_ms=generation_time
+    )
+
+
 async def log_generation_metrics(
     request_id: str,
     user_id: int,
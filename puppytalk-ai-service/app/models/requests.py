@@ -91,6 +91,11 @@ class InactivityNotificationRequest(BaseModel):
     time_of_day: Optional[str] = Field(None, regex="^(morning|afternoon|evening|night)$")
 
 
+class BatchInactivityNotificationRequest(BaseModel):
+    """Request for generating multiple inactivity notification messages in one call"""
+    requests: List[InactivityNotificationRequest] = Field(..., min_items=1, max_items=100)
+
+
 class HealthCheckRequest(BaseModel):
     """Health check request"""
     service_name: Optional[str] = None
\ No newline at end of file
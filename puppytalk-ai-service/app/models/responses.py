@@ -64,6 +64,30 @@ class ErrorResponse(BaseModel):
     request_id: Optional[str] = None
 
 
+class BatchInactivityNotificationItem(BaseModel):
+    """Per-item result of a batch inactivity notification request"""
+    index: int = Field(..., ge=0, description="Position of the item in the request")
+    user_id: int
+    success: bool
+    notification_message: Optional[str] = None
+    error: Optional[ErrorDetail] = None
+
+
+class BatchInactivityNotificationResponse(BaseModel):
+    """Batch inactivity notification response (partial failures are reported per item)"""
+    success: bool = True
+    processed_count: int = 0
+    successful_count: int = 0
+    failed_count: int = 0
+    
+    # Individual results, in request order
+    results: List[BatchInactivityNotificationItem] = Field(default_factory=list)
+    
+    # Processing metadata
+    total_processing_time_ms: Optional[int] = None
+    timestamp: datetime = Field(default_factory=datetime.utcnow)
+
+
 class HealthCheckResponse(BaseModel):
     """Health check response"""
     status: str = Field(..., description="Service status")
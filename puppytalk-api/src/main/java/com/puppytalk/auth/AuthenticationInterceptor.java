@@ -36,13 +36,10 @@ public class AuthenticationInterceptor implements HandlerInterceptor {
         // 1. 토큰 추출
         String token = extractToken(request);
 
-        // 2. 토큰 유효성 검사
-        authenticationDomainService.validateToken(token);
+        // 2. 토큰 검증 및 사용자 정보 조회 (캐시된 토큰은 저장소 조회 없음)
+        User user = authenticationDomainService.validateTokenAndGetUser(token);
 
-        // 3. 토큰으로 사용자 정보 조회
-        User user = authenticationDomainService.getUserFromToken(token);
-
-        // 4. request 객체에 사용자 정보 등록
+        // 3. request 객체에 사용자 정보 등록
         request.setAttribute(CURRENT_USER_ATTRIBUTE, user);
         logger.debug("JWT token validated successfully for user: {}", user.getUsername());
         return true;
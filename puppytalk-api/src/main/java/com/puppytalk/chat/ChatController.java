@@ -6,6 +6,7 @@ import com.puppytalk.chat.dto.request.ChatRoomListQuery;
 import com.puppytalk.chat.dto.request.MessageListQuery;
 import com.puppytalk.chat.dto.request.MessageSendCommand;
 import com.puppytalk.chat.dto.request.MessageSendRequest;
+import com.puppytalk.chat.dto.request.MessageStreamQuery;
 import com.puppytalk.chat.dto.request.NewMessageQuery;
 import com.puppytalk.chat.dto.response.ChatRoomListResult;
 import com.puppytalk.chat.dto.response.ChatRoomResponse;
@@ -13,6 +14,8 @@ import com.puppytalk.chat.dto.response.ChatRoomResult;
 import com.puppytalk.chat.dto.response.ChatRoomListResponse;
 import com.puppytalk.chat.dto.response.MessageListResult;
 import com.puppytalk.chat.dto.response.MessageListResponse;
+import com.puppytalk.chat.dto.response.MessageSendResponse;
+import com.puppytalk.chat.dto.response.MessageSendResult;
 import com.puppytalk.chat.dto.response.NewMessageResult;
 import com.puppytalk.chat.dto.response.NewMessageListResponse;
 import com.puppytalk.support.ApiResponse;
@@ -30,15 +33,18 @@ import jakarta.validation.constraints.Positive;
 import java.time.LocalDateTime;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Tag(name = "Chat", description = "채팅 관리 API")
 @RestController
@@ -47,9 +53,11 @@ import org.springframework.web.bind.annotation.RestController;
 public class ChatController {
 
     private final ChatFacade chatFacade;
+    private final ChatStreamEmitters chatStreamEmitters;
 
-    public ChatController(ChatFacade chatFacade) {
+    public ChatController(ChatFacade chatFacade, ChatStreamEmitters chatStreamEmitters) {
         this.chatFacade = chatFacade;
+        this.chatStreamEmitters = chatStreamEmitters;
     }
 
     @Operation(summary = "채팅방 생성", description = "채팅방을 생성하거나 기존 채팅방을 반환합니다.")
@@ -98,15 +106,15 @@ public class ChatController {
         );
     }
 
-    @Operation(summary = "메시지 전송", description = "채팅방에 사용자 메시지를 전송합니다.")
+    @Operation(summary = "메시지 전송", description = "채팅방에 사용자 메시지를 전송합니다. 반려동물 응답은 비동기로 생성됩니다.")
     @ApiResponses(value = {
-        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "201", description = "메시지 전송 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "202", description = "메시지 저장 완료, 응답 생성 대기"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "접근 권한 없음"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "채팅방을 찾을 수 없음")
     })
     @PostMapping("/rooms/{chatRoomId}/messages")
-    public ResponseEntity<ApiResponse<Void>> sendMessage(
+    public ResponseEntity<ApiResponse<MessageSendResponse>> sendMessage(
         @Parameter(description = "채팅방 ID", required = true, example = "1")
         @PathVariable @Positive(message = "채팅방 ID는 양수여야 합니다") Long chatRoomId,
         @Parameter(description = "메시지 전송 요청 정보", required = true)
@@ -119,10 +127,13 @@ public class ChatController {
             request.content()
         );
 
-        chatFacade.sendUserMessage(command);
+        MessageSendResult result = chatFacade.sendUserMessage(command);
 
-        return ResponseEntity.status(HttpStatus.CREATED)
-            .body(ApiResponse.success(ApiSuccessMessage.CHAT_MESSAGE_SEND_SUCCESS));
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+            .body(ApiResponse.success(
+                MessageSendResponse.from(result),
+                ApiSuccessMessage.CHAT_MESSAGE_ACCEPTED
+            ));
     }
 
     @Operation(summary = "메시지 목록 조회", description = "메시지 목록을 커서 기반 페이징으로 조회합니다. ")
@@ -180,4 +191,25 @@ public class ChatController {
             )
         );
     }
+
+    @Operation(summary = "메시지 스트림 구독 (SSE)",
+        description = "채팅방의 새 메시지를 Server-Sent Events로 전달합니다. 이벤트 이름은 message, 이벤트 ID는 메시지 ID입니다. "
+            + "반려동물 응답 생성에 실패하면 메시지를 저장하지 않고 reply-failed 이벤트(ID 없음)로 알립니다. "
+            + "재연결 시 Last-Event-ID 헤더로 마지막 메시지 ID를 보내면 놓친 메시지를 먼저 전달합니다.")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "스트림 연결 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "접근 권한 없음"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "채팅방을 찾을 수 없음")
+    })
+    @GetMapping(value = "/rooms/{chatRoomId}/messages/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamMessages(
+        @Parameter(description = "채팅방 ID", required = true, example = "1")
+        @PathVariable @Positive(message = "채팅방 ID는 양수여야 합니다") Long chatRoomId,
+        @Parameter(description = "마지막으로 받은 메시지 ID (재연결 시)", example = "123")
+        @RequestHeader(value = "Last-Event-ID", required = false) @Positive(message = "메시지 ID는 양수여야 합니다") Long lastEventId,
+        @CurrentUser User currentUser
+    ) {
+        MessageStreamQuery query = MessageStreamQuery.of(chatRoomId, currentUser.getId().value(), lastEventId);
+        return chatStreamEmitters.open(query);
+    }
 }
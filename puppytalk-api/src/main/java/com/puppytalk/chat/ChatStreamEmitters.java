@@ -0,0 +1,137 @@
+package com.puppytalk.chat;
+
+import com.puppytalk.chat.dto.request.MessageStreamQuery;
+import com.puppytalk.chat.dto.response.MessageResponse;
+import com.puppytalk.chat.dto.response.MessageResult;
+import com.puppytalk.chat.dto.response.ReplyFailedResponse;
+import com.puppytalk.chat.dto.response.ReplyFailedResult;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 채팅 메시지 SSE 연결 관리
+ * <p>
+ * 연결마다 {@link ChatMessageStreamRegistry} 구독을 하나 만들고, 연결이 끝나면 구독을 정리한다.
+ * 비동기 요청이므로 유휴 연결은 서블릿 스레드를 점유하지 않으며,
+ * 주기적인 heartbeat 주석으로 프록시 유휴 타임아웃과 끊어진 연결을 감지한다.
+ * 전달이 밀린 연결은 레지스트리가 구독을 종료하면 응답을 끝내, 클라이언트가 Last-Event-ID로 재연결하여 놓친 메시지를 받게 한다.
+ */
+@Component
+public class ChatStreamEmitters implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ChatStreamEmitters.class);
+
+    static final String MESSAGE_EVENT = "message";
+    static final String REPLY_FAILED_EVENT = "reply-failed";
+
+    private final ChatFacade chatFacade;
+    private final long timeoutMillis;
+    private final Map<SseEmitter, ChatMessageStreamRegistry.Subscription> connections = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService heartbeatScheduler;
+
+    public ChatStreamEmitters(
+        ChatFacade chatFacade,
+        @Value("${chat.stream.timeout-ms:1800000}") long timeoutMillis,
+        @Value("${chat.stream.heartbeat-ms:25000}") long heartbeatMillis
+    ) {
+        this.chatFacade = chatFacade;
+        this.timeoutMillis = timeoutMillis;
+        this.heartbeatScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "chat-stream-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.heartbeatScheduler.scheduleAtFixedRate(this::sendHeartbeats, heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 채팅방 메시지 스트림 연결을 연다. 접근 권한이 없으면 도메인 예외가 그대로 전파된다.
+     */
+    public SseEmitter open(MessageStreamQuery query) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        ChatMessageStreamRegistry.Subscription subscription = chatFacade.subscribeMessages(
+            query, new ChatMessageStreamRegistry.Subscriber() {
+                @Override
+                public void onMessage(MessageResult message) {
+                    send(emitter, SseEmitter.event()
+                        .id(String.valueOf(message.messageId()))
+                        .name(MESSAGE_EVENT)
+                        .data(MessageResponse.from(message), MediaType.APPLICATION_JSON));
+                }
+
+                @Override
+                public void onReplyFailed(ReplyFailedResult replyFailed) {
+                    // 메시지가 아니므로 이벤트 ID를 붙이지 않아 재연결 기준(Last-Event-ID)이 바뀌지 않는다
+                    send(emitter, SseEmitter.event()
+                        .name(REPLY_FAILED_EVENT)
+                        .data(ReplyFailedResponse.from(replyFailed), MediaType.APPLICATION_JSON));
+                }
+
+                @Override
+                public void onOverflow() {
+                    reconnect(emitter);
+                }
+            }
+        );
+        connections.put(emitter, subscription);
+
+        emitter.onCompletion(() -> close(emitter));
+        emitter.onTimeout(() -> close(emitter));
+        emitter.onError(error -> close(emitter));
+        return emitter;
+    }
+
+    public int connectionCount() {
+        return connections.size();
+    }
+
+    @Override
+    public void destroy() {
+        heartbeatScheduler.shutdownNow();
+        connections.keySet().forEach(SseEmitter::complete);
+    }
+
+    private void send(SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException e) {
+            // 구독자 오류로 전파하여 레지스트리에서 구독이 정리되게 한다
+            close(emitter);
+            throw new IllegalStateException("SSE connection closed", e);
+        }
+    }
+
+    private void reconnect(SseEmitter emitter) {
+        close(emitter);
+        emitter.complete();
+    }
+
+    private void sendHeartbeats() {
+        for (SseEmitter emitter : connections.keySet()) {
+            try {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+            } catch (IOException | IllegalStateException e) {
+                close(emitter);
+            }
+        }
+    }
+
+    private void close(SseEmitter emitter) {
+        ChatMessageStreamRegistry.Subscription subscription = connections.remove(emitter);
+        if (subscription != null) {
+            subscription.close();
+            log.debug("Chat stream closed: connections={}", connections.size());
+        }
+    }
+}
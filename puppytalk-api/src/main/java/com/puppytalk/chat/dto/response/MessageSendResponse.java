@@ -0,0 +1,29 @@
+package com.puppytalk.chat.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+
+/**
+ * 메시지 전송 응답
+ */
+@Schema(description = "메시지 전송 응답 (반려동물 응답은 비동기로 생성되어 메시지 목록/새 메시지 조회로 확인)")
+public record MessageSendResponse(
+
+    @Schema(description = "저장된 사용자 메시지 ID", example = "123")
+    Long messageId,
+
+    @Schema(description = "채팅방 ID", example = "1")
+    Long chatRoomId,
+
+    @Schema(description = "메시지 생성 시각", example = "2023-12-01T15:30:00")
+    LocalDateTime createdAt
+) {
+
+    public static MessageSendResponse from(MessageSendResult result) {
+        return new MessageSendResponse(
+            result.messageId(),
+            result.chatRoomId(),
+            result.createdAt()
+        );
+    }
+}
@@ -0,0 +1,21 @@
+package com.puppytalk.chat.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 반려동물 응답 실패 알림
+ */
+@Schema(description = "반려동물 응답 실패 알림 (응답 메시지는 저장되지 않음)")
+public record ReplyFailedResponse(
+
+    @Schema(description = "채팅방 ID", example = "1")
+    Long chatRoomId,
+
+    @Schema(description = "응답하지 못한 사용자 메시지 ID", example = "123")
+    Long userMessageId
+) {
+
+    public static ReplyFailedResponse from(ReplyFailedResult result) {
+        return new ReplyFailedResponse(result.chatRoomId(), result.userMessageId());
+    }
+}
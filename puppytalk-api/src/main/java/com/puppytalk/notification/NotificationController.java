@@ -8,6 +8,8 @@ import com.puppytalk.notification.dto.response.NotificationListResponse;
 import com.puppytalk.notification.dto.response.NotificationListResult;
 import com.puppytalk.notification.dto.response.NotificationResponse;
 import com.puppytalk.notification.dto.response.NotificationResult;
+import com.puppytalk.notification.dto.response.NotificationTimeSeriesResponse;
+import com.puppytalk.notification.dto.response.NotificationTimeSeriesResult;
 import com.puppytalk.support.ApiResponse;
 import com.puppytalk.support.ApiSuccessMessage;
 import io.swagger.v3.oas.annotations.Operation;
@@ -15,6 +17,8 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.time.LocalDateTime;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -117,4 +121,25 @@ public class NotificationController {
         long count = notificationFacade.getUnreadCount(userId);
         return ResponseEntity.ok(ApiResponse.success(count));
     }
+    
+    @Operation(summary = "알림 통계 시계열 조회",
+        description = "시간/일 단위 버킷별로 알림이 각 상태로 전환된 횟수를 조회합니다. 미리 집계된 버킷을 읽으므로 긴 기간도 알림 테이블을 스캔하지 않습니다.")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "알림 통계 조회 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 기간 또는 집계 단위")
+    })
+    @GetMapping("/stats/timeseries")
+    public ResponseEntity<ApiResponse<NotificationTimeSeriesResponse>> getStatsTimeSeries(
+        @Parameter(description = "조회 시작 시각 (버킷 시작으로 내림)", required = true, example = "2023-12-01T00:00:00")
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+        @Parameter(description = "조회 종료 시각 (제외)", required = true, example = "2023-12-02T00:00:00")
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+        @Parameter(description = "집계 단위 (HOUR: 최대 31일, DAY: 최대 366일)", example = "HOUR")
+        @RequestParam(defaultValue = "HOUR") String granularity
+    ) {
+        NotificationTimeSeriesResult result = notificationFacade.getStatsTimeSeries(from, to, granularity);
+        NotificationTimeSeriesResponse response = NotificationTimeSeriesResponse.from(result);
+        
+        return ResponseEntity.ok(ApiResponse.success(response, ApiSuccessMessage.NOTIFICATION_STATS_SUCCESS));
+    }
 }
\ No newline at end of file
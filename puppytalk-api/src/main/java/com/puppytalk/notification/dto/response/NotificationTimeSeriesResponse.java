@@ -0,0 +1,47 @@
+package com.puppytalk.notification.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 알림 통계 시계열 응답 DTO
+ */
+@Schema(description = "알림 통계 시계열 응답")
+public record NotificationTimeSeriesResponse(
+
+    @Schema(description = "집계 단위", example = "HOUR")
+    String granularity,
+
+    @Schema(description = "버킷 목록 (버킷 시작 시각, 타입, 상태 순, 전환이 없는 버킷은 생략)")
+    List<Point> points
+) {
+
+    /**
+     * NotificationTimeSeriesResult로부터 응답 DTO 생성
+     */
+    public static NotificationTimeSeriesResponse from(NotificationTimeSeriesResult result) {
+        List<Point> points = result.points().stream()
+            .map(point -> new Point(point.bucketStart(), point.type(), point.status(), point.count()))
+            .toList();
+
+        return new NotificationTimeSeriesResponse(result.granularity(), points);
+    }
+
+    @Schema(description = "버킷별 상태 전환 횟수")
+    public record Point(
+
+        @Schema(description = "버킷 시작 시각", example = "2023-12-01T15:00:00")
+        LocalDateTime bucketStart,
+
+        @Schema(description = "알림 타입", example = "INACTIVITY_MESSAGE")
+        String type,
+
+        @Schema(description = "전환된 상태 (생성은 CREATED, 발송 시도는 SENDING)", example = "SENT")
+        String status,
+
+        @Schema(description = "전환 횟수", example = "120")
+        long count
+    ) {
+    }
+}
@@ -17,6 +17,7 @@ public enum ApiSuccessMessage {
     
     // Chat
     CHAT_MESSAGE_SEND_SUCCESS("메시지가 전송되었습니다"),
+    CHAT_MESSAGE_ACCEPTED("메시지가 전송되었습니다. 반려동물이 답장을 준비하고 있습니다"),
     CHAT_ROOM_CREATE_SUCCESS("채팅방이 생성되었습니다"),
     CHAT_ROOM_FIND_SUCCESS("기존 채팅방을 조회했습니다"),
     CHAT_ROOM_LIST_SUCCESS("채팅방 목록을 조회했습니다"),
@@ -31,6 +32,7 @@ public enum ApiSuccessMessage {
     NOTIFICATION_CREATE_SUCCESS("알림이 생성되었습니다"),
     NOTIFICATION_STATUS_UPDATE_SUCCESS("알림 상태가 업데이트되었습니다"),
     NOTIFICATION_LIST_SUCCESS("알림 목록을 조회했습니다"),
+    NOTIFICATION_STATS_SUCCESS("알림 통계를 조회했습니다"),
     NOTIFICATION_CLEANUP_SUCCESS("알림 정리가 완료되었습니다");
     
     private final String message;
@@ -116,6 +116,17 @@ public enum ErrorCode {
                                  HttpStatus.BAD_REQUEST, 
                                  ErrorResponse.ErrorCategory.VALIDATION_ERROR),
 
+    // === AI 서비스 관련 오류 ===
+    AI_SERVICE_UNAVAILABLE("AI_SERVICE_UNAVAILABLE", 
+                          "AI 서비스를 일시적으로 사용할 수 없습니다. 잠시 후 다시 시도해주세요", 
+                          HttpStatus.SERVICE_UNAVAILABLE, 
+                          ErrorResponse.ErrorCategory.EXTERNAL_ERROR),
+    
+    AI_GENERATION_FAILED("AI_GENERATION_FAILED", 
+                        "AI 응답 생성에 실패했습니다", 
+                        HttpStatus.BAD_GATEWAY, 
+                        ErrorResponse.ErrorCategory.EXTERNAL_ERROR),
+
     // === 활동 추적 관련 오류 ===
     ACTIVITY_TRACKING_FAILED("ACTIVITY_TRACKING_FAILED", 
                             "활동 추적에 실패했습니다", 
@@ -138,6 +149,11 @@ public enum ErrorCode {
                        HttpStatus.UNAUTHORIZED, 
                        ErrorResponse.ErrorCategory.SECURITY_ERROR),
     
+    AUTHENTICATION_BUSY("AUTHENTICATION_BUSY", 
+                       "로그인 요청이 많습니다. 잠시 후 다시 시도해주세요", 
+                       HttpStatus.TOO_MANY_REQUESTS, 
+                       ErrorResponse.ErrorCategory.SERVER_ERROR),
+    
     INVALID_SECURITY_HEADERS("INVALID_SECURITY_HEADERS", 
                            "보안 헤더가 올바르지 않습니다", 
                            HttpStatus.BAD_REQUEST, 
@@ -1,5 +1,6 @@
 package com.puppytalk.support;
 
+import com.puppytalk.ai.exception.AiGenerationException;
 import com.puppytalk.auth.exception.InvalidCredentialsException;
 import com.puppytalk.auth.exception.InvalidTokenException;
 
@@ -7,6 +8,7 @@ import com.puppytalk.chat.exception.ChatRoomAccessDeniedException;
 import com.puppytalk.chat.exception.MessageNotFoundException;
 import com.puppytalk.chat.exception.MessageValidationException;
 import com.puppytalk.notification.exception.NotificationException;
+import com.puppytalk.user.exception.PasswordHashingBusyException;
 import com.puppytalk.user.exception.UserNotFoundException;
 import com.puppytalk.pet.exception.PetNotFoundException;
 import com.puppytalk.chat.exception.ChatRoomNotFoundException;
@@ -16,6 +18,7 @@ import jakarta.validation.ConstraintViolationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.FieldError;
@@ -263,6 +266,25 @@ public class GlobalExceptionHandler {
                 .body(errorResponse);
     }
 
+    /**
+     * 비밀번호 처리 스레드 풀이 포화된 경우 처리 (429, 잠시 후 재시도)
+     */
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ResponseEntity<ErrorResponse> handlePasswordHashingBusyException(
+            PasswordHashingBusyException ex, HttpServletRequest request) {
+        
+        String traceId = getTraceId(request);
+        log.warn("[{}] Password hashing busy: {}", traceId, ex.getMessage());
+        
+        ErrorResponse errorResponse = ErrorCode.AUTHENTICATION_BUSY.toErrorResponse(
+            traceId, request.getRequestURI(), request.getMethod()
+        );
+        
+        return ResponseEntity.status(ErrorCode.AUTHENTICATION_BUSY.getHttpStatus())
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorResponse);
+    }
+
     // === 도메인 예외 ===
 
     /**
@@ -360,6 +382,24 @@ public class GlobalExceptionHandler {
 
     // === 외부 서비스 예외 ===
 
+    /**
+     * AI 서비스 장애 처리 (서킷 개방/동시 호출 한도 초과는 503, 호출 실패는 502)
+     */
+    @ExceptionHandler(AiGenerationException.class)
+    public ResponseEntity<ErrorResponse> handleAiGenerationException(
+            AiGenerationException ex, HttpServletRequest request) {
+        
+        String traceId = getTraceId(request);
+        ErrorCode errorCode = ex.isUnavailable() ? ErrorCode.AI_SERVICE_UNAVAILABLE : ErrorCode.AI_GENERATION_FAILED;
+        log.warn("[{}] AI generation failed: {}", traceId, ex.getMessage());
+        
+        ErrorResponse errorResponse = errorCode.toErrorResponse(
+            traceId, request.getRequestURI(), request.getMethod()
+        );
+        
+        return ResponseEntity.status(errorCode.getHttpStatus())
+                .body(errorResponse);
+    }
 
     @ExceptionHandler(NotificationException.class)
     public ResponseEntity<ErrorResponse> handleNotificationException(
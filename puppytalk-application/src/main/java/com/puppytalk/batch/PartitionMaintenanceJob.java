@@ -0,0 +1,125 @@
+package com.puppytalk.batch;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 월 단위 파티션 유지 작업
+ * <p>
+ * {@code notifications}와 {@code messages}의 {@code created_at} 월 파티션을 미리 만들고, 보관 기간이 지난 파티션을
+ * 삭제하거나 보관 테이블로 교환한다. 파티션 삭제/교환은 메타데이터 변경이므로 행 수와 관계없이 끝나며,
+ * 삭제된 알림의 미읽은 개수는 카운터 보정 작업에서 맞춰진다. 파티셔닝되지 않은 테이블은 건너뛴다.
+ */
+@Component
+public class PartitionMaintenanceJob {
+
+    static final String NOTIFICATIONS_TABLE = "notifications";
+    static final String MESSAGES_TABLE = "messages";
+
+    private static final Logger log = LoggerFactory.getLogger(PartitionMaintenanceJob.class);
+
+    private final TablePartitionRepository tablePartitionRepository;
+    private final boolean enabled;
+    private final List<ManagedTable> tables;
+
+    public PartitionMaintenanceJob(
+        TablePartitionRepository tablePartitionRepository,
+        @Value("${app.partitioning.enabled:false}") boolean enabled,
+        @Value("${app.partitioning.premake-months:3}") int premakeMonths,
+        @Value("${app.partitioning.notifications.retention-months:2}") int notificationRetentionMonths,
+        @Value("${app.partitioning.notifications.expiry-action:DROP}") PartitionExpiryAction notificationExpiryAction,
+        @Value("${app.partitioning.messages.retention-months:0}") int messageRetentionMonths,
+        @Value("${app.partitioning.messages.expiry-action:ARCHIVE}") PartitionExpiryAction messageExpiryAction
+    ) {
+        if (tablePartitionRepository == null) {
+            throw new IllegalArgumentException("TablePartitionRepository must not be null");
+        }
+
+        this.tablePartitionRepository = tablePartitionRepository;
+        this.enabled = enabled;
+        this.tables = List.of(
+            new ManagedTable(NOTIFICATIONS_TABLE,
+                new MonthlyPartitionPolicy(premakeMonths, notificationRetentionMonths), notificationExpiryAction),
+            new ManagedTable(MESSAGES_TABLE,
+                new MonthlyPartitionPolicy(premakeMonths, messageRetentionMonths), messageExpiryAction)
+        );
+    }
+
+    /**
+     * 모든 관리 대상 테이블의 파티션을 유지한다
+     *
+     * @return 실행 결과 (비활성화 상태면 빈 결과)
+     */
+    public synchronized MaintenanceReport run() {
+        long startedAt = System.currentTimeMillis();
+        if (!enabled) {
+            return new MaintenanceReport(List.of(), 0);
+        }
+
+        YearMonth currentMonth = YearMonth.now();
+        List<TableReport> reports = new ArrayList<>();
+        for (ManagedTable table : tables) {
+            reports.add(maintain(table, currentMonth));
+        }
+        return new MaintenanceReport(reports, System.currentTimeMillis() - startedAt);
+    }
+
+    private TableReport maintain(ManagedTable table, YearMonth currentMonth) {
+        List<TablePartition> partitions = tablePartitionRepository.findPartitions(table.name());
+        if (partitions.isEmpty()) {
+            log.warn("Partition maintenance skipped, table is not partitioned: table={}", table.name());
+            return new TableReport(table.name(), false, List.of(), List.of());
+        }
+
+        PartitionPlan plan = table.policy().plan(partitions, currentMonth);
+
+        List<String> created = new ArrayList<>();
+        for (YearMonth month : plan.toCreate()) {
+            tablePartitionRepository.addMonthlyPartition(table.name(), month);
+            created.add(TablePartition.monthly(month).name());
+        }
+
+        List<String> expired = new ArrayList<>();
+        for (TablePartition partition : plan.toExpire()) {
+            if (table.expiryAction() == PartitionExpiryAction.ARCHIVE) {
+                String archiveTable = tablePartitionRepository.archivePartition(table.name(), partition);
+                log.info("Partition archived: table={}, partition={}, archiveTable={}",
+                    table.name(), partition.name(), archiveTable);
+            } else {
+                tablePartitionRepository.dropPartition(table.name(), partition);
+                log.info("Partition dropped: table={}, partition={}", table.name(), partition.name());
+            }
+            expired.add(partition.name());
+        }
+
+        return new TableReport(table.name(), true, created, expired);
+    }
+
+    private record ManagedTable(String name, MonthlyPartitionPolicy policy, PartitionExpiryAction expiryAction) {
+    }
+
+    /**
+     * 파티션 유지 실행 결과
+     *
+     * @param tables 테이블별 결과
+     * @param durationMillis 전체 소요 시간
+     */
+    public record MaintenanceReport(List<TableReport> tables, long durationMillis) {
+    }
+
+    /**
+     * 테이블별 파티션 유지 결과
+     *
+     * @param table 테이블 이름
+     * @param partitioned 파티셔닝된 테이블인지 여부 (false면 건너뜀)
+     * @param created 새로 만든 파티션
+     * @param expired 삭제 또는 보관된 파티션
+     */
+    public record TableReport(String table, boolean partitioned, List<String> created, List<String> expired) {
+    }
+}
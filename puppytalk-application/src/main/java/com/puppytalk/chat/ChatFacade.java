@@ -1,15 +1,16 @@
 package com.puppytalk.chat;
 
-import com.puppytalk.ai.AiMessageGenerationService;
-import com.puppytalk.ai.ChatContext;
 import com.puppytalk.chat.dto.request.ChatRoomCreateCommand;
 import com.puppytalk.chat.dto.request.ChatRoomListQuery;
 import com.puppytalk.chat.dto.request.MessageListQuery;
 import com.puppytalk.chat.dto.request.MessageSendCommand;
+import com.puppytalk.chat.dto.request.MessageStreamQuery;
 import com.puppytalk.chat.dto.request.NewMessageQuery;
 import com.puppytalk.chat.dto.response.ChatRoomListResult;
 import com.puppytalk.chat.dto.response.ChatRoomResult;
 import com.puppytalk.chat.dto.response.MessageListResult;
+import com.puppytalk.chat.dto.response.MessageResult;
+import com.puppytalk.chat.dto.response.MessageSendResult;
 import com.puppytalk.chat.dto.response.NewMessageResult;
 import com.puppytalk.pet.Pet;
 import com.puppytalk.pet.PetDomainService;
@@ -20,6 +21,7 @@ import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 
@@ -28,22 +30,26 @@ import org.springframework.util.Assert;
 public class ChatFacade {
 
     private static final Logger log = LoggerFactory.getLogger(ChatFacade.class);
+    private static final int MISSED_MESSAGE_LIMIT = 100;
 
     private final ChatDomainService chatDomainService;
     private final PetDomainService petDomainService;
     private final UserDomainService userDomainService;
-    private final AiMessageGenerationService aiMessageGenerationService;
+    private final ChatReplyWorker chatReplyWorker;
+    private final ChatMessageStreamRegistry chatMessageStreamRegistry;
 
     public ChatFacade(
         ChatDomainService chatDomainService,
         PetDomainService petDomainService,
         UserDomainService userDomainService,
-        AiMessageGenerationService aiMessageGenerationService
+        ChatReplyWorker chatReplyWorker,
+        ChatMessageStreamRegistry chatMessageStreamRegistry
     ) {
         this.chatDomainService = chatDomainService;
         this.petDomainService = petDomainService;
         this.userDomainService = userDomainService;
-        this.aiMessageGenerationService = aiMessageGenerationService;
+        this.chatReplyWorker = chatReplyWorker;
+        this.chatMessageStreamRegistry = chatMessageStreamRegistry;
     }
 
     /**
@@ -71,15 +77,18 @@ public class ChatFacade {
 
 
     /**
-     * 사용자 메시지를 전송하고 AI 응답을 생성합니다.
+     * 사용자 메시지를 저장하고 반려동물 응답 생성을 예약합니다.
      * <p>
-     * 메시지 내용에 대한 기본 검증을 수행한 후 전송하고, AI 서비스를 통해 반려동물 응답을 생성합니다.
+     * 사용자 메시지 저장과 응답 생성에 필요한 정보 수집까지만 트랜잭션 안에서 수행합니다.
+     * 최근 대화 조회와 AI 응답 생성은 커밋 이후 {@link ChatReplyWorker}가 수행하고, 응답은 별도 트랜잭션으로 저장합니다
+     * (트랜잭션 밖에서 조회해야 최근 메시지 캐시에 적재됩니다).
      *
      * @param command 메시지 전송 커맨드 (chatRoomId, userId, content 필수)
+     * @return 저장된 사용자 메시지 정보
      * @throws IllegalArgumentException command가 null이거나 메시지 내용이 유효하지 않은 경우
      */
     @Transactional
-    public void sendUserMessage(MessageSendCommand command) {
+    public MessageSendResult sendUserMessage(MessageSendCommand command) {
         Assert.notNull(command, "MessageSendCommand must not be null");
         Assert.notNull(command.userId(), "UserId must not be null");
         Assert.hasText(command.content(), "Content cannot be null or empty");
@@ -87,31 +96,20 @@ public class ChatFacade {
         ChatRoomId chatRoomId = ChatRoomId.from(command.chatRoomId());
         UserId userId = UserId.from(command.userId());
 
-        // 1. 채팅방 조회 및 사용자 메시지 저장
+        // 1. 채팅방 조회 (요청당 한 번, 이후 단계는 조회한 채팅방을 재사용) 및 사용자 메시지 저장
         ChatRoom chatRoom = chatDomainService.findChatRoom(chatRoomId, userId);
-        chatDomainService.sendUserMessage(chatRoomId, userId, command.content());
+        Message userMessage = chatDomainService.sendUserMessage(chatRoom, userId, command.content());
         
         // 2. 사용자 활동시간 업데이트
         userDomainService.updateLastActiveTime(userId);
 
         // 3. AI 응답 생성을 위한 정보 수집
         Pet pet = petDomainService.getPet(chatRoom.getPetId(), userId);
-        List<Message> conversationHistory = chatDomainService.findMessageListWithCursor(
-            chatRoomId, userId, null, 20
-        ); // 최근 20개의 메시지 조회
-
-        // 3. AI 응답 생성 및 저장
-        ChatContext chatContext = new ChatContext(
-            chatRoom.getUserId().value(),
-            pet.getId().value(),
-            pet.getPersona(),
-            command.content(),
-            conversationHistory
-        );
 
-        String aiResponse = aiMessageGenerationService.generateChatResponse(chatContext);
+        // 4. 커밋 이후 최근 대화 조회, AI 응답 생성 및 저장
+        chatReplyWorker.scheduleReply(chatRoom, pet, userMessage);
 
-        chatDomainService.sendPetMessage(chatRoomId, aiResponse);
+        return MessageSendResult.from(userMessage);
     }
 
     /**
@@ -129,7 +127,10 @@ public class ChatFacade {
 
     /**
      * 메시지 목록 조회 (커서 기반 페이징)
+     * <p>
+     * 첫 페이지 조회가 최근 메시지 캐시에 채팅방을 적재할 수 있도록 트랜잭션 없이 실행합니다.
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public MessageListResult findMessageList(MessageListQuery query) {
         Assert.notNull(query, "MessageListQuery must not be null");
         Assert.notNull(query.chatRoomId(), "ChatRoomId must not be null");
@@ -170,5 +171,42 @@ public class ChatFacade {
         
         return NewMessageResult.from(newMessages);
     }
-    
-}
\ No newline at end of file
+
+    /**
+     * 채팅방 메시지 스트림을 구독합니다 (SSE 푸시용).
+     * <p>
+     * 접근 권한은 구독 시점에 한 번만 확인하며, 이후 새 메시지는 저장 이벤트로 전달되어 DB를 조회하지 않습니다.
+     * 재연결 시 lastMessageId가 있으면 놓친 메시지를 먼저 전달합니다 (실시간 이벤트와 중복될 수 있으므로 클라이언트는 ID로 중복을 제거).
+     *
+     * @param query 구독 쿼리 (chatRoomId, userId 필수)
+     * @param subscriber 스트림 이벤트 수신 콜백
+     * @return 구독 핸들 (연결 종료 시 close 필요)
+     */
+    public ChatMessageStreamRegistry.Subscription subscribeMessages(
+        MessageStreamQuery query,
+        ChatMessageStreamRegistry.Subscriber subscriber
+    ) {
+        Assert.notNull(query, "MessageStreamQuery must not be null");
+        Assert.notNull(subscriber, "Subscriber must not be null");
+
+        ChatRoomId chatRoomId = ChatRoomId.from(query.chatRoomId());
+        UserId userId = UserId.from(query.userId());
+        ChatRoom chatRoom = chatDomainService.findChatRoom(chatRoomId, userId);
+
+        // 누락 방지를 위해 구독을 먼저 등록한 뒤 놓친 메시지를 조회한다
+        ChatMessageStreamRegistry.Subscription subscription = chatMessageStreamRegistry.subscribe(chatRoomId, subscriber);
+        if (query.lastMessageId() != null) {
+            try {
+                chatDomainService.findMessageListWithCursor(
+                    chatRoom, userId, MessageId.from(query.lastMessageId()), MISSED_MESSAGE_LIMIT
+                ).forEach(message -> subscriber.onMessage(MessageResult.from(message)));
+            } catch (RuntimeException e) {
+                // 호출자는 구독 핸들을 받지 못하므로 여기서 해제한다
+                subscription.close();
+                throw e;
+            }
+        }
+
+        return subscription;
+    }
+}
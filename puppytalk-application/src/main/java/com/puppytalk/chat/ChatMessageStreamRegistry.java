@@ -0,0 +1,268 @@
+package com.puppytalk.chat;
+
+import com.puppytalk.chat.dto.response.MessageResult;
+import com.puppytalk.chat.dto.response.ReplyFailedResult;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 채팅방별 메시지 구독 레지스트리 (프로세스 내)
+ * <p>
+ * 저장된 메시지를 트랜잭션 커밋 이후 해당 채팅방의 구독자에게 전달한다.
+ * 이벤트에 메시지 본문이 포함되므로 구독자는 DB를 다시 조회하지 않는다.
+ * 반려동물 응답 생성 실패도 메시지를 저장하지 않고 이 스트림으로만 알린다.
+ * <ul>
+ *   <li>구독마다 크기가 제한된 대기열을 두고, 작은 전달 스레드 풀이 구독 단위로 순서대로 비운다</li>
+ *   <li>한 구독의 전달은 한 번에 한 스레드만 수행하므로, 느리거나 끊긴 연결은 스레드 하나만 붙잡고
+ *       다른 구독은 나머지 스레드로 계속 전달된다</li>
+ *   <li>대기열이 가득 찬 구독은 이벤트를 버리지 않고 종료하며 {@link Subscriber#onOverflow()}를 호출한다.
+ *       클라이언트는 재연결하여 마지막으로 받은 메시지 이후를 다시 조회한다</li>
+ * </ul>
+ * 메시지 저장 흐름에서는 대기열에 넣기만 하므로 구독자 호출로 지연되지 않는다.
+ */
+@Component
+public class ChatMessageStreamRegistry implements ChatMessageListener, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ChatMessageStreamRegistry.class);
+
+    private final Map<Long, Set<Subscription>> subscriptionsByRoom = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final int queueCapacity;
+    private final ThreadPoolExecutor deliveryPool;
+
+    public ChatMessageStreamRegistry(
+        @Value("${chat.stream.delivery-threads:8}") int deliveryThreads,
+        @Value("${chat.stream.subscriber-queue-capacity:256}") int queueCapacity
+    ) {
+        if (deliveryThreads <= 0 || queueCapacity <= 0) {
+            throw new IllegalArgumentException("deliveryThreads and queueCapacity must be positive");
+        }
+
+        this.queueCapacity = queueCapacity;
+        // 구독마다 대기 중인 전달 작업은 최대 하나이므로 작업 대기열은 구독 수를 넘지 않는다
+        this.deliveryPool = new ThreadPoolExecutor(
+            deliveryThreads, deliveryThreads,
+            60L, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            new DeliveryThreadFactory()
+        );
+        this.deliveryPool.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * 채팅방 메시지를 구독한다. 반환된 구독은 연결 종료 시 반드시 닫아야 한다.
+     *
+     * @param chatRoomId 채팅방 ID
+     * @param subscriber 이벤트 수신 콜백
+     * @return 구독 핸들
+     */
+    public Subscription subscribe(ChatRoomId chatRoomId, Subscriber subscriber) {
+        if (chatRoomId == null || subscriber == null) {
+            throw new IllegalArgumentException("ChatRoomId and subscriber must not be null");
+        }
+
+        Subscription subscription = new Subscription(chatRoomId.value(), subscriber);
+        // 빈 집합 제거(remove)와 경합하지 않도록 추가도 compute 안에서 수행한다
+        subscriptionsByRoom.compute(chatRoomId.value(), (key, subscriptions) -> {
+            Set<Subscription> target = subscriptions != null ? subscriptions : ConcurrentHashMap.newKeySet();
+            target.add(subscription);
+            return target;
+        });
+        subscriberCount.incrementAndGet();
+        return subscription;
+    }
+
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @Override
+    public void onMessageSaved(Message message) {
+        if (!subscriptionsByRoom.containsKey(message.getChatRoomId().value())) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dispatch(message);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dispatch(message);
+            }
+        });
+    }
+
+    /**
+     * 반려동물 응답 생성 실패를 채팅방 구독자에게 알린다 (커밋된 사용자 메시지 이후에 호출)
+     *
+     * @param chatRoomId 채팅방 ID
+     * @param userMessageId 응답하지 못한 사용자 메시지 ID
+     */
+    public void publishReplyFailed(ChatRoomId chatRoomId, MessageId userMessageId) {
+        ReplyFailedResult result = new ReplyFailedResult(chatRoomId.value(), userMessageId.value());
+        publish(chatRoomId.value(), subscriber -> subscriber.onReplyFailed(result));
+    }
+
+    @Override
+    public void destroy() {
+        deliveryPool.shutdownNow();
+    }
+
+    private void dispatch(Message message) {
+        MessageResult result = MessageResult.from(message);
+        publish(result.chatRoomId(), subscriber -> subscriber.onMessage(result));
+    }
+
+    private void publish(Long chatRoomId, Consumer<Subscriber> event) {
+        Set<Subscription> subscriptions = subscriptionsByRoom.get(chatRoomId);
+        if (subscriptions != null) {
+            subscriptions.forEach(subscription -> subscription.enqueue(event));
+        }
+    }
+
+    private void remove(Subscription subscription) {
+        subscriptionsByRoom.computeIfPresent(subscription.chatRoomId, (key, subscriptions) -> {
+            if (subscriptions.remove(subscription)) {
+                subscriberCount.decrementAndGet();
+            }
+            return subscriptions.isEmpty() ? null : subscriptions;
+        });
+    }
+
+    /**
+     * 채팅방 스트림 구독자 (한 구독의 콜백은 한 번에 하나씩, 발생 순서대로 호출된다)
+     */
+    public interface Subscriber {
+
+        /**
+         * 저장된 메시지
+         */
+        void onMessage(MessageResult message);
+
+        /**
+         * 반려동물 응답 생성 실패 (응답 메시지는 저장되지 않음)
+         */
+        void onReplyFailed(ReplyFailedResult replyFailed);
+
+        /**
+         * 전달이 밀려 구독이 종료됨 (클라이언트 재연결 필요)
+         */
+        void onOverflow();
+    }
+
+    /**
+     * 채팅방 구독 핸들
+     */
+    public final class Subscription implements AutoCloseable {
+
+        private final Long chatRoomId;
+        private final Subscriber subscriber;
+        private final BlockingQueue<Consumer<Subscriber>> pending = new ArrayBlockingQueue<>(queueCapacity);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean overflowed = new AtomicBoolean();
+        private volatile boolean closed;
+
+        private Subscription(Long chatRoomId, Subscriber subscriber) {
+            this.chatRoomId = chatRoomId;
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+            pending.clear();
+            remove(this);
+        }
+
+        private void enqueue(Consumer<Subscriber> event) {
+            if (closed) {
+                return;
+            }
+
+            if (!pending.offer(event)) {
+                log.warn("Message stream subscriber lagging, closing: chatRoomId={}, queued={}", chatRoomId, queueCapacity);
+                overflowed.set(true);
+                close();
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (!draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                deliveryPool.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                // 종료 중에는 전달하지 않는다
+                draining.set(false);
+            }
+        }
+
+        private void drain() {
+            try {
+                Consumer<Subscriber> event;
+                while (!closed && (event = pending.poll()) != null) {
+                    try {
+                        event.accept(subscriber);
+                    } catch (RuntimeException e) {
+                        // 끊어진 연결 등 구독자 오류는 해당 구독만 정리한다
+                        log.debug("Message stream subscriber failed: chatRoomId={}, error={}", chatRoomId, e.getMessage());
+                        close();
+                    }
+                }
+                if (overflowed.compareAndSet(true, false)) {
+                    notifyOverflow();
+                }
+            } finally {
+                draining.set(false);
+            }
+
+            // 전달을 마치는 사이에 들어온 이벤트나 종료 알림을 놓치지 않도록 다시 확인한다
+            if ((!closed && !pending.isEmpty()) || overflowed.get()) {
+                scheduleDrain();
+            }
+        }
+
+        private void notifyOverflow() {
+            try {
+                subscriber.onOverflow();
+            } catch (RuntimeException e) {
+                log.debug("Message stream overflow handler failed: chatRoomId={}, error={}", chatRoomId, e.getMessage());
+            }
+        }
+    }
+
+    private static final class DeliveryThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "chat-stream-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
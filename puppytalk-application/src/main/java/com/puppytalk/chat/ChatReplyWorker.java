@@ -0,0 +1,185 @@
+package com.puppytalk.chat;
+
+import com.puppytalk.ai.AiMessageGenerationService;
+import com.puppytalk.ai.ChatContext;
+import com.puppytalk.pet.Pet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 반려동물 응답 생성 워커
+ * <p>
+ * 사용자 메시지 트랜잭션이 커밋된 뒤 전용 스레드 풀에서 최근 대화를 조회하여 AI 응답을 생성하고,
+ * 응답이 준비되면 짧은 트랜잭션으로 반려동물 메시지를 저장한다.
+ * AI 호출 동안에는 DB 연결과 요청 스레드를 점유하지 않으며, 최근 대화는 트랜잭션 밖에서 조회하므로
+ * 같은 채팅방의 다음 응답부터는 최근 메시지 캐시에서 읽는다.
+ * <p>
+ * 대기열이 가득 차거나 응답 생성 또는 저장에 실패하면 반려동물 메시지를 저장하지 않고
+ * 메시지 스트림으로 응답 실패를 알려, 사용자가 응답 없이 기다리지 않고 다시 말을 걸 수 있게 한다 (사용자 메시지는 이미 저장됨).
+ * 대화 기록에 반려동물이 하지 않은 말이 남지 않으므로 이후 AI 대화 맥락과 비활성 판단에도 영향을 주지 않는다.
+ */
+@Component
+public class ChatReplyWorker implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ChatReplyWorker.class);
+
+    private static final int CONVERSATION_HISTORY_LIMIT = 20;
+
+    private final ChatDomainService chatDomainService;
+    private final AiMessageGenerationService aiMessageGenerationService;
+    private final ChatMessageStreamRegistry chatMessageStreamRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor executor;
+
+    public ChatReplyWorker(
+        ChatDomainService chatDomainService,
+        AiMessageGenerationService aiMessageGenerationService,
+        ChatMessageStreamRegistry chatMessageStreamRegistry,
+        PlatformTransactionManager transactionManager,
+        @Value("${chat.reply.max-concurrency:16}") int maxConcurrency,
+        @Value("${chat.reply.queue-capacity:500}") int queueCapacity
+    ) {
+        if (maxConcurrency <= 0 || queueCapacity <= 0) {
+            throw new IllegalArgumentException("maxConcurrency and queueCapacity must be positive");
+        }
+
+        this.chatDomainService = chatDomainService;
+        this.aiMessageGenerationService = aiMessageGenerationService;
+        this.chatMessageStreamRegistry = chatMessageStreamRegistry;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.executor = new ThreadPoolExecutor(
+            maxConcurrency, maxConcurrency,
+            60L, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            new ReplyThreadFactory()
+        );
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * 반려동물 응답 생성을 예약한다.
+     * 트랜잭션 안에서 호출되면 커밋 이후에 실행되며, 롤백되면 실행되지 않는다.
+     *
+     * @param chatRoom 응답을 저장할 채팅방
+     * @param pet 응답할 반려동물
+     * @param userMessage 저장된 사용자 메시지
+     */
+    public void scheduleReply(ChatRoom chatRoom, Pet pet, Message userMessage) {
+        if (chatRoom == null || pet == null || userMessage == null) {
+            throw new IllegalArgumentException("ChatRoom, Pet and user message must not be null");
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            submit(chatRoom, pet, userMessage);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                submit(chatRoom, pet, userMessage);
+            }
+        });
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("Chat reply worker terminated with pending replies: queued={}", executor.getQueue().size());
+            executor.shutdownNow();
+        }
+    }
+
+    private void submit(ChatRoom chatRoom, Pet pet, Message userMessage) {
+        try {
+            executor.execute(() -> generateReply(chatRoom, pet, userMessage));
+        } catch (RejectedExecutionException e) {
+            log.warn("Chat reply rejected: chatRoomId={}, active={}, queued={}",
+                chatRoom.getId().value(), executor.getActiveCount(), executor.getQueue().size());
+            publishReplyFailed(chatRoom.getId(), userMessage);
+        }
+    }
+
+    private void generateReply(ChatRoom chatRoom, Pet pet, Message userMessage) {
+        ChatRoomId chatRoomId = chatRoom.getId();
+        long start = System.nanoTime();
+        String reply;
+        try {
+            reply = aiMessageGenerationService.generateChatResponse(chatContext(chatRoom, pet, userMessage));
+        } catch (RuntimeException e) {
+            log.error("Failed to generate chat reply: chatRoomId={}, error={}",
+                chatRoomId.value(), e.getMessage(), e);
+            publishReplyFailed(chatRoomId, userMessage);
+            return;
+        }
+        long aiMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        try {
+            Message petMessage = transactionTemplate.execute(status -> chatDomainService.sendPetMessage(chatRoomId, reply));
+
+            log.info("Chat reply stored: chatRoomId={}, messageId={}, aiLatencyMs={}, totalMs={}",
+                chatRoomId.value(),
+                petMessage != null && petMessage.getId() != null ? petMessage.getId().value() : null,
+                aiMillis,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (RuntimeException e) {
+            log.error("Failed to store chat reply: chatRoomId={}, error={}", chatRoomId.value(), e.getMessage(), e);
+            publishReplyFailed(chatRoomId, userMessage);
+        }
+    }
+
+    /**
+     * 커밋된 사용자 메시지를 포함한 최근 대화를 시간순으로 담은 컨텍스트
+     */
+    private ChatContext chatContext(ChatRoom chatRoom, Pet pet, Message userMessage) {
+        List<Message> conversationHistory = new ArrayList<>(
+            chatDomainService.findRecentChatHistory(chatRoom, CONVERSATION_HISTORY_LIMIT)
+        );
+        Collections.reverse(conversationHistory);
+
+        return new ChatContext(
+            chatRoom.getUserId().value(),
+            pet.getId().value(),
+            pet.getPersona(),
+            userMessage.getContent(),
+            conversationHistory
+        );
+    }
+
+    private void publishReplyFailed(ChatRoomId chatRoomId, Message userMessage) {
+        try {
+            chatMessageStreamRegistry.publishReplyFailed(chatRoomId, userMessage.getId());
+        } catch (RuntimeException e) {
+            log.error("Failed to publish chat reply failure: chatRoomId={}, error={}", chatRoomId.value(), e.getMessage(), e);
+        }
+    }
+
+    private static final class ReplyThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "chat-reply-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.puppytalk.chat;
+
+import com.puppytalk.batch.BatchCheckpointRepository;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 오래된 채팅 메시지 보관 배치 작업
+ * <p>
+ * 생성된 지 {@code minAgeDays}일이 지난 메시지를 메시지 ID 키셋 청크로 압축 보관 파일에 기록한 뒤 테이블에서 삭제하여
+ * 테이블과 인덱스를 최근 메시지 크기로 유지한다. 청크마다 별도 트랜잭션에서 삭제와 체크포인트 저장을 함께 커밋하므로,
+ * 실행 예산을 다 쓰거나 중단되면 다음 실행은 마지막으로 커밋된 청크 다음부터 이어서 처리한다.
+ */
+@Component
+public class MessageArchiveJob {
+
+    static final String JOB_NAME = "message-archive";
+
+    private static final Logger log = LoggerFactory.getLogger(MessageArchiveJob.class);
+
+    private final ChatDomainService chatDomainService;
+    private final BatchCheckpointRepository checkpointRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int minAgeDays;
+    private final int chunkSize;
+    private final long pauseMillis;
+    private final long runBudgetMillis;
+
+    public MessageArchiveJob(
+        ChatDomainService chatDomainService,
+        BatchCheckpointRepository checkpointRepository,
+        PlatformTransactionManager transactionManager,
+        @Value("${chat.archive.enabled:false}") boolean enabled,
+        @Value("${chat.archive.min-age-days:90}") int minAgeDays,
+        @Value("${chat.archive.chunk-size:500}") int chunkSize,
+        @Value("${chat.archive.pause-ms:100}") long pauseMillis,
+        @Value("${chat.archive.run-budget-ms:1800000}") long runBudgetMillis
+    ) {
+        if (minAgeDays <= 0 || chunkSize <= 0 || pauseMillis < 0 || runBudgetMillis <= 0) {
+            throw new IllegalArgumentException("minAgeDays, chunkSize and runBudgetMillis must be positive and pauseMillis must not be negative");
+        }
+
+        this.chatDomainService = chatDomainService;
+        this.checkpointRepository = checkpointRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.minAgeDays = minAgeDays;
+        this.chunkSize = chunkSize;
+        this.pauseMillis = pauseMillis;
+        this.runBudgetMillis = runBudgetMillis;
+    }
+
+    /**
+     * 보관 대상 메시지를 실행 예산 안에서 보관한다. 예산을 넘겨도 최소 한 청크는 처리한다.
+     *
+     * @return 실행 결과 (비활성화 상태면 빈 결과)
+     */
+    public synchronized ArchiveReport run() {
+        if (!enabled) {
+            return new ArchiveReport(null, 0, 0, 0, true, 0);
+        }
+
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + TimeUnit.MILLISECONDS.toNanos(runBudgetMillis);
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(minAgeDays);
+        Long lastMessageId = checkpointRepository.findLastProcessedId(JOB_NAME).orElse(null);
+        Long resumedFrom = lastMessageId;
+        if (resumedFrom != null) {
+            log.info("Message archive resumed from checkpoint: afterMessageId={}", resumedFrom);
+        }
+
+        int chunks = 0;
+        int scanned = 0;
+        int archived = 0;
+        boolean completed = false;
+        while (true) {
+            MessageArchiveChunk chunk = processChunk(cutoff, lastMessageId);
+            if (chunk.scanned() == 0) {
+                completed = true;
+                break;
+            }
+
+            chunks++;
+            scanned += chunk.scanned();
+            archived += chunk.archived();
+            lastMessageId = chunk.lastMessageId();
+
+            if (chunk.isLast()) {
+                completed = true;
+                break;
+            }
+            if (System.nanoTime() >= deadline || !pause()) {
+                log.info("Message archive paused: chunks={}, archived={}, lastMessageId={}", chunks, archived, lastMessageId);
+                break;
+            }
+        }
+
+        if (completed) {
+            checkpointRepository.delete(JOB_NAME);
+        }
+        return new ArchiveReport(resumedFrom, chunks, scanned, archived, completed,
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    }
+
+    private MessageArchiveChunk processChunk(LocalDateTime cutoff, Long afterMessageId) {
+        return transactionTemplate.execute(status -> {
+            MessageArchiveChunk chunk = chatDomainService.archiveMessageChunk(cutoff, afterMessageId, chunkSize);
+            if (chunk.scanned() > 0) {
+                checkpointRepository.save(JOB_NAME, chunk.lastMessageId());
+            }
+            return chunk;
+        });
+    }
+
+    private boolean pause() {
+        if (pauseMillis == 0) {
+            return !Thread.currentThread().isInterrupted();
+        }
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 보관 실행 결과
+     *
+     * @param resumedFrom 이어서 시작한 체크포인트 (처음부터 실행했으면 null)
+     * @param chunks 처리한 청크 수
+     * @param scanned 테이블에서 옮긴 메시지 수
+     * @param archived 보관 파일로 옮겨 테이블에서 삭제된 메시지 수
+     * @param completed 대상을 끝까지 처리했는지 여부 (false면 다음 실행에서 이어서 처리)
+     * @param durationMillis 전체 소요 시간
+     */
+    public record ArchiveReport(
+        Long resumedFrom,
+        int chunks,
+        int scanned,
+        int archived,
+        boolean completed,
+        long durationMillis
+    ) {
+    }
+}
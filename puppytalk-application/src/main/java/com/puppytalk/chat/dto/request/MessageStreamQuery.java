@@ -0,0 +1,28 @@
+package com.puppytalk.chat.dto.request;
+
+/**
+ * 메시지 스트림 구독 쿼리
+ *
+ * @param lastMessageId 재연결 시 마지막으로 받은 메시지 ID (이후 메시지를 먼저 전달), 첫 연결이면 null
+ */
+public record MessageStreamQuery(
+    Long chatRoomId,
+    Long userId,
+    Long lastMessageId
+) {
+    public static MessageStreamQuery of(Long chatRoomId, Long userId, Long lastMessageId) {
+        return new MessageStreamQuery(chatRoomId, userId, lastMessageId);
+    }
+
+    public MessageStreamQuery {
+        if (chatRoomId == null || chatRoomId <= 0) {
+            throw new IllegalArgumentException("채팅방 ID는 필수이며 양수여야 합니다");
+        }
+        if (userId == null || userId <= 0) {
+            throw new IllegalArgumentException("사용자 ID는 필수이며 양수여야 합니다");
+        }
+        if (lastMessageId != null && lastMessageId <= 0) {
+            throw new IllegalArgumentException("마지막 메시지 ID는 양수여야 합니다");
+        }
+    }
+}
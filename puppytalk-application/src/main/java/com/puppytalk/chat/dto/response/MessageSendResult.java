@@ -0,0 +1,22 @@
+package com.puppytalk.chat.dto.response;
+
+import com.puppytalk.chat.Message;
+import java.time.LocalDateTime;
+
+/**
+ * 메시지 전송 결과 (반려동물 응답은 비동기로 생성됨)
+ */
+public record MessageSendResult(
+    Long messageId,
+    Long chatRoomId,
+    LocalDateTime createdAt
+) {
+
+    public static MessageSendResult from(Message message) {
+        return new MessageSendResult(
+            message.getId().value(),
+            message.getChatRoomId().value(),
+            message.getCreatedAt()
+        );
+    }
+}
@@ -0,0 +1,10 @@
+package com.puppytalk.chat.dto.response;
+
+/**
+ * 반려동물 응답 생성 실패 알림 (응답 메시지는 저장되지 않음)
+ */
+public record ReplyFailedResult(
+    Long chatRoomId,
+    Long userMessageId
+) {
+}
@@ -1,19 +1,27 @@
 package com.puppytalk.notification;
 
 import com.puppytalk.ai.AiMessageGenerationService;
+import com.puppytalk.ai.InactivityMessageRequest;
+import com.puppytalk.ai.InactivityMessageResult;
 import com.puppytalk.chat.ChatDomainService;
-import com.puppytalk.chat.ChatRoom;
 import com.puppytalk.chat.ChatRoomId;
 import com.puppytalk.chat.Message;
+import com.puppytalk.notification.dto.request.InactivityNotificationTarget;
+import com.puppytalk.notification.dto.response.InactivityNotificationBatchResult;
 import com.puppytalk.pet.Pet;
 import com.puppytalk.pet.PetId;
 import com.puppytalk.pet.PetRepository;
 import com.puppytalk.user.UserId;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.Assert;
 
 /**
  * 비활성 사용자 알림 파사드
@@ -26,6 +34,8 @@ public class InactivityNotificationFacade {
     
     private static final Logger log = LoggerFactory.getLogger(InactivityNotificationFacade.class);
     private static final int CHAT_HISTORY_LIMIT = 20;
+    private static final int HOURS_SINCE_LAST_ACTIVITY = 2;
+    private static final String NOTIFICATION_TITLE = "반려동물 메시지";
     
     private final NotificationDomainService notificationDomainService;
     private final ChatDomainService chatDomainService;
@@ -45,44 +55,88 @@ public class InactivityNotificationFacade {
     }
     
     /**
-     * 비활성 사용자에게 AI 기반 개인화 알림 생성 (Primitive 타입 사용)
-     * 
-     * @param userId 비활성 사용자 ID (Long)
-     * @param petId 반려동물 ID (Long)
-     * @return 생성된 알림 ID (실패 시 null)
+     * 비활성 사용자들에게 AI 기반 개인화 알림 일괄 생성
+     * <p>
+     * 대상은 대표 반려동물/채팅방과 함께 조회된 상태이므로 반려동물은 배치당 한 번에 조회하고,
+     * 사용자별로는 최근 채팅 히스토리만 조회한다. AI 메시지는 한 번의 배치 호출로 생성하며,
+     * 컨텍스트 조회/메시지 생성/알림 저장 중 어느 단계에서 실패하더라도 해당 사용자만 실패로 집계된다.
+     *
+     * @param targets 알림 대상 (사용자, 반려동물, 채팅방)
+     * @return 일괄 생성 결과
      */
-    @Transactional
-    public void createInactivityNotification(Long userId, Long petId) {
-        if (userId == null || petId == null) {
-            log.warn("Invalid parameters: userId={}, petId={}", userId, petId);
-            return;
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public InactivityNotificationBatchResult createInactivityNotifications(List<InactivityNotificationTarget> targets) {
+        Assert.notNull(targets, "Targets must not be null");
+
+        Map<Long, Pet> petsById = findPets(targets);
+        List<Long> failedUserIds = new ArrayList<>();
+        List<InactivityTarget> prepared = new ArrayList<>(targets.size());
+        List<InactivityMessageRequest> requests = new ArrayList<>(targets.size());
+
+        for (InactivityNotificationTarget target : targets) {
+            try {
+                Pet pet = petsById.get(target.petId());
+                if (pet == null) {
+                    throw new IllegalArgumentException("Pet not found: " + target.petId());
+                }
+                InactivityTarget inactivityTarget = new InactivityTarget(
+                    UserId.from(target.userId()), PetId.from(target.petId()), ChatRoomId.from(target.chatRoomId())
+                );
+                List<Message> chatHistory = chatDomainService.findRecentChatHistory(
+                    inactivityTarget.chatRoomId(), CHAT_HISTORY_LIMIT
+                );
+
+                requests.add(new InactivityMessageRequest(
+                    inactivityTarget.userId(), pet, HOURS_SINCE_LAST_ACTIVITY, chatHistory
+                ));
+                prepared.add(inactivityTarget);
+            } catch (RuntimeException e) {
+                log.warn("Failed to prepare inactivity notification: userId={}, error={}", target.userId(), e.getMessage());
+                failedUserIds.add(target.userId());
+            }
+        }
+
+        if (requests.isEmpty()) {
+            return new InactivityNotificationBatchResult(targets.size(), 0, failedUserIds);
         }
 
-        // 1. 반려동물 정보 조회
-        Pet pet = petRepository.findById(PetId.from(petId))
-            .orElseThrow(() -> new IllegalArgumentException("Pet not found: " + petId));
+        List<InactivityMessageResult> results = aiMessageGenerationService.generateInactivityNotifications(requests);
 
-        // 2. 채팅방 조회
-        ChatRoom chatRoom = chatDomainService.findChatRoomByUserIdAndPetId(
-            UserId.from(userId),
-            PetId.from(petId)
-        ).orElseThrow(() -> new IllegalArgumentException("ChatRoom not found"));
+        int createdCount = 0;
+        for (int i = 0; i < prepared.size(); i++) {
+            InactivityTarget target = prepared.get(i);
+            InactivityMessageResult result = results.get(i);
 
-        // 3. 최근 채팅 히스토리 조회
-        ChatRoomId chatRoomId = chatRoom.getId();
-        List<Message> chatHistory = chatDomainService.findRecentChatHistory(chatRoomId, CHAT_HISTORY_LIMIT);
+            if (!result.isSuccess()) {
+                log.warn("AI inactivity message generation failed: userId={}, reason={}",
+                    target.userId().value(), result.failureReason());
+                failedUserIds.add(target.userId().value());
+                continue;
+            }
 
-        // 4. AI 메시지 생성
-        String aiMessage = aiMessageGenerationService.generateInactivityNotification(
-            chatRoom,
-            pet,
-            2,
-            chatHistory
-        );
+            try {
+                notificationDomainService.createInactivityNotification(target, NOTIFICATION_TITLE, result.message());
+                createdCount++;
+            } catch (RuntimeException e) {
+                log.warn("Failed to save inactivity notification: userId={}, error={}",
+                    target.userId().value(), e.getMessage());
+                failedUserIds.add(target.userId().value());
+            }
+        }
+
+        return new InactivityNotificationBatchResult(targets.size(), createdCount, failedUserIds);
+    }
 
-        // 5. 알림 생성
-        notificationDomainService.createInactivityNotification(
-            UserId.from(userId), PetId.from(petId), chatRoomId, "반려동물 메시지", aiMessage
-        );
+    private Map<Long, Pet> findPets(List<InactivityNotificationTarget> targets) {
+        List<PetId> petIds = targets.stream()
+            .map(target -> PetId.from(target.petId()))
+            .distinct()
+            .toList();
+
+        Map<Long, Pet> petsById = new HashMap<>();
+        for (Pet pet : petRepository.findAllByIds(petIds)) {
+            petsById.put(pet.getId().value(), pet);
+        }
+        return petsById;
     }
-}
\ No newline at end of file
+}
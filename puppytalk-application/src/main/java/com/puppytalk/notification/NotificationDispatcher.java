@@ -0,0 +1,253 @@
+package com.puppytalk.notification;
+
+import com.puppytalk.notification.NotificationDomainService.DispatchOutcome;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 발송 대기 알림 발송기
+ * <p>
+ * 짧은 트랜잭션으로 알림을 선점(SENDING)한 뒤 전용 스레드 풀에서 동시에 발송하고,
+ * 결과를 일괄 반영한다 (실패한 알림은 재발송 정책에 따라 다시 예약). 선점은 잠긴 행을 건너뛰므로 노드를 늘리면
+ * 각 노드가 서로 다른 알림을 가져가 처리량이 노드 수와 스레드 수에 비례한다.
+ * <p>
+ * 선점 기한 안에 발송이 끝나지 않은 알림은 SENDING으로 남아 기한이 지나면 다시 발송된다 (최소 1회 발송).
+ * 결과는 이 노드가 아직 선점 중인 알림에만 반영되어, 늦게 끝난 발송이 다른 노드가 다시 선점한 알림을 덮어쓰지 않는다.
+ */
+@Component
+public class NotificationDispatcher implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationDispatcher.class);
+    private static final int MAX_RUNTIME_NAME_LENGTH = 60; // claimed_by(100자)에 UUID와 함께 들어가도록 제한
+
+    private final NotificationDomainService notificationDomainService;
+    private final NotificationSender notificationSender;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor executor;
+    private final String owner;
+    private final int batchSize;
+    private final Duration lease;
+    private final long runBudgetMillis;
+
+    public NotificationDispatcher(
+        NotificationDomainService notificationDomainService,
+        NotificationSender notificationSender,
+        PlatformTransactionManager transactionManager,
+        @Value("${notification.dispatch.max-concurrency:16}") int maxConcurrency,
+        @Value("${notification.dispatch.batch-size:100}") int batchSize,
+        @Value("${notification.dispatch.lease-seconds:60}") long leaseSeconds,
+        @Value("${notification.dispatch.run-budget-ms:60000}") long runBudgetMillis
+    ) {
+        if (maxConcurrency <= 0 || batchSize <= 0 || leaseSeconds <= 0 || runBudgetMillis <= 0) {
+            throw new IllegalArgumentException("maxConcurrency, batchSize, leaseSeconds and runBudgetMillis must be positive");
+        }
+
+        this.notificationDomainService = notificationDomainService;
+        this.notificationSender = notificationSender;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.owner = createOwner();
+        this.batchSize = batchSize;
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        this.runBudgetMillis = runBudgetMillis;
+        this.executor = new ThreadPoolExecutor(
+            maxConcurrency, maxConcurrency,
+            60L, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(batchSize), // 한 번에 선점한 알림만 제출되므로 거절되지 않음
+            new DispatchThreadFactory()
+        );
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * 선점 노드 식별자 (pid@host/UUID)
+     * <p>
+     * pid@host는 컨테이너마다 같을 수 있으므로(예: 모든 컨테이너의 pid가 1) 프로세스마다 무작위 UUID를 덧붙인다.
+     */
+    private static String createOwner() {
+        String runtimeName = ManagementFactory.getRuntimeMXBean().getName();
+        if (runtimeName.length() > MAX_RUNTIME_NAME_LENGTH) {
+            runtimeName = runtimeName.substring(0, MAX_RUNTIME_NAME_LENGTH);
+        }
+        return runtimeName + "/" + UUID.randomUUID();
+    }
+
+    /**
+     * 발송 대기 알림이 없거나 실행 예산을 다 쓸 때까지 선점과 발송을 반복한다
+     *
+     * @return 실행 결과
+     */
+    public synchronized DispatchReport dispatchPending() {
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + TimeUnit.MILLISECONDS.toNanos(runBudgetMillis);
+        int batches = 0;
+        int claimed = 0;
+        int sent = 0;
+        int retried = 0;
+        int deadLettered = 0;
+        int unfinished = 0;
+        int stale = 0;
+
+        while (System.nanoTime() < deadline) {
+            List<Notification> notifications = transactionTemplate.execute(
+                status -> notificationDomainService.claimPendingNotifications(owner, batchSize, lease));
+            if (notifications == null || notifications.isEmpty()) {
+                break;
+            }
+
+            BatchOutcome outcome = sendAll(notifications);
+            DispatchOutcome result = transactionTemplate.execute(
+                status -> notificationDomainService.completeDispatch(owner, outcome.sent(), outcome.failed()));
+
+            batches++;
+            claimed += notifications.size();
+            if (result != null) {
+                sent += result.sent();
+                retried += result.retried();
+                deadLettered += result.deadLettered();
+                stale += result.stale();
+            }
+            unfinished += outcome.unfinished();
+
+            if (notifications.size() < batchSize) {
+                break;
+            }
+        }
+
+        if (stale > 0) {
+            log.warn("Notification results skipped after lease expired: stale={}", stale);
+        }
+        return new DispatchReport(batches, claimed, sent, retried, deadLettered, unfinished, stale,
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("Notification dispatcher terminated with pending sends: queued={}", executor.getQueue().size());
+            executor.shutdownNow();
+        }
+    }
+
+    private BatchOutcome sendAll(List<Notification> notifications) {
+        List<Notification> sent = new ArrayList<>();
+        List<Notification> failed = new ArrayList<>();
+
+        if (!notificationSender.isAvailable()) {
+            log.error("Notification sender is not available: claimed={}", notifications.size());
+            return new BatchOutcome(sent, new ArrayList<>(notifications), 0);
+        }
+
+        Map<Notification, Future<Boolean>> futures = new LinkedHashMap<>();
+        for (Notification notification : notifications) {
+            futures.put(notification, executor.submit(() -> send(notification)));
+        }
+
+        // 선점 기한이 지나면 다른 노드가 다시 가져가므로 그 전에 결과를 반영한다
+        long resultDeadline = System.nanoTime() + lease.toNanos() / 2;
+        int unfinished = 0;
+        for (Map.Entry<Notification, Future<Boolean>> entry : futures.entrySet()) {
+            try {
+                long remaining = Math.max(0, resultDeadline - System.nanoTime());
+                if (entry.getValue().get(remaining, TimeUnit.NANOSECONDS)) {
+                    sent.add(entry.getKey());
+                } else {
+                    failed.add(entry.getKey());
+                }
+            } catch (TimeoutException e) {
+                entry.getValue().cancel(true);
+                unfinished++;
+            } catch (ExecutionException e) {
+                failed.add(entry.getKey());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                entry.getValue().cancel(true);
+                unfinished++;
+            }
+        }
+
+        if (unfinished > 0) {
+            executor.purge(); // 취소된 작업을 대기열에서 제거
+            log.warn("Notification sends not finished within lease: unfinished={}", unfinished);
+        }
+        return new BatchOutcome(sent, failed, unfinished);
+    }
+
+    private boolean send(Notification notification) {
+        try {
+            return notificationSender.sendPushNotification(
+                notification.getUserId().value(),
+                notification.getTitle(),
+                notification.getContent(),
+                notification.getId().value()
+            );
+        } catch (RuntimeException e) {
+            log.warn("Failed to send notification: notificationId={}, error={}",
+                notification.getId().value(), e.getMessage());
+            return false;
+        }
+    }
+
+    private record BatchOutcome(List<Notification> sent, List<Notification> failed, int unfinished) {
+    }
+
+    /**
+     * 발송 실행 결과
+     *
+     * @param batches 선점 횟수
+     * @param claimed 선점한 알림 수
+     * @param sent 발송 성공 수
+     * @param retried 발송 실패 후 재발송 예약된 수
+     * @param deadLettered 최대 시도 횟수를 넘겨 재발송 중단된 수
+     * @param unfinished 기한 안에 끝나지 않아 선점 만료 후 다시 발송될 알림 수
+     * @param stale 선점 기한이 지나 다른 노드가 다시 선점하여 결과를 반영하지 않은 알림 수
+     * @param durationMillis 전체 소요 시간
+     */
+    public record DispatchReport(
+        int batches,
+        int claimed,
+        int sent,
+        int retried,
+        int deadLettered,
+        int unfinished,
+        int stale,
+        long durationMillis
+    ) {
+
+        public int failed() {
+            return retried + deadLettered;
+        }
+    }
+
+    private static final class DispatchThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "notification-dispatch-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
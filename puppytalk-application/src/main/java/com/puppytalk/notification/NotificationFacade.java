@@ -1,19 +1,19 @@
 package com.puppytalk.notification;
 
-import com.puppytalk.user.UserDomainService;
-import com.puppytalk.user.UserFacade;
 import com.puppytalk.chat.ChatRoomId;
 import com.puppytalk.pet.PetId;
+import com.puppytalk.notification.dto.request.InactivityNotificationTarget;
 import com.puppytalk.notification.dto.request.NotificationCreateCommand;
 import com.puppytalk.notification.dto.request.NotificationStatusUpdateCommand;
 import com.puppytalk.notification.dto.response.NotificationListResult;
 import com.puppytalk.notification.dto.response.NotificationResult;
+import com.puppytalk.notification.dto.response.NotificationTimeSeriesResult;
 import com.puppytalk.user.UserId;
 import java.time.LocalDateTime;
 import java.util.List;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import java.util.function.Predicate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 
@@ -21,25 +21,13 @@ import org.springframework.util.Assert;
 @Transactional(readOnly = true)
 public class NotificationFacade {
 
-    private static final Logger log = LoggerFactory.getLogger(NotificationFacade.class);
     private static final int LAST_ACTIVITY_HOURS = 2;
     private static final int DEFAULT_BATCH_SIZE = 100;
 
     private final NotificationDomainService notificationDomainService;
-    private final UserDomainService userDomainService;
-    private final NotificationSender notificationSender;
-    private final UserFacade userFacade;
-
-    public NotificationFacade(
-        NotificationDomainService notificationDomainService,
-        UserDomainService userDomainService,
-        UserFacade userFacade,
-        NotificationSender notificationSender
-    ) {
+
+    public NotificationFacade(NotificationDomainService notificationDomainService) {
         this.notificationDomainService = notificationDomainService;
-        this.userDomainService = userDomainService;
-        this.userFacade = userFacade;
-        this.notificationSender = notificationSender;
     }
 
     /**
@@ -107,116 +95,33 @@ public class NotificationFacade {
     }
 
     /**
-     * 비활성 사용자 목록 조회 (알림 대상)
-     * 2시간 이상 비활성이지만 4주 미만(휴면 계정 아님)인 사용자만 포함
+     * 비활성 알림 대상을 페이지 단위로 순회 (스케줄러용)
+     * 2시간 이상 비활성이지만 4주 미만(휴면 계정 아님)이고, 발송 대기 중인 비활성 알림이 없는 사용자만 포함
      */
-    @Transactional(readOnly = true)
-    public List<Long> findInactiveUsersForNotification() {
+    // 페이지 처리(AI 호출) 동안 DB 커넥션을 점유하지 않도록 트랜잭션 없이 실행한다 (페이지 조회는 리포지토리 트랜잭션)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void forEachInactivityNotificationTargetPage(Predicate<List<InactivityNotificationTarget>> pageHandler) {
+        Assert.notNull(pageHandler, "Page handler must not be null");
         LocalDateTime twoHoursAgo = LocalDateTime.now().minusHours(LAST_ACTIVITY_HOURS);
-        List<UserId> inactiveUsers = userDomainService.findInactiveUsers(twoHoursAgo);
-
-        // 휴면 계정 및 삭제된 계정 제외 (알림 수신 가능한 사용자만 필터링)
-        List<UserId> notificationEligibleUsers = userFacade.findNotificationEligibleUsers(inactiveUsers);
-
-        // 중복 알림 방지 필터링
-        List<UserId> targetUserList = notificationDomainService.filterUsersForNotification(
-            notificationEligibleUsers);
 
-        return targetUserList.stream()
-            .map(UserId::value)
-            .toList();
-    }
-
-    /**
-     * 만료된 알림 정리
-     */
-    @Transactional
-    public int cleanupExpiredNotifications() {
-        return notificationDomainService.cleanupExpiredNotifications();
-    }
-
-    /**
-     * 오래된 완료 알림 정리
-     */
-    @Transactional
-    public int cleanupOldNotifications() {
-        return notificationDomainService.cleanupOldNotifications();
-    }
-
-    /**
-     * 발송 대기 중인 알림을 처리하여 실제로 발송
-     */
-    @Transactional
-    public void processPendingNotifications(Integer batchSize) {
-        log.debug("Processing pending notifications");
-
-        try {
-            NotificationListResult pendingResult = findPendingNotifications(batchSize);
-
-            if (pendingResult.totalCount() == 0) {
-                log.debug("No pending notifications found");
-                return;
-            }
-
-            log.info("Found {} pending notifications for processing", pendingResult.totalCount());
-
-            // FCM을 통한 실제 알림 발송
-            for (NotificationResult notification : pendingResult.notifications()) {
-                try {
-                    sendNotificationViaFcm(notification);
-                } catch (Exception e) {
-                    log.error("Failed to send notification {}: {}",
-                        notification.notificationId(), e.getMessage());
-                }
-            }
-
-        } catch (Exception e) {
-            log.error("Error during pending notification processing: {}", e.getMessage(), e);
-        }
+        notificationDomainService.forEachInactivityNotificationTargetPage(twoHoursAgo, page ->
+            pageHandler.test(page.stream().map(InactivityNotificationTarget::from).toList())
+        );
     }
 
     /**
-     * FCM을 통한 실제 알림 발송
+     * 알림 상태 전환 시계열 조회 (대시보드용)
+     *
+     * @param granularity 집계 단위 (HOUR, DAY)
      */
-    private void sendNotificationViaFcm(NotificationResult notification) {
-        log.info("Sending notification via FCM: ID={}, Title={}", 
-            notification.notificationId(), notification.title());
-
-        // FCM 서비스 상태 확인
-        if (!notificationSender.isAvailable()) {
-            log.error("FCM service is not available for notification {}", notification.notificationId());
-            updateNotificationStatusInternal(notification.notificationId(), false);
-            return;
-        }
-
-        // FCM을 통한 푸시 알림 발송
-        boolean success = notificationSender.sendPushNotification(
-            notification.userId(),
-            notification.title(),
-            notification.content(),
-            notification.notificationId()
-        );
+    @Transactional(readOnly = true)
+    public NotificationTimeSeriesResult getStatsTimeSeries(LocalDateTime from, LocalDateTime to, String granularity) {
+        Assert.hasText(granularity, "Granularity must not be null or empty");
 
-        // 발송 결과에 따른 상태 업데이트
-        updateNotificationStatusInternal(notification.notificationId(), success);
-    }
+        StatsGranularity statsGranularity = StatsGranularity.valueOf(granularity.toUpperCase());
+        List<NotificationStatsBucket> buckets = notificationDomainService.getStatsTimeSeries(from, to, statsGranularity);
 
-    /**
-     * 알림 상태 업데이트 내부 메서드
-     */
-    private void updateNotificationStatusInternal(Long notificationId, boolean success) {
-        try {
-            NotificationStatusUpdateCommand statusCommand = success
-                ? NotificationStatusUpdateCommand.sent(notificationId)
-                : NotificationStatusUpdateCommand.failed(notificationId, "FCM 발송 실패");
-
-            updateNotificationStatus(statusCommand);
-            
-            log.info("Updated notification {} status to: {}", 
-                notificationId, success ? "SENT" : "FAILED");
-        } catch (Exception e) {
-            log.error("Failed to update notification {} status: {}", notificationId, e.getMessage());
-        }
+        return NotificationTimeSeriesResult.from(statsGranularity, buckets);
     }
 
-}
\ No newline at end of file
+}
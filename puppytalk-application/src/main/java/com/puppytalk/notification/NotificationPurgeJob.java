@@ -0,0 +1,186 @@
+package com.puppytalk.notification;
+
+import com.puppytalk.batch.BatchCheckpointRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 알림 정리 배치 작업
+ * <p>
+ * 만료된 알림과 보관 기간이 지난 완료 알림을 기본 키 순서의 청크로 삭제한다. 청크마다 별도 트랜잭션에서
+ * 삭제와 체크포인트 저장을 함께 커밋하여 행 잠금과 언두 로그를 청크 크기로 제한하고, 청크 사이에 쉬어
+ * 복제 지연이 쌓이지 않게 한다. 실행 예산을 다 쓰거나 중단되면 다음 실행은 마지막으로 커밋된 청크 다음부터
+ * 이어서 처리하며, 대상을 끝까지 처리하면 체크포인트를 삭제한다.
+ */
+@Component
+public class NotificationPurgeJob {
+
+    static final String EXPIRED_JOB_NAME = "notification-purge-expired";
+    static final String COMPLETED_JOB_NAME = "notification-purge-completed";
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationPurgeJob.class);
+
+    private final NotificationDomainService notificationDomainService;
+    private final BatchCheckpointRepository checkpointRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final NotificationPurgeRecorder purgeRecorder;
+    private final int chunkSize;
+    private final long pauseMillis;
+    private final long runBudgetMillis;
+
+    public NotificationPurgeJob(
+        NotificationDomainService notificationDomainService,
+        BatchCheckpointRepository checkpointRepository,
+        PlatformTransactionManager transactionManager,
+        NotificationPurgeRecorder purgeRecorder,
+        @Value("${notification.purge.chunk-size:1000}") int chunkSize,
+        @Value("${notification.purge.pause-ms:200}") long pauseMillis,
+        @Value("${notification.purge.run-budget-ms:1800000}") long runBudgetMillis
+    ) {
+        if (chunkSize <= 0 || pauseMillis < 0 || runBudgetMillis <= 0) {
+            throw new IllegalArgumentException("chunkSize and runBudgetMillis must be positive and pauseMillis must not be negative");
+        }
+
+        this.notificationDomainService = notificationDomainService;
+        this.checkpointRepository = checkpointRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.purgeRecorder = purgeRecorder != null ? purgeRecorder : NotificationPurgeRecorder.NO_OP;
+        this.chunkSize = chunkSize;
+        this.pauseMillis = pauseMillis;
+        this.runBudgetMillis = runBudgetMillis;
+    }
+
+    /**
+     * 만료된 알림과 오래된 완료 알림을 실행 예산 안에서 정리한다.
+     * 예산을 넘겨도 대상마다 최소 한 청크는 처리한다.
+     *
+     * @return 실행 결과
+     */
+    public synchronized PurgeReport run() {
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + TimeUnit.MILLISECONDS.toNanos(runBudgetMillis);
+
+        TargetReport expired = purge(NotificationPurgeTarget.EXPIRED, deadline);
+        TargetReport completed = Thread.currentThread().isInterrupted()
+            ? new TargetReport(NotificationPurgeTarget.COMPLETED, null, 0, 0, false)
+            : purge(NotificationPurgeTarget.COMPLETED, deadline);
+
+        return new PurgeReport(expired, completed, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    }
+
+    private TargetReport purge(NotificationPurgeTarget target, long deadline) {
+        String jobName = jobName(target);
+        LocalDateTime cutoff = notificationDomainService.purgeCutoff(target);
+        Long lastId = checkpointRepository.findLastProcessedId(jobName).orElse(null);
+        Long resumedFrom = lastId;
+        if (resumedFrom != null) {
+            log.info("Notification purge resumed from checkpoint: target={}, afterId={}", target, resumedFrom);
+        }
+
+        int chunks = 0;
+        int deleted = 0;
+        while (true) {
+            long chunkStartedAt = System.nanoTime();
+            NotificationPurgeChunk chunk = processChunk(jobName, target, cutoff, lastId);
+            if (chunk.scanned() == 0) {
+                break;
+            }
+
+            chunks++;
+            deleted += chunk.deleted();
+            lastId = chunk.lastId();
+            purgeRecorder.chunkPurged(target, chunk.deleted(), lastId, Duration.ofNanos(System.nanoTime() - chunkStartedAt));
+
+            if (chunk.isLast()) {
+                break;
+            }
+            if (System.nanoTime() >= deadline) {
+                log.info("Notification purge paused by run budget: target={}, chunks={}, deleted={}, lastId={}",
+                    target, chunks, deleted, lastId);
+                return new TargetReport(target, resumedFrom, chunks, deleted, false);
+            }
+            if (!pause()) {
+                log.warn("Notification purge interrupted: target={}, chunks={}, deleted={}, lastId={}",
+                    target, chunks, deleted, lastId);
+                return new TargetReport(target, resumedFrom, chunks, deleted, false);
+            }
+        }
+
+        checkpointRepository.delete(jobName);
+        return new TargetReport(target, resumedFrom, chunks, deleted, true);
+    }
+
+    private NotificationPurgeChunk processChunk(
+        String jobName,
+        NotificationPurgeTarget target,
+        LocalDateTime cutoff,
+        Long afterId
+    ) {
+        return transactionTemplate.execute(status -> {
+            NotificationPurgeChunk chunk = notificationDomainService.purgeChunk(target, cutoff, afterId, chunkSize);
+            if (chunk.scanned() > 0) {
+                checkpointRepository.save(jobName, chunk.lastId());
+            }
+            return chunk;
+        });
+    }
+
+    private boolean pause() {
+        if (pauseMillis == 0) {
+            return !Thread.currentThread().isInterrupted();
+        }
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static String jobName(NotificationPurgeTarget target) {
+        return switch (target) {
+            case EXPIRED -> EXPIRED_JOB_NAME;
+            case COMPLETED -> COMPLETED_JOB_NAME;
+        };
+    }
+
+    /**
+     * 정리 실행 결과
+     *
+     * @param expired 만료된 알림 정리 결과
+     * @param completed 오래된 완료 알림 정리 결과
+     * @param durationMillis 전체 소요 시간
+     */
+    public record PurgeReport(TargetReport expired, TargetReport completed, long durationMillis) {
+
+        public int totalDeleted() {
+            return expired.deleted() + completed.deleted();
+        }
+    }
+
+    /**
+     * 대상별 정리 결과
+     *
+     * @param target 정리 대상
+     * @param resumedFrom 이어서 시작한 체크포인트 (처음부터 실행했으면 null)
+     * @param chunks 처리한 청크 수
+     * @param deleted 삭제된 알림 수
+     * @param completed 대상을 끝까지 처리했는지 여부 (false면 다음 실행에서 이어서 처리)
+     */
+    public record TargetReport(
+        NotificationPurgeTarget target,
+        Long resumedFrom,
+        int chunks,
+        int deleted,
+        boolean completed
+    ) {
+    }
+}
@@ -0,0 +1,107 @@
+package com.puppytalk.notification;
+
+import com.puppytalk.batch.BatchCheckpointRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 미읽은 알림 카운터 보정 배치 작업
+ * <p>
+ * 카운터는 알림 변경과 같은 트랜잭션에서 증감되지만, 동시 변경이나 일괄 삭제 경합으로 생긴 오차와
+ * 카운터가 아직 없는 사용자를 주기적으로 실제 알림 상태에 맞춘다. 사용자 ID 키셋 청크마다 별도 트랜잭션에서
+ * 보정과 체크포인트 저장을 함께 커밋하므로, 중단되면 다음 실행은 마지막으로 커밋된 청크 다음부터 이어서 처리한다.
+ */
+@Component
+public class UnreadCountReconciliationJob {
+
+    static final String JOB_NAME = "unread-count-reconciliation";
+
+    private static final Logger log = LoggerFactory.getLogger(UnreadCountReconciliationJob.class);
+
+    private final NotificationDomainService notificationDomainService;
+    private final BatchCheckpointRepository checkpointRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public UnreadCountReconciliationJob(
+        NotificationDomainService notificationDomainService,
+        BatchCheckpointRepository checkpointRepository,
+        PlatformTransactionManager transactionManager,
+        @Value("${notification.unread-count.reconcile-chunk-size:500}") int chunkSize
+    ) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive");
+        }
+
+        this.notificationDomainService = notificationDomainService;
+        this.checkpointRepository = checkpointRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 모든 사용자의 카운터를 보정한다
+     *
+     * @return 실행 결과
+     */
+    public ReconcileReport run() {
+        long startedAt = System.currentTimeMillis();
+        Long lastUserId = checkpointRepository.findLastProcessedId(JOB_NAME).orElse(null);
+        Long resumedFrom = lastUserId;
+        if (resumedFrom != null) {
+            log.info("Unread count reconciliation resumed from checkpoint: afterUserId={}", resumedFrom);
+        }
+
+        int chunks = 0;
+        int scanned = 0;
+        int corrected = 0;
+        while (true) {
+            UnreadCountChunk chunk = processChunk(lastUserId);
+            if (chunk.scanned() == 0) {
+                break;
+            }
+
+            chunks++;
+            scanned += chunk.scanned();
+            corrected += chunk.corrected();
+            lastUserId = chunk.lastUserId();
+            if (chunk.corrected() > 0) {
+                log.info("Unread counters corrected: chunk={}, corrected={}, lastUserId={}",
+                    chunks, chunk.corrected(), lastUserId);
+            }
+
+            if (chunk.isLast()) {
+                break;
+            }
+        }
+
+        checkpointRepository.delete(JOB_NAME);
+        return new ReconcileReport(resumedFrom, chunks, scanned, corrected, System.currentTimeMillis() - startedAt);
+    }
+
+    private UnreadCountChunk processChunk(Long afterUserId) {
+        return transactionTemplate.execute(status -> {
+            UnreadCountChunk chunk = notificationDomainService.reconcileUnreadCountChunk(afterUserId, chunkSize);
+            if (chunk.scanned() > 0) {
+                checkpointRepository.save(JOB_NAME, chunk.lastUserId());
+            }
+            return chunk;
+        });
+    }
+
+    /**
+     * 보정 실행 결과
+     *
+     * @param resumedFrom 이어서 시작한 체크포인트 (처음부터 실행했으면 null)
+     * @param chunks 처리한 청크 수
+     * @param scanned 확인한 사용자 수
+     * @param corrected 보정된 카운터 수
+     * @param durationMillis 전체 소요 시간
+     */
+    public record ReconcileReport(Long resumedFrom, int chunks, int scanned, int corrected, long durationMillis) {
+    }
+}
@@ -0,0 +1,33 @@
+package com.puppytalk.notification.dto.request;
+
+import com.puppytalk.notification.InactivityTarget;
+
+/**
+ * 비활성 알림 일괄 생성 대상 (사용자, 대표 반려동물, 채팅방)
+ */
+public record InactivityNotificationTarget(
+    Long userId,
+    Long petId,
+    Long chatRoomId
+) {
+    
+    public InactivityNotificationTarget {
+        if (userId == null || userId <= 0) {
+            throw new IllegalArgumentException("UserId must be positive");
+        }
+        if (petId == null || petId <= 0) {
+            throw new IllegalArgumentException("PetId must be positive");
+        }
+        if (chatRoomId == null || chatRoomId <= 0) {
+            throw new IllegalArgumentException("ChatRoomId must be positive");
+        }
+    }
+    
+    public static InactivityNotificationTarget of(Long userId, Long petId, Long chatRoomId) {
+        return new InactivityNotificationTarget(userId, petId, chatRoomId);
+    }
+    
+    public static InactivityNotificationTarget from(InactivityTarget target) {
+        return of(target.userId().value(), target.petId().value(), target.chatRoomId().value());
+    }
+}
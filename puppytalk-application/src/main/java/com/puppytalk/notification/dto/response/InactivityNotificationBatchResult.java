@@ -0,0 +1,21 @@
+package com.puppytalk.notification.dto.response;
+
+import java.util.List;
+
+/**
+ * 비활성 알림 일괄 생성 결과
+ */
+public record InactivityNotificationBatchResult(
+    int requestedCount,
+    int createdCount,
+    List<Long> failedUserIds
+) {
+    
+    public InactivityNotificationBatchResult {
+        failedUserIds = failedUserIds != null ? List.copyOf(failedUserIds) : List.of();
+    }
+    
+    public int failedCount() {
+        return failedUserIds.size();
+    }
+}
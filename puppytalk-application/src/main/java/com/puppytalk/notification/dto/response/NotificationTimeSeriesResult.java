@@ -0,0 +1,39 @@
+package com.puppytalk.notification.dto.response;
+
+import com.puppytalk.notification.NotificationStatsBucket;
+import com.puppytalk.notification.StatsGranularity;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 알림 상태 전환 시계열 조회 결과
+ */
+public record NotificationTimeSeriesResult(
+    String granularity,
+    List<Point> points
+) {
+
+    public static NotificationTimeSeriesResult from(StatsGranularity granularity, List<NotificationStatsBucket> buckets) {
+        List<Point> points = buckets.stream()
+            .map(bucket -> new Point(
+                bucket.bucketStart(),
+                bucket.type().name(),
+                bucket.status().name(),
+                bucket.count()
+            ))
+            .toList();
+
+        return new NotificationTimeSeriesResult(granularity.name(), points);
+    }
+
+    /**
+     * 버킷별 상태 전환 횟수
+     */
+    public record Point(
+        LocalDateTime bucketStart,
+        String type,
+        String status,
+        long count
+    ) {
+    }
+}
@@ -0,0 +1,115 @@
+package com.puppytalk.user;
+
+import com.puppytalk.batch.BatchCheckpointRepository;
+import java.time.LocalDateTime;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 휴면 사용자 전환 배치 작업
+ * <p>
+ * 전환 대상을 사용자 ID 키셋으로 청크 단위 조회하여 {@code UPDATE ... WHERE id IN} 한 문장으로 전환한다.
+ * 청크마다 별도 트랜잭션에서 전환과 체크포인트 저장을 함께 커밋하므로, 작업이 중단되면
+ * 다음 실행은 마지막으로 커밋된 청크 다음부터 이어서 처리한다. 완료 시 체크포인트를 삭제한다.
+ * 체크포인트 이전 구간에서 새로 대상이 된 사용자는 다음 실행에서 전환된다.
+ */
+@Component
+public class DormantUserBatchJob {
+
+    static final String JOB_NAME = "dormant-users";
+
+    private static final Logger log = LoggerFactory.getLogger(DormantUserBatchJob.class);
+
+    private final UserDomainService userDomainService;
+    private final BatchCheckpointRepository checkpointRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public DormantUserBatchJob(
+        UserDomainService userDomainService,
+        BatchCheckpointRepository checkpointRepository,
+        PlatformTransactionManager transactionManager,
+        @Value("${app.dormant-batch.chunk-size:1000}") int chunkSize
+    ) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive");
+        }
+
+        this.userDomainService = userDomainService;
+        this.checkpointRepository = checkpointRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 휴면 전환 대상을 모두 처리한다
+     *
+     * @return 실행 결과
+     */
+    public BatchReport run() {
+        long startedAt = System.currentTimeMillis();
+        LocalDateTime cutoffTime = userDomainService.dormantCutoffTime();
+        Long lastUserId = checkpointRepository.findLastProcessedId(JOB_NAME).orElse(null);
+        Long resumedFrom = lastUserId;
+        if (resumedFrom != null) {
+            log.info("Dormant batch resumed from checkpoint: afterUserId={}", resumedFrom);
+        }
+
+        int chunks = 0;
+        int scanned = 0;
+        int marked = 0;
+        while (true) {
+            long chunkStartedAt = System.nanoTime();
+            DormantUserChunk chunk = processChunk(cutoffTime, lastUserId);
+            if (chunk.scanned() == 0) {
+                break;
+            }
+
+            chunks++;
+            scanned += chunk.scanned();
+            marked += chunk.marked();
+            lastUserId = chunk.lastUserId();
+
+            long chunkMillis = Math.max(1, (System.nanoTime() - chunkStartedAt) / 1_000_000);
+            log.info("Dormant batch chunk committed: chunk={}, scanned={}, marked={}, lastUserId={}, duration={}ms, throughput={}/s",
+                chunks, chunk.scanned(), chunk.marked(), lastUserId, chunkMillis, chunk.scanned() * 1000L / chunkMillis);
+
+            if (chunk.isLast()) {
+                break;
+            }
+        }
+
+        checkpointRepository.delete(JOB_NAME);
+        return new BatchReport(resumedFrom, chunks, scanned, marked, System.currentTimeMillis() - startedAt);
+    }
+
+    private DormantUserChunk processChunk(LocalDateTime cutoffTime, Long afterUserId) {
+        return transactionTemplate.execute(status -> {
+            DormantUserChunk chunk = userDomainService.markDormantChunk(cutoffTime, afterUserId, chunkSize);
+            if (chunk.scanned() > 0) {
+                checkpointRepository.save(JOB_NAME, chunk.lastUserId());
+            }
+            return chunk;
+        });
+    }
+
+    /**
+     * 배치 실행 결과
+     *
+     * @param resumedFrom 이어서 시작한 체크포인트 (처음부터 실행했으면 null)
+     * @param chunks 처리한 청크 수
+     * @param scanned 조회한 전환 대상 수
+     * @param marked 휴면 전환된 사용자 수
+     * @param durationMillis 전체 소요 시간
+     */
+    public record BatchReport(Long resumedFrom, int chunks, int scanned, int marked, long durationMillis) {
+
+        public long throughputPerSecond() {
+            return scanned * 1000L / Math.max(1, durationMillis);
+        }
+    }
+}
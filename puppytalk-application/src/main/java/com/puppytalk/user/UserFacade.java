@@ -8,7 +8,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 
-import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
@@ -72,15 +71,6 @@ public class UserFacade {
             .toList();
     }
     
-    /**
-     * 특정 시간 이전에 활동한 비활성 사용자 ID 목록을 조회한다.
-     */
-    public List<UserId> findInactiveUserIds(LocalDateTime cutoffTime) {
-        Assert.notNull(cutoffTime, "Cutoff time must not be null");
-        
-        return userDomainService.findInactiveUsers(cutoffTime);
-    }
-    
     /**
      * 휴면 사용자 배치 처리를 수행한다.
      * 
@@ -1,19 +1,27 @@
 package com.puppytalk.config;
 
+import com.puppytalk.auth.AuthenticatedUserCache;
 import com.puppytalk.auth.AuthenticationDomainService;
 import com.puppytalk.auth.TokenProvider;
 import com.puppytalk.auth.TokenStore;
 import com.puppytalk.chat.ChatDomainService;
+import com.puppytalk.chat.ChatMessageListener;
 import com.puppytalk.chat.ChatRoomRepository;
 import com.puppytalk.chat.MessageRepository;
+import com.puppytalk.notification.NotificationDeliveryRecorder;
 import com.puppytalk.notification.NotificationDomainService;
 import com.puppytalk.notification.NotificationRepository;
+import com.puppytalk.notification.NotificationRetryPolicy;
 import com.puppytalk.pet.PetDomainService;
 import com.puppytalk.pet.PetRepository;
 import com.puppytalk.user.PasswordEncoder;
+import com.puppytalk.user.UserActivityRecorder;
 import com.puppytalk.user.BCryptPasswordEncoder;
+import com.puppytalk.user.BoundedPasswordEncoder;
 import com.puppytalk.user.UserDomainService;
 import com.puppytalk.user.UserRepository;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -26,31 +34,51 @@ public class DomainAssemblyConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder(
+        @Value("${app.auth.password.bcrypt-strength:12}") int bcryptStrength,
+        @Value("${app.auth.password.max-concurrency:4}") int maxConcurrency,
+        @Value("${app.auth.password.queue-capacity:64}") int queueCapacity,
+        @Value("${app.auth.password.max-wait-ms:2000}") long maxWaitMillis
+    ) {
+        return new BoundedPasswordEncoder(
+            new BCryptPasswordEncoder(bcryptStrength),
+            new BoundedPasswordEncoder.Settings(maxConcurrency, queueCapacity, Duration.ofMillis(maxWaitMillis))
+        );
     }
     
     @Bean
-    public UserDomainService userDomainService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
-        return new UserDomainService(userRepository, passwordEncoder);
+    public UserDomainService userDomainService(UserRepository userRepository,
+                                              PasswordEncoder passwordEncoder,
+                                              UserActivityRecorder userActivityRecorder) {
+        return new UserDomainService(userRepository, passwordEncoder, userActivityRecorder);
     }
     
     @Bean
     public ChatDomainService chatDomainService(ChatRoomRepository chatRoomRepository,
-                                              MessageRepository messageRepository) {
-        return new ChatDomainService(chatRoomRepository, messageRepository);
+                                              MessageRepository messageRepository,
+                                              ChatMessageListener chatMessageListener) {
+        return new ChatDomainService(chatRoomRepository, messageRepository, chatMessageListener);
     }
     
     
     @Bean
-    public NotificationDomainService notificationDomainService(NotificationRepository notificationRepository) {
-        return new NotificationDomainService(notificationRepository);
+    public NotificationDomainService notificationDomainService(
+        NotificationRepository notificationRepository,
+        NotificationDeliveryRecorder notificationDeliveryRecorder,
+        @Value("${notification.retry.max-attempts:5}") int maxAttempts,
+        @Value("${notification.retry.base-delay-seconds:30}") long baseDelaySeconds,
+        @Value("${notification.retry.max-delay-seconds:3600}") long maxDelaySeconds
+    ) {
+        NotificationRetryPolicy retryPolicy = new NotificationRetryPolicy(
+            maxAttempts, Duration.ofSeconds(baseDelaySeconds), Duration.ofSeconds(maxDelaySeconds));
+        return new NotificationDomainService(notificationRepository, retryPolicy, notificationDeliveryRecorder);
     }
     
     @Bean
     public AuthenticationDomainService authenticationDomainService(UserDomainService userDomainService, 
                                                                     TokenProvider tokenProvider,
-                                                                    TokenStore tokenStore) {
-        return new AuthenticationDomainService(userDomainService, tokenProvider, tokenStore);
+                                                                    TokenStore tokenStore,
+                                                                    AuthenticatedUserCache authenticatedUserCache) {
+        return new AuthenticationDomainService(userDomainService, tokenProvider, tokenStore, authenticatedUserCache);
     }
 }
\ No newline at end of file
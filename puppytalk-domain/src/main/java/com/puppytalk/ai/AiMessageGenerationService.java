@@ -27,4 +27,12 @@ public interface AiMessageGenerationService {
      */
     String generateInactivityNotification(ChatRoom chatRoom, Pet pet,
                                         int hoursSinceLastActivity, List<Message> lastMessages);
+
+    /**
+     * 비활성 알림 일괄 생성
+     * 
+     * @param requests 알림 생성 요청 목록
+     * @return 요청 순서와 동일한 항목별 생성 결과 (일부 항목만 실패할 수 있음)
+     */
+    List<InactivityMessageResult> generateInactivityNotifications(List<InactivityMessageRequest> requests);
 }
\ No newline at end of file
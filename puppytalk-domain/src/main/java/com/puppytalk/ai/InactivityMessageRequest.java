@@ -0,0 +1,29 @@
+package com.puppytalk.ai;
+
+import com.puppytalk.chat.Message;
+import com.puppytalk.pet.Pet;
+import com.puppytalk.user.UserId;
+import java.util.List;
+
+/**
+ * 비활성 알림 메시지 생성에 필요한 컨텍스트 정보 (배치 생성용)
+ */
+public record InactivityMessageRequest(
+    UserId userId,
+    Pet pet,
+    int hoursSinceLastActivity,
+    List<Message> lastMessages
+) {
+
+    public InactivityMessageRequest {
+        if (userId == null) {
+            throw new IllegalArgumentException("UserId must not be null");
+        }
+        if (pet == null) {
+            throw new IllegalArgumentException("Pet must not be null");
+        }
+        if (lastMessages == null) {
+            throw new IllegalArgumentException("Last messages must not be null");
+        }
+    }
+}
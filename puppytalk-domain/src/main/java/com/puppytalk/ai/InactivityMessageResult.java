@@ -0,0 +1,28 @@
+package com.puppytalk.ai;
+
+import com.puppytalk.user.UserId;
+
+/**
+ * 비활성 알림 메시지 생성 결과 (항목별 부분 실패 표현)
+ */
+public record InactivityMessageResult(
+    UserId userId,
+    String message,
+    String failureReason
+) {
+
+    public static InactivityMessageResult success(UserId userId, String message) {
+        if (message == null || message.trim().isEmpty()) {
+            throw new IllegalArgumentException("Message must not be null or empty");
+        }
+        return new InactivityMessageResult(userId, message, null);
+    }
+
+    public static InactivityMessageResult failure(UserId userId, String failureReason) {
+        return new InactivityMessageResult(userId, null, failureReason);
+    }
+
+    public boolean isSuccess() {
+        return message != null;
+    }
+}
@@ -0,0 +1,32 @@
+package com.puppytalk.ai.exception;
+
+/**
+ * AI 메시지 생성 실패 예외
+ * <p>
+ * 서킷 브레이커 개방/동시 실행 한도 초과로 호출하지 않은 경우는 {@link #isUnavailable()}이 true이다.
+ */
+public class AiGenerationException extends RuntimeException {
+
+    private final boolean unavailable;
+
+    private AiGenerationException(String message, Throwable cause, boolean unavailable) {
+        super(message, cause);
+        this.unavailable = unavailable;
+    }
+
+    public static AiGenerationException failed(String reason) {
+        return new AiGenerationException("AI 메시지 생성에 실패했습니다: " + reason, null, false);
+    }
+
+    public static AiGenerationException failed(String reason, Throwable cause) {
+        return new AiGenerationException("AI 메시지 생성에 실패했습니다: " + reason, cause, false);
+    }
+
+    public static AiGenerationException unavailable(String reason) {
+        return new AiGenerationException("AI 서비스를 일시적으로 사용할 수 없습니다: " + reason, null, true);
+    }
+
+    public boolean isUnavailable() {
+        return unavailable;
+    }
+}
@@ -5,6 +5,8 @@ import java.time.LocalDateTime;
 
 /**
  * 활성 토큰 정보를 나타내는 값 객체
+ * <p>
+ * 저장소에서 조회한 경우 {@code accessToken}은 토큰 원문 대신 토큰 식별자(해시)일 수 있다.
  */
 public record ActiveTokenInfo(
     UserId userId,
@@ -0,0 +1,68 @@
+package com.puppytalk.auth;
+
+import com.puppytalk.user.User;
+import com.puppytalk.user.UserId;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 인증된 사용자 로컬 캐시 포트 인터페이스
+ * <p>
+ * 검증을 마친 토큰의 사용자 정보를 짧은 시간 동안 보관하여
+ * 요청마다 토큰 저장소와 사용자 저장소를 조회하지 않도록 한다.
+ */
+public interface AuthenticatedUserCache {
+
+    /**
+     * 캐시를 사용하지 않는 구현 (항상 미스)
+     */
+    AuthenticatedUserCache NO_OP = new AuthenticatedUserCache() {
+        @Override
+        public Optional<User> get(String accessToken) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void put(String accessToken, User user, LocalDateTime tokenExpiry) {
+        }
+
+        @Override
+        public void invalidate(String accessToken) {
+        }
+
+        @Override
+        public void invalidateUser(UserId userId) {
+        }
+    };
+
+    /**
+     * 토큰으로 캐시된 사용자를 조회한다
+     *
+     * @param accessToken 액세스 토큰
+     * @return 캐시된 사용자 (없거나 만료된 경우 empty)
+     */
+    Optional<User> get(String accessToken);
+
+    /**
+     * 검증된 토큰의 사용자를 저장한다. 토큰 만료 시각 이후에는 조회되지 않는다.
+     *
+     * @param accessToken 액세스 토큰
+     * @param user 사용자
+     * @param tokenExpiry 토큰 만료시간
+     */
+    void put(String accessToken, User user, LocalDateTime tokenExpiry);
+
+    /**
+     * 특정 토큰의 캐시를 제거한다
+     *
+     * @param accessToken 액세스 토큰
+     */
+    void invalidate(String accessToken);
+
+    /**
+     * 사용자의 모든 토큰 캐시를 제거한다
+     *
+     * @param userId 사용자 ID
+     */
+    void invalidateUser(UserId userId);
+}
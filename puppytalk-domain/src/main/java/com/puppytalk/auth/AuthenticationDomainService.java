@@ -5,8 +5,10 @@ import com.puppytalk.auth.exception.InvalidTokenException;
 import com.puppytalk.user.User;
 import com.puppytalk.user.UserId;
 import com.puppytalk.user.UserDomainService;
+import com.puppytalk.user.exception.PasswordHashingBusyException;
 import com.puppytalk.user.exception.UserNotFoundException;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 인증 도메인 서비스
@@ -17,15 +19,29 @@ public class AuthenticationDomainService {
     private final UserDomainService userDomainService;
     private final TokenProvider tokenProvider;
     private final TokenStore tokenStore;
+    private final AuthenticatedUserCache authenticatedUserCache;
     
     public AuthenticationDomainService(
         UserDomainService userDomainService,
         TokenProvider tokenProvider,
         TokenStore tokenStore
     ) {
+        this(userDomainService, tokenProvider, tokenStore, AuthenticatedUserCache.NO_OP);
+    }
+    
+    public AuthenticationDomainService(
+        UserDomainService userDomainService,
+        TokenProvider tokenProvider,
+        TokenStore tokenStore,
+        AuthenticatedUserCache authenticatedUserCache
+    ) {
+        if (authenticatedUserCache == null) {
+            throw new IllegalArgumentException("AuthenticatedUserCache must not be null");
+        }
         this.userDomainService = userDomainService;
         this.tokenProvider = tokenProvider;
         this.tokenStore = tokenStore;
+        this.authenticatedUserCache = authenticatedUserCache;
     }
     
     /**
@@ -36,6 +52,7 @@ public class AuthenticationDomainService {
      * @return JWT 토큰 정보
      * @throws UserNotFoundException 사용자가 존재하지 않는 경우
      * @throws InvalidCredentialsException 인증 정보가 올바르지 않은 경우
+     * @throws PasswordHashingBusyException 비밀번호 검증 요청이 몰려 처리할 수 없는 경우
      */
     public JwtToken login(String username, String password) {
         
@@ -45,6 +62,9 @@ public class AuthenticationDomainService {
             throw new InvalidCredentialsException("인증 정보가 올바르지 않습니다");
         }
         
+        // 암호화 설정(strength)이 변경되었으면 평문 비밀번호가 있는 지금 다시 암호화
+        userDomainService.upgradePasswordIfNeeded(user, password);
+        
         // 사용자 활동시간 업데이트
         userDomainService.updateLastActiveTime(user.getId());
         
@@ -93,6 +113,40 @@ public class AuthenticationDomainService {
         return userDomainService.getUserById(userId);
     }
 
+    /**
+     * 토큰을 검증하고 사용자 정보를 반환한다 (요청 인증용)
+     * <p>
+     * 캐시된 토큰이면 저장소를 조회하지 않고 바로 반환한다. 캐시에 없으면 토큰을 한 번만 파싱하여
+     * 서명과 만료 시간을 로컬에서 검증한 뒤, 토큰 활성 상태와 사용자를 조회하여 캐시한다.
+     * 다른 서버에서 무효화된 토큰은 캐시 TTL 동안 허용될 수 있다.
+     * 
+     * @param accessToken 액세스 토큰
+     * @return 사용자 정보
+     * @throws InvalidTokenException 토큰이 유효하지 않은 경우
+     * @throws UserNotFoundException 사용자가 존재하지 않는 경우
+     */
+    public User validateTokenAndGetUser(String accessToken) {
+        if (accessToken == null || accessToken.isBlank()) {
+            throw new IllegalArgumentException("AccessToken must not be null or empty");
+        }
+        
+        Optional<User> cachedUser = authenticatedUserCache.get(accessToken);
+        if (cachedUser.isPresent()) {
+            return cachedUser.get();
+        }
+        
+        // 네트워크 조회 전에 서명과 만료 시간을 먼저 검증
+        TokenClaims claims = tokenProvider.verify(accessToken);
+        
+        if (!tokenStore.isTokenActive(accessToken)) {
+            throw InvalidTokenException.invalidToken();
+        }
+        
+        User user = userDomainService.getUserById(claims.userId());
+        authenticatedUserCache.put(accessToken, user, claims.expiresAt());
+        return user;
+    }
+
     /**
      * 사용자의 모든 토큰을 무효화한다 (전체 로그아웃)
      * 
@@ -100,6 +154,7 @@ public class AuthenticationDomainService {
      */
     public void logout(UserId userId) {
         tokenStore.invalidateAllTokensForUser(userId);
+        authenticatedUserCache.invalidateUser(userId);
     }
     
     /**
@@ -109,6 +164,7 @@ public class AuthenticationDomainService {
      */
     public void logoutToken(String accessToken) {
         tokenStore.invalidateToken(accessToken);
+        authenticatedUserCache.invalidate(accessToken);
     }
     
     /**
@@ -0,0 +1,19 @@
+package com.puppytalk.auth;
+
+import com.puppytalk.user.UserId;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 서명과 만료 시간 검증을 통과한 토큰 클레임
+ */
+public record TokenClaims(
+    UserId userId,
+    LocalDateTime expiresAt
+) {
+
+    public TokenClaims {
+        Objects.requireNonNull(userId, "UserId must not be null");
+        Objects.requireNonNull(expiresAt, "ExpiresAt must not be null");
+    }
+}
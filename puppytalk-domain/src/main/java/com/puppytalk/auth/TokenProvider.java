@@ -33,4 +33,13 @@ public interface TokenProvider {
      * @return 유효한 경우 true
      */
     boolean validateToken(String accessToken);
-}
\ No newline at end of file
+    
+    /**
+     * 액세스 토큰의 서명과 만료 시간을 검증하고 클레임을 반환한다 (한 번의 파싱)
+     * 
+     * @param accessToken 액세스 토큰
+     * @return 검증된 클레임
+     * @throws InvalidTokenException 토큰이 유효하지 않은 경우
+     */
+    TokenClaims verify(String accessToken);
+}
@@ -0,0 +1,35 @@
+package com.puppytalk.batch;
+
+import java.util.Optional;
+
+/**
+ * 배치 작업 체크포인트 저장소
+ * <p>
+ * 청크 단위 배치가 마지막으로 처리한 키를 저장하여, 중단된 작업이 다음 실행에서 이어서 처리되도록 한다.
+ * 체크포인트 저장은 청크 처리와 같은 트랜잭션에서 수행해야 한다.
+ */
+public interface BatchCheckpointRepository {
+    
+    /**
+     * 마지막으로 처리한 키를 조회한다
+     * 
+     * @param jobName 배치 작업 이름
+     * @return 마지막 처리 키 (체크포인트가 없으면 Optional.empty())
+     */
+    Optional<Long> findLastProcessedId(String jobName);
+    
+    /**
+     * 마지막으로 처리한 키를 저장한다
+     * 
+     * @param jobName 배치 작업 이름
+     * @param lastProcessedId 마지막 처리 키
+     */
+    void save(String jobName, long lastProcessedId);
+    
+    /**
+     * 체크포인트를 삭제한다 (작업 완료 시)
+     * 
+     * @param jobName 배치 작업 이름
+     */
+    void delete(String jobName);
+}
@@ -0,0 +1,66 @@
+package com.puppytalk.batch;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 월 단위 파티션 유지 정책
+ * <p>
+ * 현재 월부터 {@code premakeMonths}개월 뒤까지 파티션을 미리 만들어 삽입이 항상 월 파티션에 들어가게 하고,
+ * 월이 끝난 지 {@code retentionMonths}개월이 지난 파티션을 만료 대상으로 고른다. 범위 파티션은
+ * 마지막 월 파티션 뒤(pmax 분할)로만 추가할 수 있으므로, 기존 마지막 월 이후의 월만 생성 대상이 된다.
+ * 유지 작업이 밀려 지나간 월이 있으면 그 월부터 채워 pmax에 쌓인 행도 해당 월 파티션으로 옮겨지게 한다.
+ *
+ * @param premakeMonths 현재 월 이후 미리 만들 개월 수
+ * @param retentionMonths 보관 개월 수 (0이면 만료하지 않음)
+ */
+public record MonthlyPartitionPolicy(int premakeMonths, int retentionMonths) {
+
+    private static final int MAX_PREMAKE_MONTHS = 24;
+
+    public MonthlyPartitionPolicy {
+        if (premakeMonths < 0 || premakeMonths > MAX_PREMAKE_MONTHS) {
+            throw new IllegalArgumentException("Premake months must be between 0 and " + MAX_PREMAKE_MONTHS);
+        }
+        if (retentionMonths < 0) {
+            throw new IllegalArgumentException("Retention months must not be negative");
+        }
+    }
+
+    public boolean expires() {
+        return retentionMonths > 0;
+    }
+
+    /**
+     * 현재 파티션 구성에 대한 유지 계획을 만든다
+     *
+     * @param partitions 테이블의 현재 파티션
+     * @param currentMonth 기준 월
+     * @return 유지 계획
+     */
+    public PartitionPlan plan(List<TablePartition> partitions, YearMonth currentMonth) {
+        if (partitions == null || currentMonth == null) {
+            throw new IllegalArgumentException("Partitions and current month must not be null");
+        }
+
+        List<TablePartition> monthly = partitions.stream()
+            .filter(TablePartition::isMonthly)
+            .sorted(Comparator.comparing(TablePartition::month))
+            .toList();
+
+        YearMonth lastMonth = monthly.isEmpty() ? null : monthly.get(monthly.size() - 1).month();
+        YearMonth from = lastMonth == null ? currentMonth : lastMonth.plusMonths(1);
+        List<YearMonth> toCreate = new ArrayList<>();
+        for (YearMonth month = from; !month.isAfter(currentMonth.plusMonths(premakeMonths)); month = month.plusMonths(1)) {
+            toCreate.add(month);
+        }
+
+        List<TablePartition> toExpire = !expires() ? List.of() : monthly.stream()
+            .filter(partition -> partition.month().plusMonths(retentionMonths).isBefore(currentMonth))
+            .toList();
+
+        return new PartitionPlan(toCreate, toExpire);
+    }
+}
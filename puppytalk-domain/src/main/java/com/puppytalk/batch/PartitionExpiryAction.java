@@ -0,0 +1,16 @@
+package com.puppytalk.batch;
+
+/**
+ * 보관 기간이 지난 파티션 처리 방식
+ */
+public enum PartitionExpiryAction {
+    /**
+     * 파티션 삭제 (행 단위 DELETE 없이 메타데이터 변경만으로 제거)
+     */
+    DROP,
+
+    /**
+     * 파티션을 별도 보관 테이블({@code <table>_archive_YYYYMM})로 교환한 뒤 제거
+     */
+    ARCHIVE
+}
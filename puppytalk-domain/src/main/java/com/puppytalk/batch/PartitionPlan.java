@@ -0,0 +1,22 @@
+package com.puppytalk.batch;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * 파티션 유지 계획
+ *
+ * @param toCreate 미리 만들 월 (오름차순)
+ * @param toExpire 보관 기간이 지난 파티션 (오래된 순)
+ */
+public record PartitionPlan(List<YearMonth> toCreate, List<TablePartition> toExpire) {
+
+    public PartitionPlan {
+        toCreate = List.copyOf(toCreate);
+        toExpire = List.copyOf(toExpire);
+    }
+
+    public boolean isEmpty() {
+        return toCreate.isEmpty() && toExpire.isEmpty();
+    }
+}
@@ -0,0 +1,50 @@
+package com.puppytalk.batch;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 월 단위 범위 파티션
+ * <p>
+ * {@code pYYYYMM}은 해당 월에 생성된 행, {@code pmax}는 마지막 월 이후의 모든 행을 담는다.
+ * 규칙에 맞지 않는 이름의 파티션은 관리 대상에서 제외된다.
+ *
+ * @param name 파티션 이름
+ * @param month 파티션이 담는 월 (pmax와 관리 대상이 아닌 파티션은 null)
+ */
+public record TablePartition(String name, YearMonth month) {
+
+    public static final String CATCH_ALL = "pmax";
+
+    private static final DateTimeFormatter NAME_FORMAT = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    public TablePartition {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Partition name must not be null or empty");
+        }
+    }
+
+    public static TablePartition of(String name) {
+        if (name == null || !name.matches("p\\d{6}")) {
+            return new TablePartition(name, null);
+        }
+        try {
+            return new TablePartition(name, YearMonth.parse(name, NAME_FORMAT));
+        } catch (DateTimeParseException e) {
+            return new TablePartition(name, null);
+        }
+    }
+
+    public static TablePartition monthly(YearMonth month) {
+        return new TablePartition(month.format(NAME_FORMAT), month);
+    }
+
+    public boolean isMonthly() {
+        return month != null;
+    }
+
+    public boolean isCatchAll() {
+        return CATCH_ALL.equals(name);
+    }
+}
@@ -0,0 +1,45 @@
+package com.puppytalk.batch;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * 테이블 월 단위 범위 파티션 관리 저장소
+ * <p>
+ * 파티션 추가/삭제/교환은 행을 옮기지 않는 메타데이터 변경이므로 보관 기간 관리를 행 단위 DELETE 없이 수행한다.
+ */
+public interface TablePartitionRepository {
+
+    /**
+     * 테이블의 파티션을 범위 순서대로 조회한다
+     *
+     * @param table 테이블 이름
+     * @return 파티션 목록 (파티셔닝되지 않은 테이블이면 빈 목록)
+     */
+    List<TablePartition> findPartitions(String table);
+
+    /**
+     * 마지막 월 파티션 뒤에 월 파티션을 추가한다 (pmax가 있으면 분할)
+     *
+     * @param table 테이블 이름
+     * @param month 추가할 월
+     */
+    void addMonthlyPartition(String table, YearMonth month);
+
+    /**
+     * 파티션을 삭제한다
+     *
+     * @param table 테이블 이름
+     * @param partition 삭제할 파티션
+     */
+    void dropPartition(String table, TablePartition partition);
+
+    /**
+     * 파티션을 보관 테이블로 교환한 뒤 삭제한다
+     *
+     * @param table 테이블 이름
+     * @param partition 보관할 파티션
+     * @return 보관 테이블 이름
+     */
+    String archivePartition(String table, TablePartition partition);
+}
@@ -5,20 +5,36 @@ import com.puppytalk.chat.exception.ChatRoomNotFoundException;
 import com.puppytalk.chat.exception.MessageNotFoundException;
 import com.puppytalk.pet.PetId;
 import com.puppytalk.user.UserId;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 public class ChatDomainService {
 
+    private static final int MAX_ARCHIVE_CHUNK_SIZE = 5000;
+
     private final ChatRoomRepository chatRoomRepository;
     private final MessageRepository messageRepository;
+    private final ChatMessageListener chatMessageListener;
 
     public ChatDomainService(
         ChatRoomRepository chatRoomRepository,
         MessageRepository messageRepository
     ) {
+        this(chatRoomRepository, messageRepository, ChatMessageListener.NO_OP);
+    }
+
+    public ChatDomainService(
+        ChatRoomRepository chatRoomRepository,
+        MessageRepository messageRepository,
+        ChatMessageListener chatMessageListener
+    ) {
+        if (chatMessageListener == null) {
+            throw new IllegalArgumentException("ChatMessageListener must not be null");
+        }
         this.chatRoomRepository = chatRoomRepository;
         this.messageRepository = messageRepository;
+        this.chatMessageListener = chatMessageListener;
     }
 
     /**
@@ -61,42 +77,56 @@ public class ChatDomainService {
 
     /**
      * 사용자 메시지 전송
+     *
+     * @return 저장된 사용자 메시지
      */
-    public void sendUserMessage(ChatRoomId chatRoomId, UserId userId, String content) {
+    public Message sendUserMessage(ChatRoomId chatRoomId, UserId userId, String content) {
+        return sendUserMessage(findChatRoom(chatRoomId, userId), userId, content);
+    }
 
-        // 채팅방 존재 및 소유권 확인
-        ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId)
-            .orElseThrow(() -> new ChatRoomNotFoundException(chatRoomId));
+    /**
+     * 사용자 메시지 전송 (이미 조회한 채팅방 사용)
+     * <p>
+     * 같은 요청에서 {@link #findChatRoom}으로 조회한 채팅방을 전달하면 채팅방을 다시 조회하지 않는다.
+     *
+     * @return 저장된 사용자 메시지
+     */
+    public Message sendUserMessage(ChatRoom chatRoom, UserId userId, String content) {
+        if (chatRoom == null) {
+            throw new IllegalArgumentException("ChatRoom must not be null");
+        }
 
         if (!chatRoom.isOwnedBy(userId)) {
-            throw new ChatRoomAccessDeniedException("채팅방에 접근할 권한이 없습니다", userId, chatRoomId);
+            throw new ChatRoomAccessDeniedException("채팅방에 접근할 권한이 없습니다", userId, chatRoom.getId());
         }
 
-        Message message = Message.create(chatRoomId, userId, content);
-        messageRepository.create(message);
+        Message message = Message.create(chatRoom.getId(), userId, content);
+        Message savedMessage = messageRepository.create(message);
 
-        ChatRoom updatedChatRoom = chatRoom.withLastMessageTime();
-        chatRoomRepository.update(updatedChatRoom);
+        chatRoomRepository.updateLastMessageAt(chatRoom.getId(), LocalDateTime.now());
+
+        chatMessageListener.onMessageSaved(savedMessage);
+        return savedMessage;
     }
 
     /**
      * 반려동물 메시지 전송 (AI 응답)
+     * <p>
+     * 채팅방 존재 여부는 마지막 메시지 시각 갱신 결과로 확인하여 별도 조회를 하지 않는다.
      */
     public Message sendPetMessage(ChatRoomId chatRoomId, String content) {
 
-        // 채팅방 존재 확인
-        ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId)
-            .orElseThrow(() -> new ChatRoomNotFoundException(chatRoomId));
+        // 채팅방 마지막 메시지 시각 업데이트 (채팅방이 없으면 갱신되지 않음)
+        if (!chatRoomRepository.updateLastMessageAt(chatRoomId, LocalDateTime.now())) {
+            throw new ChatRoomNotFoundException(chatRoomId);
+        }
 
         // 메시지 생성 및 저장
         Message petMessage = Message.createPetMessage(chatRoomId, content);
-        messageRepository.create(petMessage);
-
-        // 채팅방 마지막 메시지 시각 업데이트
-        ChatRoom updatedChatRoom = chatRoom.withLastMessageTime();
-        chatRoomRepository.update(updatedChatRoom);
+        Message savedMessage = messageRepository.create(petMessage);
 
-        return petMessage;
+        chatMessageListener.onMessageSaved(savedMessage);
+        return savedMessage;
     }
 
     /**
@@ -131,6 +161,34 @@ public class ChatDomainService {
         return messageRepository.findByChatRoomIdWithCursor(chatRoomId, cursor, size);
     }
 
+    /**
+     * 채팅방 메시지 목록 조회 (이미 조회한 채팅방 사용, 커서 기반 페이징)
+     *
+     * @param chatRoom 같은 요청에서 조회한 채팅방
+     * @param userId   사용자 ID (소유권 확인용)
+     * @param cursor   커서 (이전 조회의 마지막 메시지 ID), null이면 첫 페이지
+     * @param size     조회할 메시지 개수
+     * @return 메시지 목록 (오래된 순서부터)
+     */
+    public List<Message> findMessageListWithCursor(
+        ChatRoom chatRoom,
+        UserId userId,
+        MessageId cursor,
+        int size
+    ) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Size must be positive");
+        }
+        if (chatRoom == null) {
+            throw new IllegalArgumentException("ChatRoom must not be null");
+        }
+
+        if (!chatRoom.isOwnedBy(userId)) {
+            throw new ChatRoomAccessDeniedException("채팅방에 접근할 권한이 없습니다", userId, chatRoom.getId());
+        }
+        return messageRepository.findByChatRoomIdWithCursor(chatRoom.getId(), cursor, size);
+    }
+
     /**
      * 특정 메시지 조회
      */
@@ -161,11 +219,29 @@ public class ChatDomainService {
         return messageRepository.findRecentMessages(chatRoomId, limit);
     }
 
+    /**
+     * 채팅 히스토리 조회 (이미 조회한 채팅방 사용)
+     *
+     * @param chatRoom 같은 요청에서 조회한 채팅방
+     * @param limit    조회할 메시지 개수 (최신순)
+     * @return 최신 메시지부터 정렬된 리스트
+     */
+    public List<Message> findRecentChatHistory(ChatRoom chatRoom, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        if (chatRoom == null) {
+            throw new IllegalArgumentException("ChatRoom must not be null");
+        }
+
+        return messageRepository.findRecentMessages(chatRoom.getId(), limit);
+    }
+
     /**
      * 특정 시간 이후의 새로운 메시지 조회
      */
     public List<Message> findNewMessages(ChatRoomId chatRoomId, UserId userId,
-        java.time.LocalDateTime since) {
+        LocalDateTime since) {
         if (since == null) {
             throw new IllegalArgumentException("Since time must not be null");
         }
@@ -175,6 +251,26 @@ public class ChatDomainService {
         return messageRepository.findByChatRoomIdAndCreatedAtAfter(chatRoomId, since);
     }
 
+    /**
+     * 기준 시각 이전 메시지 한 청크를 보관 저장소로 옮긴다.
+     * 대량 보관은 청크별 트랜잭션과 체크포인트를 사용하는 배치 작업에서 수행한다.
+     *
+     * @param cutoff         기준 시각 (이전에 생성된 메시지가 대상)
+     * @param afterMessageId 이전 청크의 마지막 메시지 ID (첫 청크는 null)
+     * @param chunkSize      청크 크기
+     * @return 청크 처리 결과
+     */
+    public MessageArchiveChunk archiveMessageChunk(LocalDateTime cutoff, Long afterMessageId, int chunkSize) {
+        if (cutoff == null) {
+            throw new IllegalArgumentException("Cutoff must not be null");
+        }
+        if (chunkSize <= 0 || chunkSize > MAX_ARCHIVE_CHUNK_SIZE) {
+            throw new IllegalArgumentException("Chunk size must be between 1 and " + MAX_ARCHIVE_CHUNK_SIZE);
+        }
+
+        return messageRepository.archiveChunk(cutoff, afterMessageId, chunkSize);
+    }
+
     /**
      * 사용자와 반려동물의 채팅방 조회
      */
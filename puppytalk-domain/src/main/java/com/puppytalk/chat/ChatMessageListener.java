@@ -0,0 +1,17 @@
+package com.puppytalk.chat;
+
+/**
+ * 메시지 저장 이벤트 수신자
+ * <p>
+ * 메시지가 저장된 직후 {@link ChatDomainService}가 호출한다.
+ * 구현체는 트랜잭션 커밋 이후에 구독자에게 전달해야 하며, 저장 흐름을 지연시키지 않아야 한다.
+ */
+public interface ChatMessageListener {
+
+    ChatMessageListener NO_OP = message -> { };
+
+    /**
+     * @param message 저장된 메시지 (ID 포함)
+     */
+    void onMessageSaved(Message message);
+}
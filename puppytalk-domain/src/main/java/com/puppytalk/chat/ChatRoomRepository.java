@@ -2,6 +2,7 @@ package com.puppytalk.chat;
 
 import com.puppytalk.pet.PetId;
 import com.puppytalk.user.UserId;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +18,13 @@ public interface ChatRoomRepository {
      */
     ChatRoom update(ChatRoom chatRoom);
     
+    /**
+     * 채팅방 마지막 메시지 시각 갱신 (조회 없이 단일 UPDATE)
+     *
+     * @return 채팅방이 존재하여 갱신되었으면 true
+     */
+    boolean updateLastMessageAt(ChatRoomId id, LocalDateTime lastMessageAt);
+    
     /**
      * ID로 채팅방 조회
      */
@@ -0,0 +1,12 @@
+package com.puppytalk.chat;
+
+/**
+ * 메시지 보관 청크 처리 결과
+ *
+ * @param scanned 조회한 보관 대상 메시지 수
+ * @param archived 보관 파일에 들어 있는 것이 확인되어 테이블에서 삭제된 메시지 수
+ * @param lastMessageId 청크의 마지막 메시지 ID (다음 청크의 시작 키)
+ * @param isLast 마지막 청크 여부
+ */
+public record MessageArchiveChunk(int scanned, int archived, Long lastMessageId, boolean isLast) {
+}
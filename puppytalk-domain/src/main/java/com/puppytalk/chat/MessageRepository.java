@@ -27,7 +27,7 @@ public interface MessageRepository {
     
     /**
      * 채팅방의 메시지 조회 (커서 기반 페이징)
-     * 커서(messageId) 이후의 메시지들을 시간 오름차순으로 조회
+     * 커서(messageId) 이후의 메시지들을 시간 오름차순으로 조회 (보관된 오래된 메시지 포함)
      * 
      * @param chatRoomId 채팅방 ID
      * @param cursor 커서 (이전 조회의 마지막 메시지 ID), null이면 첫 페이지
@@ -53,6 +53,15 @@ public interface MessageRepository {
      * @return 기준 시간 이후에 생성된 메시지들 (생성 시간 오름차순)
      */
     List<Message> findByChatRoomIdAndCreatedAtAfter(ChatRoomId chatRoomId, java.time.LocalDateTime since);
-
+    
+    /**
+     * 기준 시각 이전 메시지 한 청크를 ID 순서로 보관 저장소에 기록한 뒤 테이블에서 삭제
+     *
+     * @param cutoff 기준 시각 (이전에 생성된 메시지가 대상)
+     * @param afterMessageId 이전 청크의 마지막 메시지 ID (첫 청크는 null)
+     * @param limit 청크 크기
+     * @return 청크 처리 결과
+     */
+    MessageArchiveChunk archiveChunk(java.time.LocalDateTime cutoff, Long afterMessageId, int limit);
 
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.puppytalk.notification;
+
+import java.time.LocalDateTime;
+
+/**
+ * 발송 실패 반영 내용
+ *
+ * @param notificationId 알림 ID
+ * @param retryCount 누적 실패 횟수
+ * @param status 반영할 상태 (재발송 대기 FAILED 또는 DEAD_LETTER)
+ * @param nextAttemptAt 다음 발송 시각 (DEAD_LETTER이면 null)
+ * @param reason 실패 사유
+ */
+public record DeliveryFailure(
+    NotificationId notificationId,
+    int retryCount,
+    NotificationStatus status,
+    LocalDateTime nextAttemptAt,
+    String reason
+) {
+}
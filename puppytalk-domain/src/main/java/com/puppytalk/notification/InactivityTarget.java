@@ -0,0 +1,21 @@
+package com.puppytalk.notification;
+
+import com.puppytalk.chat.ChatRoomId;
+import com.puppytalk.pet.PetId;
+import com.puppytalk.user.UserId;
+
+/**
+ * 비활성 알림 대상 (사용자, 대표 반려동물, 해당 반려동물과의 채팅방)
+ *
+ * @param userId 사용자 ID
+ * @param petId 삭제되지 않은 반려동물 중 ID가 가장 작은 반려동물
+ * @param chatRoomId 사용자와 반려동물의 채팅방 ID
+ */
+public record InactivityTarget(UserId userId, PetId petId, ChatRoomId chatRoomId) {
+
+    public InactivityTarget {
+        if (userId == null || petId == null || chatRoomId == null) {
+            throw new IllegalArgumentException("UserId, PetId and ChatRoomId must not be null");
+        }
+    }
+}
@@ -20,11 +20,12 @@ public class Notification {
     private final LocalDateTime readAt;
     private final LocalDateTime createdAt;
     private final LocalDateTime updatedAt;
+    private final int retryCount;
 
     private Notification(NotificationId id, UserId userId, PetId petId, ChatRoomId chatRoomId,
                         NotificationType type, String title, String content, NotificationStatus status,
                         LocalDateTime scheduledAt, LocalDateTime sentAt, LocalDateTime readAt,
-                        LocalDateTime createdAt, LocalDateTime updatedAt) {
+                        LocalDateTime createdAt, LocalDateTime updatedAt, int retryCount) {
         this.id = id;
         this.userId = userId;
         this.petId = petId;
@@ -38,6 +39,7 @@ public class Notification {
         this.readAt = readAt;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
+        this.retryCount = retryCount;
     }
 
     public static Notification createInactivityNotification(
@@ -63,7 +65,8 @@ public class Notification {
             null, // 아직 발송되지 않음
             null, // 아직 읽지 않음
             now,
-            now
+            now,
+            0
         );
     }
     
@@ -72,13 +75,46 @@ public class Notification {
                                  NotificationType type, String title, String content, NotificationStatus status,
                                  LocalDateTime scheduledAt, LocalDateTime sentAt, LocalDateTime readAt,
                                  LocalDateTime createdAt, LocalDateTime updatedAt) {
+        return of(id, userId, petId, chatRoomId, type, title, content, status,
+                  scheduledAt, sentAt, readAt, createdAt, updatedAt, 0);
+    }
+
+    /**
+     * 누적 발송 실패 횟수를 포함한 저장 데이터로부터 객체 생성
+     */
+    public static Notification of(NotificationId id, UserId userId, PetId petId, ChatRoomId chatRoomId,
+                                 NotificationType type, String title, String content, NotificationStatus status,
+                                 LocalDateTime scheduledAt, LocalDateTime sentAt, LocalDateTime readAt,
+                                 LocalDateTime createdAt, LocalDateTime updatedAt, int retryCount) {
 
         if (id == null || id.value() == null || id.value() <= 0) {
             throw new IllegalArgumentException("저장된 알림 ID가 필요합니다");
         }
 
         return new Notification(id, userId, petId, chatRoomId, type, title, content, status,
-                              scheduledAt, sentAt, readAt, createdAt, updatedAt);
+                              scheduledAt, sentAt, readAt, createdAt, updatedAt, retryCount);
+    }
+
+    /**
+     * 선점 기한이 지나도록 발송 결과가 반영되지 않은 시도를 실패 횟수에 더함
+     */
+    public Notification countExpiredAttempt() {
+        return new Notification(
+            this.id,
+            this.userId,
+            this.petId,
+            this.chatRoomId,
+            this.type,
+            this.title,
+            this.content,
+            this.status,
+            this.scheduledAt,
+            this.sentAt,
+            this.readAt,
+            this.createdAt,
+            this.updatedAt,
+            this.retryCount + 1
+        );
     }
 
     /**
@@ -109,7 +145,8 @@ public class Notification {
             newSentAt,
             newReadAt,
             this.createdAt,
-            now
+            now,
+            this.retryCount
         );
     }
 
@@ -165,6 +202,13 @@ public class Notification {
         return updatedAt;
     }
 
+    /**
+     * 누적 발송 실패 횟수
+     */
+    public int getRetryCount() {
+        return retryCount;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
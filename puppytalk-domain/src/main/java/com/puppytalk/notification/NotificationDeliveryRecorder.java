@@ -0,0 +1,41 @@
+package com.puppytalk.notification;
+
+import java.time.Duration;
+
+/**
+ * 알림 발송 결과 기록 포트 (재발송 비율, 발송 소요 시간 지표용)
+ */
+public interface NotificationDeliveryRecorder {
+
+    NotificationDeliveryRecorder NO_OP = new NotificationDeliveryRecorder() {
+        @Override
+        public void delivered(int attempts, Duration timeToDelivery) {
+        }
+
+        @Override
+        public void retryScheduled(int failedAttempts) {
+        }
+
+        @Override
+        public void deadLettered(int failedAttempts) {
+        }
+    };
+
+    /**
+     * 발송 성공
+     *
+     * @param attempts 성공까지의 발송 시도 횟수
+     * @param timeToDelivery 알림 생성부터 발송까지 걸린 시간
+     */
+    void delivered(int attempts, Duration timeToDelivery);
+
+    /**
+     * 발송 실패 후 재발송 예약
+     */
+    void retryScheduled(int failedAttempts);
+
+    /**
+     * 최대 시도 횟수를 넘겨 재발송 중단
+     */
+    void deadLettered(int failedAttempts);
+}
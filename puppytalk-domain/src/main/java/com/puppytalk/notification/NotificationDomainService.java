@@ -3,9 +3,18 @@ package com.puppytalk.notification;
 import com.puppytalk.chat.ChatRoomId;
 import com.puppytalk.notification.exception.NotificationException;
 import com.puppytalk.pet.PetId;
+import com.puppytalk.user.User;
 import com.puppytalk.user.UserId;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
 
 /**
  * 알림 도메인 서비스
@@ -18,11 +27,39 @@ public class NotificationDomainService {
     private static final int MAX_BATCH_SIZE = 1000;
     private static final int NOTIFICATION_EXPIRY_HOURS = 24;
     private static final int OLD_NOTIFICATION_CLEANUP_DAYS = 30;
+    private static final int TARGET_PAGE_SIZE = 1000;
+    private static final int MAX_PURGE_CHUNK_SIZE = 5000;
+
+    // 발송 중(SENDING)과 재발송 대기(FAILED) 알림도 발송 예정 알림으로 본다
+    private static final List<NotificationStatus> PENDING_STATUSES = List.of(
+        NotificationStatus.CREATED, NotificationStatus.QUEUED, NotificationStatus.SENDING, NotificationStatus.FAILED
+    );
+
+    private static final String DELIVERY_FAILURE_REASON = "FCM 발송 실패";
+    private static final String LEASE_EXPIRED_REASON = "발송 선점 기한 만료";
 
     private final NotificationRepository notificationRepository;
+    private final NotificationRetryPolicy retryPolicy;
+    private final NotificationDeliveryRecorder deliveryRecorder;
 
     public NotificationDomainService(NotificationRepository notificationRepository) {
+        this(notificationRepository, NotificationRetryPolicy.DEFAULT, NotificationDeliveryRecorder.NO_OP);
+    }
+
+    /**
+     * 재발송 정책과 발송 결과 기록기를 지정하는 생성자
+     *
+     * @param retryPolicy 재발송 정책 (null이면 기본 정책)
+     * @param deliveryRecorder 발송 결과 기록기 (null이면 기록하지 않음)
+     */
+    public NotificationDomainService(
+        NotificationRepository notificationRepository,
+        NotificationRetryPolicy retryPolicy,
+        NotificationDeliveryRecorder deliveryRecorder
+    ) {
         this.notificationRepository = notificationRepository;
+        this.retryPolicy = retryPolicy != null ? retryPolicy : NotificationRetryPolicy.DEFAULT;
+        this.deliveryRecorder = deliveryRecorder != null ? deliveryRecorder : NotificationDeliveryRecorder.NO_OP;
     }
 
     /**
@@ -50,6 +87,29 @@ public class NotificationDomainService {
         notificationRepository.save(notification);
     }
 
+    /**
+     * 비활성 알림 대상 조회로 선정된 사용자에게 알림 생성
+     * <p>
+     * 대상 조회 쿼리가 발송 대기 중인 비활성 알림이 없는 사용자만 반환하므로 사용자별 중복 확인 쿼리를 생략한다.
+     */
+    public void createInactivityNotification(
+        InactivityTarget target,
+        String aiGeneratedTitle,
+        String aiGeneratedContent
+    ) {
+        if (target == null) {
+            throw new IllegalArgumentException("InactivityTarget must not be null");
+        }
+
+        LocalDateTime scheduledAt = LocalDateTime.now().plusMinutes(NOTIFICATION_DELAY_MINUTES);
+
+        Notification notification = Notification.createInactivityNotification(
+            target.userId(), target.petId(), target.chatRoomId(), aiGeneratedTitle, aiGeneratedContent, scheduledAt
+        );
+
+        notificationRepository.save(notification);
+    }
+
 
     /**
      * 발송 대기 중인 알림 목록 조회 (스케줄러용)
@@ -63,6 +123,134 @@ public class NotificationDomainService {
         return notificationRepository.findPendingNotifications(now, batchSize);
     }
 
+    /**
+     * 발송 대기 중인 알림 선점 (발송 워커용)
+     * <p>
+     * 선점한 알림은 {@code lease} 동안 다른 노드가 가져가지 않으며, 기한 안에 결과가 반영되지 않으면 다시 발송 대상이 된다.
+     * 기한이 지난 시도는 실패 횟수에 포함되므로, 다시 선점한 알림이 최대 시도 횟수에 도달했으면 발송하지 않고 DEAD_LETTER로 전환한다.
+     *
+     * @param owner 선점 노드 식별자
+     * @param batchSize 최대 선점 개수
+     * @param lease 선점 유지 시간
+     * @return 선점한 알림 목록
+     */
+    public List<Notification> claimPendingNotifications(String owner, int batchSize, Duration lease) {
+        if (owner == null || owner.isBlank()) {
+            throw new IllegalArgumentException("Owner must not be blank");
+        }
+        if (batchSize <= 0 || batchSize > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Batch size must be between 1 and " + MAX_BATCH_SIZE);
+        }
+        if (lease == null || lease.isNegative() || lease.isZero()) {
+            throw new IllegalArgumentException("Lease must be positive");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Notification> claimed = notificationRepository.claimPendingNotifications(owner, now, now.plus(lease), batchSize);
+
+        List<Notification> dispatchable = new ArrayList<>(claimed.size());
+        List<DeliveryFailure> exhausted = new ArrayList<>();
+        for (Notification notification : claimed) {
+            if (retryPolicy.canRetry(notification.getRetryCount())) {
+                dispatchable.add(notification);
+            } else {
+                exhausted.add(new DeliveryFailure(
+                    notification.getId(), notification.getRetryCount(), NotificationStatus.DEAD_LETTER, null,
+                    LEASE_EXPIRED_REASON));
+            }
+        }
+        if (!exhausted.isEmpty()) {
+            notificationRepository.recordFailures(exhausted, owner)
+                .forEach(failure -> deliveryRecorder.deadLettered(failure.retryCount()));
+        }
+        return dispatchable;
+    }
+
+    /**
+     * 발송 결과 일괄 반영
+     * <p>
+     * 실패한 알림은 재발송 정책에 따라 다음 발송 시각을 미뤄 FAILED로 두고,
+     * 최대 시도 횟수에 도달하면 DEAD_LETTER로 전환한다.
+     * 선점 기한이 지나 다른 노드가 다시 선점한 알림은 반영하지 않는다.
+     *
+     * @param owner 선점 노드 식별자
+     * @param sent 발송 성공 알림 목록
+     * @param failed 발송 실패 알림 목록
+     * @return 반영 결과
+     */
+    public DispatchOutcome completeDispatch(String owner, List<Notification> sent, List<Notification> failed) {
+        if (owner == null || owner.isBlank()) {
+            throw new IllegalArgumentException("Owner must not be blank");
+        }
+        if (sent == null || failed == null) {
+            throw new IllegalArgumentException("Notifications must not be null");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int sentCount = 0;
+        int stale = 0;
+        if (!sent.isEmpty()) {
+            Set<NotificationId> applied = new HashSet<>(notificationRepository.updateStatusBatch(
+                sent.stream().map(Notification::getId).toList(),
+                NotificationStatus.SENT,
+                owner
+            ));
+            for (Notification notification : sent) {
+                if (applied.contains(notification.getId())) {
+                    deliveryRecorder.delivered(
+                        notification.getRetryCount() + 1,
+                        Duration.between(notification.getCreatedAt(), now)
+                    );
+                    sentCount++;
+                }
+            }
+            stale += sent.size() - sentCount;
+        }
+
+        int retried = 0;
+        int deadLettered = 0;
+        List<DeliveryFailure> failures = new ArrayList<>(failed.size());
+        for (Notification notification : failed) {
+            int failedAttempts = notification.getRetryCount() + 1;
+            if (retryPolicy.canRetry(failedAttempts)) {
+                LocalDateTime nextAttemptAt = now.plus(retryPolicy.backoff(failedAttempts));
+                failures.add(new DeliveryFailure(
+                    notification.getId(), failedAttempts, NotificationStatus.FAILED, nextAttemptAt,
+                    DELIVERY_FAILURE_REASON));
+            } else {
+                failures.add(new DeliveryFailure(
+                    notification.getId(), failedAttempts, NotificationStatus.DEAD_LETTER, null,
+                    DELIVERY_FAILURE_REASON));
+            }
+        }
+        if (!failures.isEmpty()) {
+            List<DeliveryFailure> applied = notificationRepository.recordFailures(failures, owner);
+            stale += failures.size() - applied.size();
+            for (DeliveryFailure failure : applied) {
+                if (failure.status() == NotificationStatus.FAILED) {
+                    deliveryRecorder.retryScheduled(failure.retryCount());
+                    retried++;
+                } else {
+                    deliveryRecorder.deadLettered(failure.retryCount());
+                    deadLettered++;
+                }
+            }
+        }
+
+        return new DispatchOutcome(sentCount, retried, deadLettered, stale);
+    }
+
+    /**
+     * 발송 결과 반영 건수
+     *
+     * @param sent 발송 성공
+     * @param retried 재발송 예약
+     * @param deadLettered 재발송 중단
+     * @param stale 선점 기한이 지나 다른 노드가 다시 선점하여 반영하지 않은 알림
+     */
+    public record DispatchOutcome(int sent, int retried, int deadLettered, int stale) {
+    }
+
     /**
      * 알림 발송 완료 처리
      */
@@ -86,40 +274,96 @@ public class NotificationDomainService {
     }
 
     /**
-     * 알림 대상자 필터링 (중복 방지, 일일 제한 확인)
+     * 미읽은 알림 카운터 한 청크를 실제 알림 상태로 보정한다.
+     *
+     * @param afterUserId 이전 청크의 마지막 사용자 ID (첫 청크는 null)
+     * @param chunkSize 청크 크기 (양수)
+     * @return 청크 처리 결과
+     */
+    public UnreadCountChunk reconcileUnreadCountChunk(Long afterUserId, int chunkSize) {
+        if (chunkSize <= 0 || chunkSize > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Chunk size must be between 1 and " + MAX_BATCH_SIZE);
+        }
+
+        return notificationRepository.reconcileUnreadCounts(afterUserId, chunkSize);
+    }
+
+    /**
+     * 비활성 알림 대상자를 키셋 페이지 단위로 순회한다.
      * <p>
-     * Application layer에서 비활성 사용자 목록을 전달받아 필터링
+     * 비활성 사용자 조회, 휴면/삭제 필터링, 중복 알림 확인, 반려동물/채팅방 조회를 사용자별 쿼리 없이
+     * 페이지당 한 번의 쿼리로 처리하며, 한 번에 한 페이지만 메모리에 유지한다.
+     *
+     * @param inactiveBefore 비활성 기준 시각
+     * @param pageHandler 페이지별 대상 처리기 (사용자 ID 오름차순), false를 반환하면 순회를 멈춘다
      */
-    public List<UserId> filterUsersForNotification(List<UserId> candidateUsers) {
-        if (candidateUsers == null) {
-            throw new IllegalArgumentException("후보 사용자 목록은 필수입니다");
+    public void forEachInactivityNotificationTargetPage(
+        LocalDateTime inactiveBefore,
+        Predicate<List<InactivityTarget>> pageHandler
+    ) {
+        if (inactiveBefore == null) {
+            throw new IllegalArgumentException("InactiveBefore must not be null");
         }
-        
-        if (candidateUsers.isEmpty()) {
-            return List.of();
+        if (pageHandler == null) {
+            throw new IllegalArgumentException("Page handler must not be null");
         }
 
-        // 이미 알림을 받은 사용자는 제외 (중복 방지)
-        return candidateUsers.stream()
-            .filter(e -> !existsByUserId(UserId.from(e.value())))
-            .toList();
+        LocalDateTime dormantBefore = LocalDateTime.now().minusDays(User.DORMANT_DAYS);
+        UserId lastUserId = null;
+
+        while (true) {
+            List<InactivityTarget> page = notificationRepository.findInactivityNotificationTargets(
+                inactiveBefore, dormantBefore, lastUserId, TARGET_PAGE_SIZE
+            );
+            if (page.isEmpty()) {
+                return;
+            }
 
+            if (!pageHandler.test(page) || page.size() < TARGET_PAGE_SIZE) {
+                return;
+            }
+            lastUserId = page.get(page.size() - 1).userId();
+        }
     }
 
     /**
-     * 만료된 알림 정리 (성능 유지)
+     * 정리 기준 시각 (만료: 발송 예정 후 24시간, 완료: 생성 후 30일)
      */
-    public int cleanupExpiredNotifications() {
-        LocalDateTime cutoffDate = LocalDateTime.now().minusHours(NOTIFICATION_EXPIRY_HOURS);
-        return notificationRepository.deleteExpiredNotifications(cutoffDate);
+    public LocalDateTime purgeCutoff(NotificationPurgeTarget target) {
+        if (target == null) {
+            throw new IllegalArgumentException("Purge target must not be null");
+        }
+
+        return switch (target) {
+            case EXPIRED -> LocalDateTime.now().minusHours(NOTIFICATION_EXPIRY_HOURS);
+            case COMPLETED -> LocalDateTime.now().minusDays(OLD_NOTIFICATION_CLEANUP_DAYS);
+        };
     }
 
     /**
-     * 완료된 오래된 알림 정리 (30일 기준)
+     * 정리 대상 알림 한 청크를 기본 키 순서로 삭제한다.
+     * 대량 정리는 청크별 트랜잭션과 체크포인트를 사용하는 배치 작업에서 수행한다.
+     *
+     * @param target 정리 대상
+     * @param cutoff 기준 시각 ({@link #purgeCutoff})
+     * @param afterId 이전 청크의 마지막 알림 ID (첫 청크는 null)
+     * @param chunkSize 청크 크기
+     * @return 청크 처리 결과
      */
-    public int cleanupOldNotifications() {
-        LocalDateTime cutoffDate = LocalDateTime.now().minusDays(OLD_NOTIFICATION_CLEANUP_DAYS);
-        return notificationRepository.deleteCompletedNotificationsOlderThan(cutoffDate);
+    public NotificationPurgeChunk purgeChunk(
+        NotificationPurgeTarget target,
+        LocalDateTime cutoff,
+        Long afterId,
+        int chunkSize
+    ) {
+        if (target == null || cutoff == null) {
+            throw new IllegalArgumentException("Purge target and cutoff must not be null");
+        }
+        if (chunkSize <= 0 || chunkSize > MAX_PURGE_CHUNK_SIZE) {
+            throw new IllegalArgumentException("Chunk size must be between 1 and " + MAX_PURGE_CHUNK_SIZE);
+        }
+
+        return notificationRepository.purgeChunk(target, cutoff, afterId, chunkSize);
     }
 
     /**
@@ -139,20 +383,59 @@ public class NotificationDomainService {
         return notificationRepository.getNotificationStats(startDate, endDate);
     }
 
-    private boolean existsByUserId(UserId userId) {
-        boolean existsByCreatedStatus = notificationRepository.existsByUserIdAndTypeAndStatus(
-            userId,
-            NotificationType.INACTIVITY_MESSAGE,
-            NotificationStatus.CREATED
-        );
+    /**
+     * 알림 상태 전환 시계열 조회 (대시보드용)
+     * <p>
+     * 미리 집계된 시간 버킷을 읽고, 일 단위는 시간 버킷을 합산한다.
+     *
+     * @param from 조회 시작 시각 (버킷 시작으로 내림)
+     * @param to 조회 종료 시각 (제외)
+     * @param granularity 집계 단위
+     * @return 버킷 시작 시각, 타입 이름, 상태 이름 순으로 정렬된 버킷 목록
+     */
+    public List<NotificationStatsBucket> getStatsTimeSeries(
+        LocalDateTime from,
+        LocalDateTime to,
+        StatsGranularity granularity
+    ) {
+        if (from == null || to == null || granularity == null) {
+            throw new IllegalArgumentException("Range and granularity must not be null");
+        }
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("From must be before to");
+        }
+        if (Duration.between(from, to).compareTo(granularity.getMaxRange()) > 0) {
+            throw new IllegalArgumentException(
+                "Range must not exceed " + granularity.getMaxRange().toDays() + " days for " + granularity);
+        }
 
-        boolean existsByQueuedStatus = notificationRepository.existsByUserIdAndTypeAndStatus(
+        List<NotificationStatsBucket> hourly = notificationRepository.findHourlyStats(
+            granularity.truncate(from), to);
+        if (granularity == StatsGranularity.HOUR) {
+            return hourly;
+        }
+
+        Map<NotificationStatsBucket, Long> merged = new LinkedHashMap<>();
+        for (NotificationStatsBucket bucket : hourly) {
+            NotificationStatsBucket key = new NotificationStatsBucket(
+                granularity.truncate(bucket.bucketStart()), bucket.type(), bucket.status(), 0);
+            merged.merge(key, bucket.count(), Long::sum);
+        }
+        return merged.entrySet().stream()
+            .map(entry -> new NotificationStatsBucket(
+                entry.getKey().bucketStart(), entry.getKey().type(), entry.getKey().status(), entry.getValue()))
+            .sorted(Comparator.comparing(NotificationStatsBucket::bucketStart)
+                .thenComparing(bucket -> bucket.type().name())
+                .thenComparing(bucket -> bucket.status().name()))
+            .toList();
+    }
+
+    private boolean existsByUserId(UserId userId) {
+        return notificationRepository.existsByUserIdAndTypeAndStatusIn(
             userId,
             NotificationType.INACTIVITY_MESSAGE,
-            NotificationStatus.QUEUED
+            PENDING_STATUSES
         );
-
-        return existsByCreatedStatus || existsByQueuedStatus;
     }
 
     private void updateNotificationStatus(NotificationId notificationId,
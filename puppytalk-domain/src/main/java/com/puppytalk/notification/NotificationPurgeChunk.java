@@ -0,0 +1,12 @@
+package com.puppytalk.notification;
+
+/**
+ * 알림 정리 청크 처리 결과
+ *
+ * @param scanned 조회한 삭제 대상 수
+ * @param deleted 실제로 삭제된 수 (조회 이후 상태가 바뀐 알림은 제외)
+ * @param lastId 청크의 마지막 알림 ID (다음 청크의 시작점, 대상이 없으면 이전 값)
+ * @param isLast 마지막 청크 여부
+ */
+public record NotificationPurgeChunk(int scanned, int deleted, Long lastId, boolean isLast) {
+}
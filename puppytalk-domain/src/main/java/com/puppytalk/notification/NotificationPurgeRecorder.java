@@ -0,0 +1,22 @@
+package com.puppytalk.notification;
+
+import java.time.Duration;
+
+/**
+ * 알림 정리 진행 기록 포트 (삭제 건수, 청크 소요 시간, 진행 위치 지표용)
+ */
+public interface NotificationPurgeRecorder {
+
+    NotificationPurgeRecorder NO_OP = (target, deleted, lastId, duration) -> {
+    };
+
+    /**
+     * 청크 삭제 완료
+     *
+     * @param target 정리 대상
+     * @param deleted 삭제된 알림 수
+     * @param lastId 처리한 마지막 알림 ID
+     * @param duration 청크 처리 시간
+     */
+    void chunkPurged(NotificationPurgeTarget target, int deleted, long lastId, Duration duration);
+}
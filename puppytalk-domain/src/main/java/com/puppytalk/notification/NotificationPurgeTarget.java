@@ -0,0 +1,17 @@
+package com.puppytalk.notification;
+
+/**
+ * 알림 정리 대상
+ */
+public enum NotificationPurgeTarget {
+
+    /**
+     * 발송 기한이 지난 미발송 알림 (CREATED, QUEUED, FAILED)
+     */
+    EXPIRED,
+
+    /**
+     * 보관 기간이 지난 완료 알림 (SENT, READ, CANCELLED, DEAD_LETTER)
+     */
+    COMPLETED
+}
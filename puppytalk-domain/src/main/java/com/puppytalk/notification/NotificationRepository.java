@@ -29,6 +29,21 @@ public interface NotificationRepository {
      */
     List<Notification> findPendingNotifications(LocalDateTime now, int limit);
     
+    /**
+     * 발송 대기 중인 알림을 선점하여 발송 중(SENDING) 상태로 전환 (다중 노드 발송용)
+     * <p>
+     * 재발송 시각이 된 FAILED 알림도 대상에 포함한다. 다른 노드가 선점 중인 행은 대기하지 않고 건너뛰며,
+     * 선점 기한이 지난 SENDING 알림은 발송 노드가 중단된 것으로 보고 다시 선점하며, 결과가 반영되지 않은
+     * 이전 시도를 실패로 세어 누적 실패 횟수를 1 늘린다.
+     *
+     * @param owner 선점 노드 식별자
+     * @param now 기준 시각 (발송 예정 시각이 지난 알림만 대상)
+     * @param leaseUntil 선점 기한
+     * @param limit 최대 선점 개수
+     * @return 선점한 알림 목록 (SENDING 상태, 발송 예정 시각 오름차순)
+     */
+    List<Notification> claimPendingNotifications(String owner, LocalDateTime now, LocalDateTime leaseUntil, int limit);
+    
     
     
     /**
@@ -38,9 +53,20 @@ public interface NotificationRepository {
     
     /**
      * 사용자별 미읽은 알림 개수
+     * <p>
+     * 알림 저장/상태 변경/삭제 시 같은 트랜잭션에서 갱신되는 사용자별 카운터를 읽으므로 알림 수와 무관하게 O(1)이다.
      */
     long countUnreadByUserId(UserId userId);
     
+    /**
+     * 사용자 ID 키셋 한 청크의 미읽은 알림 카운터를 실제 알림 상태와 비교하여 보정
+     *
+     * @param afterUserId 이전 청크의 마지막 사용자 ID (첫 청크는 null)
+     * @param limit 청크 크기
+     * @return 청크 처리 결과
+     */
+    UnreadCountChunk reconcileUnreadCounts(Long afterUserId, int limit);
+    
     /**
      * 특정 타입의 알림 목록 조회
      */
@@ -52,34 +78,84 @@ public interface NotificationRepository {
     void updateStatus(NotificationId id, NotificationStatus status);
     
     /**
-     * 여러 알림 상태 일괄 업데이트
+     * 선점한 알림 상태 일괄 업데이트 (선점 해제, SENT인 경우 발송 시각 기록)
+     * <p>
+     * {@code claimedBy}가 아직 선점 중인 알림만 반영한다. 선점 기한이 지나 다른 노드가 다시 선점한 알림은 건드리지 않는다.
+     *
+     * @param claimedBy 선점 노드 식별자
+     * @return 실제로 반영된 알림 ID 목록
      */
-    void updateStatusBatch(List<NotificationId> ids, NotificationStatus status);
+    List<NotificationId> updateStatusBatch(List<NotificationId> ids, NotificationStatus status, String claimedBy);
     
     /**
-     * 만료된 알림 정리 (성능 유지)
+     * 발송 실패 일괄 반영 (누적 실패 횟수, 상태, 다음 발송 시각, 선점 해제)
+     * <p>
+     * {@link #updateStatusBatch}와 마찬가지로 {@code claimedBy}가 아직 선점 중인 알림만 반영한다.
+     *
+     * @param claimedBy 선점 노드 식별자
+     * @return 실제로 반영된 실패 목록
      */
-    int deleteExpiredNotifications(LocalDateTime cutoffDate);
+    List<DeliveryFailure> recordFailures(List<DeliveryFailure> failures, String claimedBy);
     
     /**
-     * 완료된 오래된 알림 정리 (보관 기간 지난 것들)
+     * 정리 대상 알림 한 청크를 기본 키 순서로 조회하여 삭제
+     * <p>
+     * 삭제 시 조건을 다시 확인하므로 조회 이후 상태가 바뀐 알림은 남는다.
+     *
+     * @param target 정리 대상
+     * @param cutoff 기준 시각 (만료는 발송 예정 시각, 완료는 생성 시각 기준)
+     * @param afterId 이전 청크의 마지막 알림 ID (첫 청크는 null)
+     * @param limit 청크 크기
+     * @return 청크 처리 결과
      */
-    int deleteCompletedNotificationsOlderThan(LocalDateTime cutoffDate);
+    NotificationPurgeChunk purgeChunk(NotificationPurgeTarget target, LocalDateTime cutoff, Long afterId, int limit);
     
     /**
-     * 알림 통계 조회 (대시보드용)
+     * 알림 통계 조회 (기간 내 생성된 알림의 현재 상태별 건수, 단일 집계 쿼리)
      */
     NotificationStats getNotificationStats(LocalDateTime startDate, LocalDateTime endDate);
     
+    /**
+     * 시간별 상태 전환 집계 조회
+     * <p>
+     * 알림 생성/상태 변경이 커밋된 뒤 주기적으로 누적되는 시간 버킷을 읽으므로 알림 테이블을 스캔하지 않으며,
+     * 오래된 알림이 정리된 이후에도 유지된다. 최근 전환은 반영 주기만큼 늦게 보일 수 있다.
+     *
+     * @param from 조회 시작 시각 (포함, 정시로 내림한 값)
+     * @param to 조회 종료 시각 (제외)
+     * @return 버킷 시작 시각, 타입 이름, 상태 이름 순으로 정렬된 버킷 목록 (전환이 없는 버킷은 포함하지 않음)
+     */
+    List<NotificationStatsBucket> findHourlyStats(LocalDateTime from, LocalDateTime to);
+    
     /**
      * 사용자별 일일 알림 발송 제한 확인
      */
     long countSentNotificationsByUserAndDate(UserId userId, LocalDateTime date);
     
     /**
-     * 중복 알림 방지를 위한 존재 확인
+     * 중복 알림 방지를 위한 존재 확인 (상태 목록 중 하나라도 해당하면 true, 단일 쿼리)
+     */
+    boolean existsByUserIdAndTypeAndStatusIn(UserId userId, NotificationType type, List<NotificationStatus> statuses);
+    
+    /**
+     * 비활성 알림 대상 사용자 조회 (키셋 페이징)
+     * <p>
+     * 삭제되지 않았고, {@code inactiveBefore} 이전에 마지막으로 활동했지만 휴면 기준({@code dormantBefore})
+     * 이후에는 활동한 사용자 중 발송 대기/발송 중(CREATED, QUEUED, SENDING, FAILED)인 비활성 알림이 없는 사용자를
+     * 대표 반려동물, 채팅방과 함께 단일 쿼리로 조회한다. 반려동물이나 채팅방이 없는 사용자는 포함하지 않는다.
+     *
+     * @param inactiveBefore 비활성 기준 시각
+     * @param dormantBefore 휴면 기준 시각
+     * @param afterUserId 이전 페이지의 마지막 사용자 ID (첫 페이지는 null)
+     * @param limit 페이지 크기
+     * @return 사용자 ID 오름차순 대상 목록
      */
-    boolean existsByUserIdAndTypeAndStatus(UserId userId, NotificationType type, NotificationStatus status);
+    List<InactivityTarget> findInactivityNotificationTargets(
+        LocalDateTime inactiveBefore,
+        LocalDateTime dormantBefore,
+        UserId afterUserId,
+        int limit
+    );
     
     /**
      * 알림 통계 정보 (내부 클래스)
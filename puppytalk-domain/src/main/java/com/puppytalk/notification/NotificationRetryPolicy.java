@@ -0,0 +1,89 @@
+package com.puppytalk.notification;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+
+/**
+ * 알림 재발송 정책 (지수 백오프 + 지터)
+ * <p>
+ * n번째 실패 후 대기 시간은 {@code min(maxDelay, baseDelay * 2^(n-1))}의 절반에 나머지 절반 범위의
+ * 무작위 시간을 더한 값이다. 같은 시각에 실패한 알림들이 같은 시각에 다시 몰리지 않도록 분산하면서도
+ * 최소 대기 시간은 보장한다. 실패 횟수가 {@code maxAttempts}에 도달하면 더 이상 재발송하지 않는다.
+ */
+public final class NotificationRetryPolicy {
+
+    public static final NotificationRetryPolicy DEFAULT =
+        new NotificationRetryPolicy(5, Duration.ofSeconds(30), Duration.ofHours(1));
+
+    private final int maxAttempts;
+    private final Duration baseDelay;
+    private final Duration maxDelay;
+    private final DoubleSupplier random;
+
+    /**
+     * @param maxAttempts 최대 발송 시도 횟수 (최초 발송 포함)
+     * @param baseDelay 첫 재발송 대기 시간
+     * @param maxDelay 재발송 대기 시간 상한
+     */
+    public NotificationRetryPolicy(int maxAttempts, Duration baseDelay, Duration maxDelay) {
+        this(maxAttempts, baseDelay, maxDelay, () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    /**
+     * 지터 난수 공급자를 지정하는 생성자 (테스트용)
+     *
+     * @param random [0, 1) 범위의 난수 공급자
+     */
+    public NotificationRetryPolicy(int maxAttempts, Duration baseDelay, Duration maxDelay, DoubleSupplier random) {
+        if (maxAttempts <= 0) {
+            throw new IllegalArgumentException("Max attempts must be positive");
+        }
+        if (baseDelay == null || maxDelay == null || baseDelay.isNegative() || baseDelay.isZero()
+            || maxDelay.compareTo(baseDelay) < 0) {
+            throw new IllegalArgumentException("Delays must be positive and maxDelay must not be less than baseDelay");
+        }
+        if (random == null) {
+            throw new IllegalArgumentException("Random supplier must not be null");
+        }
+
+        this.maxAttempts = maxAttempts;
+        this.baseDelay = baseDelay;
+        this.maxDelay = maxDelay;
+        this.random = random;
+    }
+
+    /**
+     * 실패 후 다시 발송할 수 있는지 판단
+     *
+     * @param failedAttempts 지금까지 실패한 횟수
+     */
+    public boolean canRetry(int failedAttempts) {
+        return failedAttempts < maxAttempts;
+    }
+
+    /**
+     * 다음 발송까지 대기 시간
+     *
+     * @param failedAttempts 지금까지 실패한 횟수 (1 이상)
+     */
+    public Duration backoff(int failedAttempts) {
+        if (failedAttempts <= 0) {
+            throw new IllegalArgumentException("Failed attempts must be positive");
+        }
+
+        long baseMillis = baseDelay.toMillis();
+        long maxMillis = maxDelay.toMillis();
+        int shift = failedAttempts - 1;
+        long cappedMillis = shift >= Long.numberOfLeadingZeros(baseMillis) - 1 // 시프트 오버플로 방지
+            ? maxMillis
+            : Math.min(maxMillis, baseMillis << shift);
+
+        long halfMillis = cappedMillis / 2;
+        return Duration.ofMillis(halfMillis + (long) (random.getAsDouble() * (cappedMillis - halfMillis)));
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+}
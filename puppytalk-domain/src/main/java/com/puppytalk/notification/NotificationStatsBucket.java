@@ -0,0 +1,21 @@
+package com.puppytalk.notification;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 통계 시계열 버킷
+ * <p>
+ * 버킷 구간 동안 해당 타입의 알림이 {@code status} 상태로 전환된 횟수다 (생성은 CREATED, 발송 시도는 SENDING).
+ *
+ * @param bucketStart 버킷 시작 시각
+ * @param type 알림 타입
+ * @param status 전환된 상태
+ * @param count 전환 횟수
+ */
+public record NotificationStatsBucket(
+    LocalDateTime bucketStart,
+    NotificationType type,
+    NotificationStatus status,
+    long count
+) {
+}
@@ -33,10 +33,15 @@ public enum NotificationStatus {
     READ("읽음"),
     
     /**
-     * 발송 실패 - 발송에 실패함
+     * 발송 실패 - 발송에 실패하여 재발송 대기 중 (scheduled_at에 다시 발송)
      */
     FAILED("발송 실패"),
     
+    /**
+     * 재발송 중단 - 최대 시도 횟수를 넘겨 더 이상 발송하지 않음
+     */
+    DEAD_LETTER("재발송 중단"),
+    
     /**
      * 만료됨 - 발송 기한이 지나 만료됨
      */
@@ -65,17 +70,25 @@ public enum NotificationStatus {
     }
     
     /**
-     * 완료된 상태인지 판단 (성공/실패 포함)
+     * 더 이상 발송하지 않는 최종 상태인지 판단 (재발송 대기 중인 FAILED는 제외)
      */
     public boolean isCompleted() {
-        return this == SENT || this == READ || this == FAILED || this == EXPIRED || this == CANCELLED;
+        return this == SENT || this == READ || this == DEAD_LETTER
+            || this == EXPIRED || this == CANCELLED;
     }
     
     /**
-     * 진행 중인 상태인지 판단
+     * 진행 중인 상태인지 판단 (재발송 대기 포함)
      */
     public boolean isInProgress() {
-        return this == CREATED || this == QUEUED || this == SENDING;
+        return this == CREATED || this == QUEUED || this == SENDING || this == FAILED;
+    }
+    
+    /**
+     * 미읽은 알림 개수에 포함되는 상태인지 판단
+     */
+    public boolean isUnread() {
+        return this != READ;
     }
     
     /**
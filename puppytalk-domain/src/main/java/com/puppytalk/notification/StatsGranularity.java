@@ -0,0 +1,43 @@
+package com.puppytalk.notification;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 알림 통계 시계열 집계 단위
+ */
+public enum StatsGranularity {
+
+    /**
+     * 시간 단위 (최대 31일)
+     */
+    HOUR(ChronoUnit.HOURS, Duration.ofDays(31)),
+
+    /**
+     * 일 단위 (최대 366일)
+     */
+    DAY(ChronoUnit.DAYS, Duration.ofDays(366));
+
+    private final ChronoUnit unit;
+    private final Duration maxRange;
+
+    StatsGranularity(ChronoUnit unit, Duration maxRange) {
+        this.unit = unit;
+        this.maxRange = maxRange;
+    }
+
+    /**
+     * 시각이 속한 버킷의 시작 시각
+     */
+    public LocalDateTime truncate(LocalDateTime time) {
+        return time.truncatedTo(unit);
+    }
+
+    /**
+     * 한 번에 조회할 수 있는 최대 기간
+     */
+    public Duration getMaxRange() {
+        return maxRange;
+    }
+}
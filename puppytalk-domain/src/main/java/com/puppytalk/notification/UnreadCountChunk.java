@@ -0,0 +1,12 @@
+package com.puppytalk.notification;
+
+/**
+ * 미읽은 알림 카운터 보정 청크 처리 결과
+ *
+ * @param scanned 확인한 사용자 수
+ * @param corrected 실제 개수와 달라 보정된 카운터 수
+ * @param lastUserId 청크의 마지막 사용자 ID (다음 청크의 시작점, 대상이 없으면 이전 값)
+ * @param isLast 마지막 청크 여부
+ */
+public record UnreadCountChunk(int scanned, int corrected, Long lastUserId, boolean isLast) {
+}
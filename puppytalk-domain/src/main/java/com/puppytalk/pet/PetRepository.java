@@ -30,6 +30,11 @@ public interface PetRepository {
      */
     List<Pet> findByOwnerId(UserId ownerId);
     
+    /**
+     * ID 목록으로 반려동물 일괄 조회 (삭제된 것 제외, 순서 보장하지 않음)
+     */
+    List<Pet> findAllByIds(List<PetId> ids);
+    
     
     /**
      * 반려동물 존재 여부 확인
@@ -0,0 +1,12 @@
+package com.puppytalk.user;
+
+/**
+ * 휴면 전환 청크 처리 결과
+ * 
+ * @param scanned 조회한 전환 대상 수
+ * @param marked 실제로 전환된 수 (조회 이후 활동한 사용자는 제외)
+ * @param lastUserId 청크의 마지막 사용자 ID (다음 청크의 시작점, 대상이 없으면 이전 값)
+ * @param isLast 마지막 청크 여부
+ */
+public record DormantUserChunk(int scanned, int marked, Long lastUserId, boolean isLast) {
+}
@@ -32,4 +32,15 @@ public interface PasswordEncoder {
      * @return 알고리즘 식별자 (예: "SHA256", "BCrypt" 등)
      */
     String getAlgorithm();
+    
+    /**
+     * 암호화된 비밀번호를 현재 설정으로 다시 암호화해야 하는지 확인합니다.
+     * 로그인 성공 시 true이면 평문 비밀번호로 다시 암호화하여 저장합니다.
+     * 
+     * @param encodedPassword 암호화된 비밀번호
+     * @return 다시 암호화해야 하면 true (기본값 false)
+     */
+    default boolean upgradeEncoding(String encodedPassword) {
+        return false;
+    }
 }
\ No newline at end of file
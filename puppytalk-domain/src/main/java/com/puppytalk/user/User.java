@@ -18,9 +18,11 @@ public class User {
     private final LocalDateTime updatedAt;
     private final LocalDateTime lastActiveAt;
     private final boolean isDeleted;
+    private final boolean isDormant;
 
     private User(UserId id, String username, String email, String password,
-        LocalDateTime createdAt, LocalDateTime updatedAt, LocalDateTime lastActiveAt, boolean isDeleted) {
+        LocalDateTime createdAt, LocalDateTime updatedAt, LocalDateTime lastActiveAt, boolean isDeleted,
+        boolean isDormant) {
         this.id = id;
         this.username = username;
         this.email = email;
@@ -29,6 +31,7 @@ public class User {
         this.updatedAt = updatedAt;
         this.lastActiveAt = lastActiveAt;
         this.isDeleted = isDeleted;
+        this.isDormant = isDormant;
     }
 
     /**
@@ -36,15 +39,17 @@ public class User {
      */
     public static User create(String username, String email, String encryptedPassword) {
         LocalDateTime now = LocalDateTime.now();
-        return new User(null, username.trim(), email.trim(), encryptedPassword, now, now, now, false);
+        return new User(null, username.trim(), email.trim(), encryptedPassword, now, now, now, false, false);
     }
 
     /**
-     * 기존 사용자 데이터로부터 객체 생성
+     * 저장된 휴면 상태를 포함한 사용자 데이터로부터 객체 생성
      */
     public static User of(UserId id, String username, String email, String encryptedPassword,
-        LocalDateTime createdAt, LocalDateTime updatedAt, LocalDateTime lastActiveAt, boolean isDeleted) {
-        return new User(id, username, email, encryptedPassword, createdAt, updatedAt, lastActiveAt, isDeleted);
+        LocalDateTime createdAt, LocalDateTime updatedAt, LocalDateTime lastActiveAt, boolean isDeleted,
+        boolean isDormant) {
+        return new User(id, username, email, encryptedPassword, createdAt, updatedAt, lastActiveAt, isDeleted,
+            isDormant);
     }
 
 
@@ -53,7 +58,7 @@ public class User {
      */
     public User withEmail(String newEmail) {
         return new User(this.id, this.username, newEmail.trim(), this.password,
-            this.createdAt, LocalDateTime.now(), this.lastActiveAt, this.isDeleted);
+            this.createdAt, LocalDateTime.now(), this.lastActiveAt, this.isDeleted, this.isDormant);
     }
 
     /**
@@ -61,21 +66,22 @@ public class User {
      */
     public User withPassword(String newEncryptedPassword) {
         return new User(id, username, email, newEncryptedPassword, createdAt,
-            LocalDateTime.now(), lastActiveAt, isDeleted);
+            LocalDateTime.now(), lastActiveAt, isDeleted, isDormant);
     }
 
     /**
      * 사용자 삭제
      */
     public User withDeletedStatus() {
-        return new User(id, username, email, password, createdAt, LocalDateTime.now(), lastActiveAt, true);
+        return new User(id, username, email, password, createdAt, LocalDateTime.now(), lastActiveAt, true, isDormant);
     }
 
     /**
-     * 사용자 활동 시간 업데이트
+     * 사용자 활동 시간 업데이트 (휴면 상태 해제)
      */
     public User updateLastActiveTime() {
-        return new User(id, username, email, password, createdAt, LocalDateTime.now(), LocalDateTime.now(), isDeleted);
+        return new User(id, username, email, password, createdAt, LocalDateTime.now(), LocalDateTime.now(), isDeleted,
+            false);
     }
 
     /**
@@ -95,14 +101,18 @@ public class User {
 
     /**
      * 휴면 계정 여부 확인
+     * <p>
+     * 저장된 휴면 상태를 반환한다. 휴면 전환은 휴면 배치가, 해제는 활동 시간 갱신이 수행한다.
      */
     public boolean isDormant() {
-        if (lastActiveAt == null) {
-            return false;
-        }
-        
-        LocalDateTime cutoffDate = LocalDateTime.now().minusDays(DORMANT_DAYS);
-        return lastActiveAt.isBefore(cutoffDate);
+        return isDormant;
+    }
+
+    /**
+     * 기준 시각 이전부터 활동이 없었는지 확인 (휴면 전환 대상 판단)
+     */
+    public boolean isInactiveSince(LocalDateTime cutoffTime) {
+        return lastActiveAt != null && !lastActiveAt.isAfter(cutoffTime);
     }
 
     /**
@@ -0,0 +1,20 @@
+package com.puppytalk.user;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 활동시간 기록 포트
+ * <p>
+ * 구현체는 기록을 모아 두었다가 일괄 반영할 수 있으므로, 기록 직후 저장소 조회 결과에
+ * 반영되어 있다고 가정하지 않는다. 같은 사용자의 기록은 가장 최근 시각만 반영된다.
+ */
+public interface UserActivityRecorder {
+    
+    /**
+     * 사용자 활동시간을 기록한다
+     * 
+     * @param userId 사용자 ID
+     * @param activeAt 활동 시각
+     */
+    void record(UserId userId, LocalDateTime activeAt);
+}
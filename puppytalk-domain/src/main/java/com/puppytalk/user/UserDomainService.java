@@ -1,9 +1,11 @@
 package com.puppytalk.user;
 
 import com.puppytalk.user.exception.DuplicateUserException;
+import com.puppytalk.user.exception.PasswordHashingBusyException;
 import com.puppytalk.user.exception.UserNotFoundException;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * 사용자 도메인 서비스
@@ -11,8 +13,11 @@ import java.util.List;
  */
 public class UserDomainService {
     
+    private static final int INACTIVE_USER_PAGE_SIZE = 1000;
+    
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserActivityRecorder activityRecorder;
     
     /**
      * UserDomainService 생성자
@@ -22,8 +27,22 @@ public class UserDomainService {
      * @throws IllegalArgumentException 파라미터가 null인 경우
      */
     public UserDomainService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+        this(userRepository, passwordEncoder, null);
+    }
+    
+    /**
+     * 활동시간 기록기를 지정하는 생성자
+     * 
+     * @param activityRecorder 활동시간 기록기 (null이면 사용자를 조회하여 즉시 저장)
+     */
+    public UserDomainService(
+        UserRepository userRepository,
+        PasswordEncoder passwordEncoder,
+        UserActivityRecorder activityRecorder
+    ) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.activityRecorder = activityRecorder != null ? activityRecorder : this::saveLastActiveTime;
     }
     
     /**
@@ -117,6 +136,27 @@ public class UserDomainService {
         return passwordEncoder.matches(rawPassword, user.getPassword());
     }
     
+    /**
+     * 로그인에 성공한 사용자의 비밀번호 해시가 현재 암호화 설정보다 약하면 다시 암호화하여 저장한다.
+     * 암호화기가 포화 상태이면 건너뛰고 다음 로그인에서 다시 시도한다.
+     * 
+     * @param user 비밀번호 검증에 성공한 사용자
+     * @param rawPassword 평문 비밀번호
+     * @return 다시 암호화했으면 true
+     */
+    public boolean upgradePasswordIfNeeded(User user, String rawPassword) {
+        if (!passwordEncoder.upgradeEncoding(user.getPassword())) {
+            return false;
+        }
+        
+        try {
+            userRepository.save(user.withPassword(passwordEncoder.encode(rawPassword)));
+            return true;
+        } catch (PasswordHashingBusyException e) {
+            return false;
+        }
+    }
+    
     /**
      * 비밀번호 변경
      * 
@@ -134,62 +174,117 @@ public class UserDomainService {
     
     /**
      * 사용자 활동시간을 현재 시간으로 업데이트한다.
+     * <p>
+     * 활동시간 기록기가 지정되어 있으면 기록만 하고 반환하며, 저장소 반영은 기록기가 일괄로 수행한다.
+     * 이 경우 사용자 존재 여부를 확인하지 않으므로 인증된 사용자에 대해서만 호출한다.
      * 
      * @param userId 사용자 ID
-     * @throws UserNotFoundException 사용자가 존재하지 않는 경우
+     * @throws UserNotFoundException 기록기가 없고 사용자가 존재하지 않는 경우
      */
     public void updateLastActiveTime(UserId userId) {
-        User user = getUserById(userId);
-        User updatedUser = user.updateLastActiveTime();
-        userRepository.save(updatedUser);
+        if (userId == null) {
+            throw new IllegalArgumentException("UserId must not be null");
+        }
+        activityRecorder.record(userId, LocalDateTime.now());
     }
     
     /**
-     * 비활성 사용자 ID 목록을 조회한다.
+     * 비활성 사용자 ID를 키셋 페이지 단위로 순회한다.
+     * 한 번에 한 페이지만 메모리에 유지하므로 대량 사용자 배치 처리에 사용한다.
      * 
      * @param cutoffTime 기준 시간 (이 시간 이전에 활동한 사용자들을 비활성으로 간주)
-     * @return 비활성 사용자 ID 목록
+     * @param pageSize 페이지 크기 (양수)
+     * @param pageConsumer 페이지별 사용자 ID 처리기
+     * @throws IllegalArgumentException 파라미터가 유효하지 않은 경우
      */
-    public List<UserId> findInactiveUsers(LocalDateTime cutoffTime) {
-        return userRepository.findInactiveUsers(cutoffTime)
-            .stream()
-            .map(UserId::from)
-            .toList();
+    public void forEachInactiveUserPage(
+        LocalDateTime cutoffTime,
+        int pageSize,
+        Consumer<List<UserId>> pageConsumer
+    ) {
+        if (cutoffTime == null) {
+            throw new IllegalArgumentException("Cutoff time must not be null");
+        }
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        if (pageConsumer == null) {
+            throw new IllegalArgumentException("Page consumer must not be null");
+        }
+        
+        Long lastUserId = null;
+        while (true) {
+            List<Long> page = userRepository.findInactiveUserIds(cutoffTime, lastUserId, pageSize);
+            if (page.isEmpty()) {
+                return;
+            }
+            
+            pageConsumer.accept(page.stream().map(UserId::from).toList());
+            
+            if (page.size() < pageSize) {
+                return;
+            }
+            lastUserId = page.get(page.size() - 1);
+        }
     }
     
     /**
-     * 휴면 대상 사용자들을 찾아서 휴면 처리한다.
+     * 휴면 대상 사용자들을 찾아서 휴면 상태로 전환한다.
+     * 대량 처리는 청크별 트랜잭션과 체크포인트를 사용하는 배치 작업에서 {@link #markDormantChunk}로 수행한다.
      * 
-     * @return 처리된 휴면 사용자 수
+     * @return 휴면 전환된 사용자 수
      */
     public int processDormantUsers() {
-        LocalDateTime cutoffTime = LocalDateTime.now().minusDays(User.DORMANT_DAYS);
-        List<UserId> dormantCandidates = findInactiveUsers(cutoffTime);
-        
-        int processedCount = 0;
+        LocalDateTime cutoffTime = dormantCutoffTime();
+        int markedCount = 0;
         
-        for (UserId userId : dormantCandidates) {
-            try {
-                User user = getUserById(userId);
-                
-                // 이미 삭제된 사용자는 제외
-                if (user.isDeleted()) {
-                    continue;
-                }
-                
-                // 실제로 휴면 상태인지 확인 (이중 검증)
-                if (user.isDormant()) {
-                    // 현재는 별도의 휴면 처리 없이 실시간 계산 방식 사용
-                    // 필요시 여기에 휴면 상태 저장 로직 추가 가능
-                    processedCount++;
-                }
-            } catch (UserNotFoundException e) {
-                // 사용자가 존재하지 않으면 스킵
-                continue;
+        Long lastUserId = null;
+        while (true) {
+            DormantUserChunk chunk = markDormantChunk(cutoffTime, lastUserId, INACTIVE_USER_PAGE_SIZE);
+            markedCount += chunk.marked();
+            if (chunk.isLast()) {
+                return markedCount;
             }
+            lastUserId = chunk.lastUserId();
+        }
+    }
+    
+    /**
+     * 휴면 전환 대상 한 청크를 키셋으로 조회하여 일괄 전환한다.
+     * 
+     * @param cutoffTime 기준 시간 (이 시간 이전에 활동한 사용자가 대상)
+     * @param afterUserId 이전 청크의 마지막 사용자 ID (첫 청크는 null)
+     * @param chunkSize 청크 크기 (양수)
+     * @return 청크 처리 결과
+     * @throws IllegalArgumentException 파라미터가 유효하지 않은 경우
+     */
+    public DormantUserChunk markDormantChunk(LocalDateTime cutoffTime, Long afterUserId, int chunkSize) {
+        if (cutoffTime == null) {
+            throw new IllegalArgumentException("Cutoff time must not be null");
+        }
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive");
         }
         
-        return processedCount;
+        List<Long> candidateIds = userRepository.findDormantCandidateIds(cutoffTime, afterUserId, chunkSize);
+        if (candidateIds.isEmpty()) {
+            return new DormantUserChunk(0, 0, afterUserId, true);
+        }
+        
+        int marked = userRepository.markDormant(candidateIds, cutoffTime);
+        return new DormantUserChunk(
+            candidateIds.size(),
+            marked,
+            candidateIds.get(candidateIds.size() - 1),
+            candidateIds.size() < chunkSize
+        );
+    }
+    
+    /**
+     * 휴면 전환 기준 시간 (현재 시각 기준 {@link User#DORMANT_DAYS}일 전)
+     */
+    public LocalDateTime dormantCutoffTime() {
+        return LocalDateTime.now().minusDays(User.DORMANT_DAYS);
     }
     
     /**
@@ -203,6 +298,12 @@ public class UserDomainService {
     }
     
     
+    private void saveLastActiveTime(UserId userId, LocalDateTime activeAt) {
+        User user = getUserById(userId);
+        User updatedUser = user.updateLastActiveTime();
+        userRepository.save(updatedUser);
+    }
+    
     /**
      * 사용자명이 고유한지 검증한다.
      * 
@@ -86,11 +86,34 @@ public interface UserRepository {
     boolean existsByEmail(String email);
     
     /**
-     * 특정 시간 이전에 활동한 비활성 사용자 ID 목록을 조회한다.
+     * 특정 시간 이전에 활동한 비활성 사용자 ID를 키셋 페이징으로 조회한다.
+     * 엔티티를 로딩하지 않고 ID만 조회하므로 전체 사용자 수와 무관하게 페이지 크기만큼의 메모리만 사용한다.
      * 
      * @param cutoffTime 기준 시간 (이 시간 이전에 활동한 사용자들을 비활성으로 간주)
-     * @return 비활성 사용자 ID 목록
-     * @throws IllegalArgumentException cutoffTime이 null인 경우
+     * @param afterUserId 이전 페이지의 마지막 사용자 ID (첫 페이지는 null)
+     * @param limit 페이지 크기 (양수)
+     * @return ID 오름차순 비활성 사용자 ID 목록 (최대 limit 개, 빈 목록 가능)
+     * @throws IllegalArgumentException cutoffTime이 null이거나 limit이 양수가 아닌 경우
      */
-    List<Long> findInactiveUsers(LocalDateTime cutoffTime);
-}
\ No newline at end of file
+    List<Long> findInactiveUserIds(LocalDateTime cutoffTime, Long afterUserId, int limit);
+    
+    /**
+     * 휴면 전환 대상 사용자 ID를 키셋 페이징으로 조회한다 (삭제/휴면 사용자 제외).
+     * 
+     * @param cutoffTime 기준 시간 (이 시간 이전에 활동한 사용자가 대상)
+     * @param afterUserId 이전 페이지의 마지막 사용자 ID (첫 페이지는 null)
+     * @param limit 페이지 크기 (양수)
+     * @return ID 오름차순 사용자 ID 목록 (최대 limit 개, 빈 목록 가능)
+     */
+    List<Long> findDormantCandidateIds(LocalDateTime cutoffTime, Long afterUserId, int limit);
+    
+    /**
+     * 사용자들을 한 문장으로 휴면 상태로 전환한다.
+     * 조회 이후 활동했거나 삭제된 사용자는 전환하지 않는다.
+     * 
+     * @param userIds 전환할 사용자 ID 목록
+     * @param cutoffTime 기준 시간 (이 시간 이전에 활동한 사용자만 전환)
+     * @return 전환된 사용자 수
+     */
+    int markDormant(List<Long> userIds, LocalDateTime cutoffTime);
+}
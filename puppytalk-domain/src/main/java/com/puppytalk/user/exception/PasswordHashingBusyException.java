@@ -0,0 +1,27 @@
+package com.puppytalk.user.exception;
+
+/**
+ * 비밀번호 암호화/검증 요청이 처리 한도를 넘어 거절된 경우의 예외
+ * <p>
+ * 일시적인 상태이므로 클라이언트는 잠시 후 다시 시도할 수 있다.
+ */
+public class PasswordHashingBusyException extends RuntimeException {
+    
+    public PasswordHashingBusyException(String message) {
+        super(message);
+    }
+    
+    /**
+     * 대기열이 가득 찬 경우
+     */
+    public static PasswordHashingBusyException queueFull(int queued) {
+        return new PasswordHashingBusyException("비밀번호 처리 요청이 많습니다. 대기: " + queued);
+    }
+    
+    /**
+     * 대기 시간 안에 처리되지 않은 경우
+     */
+    public static PasswordHashingBusyException timedOut(long waitMillis) {
+        return new PasswordHashingBusyException("비밀번호 처리 대기 시간을 초과했습니다. 대기(ms): " + waitMillis);
+    }
+}
@@ -1,9 +1,12 @@
 package com.puppytalk.ai.client;
 
+import com.puppytalk.ai.client.dto.BatchInactivityNotificationRequest;
+import com.puppytalk.ai.client.dto.BatchInactivityNotificationResponse;
 import com.puppytalk.ai.client.dto.ChatRequest;
 import com.puppytalk.ai.client.dto.ChatResponse;
 import com.puppytalk.ai.client.dto.InactivityNotificationRequest;
 import com.puppytalk.ai.client.dto.InactivityNotificationResponse;
+import com.puppytalk.ai.exception.AiGenerationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -20,12 +23,16 @@ public class AiServiceClient {
 
     private final RestClient restClient;
 
-    public AiServiceClient(@Value("${ai-service.url:http://localhost:8001}") String baseUrl) {
+    public AiServiceClient(
+        @Value("${ai-service.url:http://localhost:8001}") String baseUrl,
+        AiServiceTransport transport
+    ) {
         this.restClient = RestClient.builder()
             .baseUrl(baseUrl)
+            .requestFactory(transport.requestFactory())
             .build();
 
-        log.info("AiServiceClient initialized with baseUrl: {}", baseUrl);
+        log.info("AiServiceClient initialized with baseUrl: {}, protocol: {}", baseUrl, transport.protocol());
     }
 
     /**
@@ -35,14 +42,20 @@ public class AiServiceClient {
         log.debug("Generating chat response for user: {}, pet: {}",
             request.userId(), request.petId());
 
-        ChatResponse response = restClient.post()
-            .uri("/api/v1/chat/generate")
-            .body(request)
-            .retrieve()
-            .body(ChatResponse.class);
+        try {
+            ChatResponse response = restClient.post()
+                .uri("/api/v1/chat/generate")
+                .body(request)
+                .retrieve()
+                .body(ChatResponse.class);
+
+            log.debug("Chat response generated successfully");
+            return response;
 
-        log.debug("Chat response generated successfully");
-        return response;
+        } catch (Exception e) {
+            log.error("Failed to generate chat response: {}", e.getMessage());
+            throw AiGenerationException.failed("AI 서비스 호출 실패", e);
+        }
     }
 
     /**
@@ -65,7 +78,31 @@ public class AiServiceClient {
 
         } catch (Exception e) {
             log.error("Failed to generate inactivity notification: {}", e.getMessage());
-            throw new RuntimeException("AI 서비스 호출 실패", e);
+            throw AiGenerationException.failed("AI 서비스 호출 실패", e);
+        }
+    }
+
+    /**
+     * 비활성 알림 메시지 일괄 생성 (항목별 부분 실패는 응답의 results로 전달)
+     */
+    public BatchInactivityNotificationResponse generateInactivityNotifications(
+        BatchInactivityNotificationRequest request) {
+        log.debug("Generating inactivity notifications in batch: size={}", request.requests().size());
+
+        try {
+            BatchInactivityNotificationResponse response = restClient.post()
+                .uri("/api/v1/chat/inactivity-notification/batch")
+                .body(request)
+                .retrieve()
+                .body(BatchInactivityNotificationResponse.class);
+
+            log.debug("Batch inactivity notifications generated: processed={}, successful={}",
+                response.processedCount(), response.successfulCount());
+            return response;
+
+        } catch (Exception e) {
+            log.error("Failed to generate inactivity notifications in batch: {}", e.getMessage());
+            throw AiGenerationException.failed("AI 서비스 호출 실패", e);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,408 @@
+package com.puppytalk.ai.client;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * AI 서비스 HTTP 전송 계층
+ * <p>
+ * {@link AiServiceClient}가 사용하는 {@link ClientHttpRequestFactory}를 구성한다.
+ * <ul>
+ *   <li>HTTP_1_1 (기본): Apache HttpClient 연결 풀로 keep-alive 연결을 재사용한다</li>
+ *   <li>HTTP_2: JDK HttpClient로 하나의 연결에서 요청을 다중화한다 (업스트림이 h2c/h2를 지원하는 경우)</li>
+ * </ul>
+ * 타임아웃은 엔드포인트 경로 접두사별로 적용된다.
+ * connect는 호스트 단위 설정이고, read는 응답 바이트 사이의 최대 대기 시간,
+ * total은 요청 시작부터 응답 수신까지의 상한이다.
+ */
+@Component
+public class AiServiceTransport implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(AiServiceTransport.class);
+
+    public static final String CHAT_PATH = "/api/v1/chat/generate";
+    public static final String INACTIVITY_NOTIFICATION_PATH = "/api/v1/chat/inactivity-notification";
+
+    public enum Protocol {
+        HTTP_1_1,
+        HTTP_2
+    }
+
+    private final Settings settings;
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final CloseableHttpClient pooledClient;
+    private final HttpClient jdkClient;
+    private final ScheduledThreadPoolExecutor deadlineScheduler;
+    private final ClientHttpRequestFactory requestFactory;
+
+    @Autowired
+    public AiServiceTransport(
+        @Value("${ai-service.transport.protocol:HTTP_1_1}") Protocol protocol,
+        @Value("${ai-service.transport.max-connections:50}") int maxConnections,
+        @Value("${ai-service.transport.pool-acquire-timeout-ms:1000}") long poolAcquireTimeoutMillis,
+        @Value("${ai-service.transport.idle-timeout-ms:4000}") long idleTimeoutMillis,
+        @Value("${ai-service.transport.connect-timeout-ms:1000}") long connectTimeoutMillis,
+        @Value("${ai-service.transport.chat.read-timeout-ms:10000}") long chatReadTimeoutMillis,
+        @Value("${ai-service.transport.chat.total-timeout-ms:15000}") long chatTotalTimeoutMillis,
+        @Value("${ai-service.transport.notification.read-timeout-ms:30000}") long notificationReadTimeoutMillis,
+        @Value("${ai-service.transport.notification.total-timeout-ms:120000}") long notificationTotalTimeoutMillis
+    ) {
+        this(new Settings(
+            protocol,
+            maxConnections,
+            Duration.ofMillis(poolAcquireTimeoutMillis),
+            Duration.ofMillis(idleTimeoutMillis),
+            Duration.ofMillis(connectTimeoutMillis),
+            Map.of(
+                CHAT_PATH, EndpointTimeout.of(chatReadTimeoutMillis, chatTotalTimeoutMillis),
+                INACTIVITY_NOTIFICATION_PATH, EndpointTimeout.of(notificationReadTimeoutMillis, notificationTotalTimeoutMillis)
+            ),
+            EndpointTimeout.of(chatReadTimeoutMillis, chatTotalTimeoutMillis)
+        ));
+    }
+
+    public AiServiceTransport(Settings settings) {
+        this.settings = settings;
+
+        if (settings.protocol() == Protocol.HTTP_2) {
+            this.connectionManager = null;
+            this.pooledClient = null;
+            this.deadlineScheduler = null;
+            this.jdkClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(settings.connectTimeout())
+                .build();
+            this.requestFactory = createMultiplexedRequestFactory();
+        } else {
+            this.jdkClient = null;
+            this.connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(settings.maxConnections())
+                .setMaxConnPerRoute(settings.maxConnections())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                    .setConnectTimeout(Timeout.of(settings.connectTimeout()))
+                    // uvicorn keep-alive(5초)보다 오래 쉰 연결은 재사용 전에 검증한다
+                    .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                    .build())
+                .build();
+            this.pooledClient = HttpClients.custom()
+                .setConnectionManager(this.connectionManager)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(settings.idleTimeout()))
+                .build();
+            this.deadlineScheduler = createDeadlineScheduler();
+            this.requestFactory = new PooledRequestFactory(this.pooledClient);
+        }
+
+        log.info("AiServiceTransport initialized: protocol={}, maxConnections={}, connectTimeout={}ms",
+            settings.protocol(), settings.maxConnections(), settings.connectTimeout().toMillis());
+    }
+
+    public ClientHttpRequestFactory requestFactory() {
+        return requestFactory;
+    }
+
+    public Protocol protocol() {
+        return settings.protocol();
+    }
+
+    /**
+     * 연결 풀 상태. HTTP_2 모드는 JDK HttpClient가 연결을 내부에서 관리하므로 최대값만 의미가 있다.
+     */
+    public PoolSnapshot poolSnapshot() {
+        if (connectionManager == null) {
+            return new PoolSnapshot(0, 0, 0, settings.maxConnections());
+        }
+
+        PoolStats stats = connectionManager.getTotalStats();
+        return new PoolSnapshot(stats.getLeased(), stats.getAvailable(), stats.getPending(), stats.getMax());
+    }
+
+    /**
+     * total 타임아웃 취소가 예약된 진행 중 요청 수. 응답이 닫히거나 요청이 실패하면 예약이 해제된다.
+     */
+    public int pendingDeadlines() {
+        return deadlineScheduler != null ? deadlineScheduler.getQueue().size() : 0;
+    }
+
+    /**
+     * 요청 경로에 해당하는 타임아웃. 가장 긴 접두사가 우선한다.
+     */
+    EndpointTimeout timeoutFor(String path) {
+        EndpointTimeout matched = settings.defaultTimeout();
+        int matchedLength = -1;
+        for (Map.Entry<String, EndpointTimeout> entry : settings.endpointTimeouts().entrySet()) {
+            String prefix = entry.getKey();
+            if (path != null && path.startsWith(prefix) && prefix.length() > matchedLength) {
+                matched = entry.getValue();
+                matchedLength = prefix.length();
+            }
+        }
+        return matched;
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (deadlineScheduler != null) {
+            deadlineScheduler.shutdownNow();
+        }
+        if (pooledClient != null) {
+            pooledClient.close();
+        }
+    }
+
+    private ClientHttpRequestFactory createMultiplexedRequestFactory() {
+        Map<EndpointTimeout, JdkClientHttpRequestFactory> factories = new LinkedHashMap<>();
+        factories.put(settings.defaultTimeout(), jdkFactory(settings.defaultTimeout()));
+        settings.endpointTimeouts().values()
+            .forEach(timeout -> factories.computeIfAbsent(timeout, this::jdkFactory));
+
+        // JDK HttpClient의 요청 타임아웃은 응답 헤더 수신까지의 상한이므로 total 값을 사용한다
+        return (URI uri, HttpMethod method) -> factories.get(timeoutFor(uri.getPath())).createRequest(uri, method);
+    }
+
+    private JdkClientHttpRequestFactory jdkFactory(EndpointTimeout timeout) {
+        JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(jdkClient);
+        factory.setReadTimeout(timeout.total());
+        return factory;
+    }
+
+    private static ScheduledThreadPoolExecutor createDeadlineScheduler() {
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "ai-transport-deadline");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
+
+    /**
+     * 엔드포인트별 RequestConfig를 적용하고, total 타임아웃이 지나면 진행 중인 요청을 취소하는 팩토리
+     * <p>
+     * 취소 예약은 요청 실행 시점에 등록하고, 응답이 닫히거나 실행이 실패하면 해제하여 완료된 요청의 예약이
+     * total 타임아웃 동안 스케줄러에 쌓이지 않게 한다.
+     */
+    private final class PooledRequestFactory extends HttpComponentsClientHttpRequestFactory {
+
+        // createRequest 안에서 postProcessHttpRequest로 전달되는 요청 객체를 같은 스레드에서 넘겨받는다
+        private final ThreadLocal<HttpUriRequestBase> createdRequest = new ThreadLocal<>();
+
+        private PooledRequestFactory(CloseableHttpClient httpClient) {
+            super(httpClient);
+        }
+
+        @Override
+        public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+            ClientHttpRequest request;
+            HttpUriRequestBase cancellable;
+            try {
+                request = super.createRequest(uri, httpMethod);
+                cancellable = createdRequest.get();
+            } finally {
+                createdRequest.remove();
+            }
+            return cancellable != null
+                ? new DeadlineRequest(request, cancellable, timeoutFor(uri.getPath()).total())
+                : request;
+        }
+
+        @Override
+        protected HttpContext createHttpContext(HttpMethod httpMethod, URI uri) {
+            EndpointTimeout timeout = timeoutFor(uri.getPath());
+
+            HttpClientContext context = HttpClientContext.create();
+            context.setRequestConfig(RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.of(settings.poolAcquireTimeout()))
+                .setResponseTimeout(Timeout.of(timeout.read()))
+                .build());
+            return context;
+        }
+
+        @Override
+        protected void postProcessHttpRequest(ClassicHttpRequest request) {
+            if (request instanceof HttpUriRequestBase cancellable) {
+                createdRequest.set(cancellable);
+            }
+        }
+    }
+
+    /**
+     * 실행 동안에만 total 타임아웃 취소를 예약하는 요청
+     */
+    private final class DeadlineRequest implements ClientHttpRequest {
+
+        private final ClientHttpRequest delegate;
+        private final HttpUriRequestBase cancellable;
+        private final Duration total;
+
+        private DeadlineRequest(ClientHttpRequest delegate, HttpUriRequestBase cancellable, Duration total) {
+            this.delegate = delegate;
+            this.cancellable = cancellable;
+            this.total = total;
+        }
+
+        @Override
+        public ClientHttpResponse execute() throws IOException {
+            ScheduledFuture<?> deadline = deadlineScheduler.schedule(
+                cancellable::cancel, total.toMillis(), TimeUnit.MILLISECONDS);
+            try {
+                return new DeadlineResponse(delegate.execute(), deadline);
+            } catch (IOException | RuntimeException e) {
+                deadline.cancel(false);
+                throw e;
+            }
+        }
+
+        @Override
+        public OutputStream getBody() throws IOException {
+            return delegate.getBody();
+        }
+
+        @Override
+        public HttpMethod getMethod() {
+            return delegate.getMethod();
+        }
+
+        @Override
+        public URI getURI() {
+            return delegate.getURI();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+    }
+
+    /**
+     * 닫힐 때 total 타임아웃 취소 예약을 해제하는 응답
+     */
+    private static final class DeadlineResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+        private final ScheduledFuture<?> deadline;
+
+        private DeadlineResponse(ClientHttpResponse delegate, ScheduledFuture<?> deadline) {
+            this.delegate = delegate;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            return delegate.getBody();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public void close() {
+            deadline.cancel(false);
+            delegate.close();
+        }
+    }
+
+    /**
+     * 전송 계층 설정
+     *
+     * @param protocol 전송 프로토콜
+     * @param maxConnections 최대 연결 수 (HTTP_1_1 연결 풀 크기)
+     * @param poolAcquireTimeout 풀에서 연결을 얻기까지의 최대 대기 시간
+     * @param idleTimeout 유휴 연결 제거 기준
+     * @param connectTimeout TCP 연결 타임아웃
+     * @param endpointTimeouts 경로 접두사별 타임아웃
+     * @param defaultTimeout 일치하는 접두사가 없을 때의 타임아웃
+     */
+    public record Settings(
+        Protocol protocol,
+        int maxConnections,
+        Duration poolAcquireTimeout,
+        Duration idleTimeout,
+        Duration connectTimeout,
+        Map<String, EndpointTimeout> endpointTimeouts,
+        EndpointTimeout defaultTimeout
+    ) {
+        public Settings {
+            if (protocol == null) {
+                throw new IllegalArgumentException("protocol must not be null");
+            }
+            if (maxConnections <= 0) {
+                throw new IllegalArgumentException("maxConnections must be positive: " + maxConnections);
+            }
+            endpointTimeouts = Map.copyOf(endpointTimeouts);
+        }
+    }
+
+    /**
+     * 엔드포인트 타임아웃
+     *
+     * @param read 응답 바이트 사이의 최대 대기 시간
+     * @param total 요청 전체의 상한
+     */
+    public record EndpointTimeout(Duration read, Duration total) {
+
+        public EndpointTimeout {
+            if (read.isNegative() || read.isZero() || total.compareTo(read) < 0) {
+                throw new IllegalArgumentException("invalid timeout: read=" + read + ", total=" + total);
+            }
+        }
+
+        public static EndpointTimeout of(long readMillis, long totalMillis) {
+            return new EndpointTimeout(Duration.ofMillis(readMillis), Duration.ofMillis(totalMillis));
+        }
+    }
+
+    /**
+     * 연결 풀 상태 스냅샷
+     */
+    public record PoolSnapshot(int leased, int idle, int pending, int max) {
+    }
+}
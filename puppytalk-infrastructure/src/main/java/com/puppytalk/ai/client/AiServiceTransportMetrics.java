@@ -0,0 +1,40 @@
+package com.puppytalk.ai.client;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.function.ToIntFunction;
+import org.springframework.stereotype.Component;
+
+/**
+ * AI 서비스 연결 풀 지표
+ * <p>
+ * {@code ai.client.pool.connections} 게이지를 state 태그(leased, idle, pending, max)로 노출한다.
+ */
+@Component
+public class AiServiceTransportMetrics implements MeterBinder {
+
+    private static final String METRIC_NAME = "ai.client.pool.connections";
+
+    private final AiServiceTransport transport;
+
+    public AiServiceTransportMetrics(AiServiceTransport transport) {
+        this.transport = transport;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        register(registry, "leased", AiServiceTransport.PoolSnapshot::leased);
+        register(registry, "idle", AiServiceTransport.PoolSnapshot::idle);
+        register(registry, "pending", AiServiceTransport.PoolSnapshot::pending);
+        register(registry, "max", AiServiceTransport.PoolSnapshot::max);
+    }
+
+    private void register(MeterRegistry registry, String state, ToIntFunction<AiServiceTransport.PoolSnapshot> value) {
+        Gauge.builder(METRIC_NAME, transport, t -> value.applyAsInt(t.poolSnapshot()))
+            .tag("state", state)
+            .tag("protocol", transport.protocol().name())
+            .description("AI service connection pool state")
+            .register(registry);
+    }
+}
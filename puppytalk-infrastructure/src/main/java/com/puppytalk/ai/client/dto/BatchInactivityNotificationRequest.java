@@ -0,0 +1,18 @@
+package com.puppytalk.ai.client.dto;
+
+import java.util.List;
+
+public record BatchInactivityNotificationRequest(
+    List<InactivityNotificationRequest> requests
+) {
+    public static final int MAX_ITEMS = 100;
+
+    public BatchInactivityNotificationRequest {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("Requests cannot be null or empty");
+        }
+        if (requests.size() > MAX_ITEMS) {
+            throw new IllegalArgumentException("Requests cannot exceed " + MAX_ITEMS + " items");
+        }
+    }
+}
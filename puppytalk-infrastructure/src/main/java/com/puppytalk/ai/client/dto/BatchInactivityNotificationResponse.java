@@ -0,0 +1,38 @@
+package com.puppytalk.ai.client.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record BatchInactivityNotificationResponse(
+    boolean success,
+    int processedCount,
+    int successfulCount,
+    int failedCount,
+    List<Item> results,
+    Integer totalProcessingTimeMs,
+    LocalDateTime timestamp
+) {
+    public BatchInactivityNotificationResponse {
+        if (results == null) {
+            results = List.of();
+        }
+    }
+
+    /**
+     * 항목별 생성 결과 (index는 요청 목록에서의 위치)
+     */
+    public record Item(
+        int index,
+        int userId,
+        boolean success,
+        String notificationMessage,
+        Error error
+    ) {
+    }
+
+    public record Error(
+        String errorCode,
+        String message
+    ) {
+    }
+}
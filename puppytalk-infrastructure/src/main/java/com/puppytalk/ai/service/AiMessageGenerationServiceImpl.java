@@ -2,17 +2,26 @@ package com.puppytalk.ai.service;
 
 import com.puppytalk.ai.AiMessageGenerationService;
 import com.puppytalk.ai.ChatContext;
+import com.puppytalk.ai.InactivityMessageRequest;
+import com.puppytalk.ai.InactivityMessageResult;
 import com.puppytalk.ai.client.AiServiceClient;
+import com.puppytalk.ai.client.dto.BatchInactivityNotificationRequest;
+import com.puppytalk.ai.client.dto.BatchInactivityNotificationResponse;
 import com.puppytalk.ai.client.dto.ChatMessage;
 import com.puppytalk.ai.client.dto.ChatRequest;
 import com.puppytalk.ai.client.dto.ChatResponse;
 import com.puppytalk.ai.client.dto.InactivityNotificationRequest;
 import com.puppytalk.ai.client.dto.InactivityNotificationResponse;
 import com.puppytalk.ai.client.dto.MessageRole;
+import com.puppytalk.ai.exception.AiGenerationException;
 import com.puppytalk.chat.ChatRoom;
 import com.puppytalk.chat.Message;
 import com.puppytalk.pet.Pet;
+import com.puppytalk.user.UserId;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -21,6 +30,7 @@ import org.springframework.stereotype.Service;
 public class AiMessageGenerationServiceImpl implements AiMessageGenerationService {
 
     private static final Logger log = LoggerFactory.getLogger(AiMessageGenerationServiceImpl.class);
+    private static final int BATCH_CHUNK_SIZE = 50;
 
     private final AiServiceClient aiServiceClient;
 
@@ -46,7 +56,7 @@ public class AiMessageGenerationServiceImpl implements AiMessageGenerationServic
             return response.content();
         }
         
-        throw new RuntimeException("AI 응답 생성 실패");
+        throw AiGenerationException.failed("채팅 응답이 비어 있습니다");
     }
 
     @Override
@@ -69,9 +79,98 @@ public class AiMessageGenerationServiceImpl implements AiMessageGenerationServic
             return response.notificationMessage();
         }
         
-        throw new RuntimeException("비활성 알림 생성 실패");
+        throw AiGenerationException.failed("비활성 알림 응답이 비어 있습니다");
     }
 
+    @Override
+    public List<InactivityMessageResult> generateInactivityNotifications(List<InactivityMessageRequest> requests) {
+        if (requests == null) {
+            throw new IllegalArgumentException("요청 목록은 필수입니다");
+        }
+        
+        log.info("Generating inactivity notifications in batch: size={}", requests.size());
+        
+        List<InactivityMessageResult> results = new ArrayList<>(requests.size());
+        for (int from = 0; from < requests.size(); from += BATCH_CHUNK_SIZE) {
+            List<InactivityMessageRequest> chunk = requests.subList(from, Math.min(from + BATCH_CHUNK_SIZE, requests.size()));
+            results.addAll(generateInactivityNotificationChunk(chunk));
+        }
+        
+        return results;
+    }
+
+    private List<InactivityMessageResult> generateInactivityNotificationChunk(List<InactivityMessageRequest> chunk) {
+        InactivityMessageResult[] results = new InactivityMessageResult[chunk.size()];
+        List<InactivityNotificationRequest> validRequests = new ArrayList<>(chunk.size());
+        List<Integer> validPositions = new ArrayList<>(chunk.size());
+        String timeOfDay = getCurrentTimeOfDay();
+        
+        // 요청 변환 단계의 검증 실패는 해당 항목만 실패 처리
+        for (int i = 0; i < chunk.size(); i++) {
+            InactivityMessageRequest request = chunk.get(i);
+            try {
+                validRequests.add(toInactivityNotificationRequest(request, timeOfDay));
+                validPositions.add(i);
+            } catch (IllegalArgumentException e) {
+                results[i] = InactivityMessageResult.failure(request.userId(), e.getMessage());
+            }
+        }
+        
+        if (!validRequests.isEmpty()) {
+            Map<Integer, BatchInactivityNotificationResponse.Item> itemsByIndex = requestBatch(validRequests);
+            
+            for (int index = 0; index < validPositions.size(); index++) {
+                int position = validPositions.get(index);
+                UserId userId = chunk.get(position).userId();
+                results[position] = toInactivityMessageResult(userId, itemsByIndex.get(index));
+            }
+        }
+        
+        return List.of(results);
+    }
+
+    private Map<Integer, BatchInactivityNotificationResponse.Item> requestBatch(
+        List<InactivityNotificationRequest> requests
+    ) {
+        // 배치 호출 자체의 실패는 전파하여 ResilientAiMessageGenerationService가 장애로 집계하도록 한다
+        BatchInactivityNotificationResponse response = aiServiceClient.generateInactivityNotifications(
+            new BatchInactivityNotificationRequest(requests)
+        );
+
+        Map<Integer, BatchInactivityNotificationResponse.Item> itemsByIndex = new HashMap<>();
+        for (BatchInactivityNotificationResponse.Item item : response.results()) {
+            itemsByIndex.put(item.index(), item);
+        }
+        return itemsByIndex;
+    }
+
+    private InactivityMessageResult toInactivityMessageResult(
+        UserId userId,
+        BatchInactivityNotificationResponse.Item item
+    ) {
+        if (item == null) {
+            return InactivityMessageResult.failure(userId, "AI 서비스 응답 없음");
+        }
+        if (!item.success() || item.notificationMessage() == null || item.notificationMessage().isBlank()) {
+            String reason = item.error() != null ? item.error().message() : "비활성 알림 생성 실패";
+            return InactivityMessageResult.failure(userId, reason);
+        }
+        return InactivityMessageResult.success(userId, item.notificationMessage());
+    }
+
+    private InactivityNotificationRequest toInactivityNotificationRequest(
+        InactivityMessageRequest request,
+        String timeOfDay
+    ) {
+        return new InactivityNotificationRequest(
+            request.userId().value().intValue(),
+            request.pet().getId().value().intValue(),
+            request.pet().getPersona(),
+            convertToAiChatMessage(request.lastMessages()),
+            request.hoursSinceLastActivity(),
+            timeOfDay
+        );
+    }
 
     private List<ChatMessage> convertToAiChatMessage(List<Message> messages) {
         if (messages == null) {
@@ -0,0 +1,49 @@
+package com.puppytalk.ai.service;
+
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+/**
+ * AI 서비스 서킷 브레이커/벌크헤드 지표
+ * <p>
+ * resilience4j 기본 지표(resilience4j.circuitbreaker.*, resilience4j.bulkhead.*)와 함께
+ * {@code ai.resilience.rejections} 카운터를 name, reason(circuit_open, bulkhead_full) 태그로 노출한다.
+ */
+@Component
+public class AiResilienceMetrics implements MeterBinder {
+
+    private static final String REJECTIONS = "ai.resilience.rejections";
+
+    private final ResilientAiMessageGenerationService service;
+
+    public AiResilienceMetrics(ResilientAiMessageGenerationService service) {
+        this.service = service;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(service.circuitBreakerRegistry()).bindTo(registry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(service.bulkheadRegistry()).bindTo(registry);
+
+        service.circuitBreakerRegistry().getAllCircuitBreakers().forEach(circuitBreaker -> {
+            Counter rejections = rejectionCounter(registry, circuitBreaker.getName(), "circuit_open");
+            circuitBreaker.getEventPublisher().onCallNotPermitted(event -> rejections.increment());
+        });
+        service.bulkheadRegistry().getAllBulkheads().forEach(bulkhead -> {
+            Counter rejections = rejectionCounter(registry, bulkhead.getName(), "bulkhead_full");
+            bulkhead.getEventPublisher().onCallRejected(event -> rejections.increment());
+        });
+    }
+
+    private Counter rejectionCounter(MeterRegistry registry, String name, String reason) {
+        return Counter.builder(REJECTIONS)
+            .tag("name", name)
+            .tag("reason", reason)
+            .description("AI service calls rejected without reaching the AI service")
+            .register(registry);
+    }
+}
@@ -0,0 +1,215 @@
+package com.puppytalk.ai.service;
+
+import com.puppytalk.ai.AiMessageGenerationService;
+import com.puppytalk.ai.ChatContext;
+import com.puppytalk.ai.InactivityMessageRequest;
+import com.puppytalk.ai.InactivityMessageResult;
+import com.puppytalk.ai.exception.AiGenerationException;
+import com.puppytalk.chat.ChatRoom;
+import com.puppytalk.chat.Message;
+import com.puppytalk.pet.Pet;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+/**
+ * 서킷 브레이커와 벌크헤드를 적용한 AI 메시지 생성 서비스
+ * <p>
+ * 대화형 채팅과 비활성 알림(단건/배치) 트래픽을 서로 다른 서킷 브레이커/벌크헤드로 격리한다.
+ * <ul>
+ *   <li>슬라이딩 윈도우의 실패율 또는 느린 호출 비율이 임계치를 넘으면 서킷이 열리고 호출 없이 즉시 실패한다</li>
+ *   <li>동시 호출 수가 한도를 넘으면 대기 시간 이후 거절한다</li>
+ *   <li>채팅은 {@link AiGenerationException#unavailable(String)}로 빠르게 실패하고,
+ *       배치 알림은 모든 항목을 실패 결과로 돌려주어 다음 실행에서 다시 시도되게 한다</li>
+ * </ul>
+ * 상태와 거절 수는 {@link AiResilienceMetrics}가 지표로 노출한다.
+ */
+@Primary
+@Service
+public class ResilientAiMessageGenerationService implements AiMessageGenerationService {
+
+    private static final Logger log = LoggerFactory.getLogger(ResilientAiMessageGenerationService.class);
+
+    static final String CHAT = "ai-chat";
+    static final String NOTIFICATION = "ai-notification";
+
+    private final AiMessageGenerationService delegate;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final CircuitBreaker chatCircuitBreaker;
+    private final CircuitBreaker notificationCircuitBreaker;
+    private final Bulkhead chatBulkhead;
+    private final Bulkhead notificationBulkhead;
+
+    @Autowired
+    public ResilientAiMessageGenerationService(
+        AiMessageGenerationServiceImpl delegate,
+        @Value("${ai-service.resilience.sliding-window-size:50}") int slidingWindowSize,
+        @Value("${ai-service.resilience.minimum-calls:20}") int minimumCalls,
+        @Value("${ai-service.resilience.failure-rate-threshold:50}") float failureRateThreshold,
+        @Value("${ai-service.resilience.slow-call-rate-threshold:80}") float slowCallRateThreshold,
+        @Value("${ai-service.resilience.open-wait-ms:30000}") long openWaitMillis,
+        @Value("${ai-service.resilience.half-open-calls:5}") int halfOpenCalls,
+        @Value("${ai-service.resilience.chat.slow-call-ms:8000}") long chatSlowCallMillis,
+        @Value("${ai-service.resilience.chat.max-concurrent-calls:20}") int chatMaxConcurrentCalls,
+        @Value("${ai-service.resilience.chat.max-wait-ms:0}") long chatMaxWaitMillis,
+        @Value("${ai-service.resilience.notification.slow-call-ms:60000}") long notificationSlowCallMillis,
+        @Value("${ai-service.resilience.notification.max-concurrent-calls:4}") int notificationMaxConcurrentCalls,
+        @Value("${ai-service.resilience.notification.max-wait-ms:2000}") long notificationMaxWaitMillis
+    ) {
+        this(delegate, new Settings(
+            slidingWindowSize,
+            minimumCalls,
+            failureRateThreshold,
+            slowCallRateThreshold,
+            Duration.ofMillis(openWaitMillis),
+            halfOpenCalls,
+            new Traffic(Duration.ofMillis(chatSlowCallMillis), chatMaxConcurrentCalls, Duration.ofMillis(chatMaxWaitMillis)),
+            new Traffic(Duration.ofMillis(notificationSlowCallMillis), notificationMaxConcurrentCalls, Duration.ofMillis(notificationMaxWaitMillis))
+        ));
+    }
+
+    public ResilientAiMessageGenerationService(AiMessageGenerationService delegate, Settings settings) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("delegate must not be null");
+        }
+
+        this.delegate = delegate;
+        this.circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+        this.bulkheadRegistry = BulkheadRegistry.ofDefaults();
+        this.chatCircuitBreaker = circuitBreakerRegistry.circuitBreaker(CHAT, circuitBreakerConfig(settings, settings.chat()));
+        this.notificationCircuitBreaker = circuitBreakerRegistry.circuitBreaker(NOTIFICATION, circuitBreakerConfig(settings, settings.notification()));
+        this.chatBulkhead = bulkheadRegistry.bulkhead(CHAT, bulkheadConfig(settings.chat()));
+        this.notificationBulkhead = bulkheadRegistry.bulkhead(NOTIFICATION, bulkheadConfig(settings.notification()));
+
+        circuitBreakerRegistry.getAllCircuitBreakers().forEach(circuitBreaker ->
+            circuitBreaker.getEventPublisher().onStateTransition(event ->
+                log.warn("AI circuit breaker state changed: name={}, transition={}",
+                    event.getCircuitBreakerName(), event.getStateTransition())));
+    }
+
+    @Override
+    public String generateChatResponse(ChatContext context) {
+        return execute(chatBulkhead, chatCircuitBreaker, () -> delegate.generateChatResponse(context));
+    }
+
+    @Override
+    public String generateInactivityNotification(ChatRoom chatRoom, Pet pet,
+                                               int hoursSinceLastActivity, List<Message> lastMessages) {
+        return execute(notificationBulkhead, notificationCircuitBreaker,
+            () -> delegate.generateInactivityNotification(chatRoom, pet, hoursSinceLastActivity, lastMessages));
+    }
+
+    @Override
+    public List<InactivityMessageResult> generateInactivityNotifications(List<InactivityMessageRequest> requests) {
+        if (requests == null) {
+            throw new IllegalArgumentException("요청 목록은 필수입니다");
+        }
+
+        try {
+            return execute(notificationBulkhead, notificationCircuitBreaker,
+                () -> delegate.generateInactivityNotifications(requests));
+        } catch (AiGenerationException e) {
+            // 배치는 항목별 실패로 돌려주어 알림이 생성되지 않은 사용자가 다음 실행에서 다시 대상이 되게 한다
+            log.warn("Inactivity notification batch fell back to failures: size={}, reason={}", requests.size(), e.getMessage());
+            return requests.stream()
+                .map(request -> InactivityMessageResult.failure(request.userId(), e.getMessage()))
+                .toList();
+        }
+    }
+
+    public CircuitBreakerRegistry circuitBreakerRegistry() {
+        return circuitBreakerRegistry;
+    }
+
+    public BulkheadRegistry bulkheadRegistry() {
+        return bulkheadRegistry;
+    }
+
+    private <T> T execute(Bulkhead bulkhead, CircuitBreaker circuitBreaker, Supplier<T> call) {
+        // 벌크헤드 거절이 서킷 브레이커의 실패로 집계되지 않도록 서킷 브레이커를 안쪽에 둔다
+        Supplier<T> decorated = Bulkhead.decorateSupplier(bulkhead, CircuitBreaker.decorateSupplier(circuitBreaker, call));
+        try {
+            return decorated.get();
+        } catch (CallNotPermittedException e) {
+            throw AiGenerationException.unavailable("circuit open (" + circuitBreaker.getName() + ")");
+        } catch (BulkheadFullException e) {
+            throw AiGenerationException.unavailable("too many concurrent calls (" + bulkhead.getName() + ")");
+        } catch (AiGenerationException | IllegalArgumentException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw AiGenerationException.failed(e.getMessage(), e);
+        }
+    }
+
+    private static CircuitBreakerConfig circuitBreakerConfig(Settings settings, Traffic traffic) {
+        return CircuitBreakerConfig.custom()
+            .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+            .slidingWindowSize(settings.slidingWindowSize())
+            .minimumNumberOfCalls(settings.minimumCalls())
+            .failureRateThreshold(settings.failureRateThreshold())
+            .slowCallRateThreshold(settings.slowCallRateThreshold())
+            .slowCallDurationThreshold(traffic.slowCallThreshold())
+            .waitDurationInOpenState(settings.openWait())
+            .permittedNumberOfCallsInHalfOpenState(settings.halfOpenCalls())
+            .automaticTransitionFromOpenToHalfOpenEnabled(true)
+            // 요청 검증 실패는 AI 서비스 장애가 아니다
+            .ignoreExceptions(IllegalArgumentException.class)
+            .build();
+    }
+
+    private static BulkheadConfig bulkheadConfig(Traffic traffic) {
+        return BulkheadConfig.custom()
+            .maxConcurrentCalls(traffic.maxConcurrentCalls())
+            .maxWaitDuration(traffic.maxWait())
+            .build();
+    }
+
+    /**
+     * 서킷 브레이커 공통 설정
+     *
+     * @param slidingWindowSize 실패율 계산에 사용하는 최근 호출 수
+     * @param minimumCalls 실패율을 계산하기 위한 최소 호출 수
+     * @param failureRateThreshold 서킷을 여는 실패율(%)
+     * @param slowCallRateThreshold 서킷을 여는 느린 호출 비율(%)
+     * @param openWait 열린 상태 유지 시간
+     * @param halfOpenCalls 반열림 상태에서 허용하는 시험 호출 수
+     * @param chat 대화형 채팅 트래픽 설정
+     * @param notification 비활성 알림 트래픽 설정
+     */
+    public record Settings(
+        int slidingWindowSize,
+        int minimumCalls,
+        float failureRateThreshold,
+        float slowCallRateThreshold,
+        Duration openWait,
+        int halfOpenCalls,
+        Traffic chat,
+        Traffic notification
+    ) {
+    }
+
+    /**
+     * 트래픽 유형별 설정
+     *
+     * @param slowCallThreshold 느린 호출로 판단하는 응답 시간
+     * @param maxConcurrentCalls 최대 동시 호출 수
+     * @param maxWait 동시 호출 한도에 도달했을 때 대기하는 최대 시간
+     */
+    public record Traffic(Duration slowCallThreshold, int maxConcurrentCalls, Duration maxWait) {
+    }
+}
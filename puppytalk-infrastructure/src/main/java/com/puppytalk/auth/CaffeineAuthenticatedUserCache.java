@@ -0,0 +1,93 @@
+package com.puppytalk.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.puppytalk.user.User;
+import com.puppytalk.user.UserId;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Caffeine 기반 인증 사용자 캐시 구현체
+ * <p>
+ * 원본 토큰을 메모리에 보관하지 않도록 SHA-256 해시를 키로 사용한다.
+ * 항목은 TTL과 토큰 만료 시각 중 먼저 도래하는 시점에 제거된다.
+ */
+@Component
+public class CaffeineAuthenticatedUserCache implements AuthenticatedUserCache {
+
+    private final Cache<String, CachedUser> cache;
+
+    @Autowired
+    public CaffeineAuthenticatedUserCache(
+        @Value("${app.auth.user-cache.ttl-seconds:30}") long ttlSeconds,
+        @Value("${app.auth.user-cache.max-size:100000}") long maxSize
+    ) {
+        this(Duration.ofSeconds(ttlSeconds), maxSize);
+    }
+
+    public CaffeineAuthenticatedUserCache(Duration ttl, long maxSize) {
+        if (ttl.isNegative() || ttl.isZero() || maxSize <= 0) {
+            throw new IllegalArgumentException("ttl and maxSize must be positive");
+        }
+
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfter(Expiry.creating((String key, CachedUser cachedUser) -> {
+                Duration untilTokenExpiry = Duration.between(LocalDateTime.now(), cachedUser.tokenExpiry());
+                return untilTokenExpiry.compareTo(ttl) < 0 ? untilTokenExpiry : ttl;
+            }))
+            .build();
+    }
+
+    @Override
+    public Optional<User> get(String accessToken) {
+        CachedUser cachedUser = cache.getIfPresent(hash(accessToken));
+        if (cachedUser == null || !LocalDateTime.now().isBefore(cachedUser.tokenExpiry())) {
+            return Optional.empty();
+        }
+        return Optional.of(cachedUser.user());
+    }
+
+    @Override
+    public void put(String accessToken, User user, LocalDateTime tokenExpiry) {
+        if (!LocalDateTime.now().isBefore(tokenExpiry)) {
+            return;
+        }
+        cache.put(hash(accessToken), new CachedUser(user, tokenExpiry));
+    }
+
+    @Override
+    public void invalidate(String accessToken) {
+        cache.invalidate(hash(accessToken));
+    }
+
+    @Override
+    public void invalidateUser(UserId userId) {
+        // 전체 로그아웃은 드물게 발생하므로 별도 색인 없이 순회하여 제거한다
+        cache.asMap().values().removeIf(cachedUser -> userId.equals(cachedUser.user().getId()));
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * 토큰 해시로 캐시를 제거한다 (다른 노드의 무효화 메시지 처리용)
+     */
+    void invalidateHash(String tokenHash) {
+        cache.invalidate(tokenHash);
+    }
+
+    private String hash(String accessToken) {
+        return TokenHashes.sha256(accessToken);
+    }
+
+    private record CachedUser(User user, LocalDateTime tokenExpiry) {
+    }
+}
@@ -2,45 +2,52 @@ package com.puppytalk.auth;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
 import com.puppytalk.user.UserId;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
 
 /**
  * Caffeine 기반 TokenStore 구현체
- * 로컬 캐시를 사용한 고성능 토큰 관리
+ * 로컬 캐시를 사용한 고성능 토큰 관리 (단일 노드 전용, 노드 간 무효화 전파 없음)
+ * <p>
+ * 토큰은 SHA-256 해시를 키로 보관하며, 사용자별 색인은 동시성 집합이라 추가/제거가 복사 없이 O(1)이다.
+ * {@link #getActiveTokensForUser}가 반환하는 {@link ActiveTokenInfo#accessToken()}은 토큰 해시이다.
  */
+@Primary
 @Component
 @ConditionalOnProperty(name = "app.token-store.type", havingValue = "caffeine")
 public class CaffeineTokenStore implements TokenStore {
     
     private static final Logger logger = LoggerFactory.getLogger(CaffeineTokenStore.class);
     
-    // 토큰 → ActiveTokenInfo 매핑
+    // 토큰 해시 → ActiveTokenInfo 매핑
     private final Cache<String, ActiveTokenInfo> tokenCache;
     
-    // 사용자 ID → 토큰 목록 매핑 (빠른 사용자별 조회를 위해)
-    private final Map<UserId, List<String>> userTokensMap = new ConcurrentHashMap<>();
+    // 사용자 ID → 토큰 해시 집합 (빠른 사용자별 조회를 위해)
+    private final Map<UserId, Set<String>> userTokensMap = new ConcurrentHashMap<>();
     
     public CaffeineTokenStore() {
         this.tokenCache = Caffeine.newBuilder()
             .maximumSize(100_000) // 최대 10만개 토큰
             .expireAfterWrite(Duration.ofHours(24)) // 24시간 후 자동 삭제
-            .removalListener((token, tokenInfo, cause) -> {
-                if (tokenInfo instanceof ActiveTokenInfo activeToken) {
-                    // 사용자별 토큰 맵에서도 제거
-                    removeTokenFromUserMap(activeToken.userId(), (String) token);
-                    logger.debug("Token removed from cache: {}, cause: {}", token, cause);
+            .removalListener((String tokenHash, ActiveTokenInfo tokenInfo, RemovalCause cause) -> {
+                // 같은 토큰의 재저장(REPLACED)은 색인을 유지한다
+                if (tokenInfo != null && cause != RemovalCause.REPLACED) {
+                    removeTokenFromUserMap(tokenInfo.userId(), tokenHash);
+                    logger.debug("Token removed from cache, cause: {}", cause);
                 }
             })
             .recordStats() // 통계 수집 활성화
@@ -49,36 +56,24 @@ public class CaffeineTokenStore implements TokenStore {
     
     @Override
     public void storeToken(UserId userId, String accessToken, LocalDateTime tokenExpiry) {
+        String tokenHash = TokenHashes.sha256(accessToken);
         
         ActiveTokenInfo tokenInfo = new ActiveTokenInfo(
             userId,
-            accessToken,
+            tokenHash,
             tokenExpiry,
             LocalDateTime.now(),
             "caffeine-local" // 로컬 캐시 표시
         );
         
         // 토큰 캐시에 저장
-        tokenCache.put(accessToken, tokenInfo);
+        tokenCache.put(tokenHash, tokenInfo);
         
-        // 사용자별 토큰 맵에 추가
+        // 사용자별 색인에 추가 (빈 집합 제거와 경합하지 않도록 키 단위로 원자적으로 수행)
         userTokensMap.compute(userId, (key, tokens) -> {
-            if (tokens == null) {
-                return List.of(accessToken);
-            } else {
-                // 새로운 리스트 생성 (불변성 유지)
-                return tokens.stream()
-                    .collect(Collectors.toList())
-                    .stream()
-                    .filter(token -> !token.equals(accessToken)) // 중복 제거
-                    .collect(Collectors.toList())
-                    .stream()
-                    .collect(Collectors.toCollection(() -> {
-                        var list = new java.util.ArrayList<>(tokens);
-                        list.add(accessToken);
-                        return list;
-                    }));
-            }
+            Set<String> target = tokens != null ? tokens : ConcurrentHashMap.newKeySet();
+            target.add(tokenHash);
+            return target;
         });
         
         logger.debug("Token stored for user: {}", userId.value());
@@ -86,33 +81,16 @@ public class CaffeineTokenStore implements TokenStore {
     
     @Override
     public boolean isTokenActive(String accessToken) {
-        
-        ActiveTokenInfo tokenInfo = tokenCache.getIfPresent(accessToken);
-        
-        if (tokenInfo == null) {
-            return false;
-        }
-        
-        // 만료 시간 확인
-        if (tokenInfo.isExpired()) {
-            // 만료된 토큰은 캐시에서 제거
-            invalidateToken(accessToken);
-            return false;
-        }
-        
-        return true;
+        return getUserIdByToken(accessToken).isPresent();
     }
     
     @Override
     public void invalidateAllTokensForUser(UserId userId) {
         
-        List<String> userTokens = userTokensMap.get(userId);
+        Set<String> userTokens = userTokensMap.remove(userId);
         if (userTokens != null) {
             // 사용자의 모든 토큰을 캐시에서 제거
-            userTokens.forEach(tokenCache::invalidate);
-            
-            // 사용자 토큰 맵에서 제거
-            userTokensMap.remove(userId);
+            tokenCache.invalidateAll(userTokens);
             
             logger.debug("All tokens invalidated for user: {}, token count: {}", 
                 userId.value(), userTokens.size());
@@ -121,91 +99,76 @@ public class CaffeineTokenStore implements TokenStore {
     
     @Override
     public void invalidateToken(String accessToken) {
-        
-        // 토큰 정보를 먼저 조회해서 사용자 정보를 얻음
-        ActiveTokenInfo tokenInfo = tokenCache.getIfPresent(accessToken);
-        
-        // 토큰 캐시에서 제거
-        tokenCache.invalidate(accessToken);
-        
-        // 사용자별 토큰 맵에서도 제거
-        if (tokenInfo != null) {
-            removeTokenFromUserMap(tokenInfo.userId(), accessToken);
-            logger.debug("Token invalidated: {}", accessToken);
-        }
+        // 색인 정리는 제거 리스너에서 수행된다
+        tokenCache.invalidate(TokenHashes.sha256(accessToken));
     }
     
     @Override
     public List<ActiveTokenInfo> getActiveTokensForUser(UserId userId) {
         
-        List<String> userTokens = userTokensMap.get(userId);
+        Set<String> userTokens = userTokensMap.get(userId);
         if (userTokens == null) {
             return List.of();
         }
         
-        return userTokens.stream()
-            .map(tokenCache::getIfPresent)
-            .filter(tokenInfo -> tokenInfo != null && tokenInfo.isValid())
-            .collect(Collectors.toList());
+        List<ActiveTokenInfo> activeTokens = new ArrayList<>(userTokens.size());
+        for (String tokenHash : userTokens) {
+            ActiveTokenInfo tokenInfo = tokenCache.getIfPresent(tokenHash);
+            if (tokenInfo != null && tokenInfo.isValid()) {
+                activeTokens.add(tokenInfo);
+            }
+        }
+        return activeTokens;
     }
     
     @Override
     public int cleanupExpiredTokens() {
-        logger.info("Starting expired token cleanup...");
+        // 만료 항목을 제거하면 제거 리스너가 사용자별 색인도 함께 정리하므로 사용자 전체를 순회하지 않는다
+        tokenCache.cleanUp();
         
-        // Caffeine의 자동 만료 기능을 사용하므로, 수동으로 정리할 필요는 적음
-        // 통계 정보만 출력
         var stats = tokenCache.stats();
-        long totalTokens = tokenCache.estimatedSize();
-        
-        logger.info("Token cache stats - Size: {}, Hit rate: {:.2f}%, Miss count: {}", 
-            totalTokens, stats.hitRate() * 100, stats.missCount());
-        
-        // 사용자별 토큰 맵 정리 (참조하는 토큰이 없는 사용자 제거)
-        int cleanedUserMappings = 0;
-        var iterator = userTokensMap.entrySet().iterator();
-        
-        while (iterator.hasNext()) {
-            var entry = iterator.next();
-            List<String> validTokens = entry.getValue().stream()
-                .filter(token -> tokenCache.getIfPresent(token) != null)
-                .collect(Collectors.toList());
-            
-            if (validTokens.isEmpty()) {
-                iterator.remove();
-                cleanedUserMappings++;
-            } else if (validTokens.size() != entry.getValue().size()) {
-                // 유효한 토큰만 남겨둠
-                userTokensMap.put(entry.getKey(), validTokens);
-            }
-        }
-        
-        logger.info("Cleaned up {} user token mappings", cleanedUserMappings);
-        return cleanedUserMappings; // 정리된 사용자 매핑 개수 반환
+        logger.info("Token cache stats - Size: {}, Hit rate: {}%, Miss count: {}, Users: {}",
+            tokenCache.estimatedSize(), String.format("%.2f", stats.hitRate() * 100), stats.missCount(),
+            userTokensMap.size());
+        return 0;
     }
     
     @Override
     public Optional<UserId> getUserIdByToken(String accessToken) {
+        String tokenHash = TokenHashes.sha256(accessToken);
+        ActiveTokenInfo tokenInfo = tokenCache.getIfPresent(tokenHash);
         
-        ActiveTokenInfo tokenInfo = tokenCache.getIfPresent(accessToken);
+        if (tokenInfo == null) {
+            return Optional.empty();
+        }
         
-        if (tokenInfo != null && tokenInfo.isValid()) {
-            return Optional.of(tokenInfo.userId());
+        if (tokenInfo.isExpired()) {
+            // 만료된 토큰은 캐시에서 제거
+            tokenCache.invalidate(tokenHash);
+            return Optional.empty();
         }
         
-        return Optional.empty();
+        return Optional.of(tokenInfo.userId());
+    }
+    
+    /**
+     * 사용자 토큰 수 (테스트 및 모니터링용)
+     */
+    public int indexedTokenCount(UserId userId) {
+        Set<String> userTokens = userTokensMap.get(userId);
+        return userTokens == null ? 0 : userTokens.size();
     }
     
     /**
-     * 사용자별 토큰 맵에서 특정 토큰 제거
+     * 사용자별 색인에서 특정 토큰 제거 (집합이 비면 사용자 항목도 제거)
      */
-    private void removeTokenFromUserMap(UserId userId, String accessToken) {
+    private void removeTokenFromUserMap(UserId userId, String tokenHash) {
         userTokensMap.computeIfPresent(userId, (key, tokens) -> {
-            List<String> updatedTokens = tokens.stream()
-                .filter(token -> !token.equals(accessToken))
-                .collect(Collectors.toList());
-            
-            return updatedTokens.isEmpty() ? null : updatedTokens;
+            // 제거 리스너는 비동기로 실행되므로 그 사이 다시 저장된 토큰은 색인에 남긴다
+            if (!tokenCache.asMap().containsKey(tokenHash)) {
+                tokens.remove(tokenHash);
+            }
+            return tokens.isEmpty() ? null : tokens;
         });
     }
-}
\ No newline at end of file
+}
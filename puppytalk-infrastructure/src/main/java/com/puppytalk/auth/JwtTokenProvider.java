@@ -4,6 +4,8 @@ import com.puppytalk.auth.exception.InvalidTokenException;
 import com.puppytalk.user.UserId;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
@@ -33,11 +35,16 @@ public class JwtTokenProvider implements TokenProvider {
     
     private final SecretKey secretKey;
     private final long accessTokenValidityInMilliseconds;
+    // 파서는 불변이며 스레드 안전하므로 한 번만 생성하여 재사용
+    private final JwtParser jwtParser;
     
     public JwtTokenProvider(@Value("${app.jwt.secret:puppytalk-super-secret-key-for-jwt-token-generation-minimum-256-bits}") String secret,
                            @Value("${app.jwt.access-token-validity:86400000}") long accessTokenValidityInMilliseconds) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes());
         this.accessTokenValidityInMilliseconds = accessTokenValidityInMilliseconds;
+        this.jwtParser = Jwts.parser()
+            .verifyWith(secretKey)
+            .build();
     }
     
     @Override
@@ -92,10 +99,29 @@ public class JwtTokenProvider implements TokenProvider {
     }
     
     
+    @Override
+    public TokenClaims verify(String accessToken) {
+        Claims claims;
+        try {
+            claims = parseClaims(accessToken);
+        } catch (ExpiredJwtException e) {
+            throw InvalidTokenException.expired();
+        } catch (JwtException | IllegalArgumentException e) {
+            logger.info("Invalid JWT token: {}", e.getMessage());
+            throw InvalidTokenException.invalidToken();
+        }
+        
+        Long userId = claims.get(USER_ID_CLAIM, Long.class);
+        Date expiration = claims.getExpiration();
+        if (userId == null || expiration == null) {
+            throw InvalidTokenException.invalidToken();
+        }
+        
+        return new TokenClaims(UserId.from(userId), convertToLocalDateTime(expiration));
+    }
+    
     private Claims parseClaims(String token) {
-        return Jwts.parser()
-            .verifyWith(secretKey)
-            .build()
+        return jwtParser
             .parseSignedClaims(token)
             .getPayload();
     }
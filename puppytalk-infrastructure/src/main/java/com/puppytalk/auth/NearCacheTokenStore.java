@@ -0,0 +1,278 @@
+package com.puppytalk.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.puppytalk.user.UserId;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 토큰 저장소 앞에 로컬 Caffeine 캐시를 두는 2계층 TokenStore 구현체
+ * <p>
+ * {@code isTokenActive}/{@code getUserIdByToken}은 로컬 캐시에서 처리하고, 미스일 때만 Redis를 조회한다.
+ * 무효화는 Redis에 반영한 뒤 Redis pub/sub 토픽으로 모든 노드에 전파되며,
+ * 메시지가 유실되더라도 로컬 캐시 TTL 이내에 Redis 상태로 수렴한다.
+ * 메시지에는 원본 토큰 대신 토큰 해시만 담는다.
+ * Redis 조회에 실패한 결과는 캐시하지 않아 Redis가 복구되면 바로 다시 조회된다.
+ */
+@Primary
+@Component
+@ConditionalOnProperty(name = "app.token-store.type", havingValue = "near-cache", matchIfMissing = true)
+public class NearCacheTokenStore implements TokenStore, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(NearCacheTokenStore.class);
+
+    static final String INVALIDATION_TOPIC = "jwt:invalidation";
+    private static final String SEPARATOR = "|";
+    private static final String TOKEN_SCOPE = "TOKEN";
+    private static final String USER_SCOPE = "USER";
+
+    private final TokenStore delegate;
+    private final Function<String, Optional<UserId>> userIdLookup;
+    private final CaffeineAuthenticatedUserCache authenticatedUserCache;
+    private final Cache<String, CachedToken> cache;
+    private final Consumer<String> publisher;
+    private volatile Runnable unsubscribe = () -> { };
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder receivedInvalidations = new LongAdder();
+    private volatile Consumer<Duration> propagationLagRecorder = lag -> { };
+
+    @Autowired
+    public NearCacheTokenStore(
+        RedisTokenStore redisTokenStore,
+        RedissonClient redissonClient,
+        CaffeineAuthenticatedUserCache authenticatedUserCache,
+        @Value("${app.token-store.near-cache.ttl-seconds:10}") long ttlSeconds,
+        @Value("${app.token-store.near-cache.max-size:100000}") long maxSize
+    ) {
+        this(
+            redisTokenStore,
+            redisTokenStore::findUserIdByToken,
+            redissonClient.getTopic(INVALIDATION_TOPIC, StringCodec.INSTANCE)::publish,
+            authenticatedUserCache,
+            new Settings(Duration.ofSeconds(ttlSeconds), maxSize)
+        );
+
+        RTopic topic = redissonClient.getTopic(INVALIDATION_TOPIC, StringCodec.INSTANCE);
+        int listenerId = topic.addListener(String.class, (channel, message) -> onInvalidationMessage(message));
+        this.unsubscribe = () -> topic.removeListener(listenerId);
+    }
+
+    /**
+     * 토픽 대신 임의의 전달 수단을 사용하는 생성자 (테스트 및 단일 노드 구성용)
+     * <p>
+     * 수신 측은 {@link #onInvalidationMessage(String)}로 메시지를 전달해야 한다.
+     * 토큰 조회는 {@code delegate.getUserIdByToken}으로 수행하며, 예외를 던지면 조회 실패로 보고 캐시하지 않는다.
+     */
+    public NearCacheTokenStore(
+        TokenStore delegate,
+        Consumer<String> publisher,
+        CaffeineAuthenticatedUserCache authenticatedUserCache,
+        Settings settings
+    ) {
+        this(delegate, delegate::getUserIdByToken, publisher, authenticatedUserCache, settings);
+    }
+
+    private NearCacheTokenStore(
+        TokenStore delegate,
+        Function<String, Optional<UserId>> userIdLookup,
+        Consumer<String> publisher,
+        CaffeineAuthenticatedUserCache authenticatedUserCache,
+        Settings settings
+    ) {
+        if (settings.ttl().isNegative() || settings.ttl().isZero() || settings.maxSize() <= 0) {
+            throw new IllegalArgumentException("ttl and maxSize must be positive");
+        }
+
+        this.delegate = delegate;
+        this.userIdLookup = userIdLookup;
+        this.authenticatedUserCache = authenticatedUserCache;
+        this.publisher = publisher;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(settings.maxSize())
+            .expireAfterWrite(settings.ttl())
+            .build();
+    }
+
+    @Override
+    public void storeToken(UserId userId, String accessToken, LocalDateTime tokenExpiry) {
+        delegate.storeToken(userId, accessToken, tokenExpiry);
+        cache.put(TokenHashes.sha256(accessToken), CachedToken.active(userId));
+    }
+
+    @Override
+    public boolean isTokenActive(String accessToken) {
+        return lookup(accessToken).isActive();
+    }
+
+    @Override
+    public Optional<UserId> getUserIdByToken(String accessToken) {
+        return Optional.ofNullable(lookup(accessToken).userId());
+    }
+
+    @Override
+    public void invalidateAllTokensForUser(UserId userId) {
+        delegate.invalidateAllTokensForUser(userId);
+        invalidateUserLocally(userId);
+        publish(USER_SCOPE, String.valueOf(userId.value()));
+    }
+
+    @Override
+    public void invalidateToken(String accessToken) {
+        delegate.invalidateToken(accessToken);
+        String tokenHash = TokenHashes.sha256(accessToken);
+        invalidateTokenLocally(tokenHash);
+        publish(TOKEN_SCOPE, tokenHash);
+    }
+
+    @Override
+    public List<ActiveTokenInfo> getActiveTokensForUser(UserId userId) {
+        return delegate.getActiveTokensForUser(userId);
+    }
+
+    @Override
+    public int cleanupExpiredTokens() {
+        return delegate.cleanupExpiredTokens();
+    }
+
+    /**
+     * 다른 노드에서 발행한 무효화 메시지를 처리한다
+     *
+     * @param message {@code nodeId|scope|value|publishedAtMillis}
+     */
+    public void onInvalidationMessage(String message) {
+        String[] parts = message.split("\\" + SEPARATOR);
+        if (parts.length != 4) {
+            logger.warn("Malformed token invalidation message: {}", message);
+            return;
+        }
+        if (nodeId.equals(parts[0])) {
+            return;
+        }
+
+        if (TOKEN_SCOPE.equals(parts[1])) {
+            invalidateTokenLocally(parts[2]);
+        } else if (USER_SCOPE.equals(parts[1])) {
+            invalidateUserLocally(UserId.from(Long.valueOf(parts[2])));
+        }
+
+        receivedInvalidations.increment();
+        long lagMillis = System.currentTimeMillis() - Long.parseLong(parts[3]);
+        propagationLagRecorder.accept(Duration.ofMillis(Math.max(lagMillis, 0)));
+    }
+
+    /**
+     * 무효화 전파 지연을 기록할 대상을 설정한다 (지표 수집용)
+     */
+    public void recordPropagationLagWith(Consumer<Duration> recorder) {
+        this.propagationLagRecorder = recorder;
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long receivedInvalidationCount() {
+        return receivedInvalidations.sum();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    @Override
+    public void destroy() {
+        unsubscribe.run();
+    }
+
+    private CachedToken lookup(String accessToken) {
+        String tokenHash = TokenHashes.sha256(accessToken);
+        CachedToken cached = cache.getIfPresent(tokenHash);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+        // 적재는 키 단위로 원자적이므로 적재 중 도착한 무효화가 적재 결과에 덮어써지지 않는다.
+        // 비활성 결과도 캐시하여 폐기된 토큰의 반복 요청이 Redis로 가지 않게 한다
+        try {
+            return cache.get(tokenHash, key -> userIdLookup.apply(accessToken)
+                .map(CachedToken::active)
+                .orElse(CachedToken.INACTIVE));
+        } catch (RuntimeException e) {
+            // 조회 실패는 캐시하지 않고 이번 요청만 비활성으로 처리한다
+            logger.warn("Token lookup failed, not cached: error={}", e.getMessage());
+            return CachedToken.INACTIVE;
+        }
+    }
+
+    private void invalidateTokenLocally(String tokenHash) {
+        cache.put(tokenHash, CachedToken.INACTIVE);
+        authenticatedUserCache.invalidateHash(tokenHash);
+    }
+
+    private void invalidateUserLocally(UserId userId) {
+        cache.asMap().replaceAll((key, cached) -> userId.equals(cached.userId()) ? CachedToken.INACTIVE : cached);
+        authenticatedUserCache.invalidateUser(userId);
+    }
+
+    private void publish(String scope, String value) {
+        String message = String.join(SEPARATOR, nodeId, scope, value, String.valueOf(System.currentTimeMillis()));
+        try {
+            publisher.accept(message);
+        } catch (RuntimeException e) {
+            // 전파에 실패해도 다른 노드는 로컬 캐시 TTL 이내에 Redis 상태로 수렴한다
+            logger.warn("Failed to publish token invalidation: scope={}, error={}", scope, e.getMessage());
+        }
+    }
+
+    /**
+     * 로컬 캐시 설정
+     *
+     * @param ttl 항목 유지 시간 (무효화 메시지 유실 시 수렴 상한)
+     * @param maxSize 최대 항목 수
+     */
+    public record Settings(Duration ttl, long maxSize) {
+    }
+
+    /**
+     * 로컬 캐시 항목 (userId가 null이면 비활성 토큰)
+     */
+    private record CachedToken(UserId userId) {
+
+        static final CachedToken INACTIVE = new CachedToken(null);
+
+        static CachedToken active(UserId userId) {
+            return new CachedToken(userId);
+        }
+
+        boolean isActive() {
+            return userId != null;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.puppytalk.auth;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 토큰 근거리 캐시 지표
+ * <ul>
+ *   <li>{@code auth.token.near-cache.requests{result=hit|miss}} - 로컬 캐시 적중/미스</li>
+ *   <li>{@code auth.token.near-cache.size} - 로컬 캐시 항목 수</li>
+ *   <li>{@code auth.token.invalidation.lag} - 다른 노드의 무효화 발행부터 수신까지의 지연</li>
+ * </ul>
+ */
+@Component
+@ConditionalOnProperty(name = "app.token-store.type", havingValue = "near-cache", matchIfMissing = true)
+public class NearCacheTokenStoreMetrics implements MeterBinder {
+
+    private final NearCacheTokenStore tokenStore;
+
+    public NearCacheTokenStoreMetrics(NearCacheTokenStore tokenStore) {
+        this.tokenStore = tokenStore;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("auth.token.near-cache.requests", tokenStore, NearCacheTokenStore::hitCount)
+            .tag("result", "hit")
+            .description("Token checks served from the local near-cache")
+            .register(registry);
+        FunctionCounter.builder("auth.token.near-cache.requests", tokenStore, NearCacheTokenStore::missCount)
+            .tag("result", "miss")
+            .description("Token checks that went to Redis")
+            .register(registry);
+        Gauge.builder("auth.token.near-cache.size", tokenStore, NearCacheTokenStore::size)
+            .description("Entries in the local token near-cache")
+            .register(registry);
+
+        Timer lag = Timer.builder("auth.token.invalidation.lag")
+            .description("Delay between publishing a token invalidation and receiving it on this node")
+            .publishPercentiles(0.5, 0.99)
+            .register(registry);
+        tokenStore.recordPropagationLagWith(lag::record);
+    }
+}
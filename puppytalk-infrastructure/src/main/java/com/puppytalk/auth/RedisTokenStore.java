@@ -1,25 +1,45 @@
 package com.puppytalk.auth;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.puppytalk.user.UserId;
-import java.util.Map;
+import org.redisson.api.BatchOptions;
+import org.redisson.api.RBatch;
 import org.redisson.api.RBucket;
-import org.redisson.api.RKeys;
+import org.redisson.api.RFuture;
+import org.redisson.api.RScoredSortedSet;
 import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.ByteArrayCodec;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.client.protocol.ScoredEntry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Redis 기반 JWT 토큰 저장소 구현체
+ * <p>
+ * 키 구성 ({@code tokenId}는 토큰의 SHA-256 해시이며 토큰 원문은 저장하지 않는다)
+ * <ul>
+ *   <li>{@code jwt:access:{tokenId}} - 토큰 정보 ({@link TokenRecordCodec} 바이너리, 토큰 만료 시 TTL로 제거)</li>
+ *   <li>{@code jwt:user:{userId}:tokens} - 사용자 토큰 색인 (만료 시각을 점수로 하는 sorted set)</li>
+ *   <li>{@code jwt:blacklist:{tokenId}} - 무효화된 토큰 (토큰 만료 시 TTL로 제거)</li>
+ * </ul>
+ * 사용자별 조회와 무효화는 색인만 읽으므로 전체 키 공간이 아닌 해당 사용자의 토큰 수에 비례하며,
+ * 여러 키에 대한 명령은 배치로 묶어 왕복 횟수를 일정하게 유지한다.
+ * {@link #getActiveTokensForUser}가 반환하는 {@link ActiveTokenInfo#accessToken()}은 토큰 해시이다.
+ * <p>
+ * 이전 키 구성({@code jwt:access:{토큰 원문}}, {@code jwt:user:{userId}:{토큰 원문}})으로 저장된 토큰은 해시 키로
+ * 조회되지 않으므로 배포 시점에 모두 비활성이 되어 다시 로그인해야 한다. 따라서 전체 로그아웃이 이전 키를 찾지 않아도
+ * 이전 토큰이 살아나지 않으며, 남은 이전 키는 토큰 만료 시각에 TTL로 제거된다.
  */
 @Component
 public class RedisTokenStore implements TokenStore {
@@ -29,48 +49,42 @@ public class RedisTokenStore implements TokenStore {
     // Redis 키 패턴
     private static final String ACCESS_TOKEN_KEY_PREFIX = "jwt:access:";
     private static final String USER_TOKENS_KEY_PREFIX = "jwt:user:";
+    private static final String USER_TOKENS_KEY_SUFFIX = ":tokens";
     private static final String BLACKLIST_TOKEN_KEY_PREFIX = "jwt:blacklist:";
+    private static final String BLACKLISTED = "1";
     
     private final RedissonClient redissonClient;
-    private final ObjectMapper objectMapper;
     
     public RedisTokenStore(RedissonClient redissonClient) {
         this.redissonClient = redissonClient;
-        this.objectMapper = new ObjectMapper();
-        this.objectMapper.registerModule(new JavaTimeModule());
     }
     
     @Override
     public void storeToken(UserId userId, String accessToken, LocalDateTime tokenExpiry) {
         try {
             LocalDateTime now = LocalDateTime.now();
-            String clientInfo = getCurrentClientInfo();
-            
-            // 간단한 토큰 정보 맵을 생성하여 JSON 직렬화 문제 방지
-            var tokenInfoMap = new java.util.HashMap<String, Object>();
-            tokenInfoMap.put("userId", userId.value());
-            tokenInfoMap.put("accessToken", accessToken);
-            tokenInfoMap.put("tokenExpiry", tokenExpiry.toString());
-            tokenInfoMap.put("issuedAt", now.toString());
-            tokenInfoMap.put("clientInfo", clientInfo);
-            
-            String tokenJson = objectMapper.writeValueAsString(tokenInfoMap);
-            
-            // 액세스 토큰 저장
-            RBucket<String> accessBucket = redissonClient.getBucket(ACCESS_TOKEN_KEY_PREFIX + accessToken);
             Duration accessTtl = Duration.between(now, tokenExpiry);
             
-            if (!accessTtl.isNegative() && !accessTtl.isZero()) {
-                accessBucket.set(tokenJson, accessTtl.toSeconds(), TimeUnit.SECONDS);
-                
-                // 사용자별 토큰 목록에 추가
-                String userTokensKey = USER_TOKENS_KEY_PREFIX + userId.value();
-                RBucket<String> userTokensBucket = redissonClient.getBucket(userTokensKey + ":" + accessToken);
-                userTokensBucket.set(tokenJson, accessTtl.toSeconds(), TimeUnit.SECONDS);
-            } else {
+            if (accessTtl.isNegative() || accessTtl.isZero()) {
                 logger.warn("Token TTL is invalid: {} seconds for user: {}", accessTtl.toSeconds(), userId.value());
+                return;
             }
             
+            String tokenId = TokenHashes.sha256(accessToken);
+            byte[] record = TokenRecordCodec.encode(userId, tokenExpiry, now, getCurrentClientInfo());
+            
+            // 토큰 저장, 색인 추가, 만료된 색인 정리를 한 번의 원자적 배치로 수행
+            RBatch batch = redissonClient.createBatch(atomic());
+            batch.<byte[]>getBucket(accessKey(tokenId), ByteArrayCodec.INSTANCE)
+                .setAsync(record, accessTtl.toMillis(), TimeUnit.MILLISECONDS);
+            
+            var userTokens = batch.<String>getScoredSortedSet(userTokensKey(userId.value()), StringCodec.INSTANCE);
+            userTokens.removeRangeByScoreAsync(Double.NEGATIVE_INFINITY, false, toScore(now), true);
+            userTokens.addAsync(toScore(tokenExpiry), tokenId);
+            // 토큰 유효기간이 동일하므로 가장 최근 토큰의 만료 시각이 색인의 만료 시각이 된다
+            userTokens.expireAsync(accessTtl);
+            batch.execute();
+            
             logger.debug("JWT token stored for user: {}", userId.value());
         } catch (Exception e) {
             logger.error("Failed to store JWT token for user: {}", userId.value(), e);
@@ -81,29 +95,9 @@ public class RedisTokenStore implements TokenStore {
     @Override
     public boolean isTokenActive(String accessToken) {
         try {
-            // 블랙리스트 확인
-            if (isTokenBlacklisted(accessToken)) {
-                return false;
-            }
-            
-            // 액세스 토큰 존재 확인
-            RBucket<String> bucket = redissonClient.getBucket(ACCESS_TOKEN_KEY_PREFIX + accessToken);
-            String tokenJson = bucket.get();
-            
-            if (tokenJson == null) {
-                return false;
-            }
-            
-            // HashMap으로 역직렬화하여 토큰 정보 확인
-            Map<String, Object> tokenInfoMap = objectMapper.readValue(tokenJson, java.util.Map.class);
-            
-            String tokenExpiryStr = (String) tokenInfoMap.get("tokenExpiry");
-            LocalDateTime tokenExpiry = LocalDateTime.parse(tokenExpiryStr);
-            
-            // 토큰 만료 확인
-            return LocalDateTime.now().isBefore(tokenExpiry);
+            return readActiveRecord(TokenHashes.sha256(accessToken)).isPresent();
         } catch (Exception e) {
-            logger.error("Failed to check token status: {}", accessToken.substring(0, 10) + "...", e);
+            logger.error("Failed to check token status", e);
             return false;
         }
     }
@@ -112,39 +106,32 @@ public class RedisTokenStore implements TokenStore {
     @Override
     public void invalidateAllTokensForUser(UserId userId) {
         try {
-            String pattern = USER_TOKENS_KEY_PREFIX + userId.value() + ":*";
-            RKeys keys = redissonClient.getKeys();
+            String userTokensKey = userTokensKey(userId.value());
+            RScoredSortedSet<String> userTokens = redissonClient.getScoredSortedSet(userTokensKey, StringCodec.INSTANCE);
             
-            Iterable<String> userTokenKeys = keys.getKeysByPattern(pattern);
-            List<String> keysToDelete = new ArrayList<>();
+            // 1회 왕복: 아직 만료되지 않은 사용자 토큰 목록
+            Collection<ScoredEntry<String>> entries = userTokens.entryRange(
+                toScore(LocalDateTime.now()), false, Double.POSITIVE_INFINITY, true
+            );
             
-            for (String userTokenKey : userTokenKeys) {
-                RBucket<String> bucket = redissonClient.getBucket(userTokenKey);
-                String tokenJson = bucket.get();
-                
-                if (tokenJson != null) {
-                    @SuppressWarnings("unchecked")
-                    Map<String, Object> tokenInfoMap = objectMapper.readValue(tokenJson, java.util.Map.class);
-                    
-                    String accessToken = (String) tokenInfoMap.get("accessToken");
-                    String tokenExpiryStr = (String) tokenInfoMap.get("tokenExpiry");
-                    LocalDateTime tokenExpiry = LocalDateTime.parse(tokenExpiryStr);
-                    
-                    // 토큰을 블랙리스트에 추가
-                    addToBlacklist(accessToken, tokenExpiry);
-                    
-                    // 토큰 저장소에서 제거할 키들 수집
-                    keysToDelete.add(ACCESS_TOKEN_KEY_PREFIX + accessToken);
-                    keysToDelete.add(userTokenKey);
-                }
+            if (entries.isEmpty()) {
+                return;
             }
             
-            // 일괄 삭제
-            if (!keysToDelete.isEmpty()) {
-                keys.delete(keysToDelete.toArray(new String[0]));
+            // 1회 왕복: 블랙리스트 등록, 토큰 삭제, 색인 제거를 원자적으로 수행
+            RBatch batch = redissonClient.createBatch(atomic());
+            List<String> tokenIds = new ArrayList<>(entries.size());
+            for (ScoredEntry<String> entry : entries) {
+                String tokenId = entry.getValue();
+                tokenIds.add(tokenId);
+                addToBlacklist(batch, tokenId, toLocalDateTime(entry.getScore()));
+                batch.getBucket(accessKey(tokenId)).deleteAsync();
             }
+            // 조회 이후 새로 발급된 토큰은 색인에 남도록 조회한 토큰만 제거한다
+            batch.<String>getScoredSortedSet(userTokensKey, StringCodec.INSTANCE).removeAllAsync(tokenIds);
+            batch.execute();
             
-            logger.info("All tokens invalidated for user: {}", userId.value());
+            logger.info("All tokens invalidated for user: {}, count: {}", userId.value(), tokenIds.size());
         } catch (Exception e) {
             logger.error("Failed to invalidate all tokens for user: {}", userId.value(), e);
             throw new TokenStoreException("사용자 토큰 무효화에 실패했습니다", e);
@@ -153,30 +140,25 @@ public class RedisTokenStore implements TokenStore {
     
     @Override
     public void invalidateToken(String accessToken) {
+        String tokenId = TokenHashes.sha256(accessToken);
         try {
-            RBucket<String> bucket = redissonClient.getBucket(ACCESS_TOKEN_KEY_PREFIX + accessToken);
-            String tokenJson = bucket.get();
+            RBucket<byte[]> bucket = redissonClient.getBucket(accessKey(tokenId), ByteArrayCodec.INSTANCE);
+            byte[] record = bucket.get();
             
-            if (tokenJson != null) {
-                @SuppressWarnings("unchecked")
-                Map<String, Object> tokenInfoMap = objectMapper.readValue(tokenJson, java.util.Map.class);
-                
-                String tokenExpiryStr = (String) tokenInfoMap.get("tokenExpiry");
-                LocalDateTime tokenExpiry = LocalDateTime.parse(tokenExpiryStr);
-                Long userId = Long.valueOf(tokenInfoMap.get("userId").toString());
+            if (record != null) {
+                LocalDateTime tokenExpiry = TokenRecordCodec.readTokenExpiry(record);
+                UserId userId = TokenRecordCodec.readUserId(record);
                 
-                addToBlacklist(accessToken, tokenExpiry);
-                
-                // 관련 키들 삭제
-                redissonClient.getKeys().delete(
-                    ACCESS_TOKEN_KEY_PREFIX + accessToken,
-                    USER_TOKENS_KEY_PREFIX + userId + ":" + accessToken
-                );
+                RBatch batch = redissonClient.createBatch(atomic());
+                addToBlacklist(batch, tokenId, tokenExpiry);
+                batch.getBucket(accessKey(tokenId)).deleteAsync();
+                batch.<String>getScoredSortedSet(userTokensKey(userId.value()), StringCodec.INSTANCE).removeAsync(tokenId);
+                batch.execute();
             }
             
-            logger.debug("Token invalidated: {}", accessToken.substring(0, 10) + "...");
+            logger.debug("Token invalidated: {}", abbreviate(tokenId));
         } catch (Exception e) {
-            logger.error("Failed to invalidate token: {}", accessToken.substring(0, 10) + "...", e);
+            logger.error("Failed to invalidate token: {}", abbreviate(tokenId), e);
             throw new TokenStoreException("토큰 무효화에 실패했습니다", e);
         }
     }
@@ -187,36 +169,31 @@ public class RedisTokenStore implements TokenStore {
         List<ActiveTokenInfo> activeTokens = new ArrayList<>();
         
         try {
-            String pattern = USER_TOKENS_KEY_PREFIX + userId.value() + ":*";
-            RKeys keys = redissonClient.getKeys();
+            RScoredSortedSet<String> userTokens = redissonClient.getScoredSortedSet(
+                userTokensKey(userId.value()), StringCodec.INSTANCE
+            );
+            Collection<String> tokenIds = userTokens.valueRange(
+                toScore(LocalDateTime.now()), false, Double.POSITIVE_INFINITY, true
+            );
+            
+            if (tokenIds.isEmpty()) {
+                return activeTokens;
+            }
             
-            Iterable<String> userTokenKeys = keys.getKeysByPattern(pattern);
+            // 토큰 정보를 한 번의 배치로 조회
+            RBatch batch = redissonClient.createBatch(BatchOptions.defaults());
+            List<String> requested = new ArrayList<>(tokenIds);
+            List<RFuture<byte[]>> futures = new ArrayList<>(requested.size());
+            for (String tokenId : requested) {
+                futures.add(batch.<byte[]>getBucket(accessKey(tokenId), ByteArrayCodec.INSTANCE).getAsync());
+            }
+            batch.execute();
             
-            for (String userTokenKey : userTokenKeys) {
-                RBucket<String> bucket = redissonClient.getBucket(userTokenKey);
-                String tokenJson = bucket.get();
+            for (int i = 0; i < requested.size(); i++) {
+                byte[] record = futures.get(i).getNow();
                 
-                if (tokenJson != null) {
-                    @SuppressWarnings("unchecked")
-                    Map<String, Object> tokenInfoMap = objectMapper.readValue(tokenJson, java.util.Map.class);
-                    
-                    Long userIdValue = Long.valueOf(tokenInfoMap.get("userId").toString());
-                    String accessToken = (String) tokenInfoMap.get("accessToken");
-                    String tokenExpiryStr = (String) tokenInfoMap.get("tokenExpiry");
-                    String issuedAtStr = (String) tokenInfoMap.get("issuedAt");
-                    String clientInfo = (String) tokenInfoMap.get("clientInfo");
-                    
-                    LocalDateTime tokenExpiry = LocalDateTime.parse(tokenExpiryStr);
-                    LocalDateTime issuedAt = LocalDateTime.parse(issuedAtStr);
-                    
-                    ActiveTokenInfo tokenInfo = new ActiveTokenInfo(
-                        UserId.from(userIdValue),
-                        accessToken,
-                        tokenExpiry,
-                        issuedAt,
-                        clientInfo
-                    );
-                    
+                if (record != null) {
+                    ActiveTokenInfo tokenInfo = TokenRecordCodec.decode(requested.get(i), record);
                     if (tokenInfo.isValid()) {
                         activeTokens.add(tokenInfo);
                     }
@@ -231,79 +208,95 @@ public class RedisTokenStore implements TokenStore {
     
     @Override
     public int cleanupExpiredTokens() {
-        // Redis의 TTL 기능으로 자동 정리되므로 블랙리스트만 정리
-        try {
-            String pattern = BLACKLIST_TOKEN_KEY_PREFIX + "*";
-            RKeys keys = redissonClient.getKeys();
-            
-            Iterable<String> blacklistKeys = keys.getKeysByPattern(pattern);
-            List<String> keysToDelete = new ArrayList<>();
-            
-            for (String key : blacklistKeys) {
-                RBucket<String> bucket = redissonClient.getBucket(key);
-                if (!bucket.isExists()) {
-                    keysToDelete.add(key);
-                }
-            }
-            
-            if (!keysToDelete.isEmpty()) {
-                keys.delete(keysToDelete.toArray(new String[0]));
-                logger.info("Cleaned up {} expired blacklist entries", keysToDelete.size());
-                return keysToDelete.size();
-            }
-            
-            return 0;
-        } catch (Exception e) {
-            logger.error("Failed to cleanup expired tokens", e);
-            return 0;
-        }
+        // 토큰과 블랙리스트는 TTL로 자동 삭제되고, 사용자 색인의 만료 항목은 토큰 저장 시 정리되며
+        // 색인 자체도 마지막 토큰의 만료 시각에 삭제되므로 키 공간을 순회하지 않는다
+        return 0;
     }
     
     @Override
     public Optional<UserId> getUserIdByToken(String accessToken) {
         try {
-            if (!isTokenActive(accessToken)) {
-                return Optional.empty();
-            }
-            
-            RBucket<String> bucket = redissonClient.getBucket(ACCESS_TOKEN_KEY_PREFIX + accessToken);
-            String tokenJson = bucket.get();
-            
-            if (tokenJson != null) {
-                @SuppressWarnings("unchecked")
-                Map<String, Object> tokenInfoMap = objectMapper.readValue(tokenJson, java.util.Map.class);
-                
-                Long userIdValue = Long.valueOf(tokenInfoMap.get("userId").toString());
-                return Optional.of(UserId.from(userIdValue));
-            }
-            
+            return findUserIdByToken(accessToken);
+        } catch (TokenStoreException e) {
+            logger.error("Failed to get user ID by token", e.getCause());
             return Optional.empty();
+        }
+    }
+    
+    /**
+     * 활성 토큰의 사용자 ID를 조회한다. 조회 실패를 토큰 없음과 구분하도록 예외를 그대로 던진다
+     * 
+     * @param accessToken 액세스 토큰
+     * @return 활성 토큰이면 사용자 ID, 없거나 비활성이면 empty
+     * @throws TokenStoreException Redis 조회에 실패한 경우
+     */
+    public Optional<UserId> findUserIdByToken(String accessToken) {
+        try {
+            return readActiveRecord(TokenHashes.sha256(accessToken)).map(TokenRecordCodec::readUserId);
         } catch (Exception e) {
-            logger.error("Failed to get user ID by token", e);
-            return Optional.empty();
+            throw new TokenStoreException("토큰 조회에 실패했습니다", e);
         }
     }
     
-    private boolean isTokenBlacklisted(String token) {
-        RBucket<String> blacklistBucket = redissonClient.getBucket(BLACKLIST_TOKEN_KEY_PREFIX + token);
-        return blacklistBucket.isExists();
+    /**
+     * 블랙리스트 확인과 토큰 조회를 한 번의 왕복으로 수행한다
+     */
+    private Optional<byte[]> readActiveRecord(String tokenId) {
+        RBatch batch = redissonClient.createBatch(BatchOptions.defaults());
+        RFuture<Boolean> blacklisted = batch.getBucket(blacklistKey(tokenId), StringCodec.INSTANCE).isExistsAsync();
+        RFuture<byte[]> token = batch.<byte[]>getBucket(accessKey(tokenId), ByteArrayCodec.INSTANCE).getAsync();
+        batch.execute();
+        
+        byte[] record = token.getNow();
+        if (Boolean.TRUE.equals(blacklisted.getNow()) || record == null) {
+            return Optional.empty();
+        }
+        
+        // 토큰 만료 확인 (만료 시각 필드만 읽는다)
+        return LocalDateTime.now().isBefore(TokenRecordCodec.readTokenExpiry(record))
+            ? Optional.of(record)
+            : Optional.empty();
     }
     
-    private void addToBlacklist(String token, LocalDateTime expiry) {
-        try {
-            RBucket<String> blacklistBucket = redissonClient.getBucket(BLACKLIST_TOKEN_KEY_PREFIX + token);
-            Duration ttl = Duration.between(LocalDateTime.now(), expiry);
-            
-            if (!ttl.isNegative() && !ttl.isZero()) {
-                blacklistBucket.set("blacklisted", ttl.toSeconds(), TimeUnit.SECONDS);
-            }
-        } catch (Exception e) {
-            logger.error("Failed to add token to blacklist", e);
+    private void addToBlacklist(RBatch batch, String tokenId, LocalDateTime expiry) {
+        Duration ttl = Duration.between(LocalDateTime.now(), expiry);
+        
+        if (!ttl.isNegative() && !ttl.isZero()) {
+            batch.<String>getBucket(blacklistKey(tokenId), StringCodec.INSTANCE)
+                .setAsync(BLACKLISTED, ttl.toMillis(), TimeUnit.MILLISECONDS);
         }
     }
     
+    private static BatchOptions atomic() {
+        return BatchOptions.defaults().executionMode(BatchOptions.ExecutionMode.IN_MEMORY_ATOMIC);
+    }
+    
+    private static String accessKey(String tokenId) {
+        return ACCESS_TOKEN_KEY_PREFIX + tokenId;
+    }
+    
+    private static String blacklistKey(String tokenId) {
+        return BLACKLIST_TOKEN_KEY_PREFIX + tokenId;
+    }
+    
+    private static String userTokensKey(Long userId) {
+        return USER_TOKENS_KEY_PREFIX + userId + USER_TOKENS_KEY_SUFFIX;
+    }
+    
+    private static double toScore(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+    
+    private static LocalDateTime toLocalDateTime(double score) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli((long) score), ZoneId.systemDefault());
+    }
+    
+    private static String abbreviate(String tokenId) {
+        return tokenId.length() > 10 ? tokenId.substring(0, 10) + "..." : tokenId;
+    }
+    
     private String getCurrentClientInfo() {
         // 실제 구현에서는 HttpServletRequest에서 IP, User-Agent 등을 추출
         return "unknown-client";
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,26 @@
+package com.puppytalk.auth;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 토큰 해시 유틸리티
+ * <p>
+ * 로컬 캐시 키와 노드 간 무효화 메시지에 원본 토큰 대신 SHA-256 해시를 사용한다.
+ */
+final class TokenHashes {
+
+    private TokenHashes() {
+    }
+
+    static String sha256(String accessToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(accessToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.puppytalk.auth;
+
+import com.puppytalk.user.UserId;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Redis 토큰 레코드 바이너리 코덱
+ * <p>
+ * 형식 (v1, big-endian)
+ * <pre>
+ * version(1) | userId(8) | tokenExpiry epoch ms(8) | issuedAt epoch ms(8) | clientInfo 길이(2) | clientInfo UTF-8
+ * </pre>
+ * 토큰 원문은 저장하지 않으며, 레코드는 토큰 해시를 키로 저장된다.
+ */
+public final class TokenRecordCodec {
+
+    static final byte VERSION_1 = 1;
+    private static final int FIXED_LENGTH = 1 + Long.BYTES * 3 + Short.BYTES;
+    private static final int MAX_CLIENT_INFO_BYTES = 255;
+
+    private TokenRecordCodec() {
+    }
+
+    /**
+     * 토큰 정보를 인코딩한다. clientInfo는 255바이트를 넘으면 잘린다.
+     */
+    public static byte[] encode(UserId userId, LocalDateTime tokenExpiry, LocalDateTime issuedAt, String clientInfo) {
+        byte[] client = truncate(clientInfo == null ? new byte[0] : clientInfo.getBytes(StandardCharsets.UTF_8));
+
+        return ByteBuffer.allocate(FIXED_LENGTH + client.length)
+            .put(VERSION_1)
+            .putLong(userId.value())
+            .putLong(toEpochMillis(tokenExpiry))
+            .putLong(toEpochMillis(issuedAt))
+            .putShort((short) client.length)
+            .put(client)
+            .array();
+    }
+
+    /**
+     * 레코드를 디코딩한다
+     *
+     * @param tokenId 레코드 키에 사용된 토큰 식별자 (토큰 해시)
+     * @throws IllegalArgumentException 지원하지 않는 버전이거나 레코드가 손상된 경우
+     */
+    public static ActiveTokenInfo decode(String tokenId, byte[] record) {
+        if (record == null || record.length < FIXED_LENGTH) {
+            throw new IllegalArgumentException("Token record is too short");
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(record);
+        byte version = buffer.get();
+        if (version != VERSION_1) {
+            throw new IllegalArgumentException("Unsupported token record version: " + version);
+        }
+
+        long userId = buffer.getLong();
+        LocalDateTime tokenExpiry = fromEpochMillis(buffer.getLong());
+        LocalDateTime issuedAt = fromEpochMillis(buffer.getLong());
+        int clientLength = Short.toUnsignedInt(buffer.getShort());
+        if (buffer.remaining() != clientLength) {
+            throw new IllegalArgumentException("Token record is corrupted");
+        }
+
+        byte[] client = new byte[clientLength];
+        buffer.get(client);
+        return new ActiveTokenInfo(
+            UserId.from(userId),
+            tokenId,
+            tokenExpiry,
+            issuedAt,
+            new String(client, StandardCharsets.UTF_8)
+        );
+    }
+
+    /**
+     * 토큰 만료 시각만 읽는다 (활성 여부 확인용, 전체 디코딩 없음)
+     */
+    public static LocalDateTime readTokenExpiry(byte[] record) {
+        if (record == null || record.length < FIXED_LENGTH || record[0] != VERSION_1) {
+            throw new IllegalArgumentException("Unsupported token record");
+        }
+        return fromEpochMillis(ByteBuffer.wrap(record).getLong(1 + Long.BYTES));
+    }
+
+    /**
+     * 사용자 ID만 읽는다
+     */
+    public static UserId readUserId(byte[] record) {
+        if (record == null || record.length < FIXED_LENGTH || record[0] != VERSION_1) {
+            throw new IllegalArgumentException("Unsupported token record");
+        }
+        return UserId.from(ByteBuffer.wrap(record).getLong(1));
+    }
+
+    private static byte[] truncate(byte[] client) {
+        if (client.length <= MAX_CLIENT_INFO_BYTES) {
+            return client;
+        }
+        // UTF-8 문자 경계에서 자른다
+        int end = MAX_CLIENT_INFO_BYTES;
+        while (end > 0 && (client[end] & 0xC0) == 0x80) {
+            end--;
+        }
+        byte[] truncated = new byte[end];
+        System.arraycopy(client, 0, truncated, 0, end);
+        return truncated;
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime fromEpochMillis(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
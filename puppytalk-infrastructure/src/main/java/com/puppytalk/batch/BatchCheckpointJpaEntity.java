@@ -0,0 +1,36 @@
+package com.puppytalk.batch;
+
+import com.puppytalk.infrastructure.common.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "batch_checkpoints")
+public class BatchCheckpointJpaEntity extends BaseEntity {
+
+    @Id
+    @Column(name = "job_name", length = 100)
+    private String jobName;
+
+    @Column(name = "last_processed_id", nullable = false)
+    private Long lastProcessedId;
+
+    protected BatchCheckpointJpaEntity() {
+        // JPA 전용 기본 생성자
+    }
+
+    public BatchCheckpointJpaEntity(String jobName, Long lastProcessedId) {
+        this.jobName = jobName;
+        this.lastProcessedId = lastProcessedId;
+    }
+
+    public void advanceTo(Long lastProcessedId) {
+        this.lastProcessedId = lastProcessedId;
+    }
+
+    @Override
+    public String getId() { return jobName; }
+    public Long getLastProcessedId() { return lastProcessedId; }
+}
@@ -0,0 +1,6 @@
+package com.puppytalk.batch;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface BatchCheckpointJpaRepository extends JpaRepository<BatchCheckpointJpaEntity, String> {
+}
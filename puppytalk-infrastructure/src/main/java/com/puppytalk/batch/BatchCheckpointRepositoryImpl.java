@@ -0,0 +1,47 @@
+package com.puppytalk.batch;
+
+import java.util.Optional;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.Assert;
+
+/**
+ * 배치 체크포인트 저장소 JPA 구현체
+ */
+@Repository
+public class BatchCheckpointRepositoryImpl implements BatchCheckpointRepository {
+
+    private final BatchCheckpointJpaRepository batchCheckpointJpaRepository;
+
+    public BatchCheckpointRepositoryImpl(BatchCheckpointJpaRepository batchCheckpointJpaRepository) {
+        if (batchCheckpointJpaRepository == null) {
+            throw new IllegalArgumentException("BatchCheckpointJpaRepository must not be null");
+        }
+        this.batchCheckpointJpaRepository = batchCheckpointJpaRepository;
+    }
+
+    @Override
+    public Optional<Long> findLastProcessedId(String jobName) {
+        Assert.hasText(jobName, "Job name must not be null or empty");
+
+        return batchCheckpointJpaRepository.findById(jobName)
+            .map(BatchCheckpointJpaEntity::getLastProcessedId);
+    }
+
+    @Override
+    public void save(String jobName, long lastProcessedId) {
+        Assert.hasText(jobName, "Job name must not be null or empty");
+
+        batchCheckpointJpaRepository.findById(jobName)
+            .ifPresentOrElse(
+                checkpoint -> checkpoint.advanceTo(lastProcessedId),
+                () -> batchCheckpointJpaRepository.save(new BatchCheckpointJpaEntity(jobName, lastProcessedId))
+            );
+    }
+
+    @Override
+    public void delete(String jobName) {
+        Assert.hasText(jobName, "Job name must not be null or empty");
+
+        batchCheckpointJpaRepository.deleteById(jobName);
+    }
+}
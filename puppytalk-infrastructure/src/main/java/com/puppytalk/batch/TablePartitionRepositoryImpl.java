@@ -0,0 +1,115 @@
+package com.puppytalk.batch;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.regex.Pattern;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.Assert;
+
+/**
+ * MySQL 월 단위 범위 파티션 관리 구현체
+ * <p>
+ * 테이블은 {@code PARTITION BY RANGE COLUMNS(created_at)}로 파티셔닝되어 있어야 한다
+ * ({@code docker/mysql/partitioning/monthly-partitions.sql}). 파티셔닝되지 않은 테이블은 빈 파티션 목록으로 조회된다.
+ * DDL은 암묵적으로 커밋되므로 트랜잭션 밖에서 호출한다.
+ */
+@Repository
+public class TablePartitionRepositoryImpl implements TablePartitionRepository {
+
+    private static final Pattern IDENTIFIER = Pattern.compile("[a-z][a-z0-9_]{0,63}");
+
+    private static final String FIND_PARTITIONS_SQL =
+        "SELECT PARTITION_NAME FROM information_schema.PARTITIONS " +
+        "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL " +
+        "ORDER BY PARTITION_ORDINAL_POSITION";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TablePartitionRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        if (jdbcTemplate == null) {
+            throw new IllegalArgumentException("JdbcTemplate must not be null");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<TablePartition> findPartitions(String table) {
+        validateIdentifier(table);
+
+        return jdbcTemplate.queryForList(FIND_PARTITIONS_SQL, String.class, table).stream()
+            .map(TablePartition::of)
+            .toList();
+    }
+
+    @Override
+    public void addMonthlyPartition(String table, YearMonth month) {
+        validateIdentifier(table);
+        Assert.notNull(month, "Month must not be null");
+
+        TablePartition partition = TablePartition.monthly(month);
+        String definition = "PARTITION " + partition.name() +
+            " VALUES LESS THAN ('" + month.plusMonths(1).atDay(1) + "')";
+        boolean hasCatchAll = findPartitions(table).stream().anyMatch(TablePartition::isCatchAll);
+
+        // pmax가 비어 있으면 분할은 메타데이터 변경만으로 끝난다 (미리 만들어 두는 이유)
+        if (hasCatchAll) {
+            jdbcTemplate.execute("ALTER TABLE " + table + " REORGANIZE PARTITION " + TablePartition.CATCH_ALL +
+                " INTO (" + definition + ", PARTITION " + TablePartition.CATCH_ALL + " VALUES LESS THAN (MAXVALUE))");
+        } else {
+            jdbcTemplate.execute("ALTER TABLE " + table + " ADD PARTITION (" + definition + ")");
+        }
+    }
+
+    @Override
+    public void dropPartition(String table, TablePartition partition) {
+        validateIdentifier(table);
+        validatePartition(partition);
+
+        jdbcTemplate.execute("ALTER TABLE " + table + " DROP PARTITION " + partition.name());
+    }
+
+    @Override
+    public String archivePartition(String table, TablePartition partition) {
+        validateIdentifier(table);
+        validatePartition(partition);
+
+        String archiveTable = table + "_archive_" + partition.name().substring(1);
+        Integer existing = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM information_schema.TABLES WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?",
+            Integer.class, archiveTable);
+
+        if (existing == null || existing == 0) {
+            jdbcTemplate.execute("CREATE TABLE " + archiveTable + " LIKE " + table);
+            jdbcTemplate.execute("ALTER TABLE " + archiveTable + " REMOVE PARTITIONING");
+        }
+
+        // 교환 후 삭제 전에 중단되었다면 파티션이 비어 있으므로 다시 교환하지 않고 삭제만 한다
+        if (hasRows(table + " PARTITION (" + partition.name() + ")")) {
+            if (hasRows(archiveTable)) {
+                throw new IllegalStateException("Archive table already holds rows: " + archiveTable);
+            }
+            jdbcTemplate.execute("ALTER TABLE " + table + " EXCHANGE PARTITION " + partition.name() +
+                " WITH TABLE " + archiveTable);
+        }
+        jdbcTemplate.execute("ALTER TABLE " + table + " DROP PARTITION " + partition.name());
+        return archiveTable;
+    }
+
+    private boolean hasRows(String tableReference) {
+        return !jdbcTemplate.queryForList("SELECT 1 FROM " + tableReference + " LIMIT 1", Integer.class).isEmpty();
+    }
+
+    private static void validatePartition(TablePartition partition) {
+        Assert.notNull(partition, "Partition must not be null");
+        if (!partition.isMonthly()) {
+            throw new IllegalArgumentException("Only monthly partitions can be removed: " + partition.name());
+        }
+    }
+
+    private static void validateIdentifier(String table) {
+        if (table == null || !IDENTIFIER.matcher(table).matches()) {
+            throw new IllegalArgumentException("Invalid table name: " + table);
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package com.puppytalk.chat;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +21,14 @@ public interface ChatRoomJpaRepository extends JpaRepository<ChatRoomJpaEntity,
     @Query("SELECT c FROM ChatRoomJpaEntity c WHERE c.userId = :userId ORDER BY c.lastMessageAt DESC")
     List<ChatRoomJpaEntity> findByUserIdOrderByLastMessageAtDesc(@Param("userId") Long userId);
     
+    /**
+     * 마지막 메시지 시각 직접 갱신 (엔티티 조회 없이, 낙관적 락 버전 증가)
+     */
+    @Modifying
+    @Query("UPDATE ChatRoomJpaEntity c SET c.lastMessageAt = :lastMessageAt, c.updatedAt = :lastMessageAt, "
+        + "c.version = c.version + 1 WHERE c.id = :id")
+    int updateLastMessageAt(@Param("id") Long id, @Param("lastMessageAt") LocalDateTime lastMessageAt);
+    
     /**
      * 반려동물의 채팅방 조회
      */
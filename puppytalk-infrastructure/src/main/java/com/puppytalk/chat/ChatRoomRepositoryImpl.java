@@ -3,6 +3,7 @@ package com.puppytalk.chat;
 import com.puppytalk.chat.exception.ChatRoomNotFoundException;
 import com.puppytalk.pet.PetId;
 import com.puppytalk.user.UserId;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.stereotype.Repository;
@@ -43,6 +44,15 @@ public class ChatRoomRepositoryImpl implements ChatRoomRepository {
         return savedEntity.toDomain();
     }
     
+    @Override
+    public boolean updateLastMessageAt(ChatRoomId id, LocalDateTime lastMessageAt) {
+        Assert.notNull(id, "ChatRoomId must not be null");
+        Assert.notNull(id.value(), "ChatRoom ID must be stored");
+        Assert.notNull(lastMessageAt, "LastMessageAt must not be null");
+        
+        return jpaRepository.updateLastMessageAt(id.value(), lastMessageAt) > 0;
+    }
+    
     @Override
     public Optional<ChatRoom> findById(ChatRoomId id) {
         Assert.notNull(id, "ChatRoomId must not be null");
@@ -6,6 +6,8 @@ import jakarta.persistence.*;
 /**
  * 메시지 JPA 엔티티
  * 성능 최적화를 위한 복합 인덱스 적용
+ * <p>
+ * created_at 월 파티셔닝과 호환되도록 유니크 제약을 두지 않는다 (파티션 키를 포함하지 않는 유니크 키 불가).
  */
 @Entity
 @Table(name = "messages",
@@ -57,6 +57,30 @@ public interface MessageJpaRepository extends JpaRepository<MessageJpaEntity, Lo
     List<MessageJpaEntity> findByChatRoomIdOrderByCreatedAtDesc(@Param("chatRoomId") Long chatRoomId, 
                                                                @Param("limit") int limit);
     
+    /**
+     * 채팅방의 최근 메시지 조회 (ID 역순, 최근 메시지 캐시 적재용)
+     */
+    @Query("SELECT m FROM MessageJpaEntity m WHERE m.chatRoomId = :chatRoomId ORDER BY m.id DESC LIMIT :limit")
+    List<MessageJpaEntity> findRecentByChatRoomIdOrderByIdDesc(@Param("chatRoomId") Long chatRoomId,
+                                                              @Param("limit") int limit);
+    
+    /**
+     * 생성 시각 하한 이후의 최근 메시지 조회 (ID 역순, 월 파티션 테이블에서 하한 이전 파티션을 읽지 않는다)
+     */
+    @Query("SELECT m FROM MessageJpaEntity m WHERE m.chatRoomId = :chatRoomId AND m.createdAt >= :since " +
+           "ORDER BY m.id DESC LIMIT :limit")
+    List<MessageJpaEntity> findRecentByChatRoomIdSince(@Param("chatRoomId") Long chatRoomId,
+                                                       @Param("since") java.time.LocalDateTime since,
+                                                       @Param("limit") int limit);
+    
+    /**
+     * 보관 대상 메시지 조회 (기본 키 키셋 페이징)
+     */
+    @Query("SELECT m FROM MessageJpaEntity m WHERE m.id > :afterId AND m.createdAt < :cutoff ORDER BY m.id ASC LIMIT :limit")
+    List<MessageJpaEntity> findArchivableAfter(@Param("cutoff") java.time.LocalDateTime cutoff,
+                                               @Param("afterId") Long afterId,
+                                               @Param("limit") int limit);
+    
     /**
      * 특정 시간 이후의 새로운 메시지 조회 (폴링용)
      */
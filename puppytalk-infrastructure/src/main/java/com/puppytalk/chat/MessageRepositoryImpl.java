@@ -1,18 +1,41 @@
 package com.puppytalk.chat;
 
 import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 
+/**
+ * 메시지 리포지토리 구현
+ * <p>
+ * 보관 기간이 지난 메시지는 {@link MessageSegmentArchive}로 옮겨지며, 커서 이후에 보관된 메시지가 있으면
+ * 보관 파일과 테이블을 함께 읽어 ID 순서로 병합한다. 최근 메시지 조회는 테이블에서 다 채우지 못하면
+ * 보관 파일의 최근 메시지로 나머지를 채운다. 폴링은 테이블만 사용한다.
+ */
 @Repository
 public class MessageRepositoryImpl implements MessageRepository {
 
     private final MessageJpaRepository jpaRepository;
-
-    public MessageRepositoryImpl(MessageJpaRepository jpaRepository) {
+    private final MessageTailCache messageTailCache;
+    private final MessageSegmentArchive messageArchive;
+
+    public MessageRepositoryImpl(
+        MessageJpaRepository jpaRepository,
+        MessageTailCache messageTailCache,
+        MessageSegmentArchive messageArchive
+    ) {
         this.jpaRepository = jpaRepository;
+        this.messageTailCache = messageTailCache;
+        this.messageArchive = messageArchive;
     }
 
     @Override
@@ -22,7 +45,9 @@ public class MessageRepositoryImpl implements MessageRepository {
         MessageJpaEntity entity = MessageJpaEntity.from(message);
         MessageJpaEntity savedEntity = jpaRepository.save(entity);
 
-        return savedEntity.toDomain();
+        Message savedMessage = savedEntity.toDomain();
+        messageTailCache.append(savedMessage);
+        return savedMessage;
     }
 
     @Override
@@ -37,6 +62,7 @@ public class MessageRepositoryImpl implements MessageRepository {
         entity.update(message);
         MessageJpaEntity savedEntity = jpaRepository.save(entity);
 
+        messageTailCache.evict(savedEntity.getChatRoomId());
         return savedEntity.toDomain();
     }
 
@@ -56,10 +82,22 @@ public class MessageRepositoryImpl implements MessageRepository {
     public List<Message> findByChatRoomIdWithCursor(ChatRoomId chatRoomId) {
         Assert.notNull(chatRoomId, "ChatRoomId must not be null");
 
-        return jpaRepository.findByChatRoomIdOrderByCreatedAtAsc(chatRoomId.value())
+        List<Message> stored = jpaRepository.findByChatRoomIdOrderByCreatedAtAsc(chatRoomId.value())
             .stream()
             .map(MessageJpaEntity::toDomain)
             .toList();
+        if (!messageArchive.hasArchivedAfter(chatRoomId.value(), null)) {
+            return stored;
+        }
+
+        Map<Long, Message> merged = new HashMap<>();
+        messageArchive.findAfter(chatRoomId.value(), null, Integer.MAX_VALUE)
+            .forEach(message -> merged.put(message.getId().value(), message));
+        stored.forEach(message -> merged.put(message.getId().value(), message));
+        return merged.values().stream()
+            .sorted(Comparator.comparing(Message::getCreatedAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparing(message -> message.getId().value()))
+            .toList();
     }
 
     @Override
@@ -70,10 +108,17 @@ public class MessageRepositoryImpl implements MessageRepository {
 
         Long cursor = (messageId != null && messageId.value() != null) ? messageId.value() : null;
 
-        return jpaRepository.findByChatRoomIdWithCursor(chatRoomId.value(), cursor, size)
-            .stream()
-            .map(MessageJpaEntity::toDomain)
-            .toList();
+        // 커서 이후에 보관된 메시지가 있으면 보관 파일과 테이블을 병합한다
+        if (messageArchive.hasArchivedAfter(chatRoomId.value(), cursor)) {
+            return findWithArchive(chatRoomId, cursor, size);
+        }
+
+        // 최근 메시지 버퍼가 커서 이후를 모두 포함하면 DB를 조회하지 않는다
+        return messageTailCache.findAfter(chatRoomId.value(), cursor, size, limit -> loadRecent(chatRoomId, limit))
+            .orElseGet(() -> jpaRepository.findByChatRoomIdWithCursor(chatRoomId.value(), cursor, size)
+                .stream()
+                .map(MessageJpaEntity::toDomain)
+                .toList());
     }
 
     @Override
@@ -85,10 +130,8 @@ public class MessageRepositoryImpl implements MessageRepository {
             throw new IllegalArgumentException("채팅방 ID 값은 필수입니다");
         }
 
-        return jpaRepository.findByChatRoomIdOrderByCreatedAtDesc(chatRoomId.value(), limit)
-            .stream()
-            .map(MessageJpaEntity::toDomain)
-            .toList();
+        return messageTailCache.findRecent(chatRoomId.value(), limit, size -> loadRecent(chatRoomId, size))
+            .orElseGet(() -> loadRecent(chatRoomId, limit));
     }
 
     @Override
@@ -107,4 +150,83 @@ public class MessageRepositoryImpl implements MessageRepository {
             .toList();
 
     }
-}
\ No newline at end of file
+
+    @Override
+    @Transactional
+    public MessageArchiveChunk archiveChunk(LocalDateTime cutoff, Long afterMessageId, int limit) {
+        Assert.notNull(cutoff, "Cutoff must not be null");
+        Assert.isTrue(limit > 0, "Limit must be positive");
+
+        List<MessageJpaEntity> entities = jpaRepository.findArchivableAfter(
+            cutoff, afterMessageId != null ? afterMessageId : 0L, limit);
+        if (entities.isEmpty()) {
+            return new MessageArchiveChunk(0, 0, afterMessageId, true);
+        }
+
+        List<Message> messages = entities.stream().map(MessageJpaEntity::toDomain).toList();
+        // 보관 파일 동기화 이후에 삭제하므로, 삭제가 롤백되어도 메시지는 양쪽에 남을 뿐 유실되지 않는다
+        Set<Long> archivedIds = messageArchive.append(messages);
+
+        List<Message> archived = messages.stream()
+            .filter(message -> archivedIds.contains(message.getId().value()))
+            .toList();
+        if (!archived.isEmpty()) {
+            jpaRepository.deleteAllByIdInBatch(archived.stream().map(message -> message.getId().value()).toList());
+        }
+
+        Set<Long> chatRoomIds = new LinkedHashSet<>();
+        archived.forEach(message -> chatRoomIds.add(message.getChatRoomId().value()));
+        chatRoomIds.forEach(messageTailCache::evict);
+
+        Long lastMessageId = messages.get(messages.size() - 1).getId().value();
+        return new MessageArchiveChunk(entities.size(), archived.size(), lastMessageId, entities.size() < limit);
+    }
+
+    /**
+     * 보관 대상은 생성 시각으로 정해져 ID 순서와 다를 수 있으므로, 보관 파일과 테이블을 같은 커서로 읽어 ID 순서로 병합한다.
+     * 삭제가 롤백되어 양쪽에 있는 메시지는 테이블 행을 사용한다.
+     */
+    private List<Message> findWithArchive(ChatRoomId chatRoomId, Long cursor, int size) {
+        TreeMap<Long, Message> merged = new TreeMap<>();
+        messageArchive.findAfter(chatRoomId.value(), cursor, size)
+            .forEach(message -> merged.put(message.getId().value(), message));
+        jpaRepository.findByChatRoomIdWithCursor(chatRoomId.value(), cursor, size)
+            .stream()
+            .map(MessageJpaEntity::toDomain)
+            .forEach(message -> merged.put(message.getId().value(), message));
+
+        return merged.values().stream().limit(size).toList();
+    }
+
+    private List<Message> loadRecent(ChatRoomId chatRoomId, int limit) {
+        // 현재 월과 직전 월 파티션만 먼저 읽고, 그 구간에서 다 채우지 못한 조용한 채팅방만 전체 파티션을 읽는다
+        // (하한 부근에서는 ID 순서가 서버 간 시계 오차만큼 생성 시각 순서와 어긋날 수 있다)
+        LocalDateTime since = YearMonth.now().minusMonths(1).atDay(1).atStartOfDay();
+        List<MessageJpaEntity> recent = jpaRepository.findRecentByChatRoomIdSince(chatRoomId.value(), since, limit);
+        if (recent.size() < limit) {
+            recent = jpaRepository.findRecentByChatRoomIdOrderByIdDesc(chatRoomId.value(), limit);
+        }
+        List<Message> stored = recent.stream()
+            .map(MessageJpaEntity::toDomain)
+            .toList();
+
+        // 오래 조용했던 채팅방은 메시지가 보관 파일로 옮겨졌을 수 있으므로 나머지를 보관 파일에서 채운다
+        // (최근 메시지 캐시는 이 결과로 적재되므로 테이블 행만으로 채팅방 전체를 가진 것으로 보지 않는다)
+        if (stored.size() < limit && messageArchive.lastArchivedId(chatRoomId.value()) != null) {
+            return withArchived(chatRoomId, stored, limit);
+        }
+        return stored;
+    }
+
+    /**
+     * 테이블과 보관 파일의 최근 메시지를 ID 내림차순으로 병합한다 (양쪽에 있는 메시지는 테이블 행을 사용)
+     */
+    private List<Message> withArchived(ChatRoomId chatRoomId, List<Message> stored, int limit) {
+        TreeMap<Long, Message> merged = new TreeMap<>();
+        messageArchive.findRecent(chatRoomId.value(), limit)
+            .forEach(message -> merged.put(message.getId().value(), message));
+        stored.forEach(message -> merged.put(message.getId().value(), message));
+
+        return merged.descendingMap().values().stream().limit(limit).toList();
+    }
+}
@@ -0,0 +1,478 @@
+package com.puppytalk.chat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 오래된 채팅 메시지 보관 파일 (압축 세그먼트)
+ * <p>
+ * 보관된 메시지를 추가 전용 세그먼트 파일({@code segment-NNNNNN.seg})에 채팅방별 블록으로 기록한다.
+ * <ul>
+ *   <li>블록은 한 채팅방의 연속된 메시지를 Deflate로 압축하고, 헤더에 채팅방 ID, 메시지 ID 범위, CRC를 담는다</li>
+ *   <li>세그먼트는 메모리 매핑하여 읽으며, 채팅방별 블록 색인(ID 범위)은 블록 헤더만 읽어 메모리에 구성한다</li>
+ *   <li>기록은 잠금 파일로 직렬화되므로 여러 노드가 같은 디렉터리(공유 볼륨)를 사용할 수 있고,
+ *       다른 노드가 기록한 블록은 {@code refreshInterval}마다 색인에 반영된다</li>
+ *   <li>기록 도중 끊긴 블록은 색인에서 제외되고 다음 기록 시 잘라낸다</li>
+ * </ul>
+ * 보관 대상은 생성 시각으로 정해지므로 ID 순서와 보관 순서가 다를 수 있다. 블록의 ID 범위는 서로 겹칠 수 있으며,
+ * 조회는 겹치는 블록을 ID 순서로 병합하고 기록은 이미 보관 파일에 있는 메시지(ID 기준)만 건너뛴다.
+ */
+@Component
+public class MessageSegmentArchive {
+
+    static final int BLOCK_MAGIC = 0x4D534731; // "MSG1"
+    static final int HEADER_BYTES = 40;
+
+    private static final Logger log = LoggerFactory.getLogger(MessageSegmentArchive.class);
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String LOCK_FILE = "archive.lock";
+    private static final long MAX_SEGMENT_BYTES = 1L << 30;
+    private static final long NO_TIME = Long.MIN_VALUE;
+
+    private final Path directory;
+    private final long segmentMaxBytes;
+    private final long refreshIntervalNanos;
+    private final Map<Long, List<BlockRef>> blocksByRoom = new ConcurrentHashMap<>();
+    private final NavigableMap<Integer, Segment> segments = new ConcurrentSkipListMap<>();
+    private final Object indexLock = new Object();
+    private final Object writeLock = new Object();
+    private volatile long lastRefreshedAt;
+
+    @Autowired
+    public MessageSegmentArchive(
+        @Value("${chat.archive.directory:./data/message-archive}") String directory,
+        @Value("${chat.archive.segment-max-mb:64}") long segmentMaxMegabytes,
+        @Value("${chat.archive.refresh-interval-ms:5000}") long refreshIntervalMillis
+    ) {
+        this(Path.of(directory), segmentMaxMegabytes * 1024 * 1024, Duration.ofMillis(refreshIntervalMillis));
+    }
+
+    public MessageSegmentArchive(Path directory, long segmentMaxBytes, Duration refreshInterval) {
+        if (directory == null || refreshInterval == null || refreshInterval.isNegative()) {
+            throw new IllegalArgumentException("directory and refreshInterval must be valid");
+        }
+        if (segmentMaxBytes <= HEADER_BYTES || segmentMaxBytes > MAX_SEGMENT_BYTES) {
+            throw new IllegalArgumentException("segmentMaxBytes must be between " + HEADER_BYTES + " and " + MAX_SEGMENT_BYTES);
+        }
+
+        this.directory = directory;
+        this.segmentMaxBytes = segmentMaxBytes;
+        this.refreshIntervalNanos = refreshInterval.toNanos();
+        this.lastRefreshedAt = System.nanoTime() - refreshIntervalNanos;
+    }
+
+    /**
+     * 채팅방에 커서 이후의 보관된 메시지가 있는지 확인한다
+     *
+     * @param chatRoomId 채팅방 ID
+     * @param cursor 커서 (null이면 처음부터)
+     */
+    public boolean hasArchivedAfter(Long chatRoomId, Long cursor) {
+        refreshIfStale();
+        return blocksByRoom.getOrDefault(chatRoomId, List.of()).stream()
+            .anyMatch(block -> cursor == null || block.maxId() > cursor);
+    }
+
+    /**
+     * 채팅방에서 보관된 가장 큰 메시지 ID
+     *
+     * @return 보관된 메시지가 없으면 null
+     */
+    public Long lastArchivedId(Long chatRoomId) {
+        refreshIfStale();
+        return blocksByRoom.getOrDefault(chatRoomId, List.of()).stream()
+            .map(BlockRef::maxId)
+            .max(Long::compare)
+            .orElse(null);
+    }
+
+    /**
+     * 커서 이후의 보관된 메시지를 ID 오름차순으로 조회한다
+     *
+     * @param chatRoomId 채팅방 ID
+     * @param cursor 커서 (null이면 처음부터)
+     * @param size 최대 개수
+     */
+    public List<Message> findAfter(Long chatRoomId, Long cursor, int size) {
+        refreshIfStale();
+        List<BlockRef> blocks = blocksByRoom.getOrDefault(chatRoomId, List.of()).stream()
+            .filter(block -> cursor == null || block.maxId() > cursor)
+            .sorted(Comparator.comparingLong(BlockRef::minId))
+            .toList();
+
+        // 최소 ID 순으로 읽으며 앞선 size개만 유지하고, 다음 블록이 그보다 뒤에서 시작하면 멈춘다
+        TreeMap<Long, Message> merged = new TreeMap<>();
+        for (BlockRef block : blocks) {
+            if (merged.size() >= size && block.minId() > merged.lastKey()) {
+                break;
+            }
+            for (Message message : readBlock(chatRoomId, block)) {
+                long id = message.getId().value();
+                if (cursor == null || id > cursor) {
+                    merged.putIfAbsent(id, message);
+                }
+            }
+            while (merged.size() > size) {
+                merged.pollLastEntry();
+            }
+        }
+        return new ArrayList<>(merged.values());
+    }
+
+    /**
+     * 채팅방의 가장 최근에 보관된 메시지를 ID 내림차순으로 조회한다
+     *
+     * @param chatRoomId 채팅방 ID
+     * @param limit 최대 개수
+     */
+    public List<Message> findRecent(Long chatRoomId, int limit) {
+        refreshIfStale();
+        List<BlockRef> blocks = blocksByRoom.getOrDefault(chatRoomId, List.of()).stream()
+            .sorted(Comparator.comparingLong(BlockRef::maxId).reversed())
+            .toList();
+
+        // 최대 ID 역순으로 읽으며 뒤쪽 limit개만 유지하고, 다음 블록이 그보다 앞에서 끝나면 멈춘다
+        TreeMap<Long, Message> merged = new TreeMap<>();
+        for (BlockRef block : blocks) {
+            if (merged.size() >= limit && block.maxId() < merged.firstKey()) {
+                break;
+            }
+            for (Message message : readBlock(chatRoomId, block)) {
+                merged.putIfAbsent(message.getId().value(), message);
+            }
+            while (merged.size() > limit) {
+                merged.pollFirstEntry();
+            }
+        }
+        return new ArrayList<>(merged.descendingMap().values());
+    }
+
+    /**
+     * 보관 파일에 없는 메시지를 채팅방별 블록으로 기록하고 디스크에 동기화한다
+     *
+     * @param messages 보관할 메시지
+     * @return 주어진 메시지 중 기록 후 보관 파일에 들어 있는 것이 확인된 메시지 ID (이전에 기록된 메시지 포함)
+     */
+    public Set<Long> append(List<Message> messages) {
+        if (messages.isEmpty()) {
+            return Set.of();
+        }
+
+        Map<Long, Map<Long, Message>> candidates = new LinkedHashMap<>();
+        for (Message message : messages) {
+            candidates.computeIfAbsent(message.getChatRoomId().value(), id -> new TreeMap<>())
+                .putIfAbsent(message.getId().value(), message);
+        }
+
+        synchronized (writeLock) {
+            try {
+                Files.createDirectories(directory);
+                try (FileChannel lockChannel = FileChannel.open(directory.resolve(LOCK_FILE),
+                        StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                     FileLock ignored = lockChannel.lock()) {
+                    refresh(); // 다른 노드가 기록한 블록까지 반영한 뒤 중복을 거른다
+
+                    Map<Long, List<Message>> pending = new LinkedHashMap<>();
+                    candidates.forEach((chatRoomId, byId) -> {
+                        Set<Long> archivedIds = archivedIdsIn(chatRoomId, byId.keySet());
+                        byId.forEach((id, message) -> {
+                            if (!archivedIds.contains(id)) {
+                                pending.computeIfAbsent(chatRoomId, key -> new ArrayList<>()).add(message);
+                            }
+                        });
+                    });
+                    if (!pending.isEmpty()) {
+                        writeBlocks(pending);
+                        refresh();
+                    }
+
+                    // 기록한 블록을 다시 읽어 (CRC 검증 포함) 실제로 들어 있는 메시지만 돌려준다
+                    Set<Long> archived = new HashSet<>();
+                    candidates.forEach((chatRoomId, byId) -> archived.addAll(archivedIdsIn(chatRoomId, byId.keySet())));
+                    return archived;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to append to message archive: " + directory, e);
+            }
+        }
+    }
+
+    /**
+     * 주어진 ID 중 채팅방 블록에 들어 있는 ID (ID 범위가 겹치는 블록만 읽는다)
+     */
+    private Set<Long> archivedIdsIn(Long chatRoomId, Set<Long> ids) {
+        long minId = Collections.min(ids);
+        long maxId = Collections.max(ids);
+        Set<Long> found = new HashSet<>();
+        for (BlockRef block : blocksByRoom.getOrDefault(chatRoomId, List.of())) {
+            if (block.maxId() < minId || block.minId() > maxId) {
+                continue;
+            }
+            for (Message message : readBlock(chatRoomId, block)) {
+                if (ids.contains(message.getId().value())) {
+                    found.add(message.getId().value());
+                }
+            }
+        }
+        return found;
+    }
+
+    private void writeBlocks(Map<Long, List<Message>> pending) throws IOException {
+        Segment segment = activeSegment();
+        FileChannel channel = FileChannel.open(segment.path, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        try {
+            // 기록 도중 끊긴 블록 제거 (잠금을 잡은 기록자만 수행)
+            if (channel.size() > segment.indexedBytes) {
+                log.warn("Truncating incomplete archive block: segment={}, from={}, to={}",
+                    segment.path.getFileName(), channel.size(), segment.indexedBytes);
+                channel.truncate(segment.indexedBytes);
+            }
+
+            for (Map.Entry<Long, List<Message>> entry : pending.entrySet()) {
+                ByteBuffer block = ByteBuffer.wrap(encodeBlock(entry.getKey(), entry.getValue()));
+                if (channel.size() > 0 && channel.size() + block.remaining() > segmentMaxBytes) {
+                    channel.force(false);
+                    channel.close();
+                    segment = segments.computeIfAbsent(segment.number + 1, this::newSegment);
+                    channel = FileChannel.open(segment.path, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                }
+
+                long position = channel.size();
+                while (block.hasRemaining()) {
+                    position += channel.write(block, position);
+                }
+            }
+            channel.force(false);
+        } finally {
+            channel.close();
+        }
+    }
+
+    private Segment activeSegment() {
+        Map.Entry<Integer, Segment> last = segments.lastEntry();
+        return last != null ? last.getValue() : segments.computeIfAbsent(1, this::newSegment);
+    }
+
+    private Segment newSegment(int number) {
+        return new Segment(number, directory.resolve(String.format("%s%06d%s", SEGMENT_PREFIX, number, SEGMENT_SUFFIX)));
+    }
+
+    private void refreshIfStale() {
+        if (System.nanoTime() - lastRefreshedAt < refreshIntervalNanos) {
+            return;
+        }
+        try {
+            refresh();
+        } catch (IOException e) {
+            log.warn("Failed to refresh message archive index: directory={}, error={}", directory, e.getMessage());
+        }
+    }
+
+    /**
+     * 새 세그먼트와 기존 세그먼트에 추가된 블록을 색인에 반영한다 (세그먼트 번호 순서)
+     */
+    private void refresh() throws IOException {
+        synchronized (indexLock) {
+            lastRefreshedAt = System.nanoTime();
+            if (!Files.isDirectory(directory)) {
+                return;
+            }
+
+            List<Path> files;
+            try (Stream<Path> stream = Files.list(directory)) {
+                files = stream
+                    .filter(path -> path.getFileName().toString().startsWith(SEGMENT_PREFIX))
+                    .filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted()
+                    .toList();
+            }
+
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                int number = Integer.parseInt(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+                Segment segment = segments.computeIfAbsent(number, this::newSegment);
+                if (Files.size(file) > segment.indexedBytes) {
+                    scan(segment);
+                }
+            }
+        }
+    }
+
+    private void scan(Segment segment) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment.path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = segment.indexedBytes;
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+
+            while (position + HEADER_BYTES <= size) {
+                header.clear();
+                while (header.hasRemaining()) {
+                    if (channel.read(header, position + header.position()) < 0) {
+                        break;
+                    }
+                }
+                header.flip();
+                if (header.remaining() < HEADER_BYTES || header.getInt() != BLOCK_MAGIC) {
+                    break;
+                }
+
+                long chatRoomId = header.getLong();
+                long minId = header.getLong();
+                long maxId = header.getLong();
+                int count = header.getInt();
+                int length = header.getInt();
+                int crc = header.getInt();
+                if (length < 0 || position + HEADER_BYTES + length > size) {
+                    break; // 기록 중이거나 끊긴 블록
+                }
+
+                blocksByRoom.computeIfAbsent(chatRoomId, id -> new CopyOnWriteArrayList<>())
+                    .add(new BlockRef(segment, position, length, crc, minId, maxId, count));
+                position += HEADER_BYTES + length;
+            }
+            segment.indexedBytes = position;
+        }
+    }
+
+    private List<Message> readBlock(Long chatRoomId, BlockRef block) {
+        byte[] compressed = new byte[block.length()];
+        ByteBuffer view = block.segment().view().duplicate();
+        view.position(Math.toIntExact(block.offset() + HEADER_BYTES));
+        view.get(compressed);
+
+        CRC32 crc = new CRC32();
+        crc.update(compressed);
+        if ((int) crc.getValue() != block.crc()) {
+            throw new IllegalStateException("Corrupted message archive block: segment=" +
+                block.segment().path.getFileName() + ", offset=" + block.offset());
+        }
+
+        List<Message> messages = new ArrayList<>(block.count());
+        try (DataInputStream in = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(compressed)))) {
+            for (int i = 0; i < block.count(); i++) {
+                long id = in.readLong();
+                MessageType type = MessageType.valueOf(in.readUTF());
+                LocalDateTime createdAt = readTime(in);
+                LocalDateTime updatedAt = readTime(in);
+                String content = in.readUTF();
+                messages.add(Message.of(MessageId.from(id), ChatRoomId.from(chatRoomId), null,
+                    content, type, createdAt, updatedAt));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read message archive block", e);
+        }
+        return messages;
+    }
+
+    private static byte[] encodeBlock(Long chatRoomId, List<Message> messages) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(compressed))) {
+            for (Message message : messages) {
+                out.writeLong(message.getId().value());
+                out.writeUTF(message.getType().name());
+                writeTime(out, message.getCreatedAt());
+                writeTime(out, message.getUpdatedAt());
+                out.writeUTF(message.getContent());
+            }
+        }
+        byte[] payload = compressed.toByteArray();
+
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return ByteBuffer.allocate(HEADER_BYTES + payload.length)
+            .putInt(BLOCK_MAGIC)
+            .putLong(chatRoomId)
+            .putLong(messages.get(0).getId().value())
+            .putLong(messages.get(messages.size() - 1).getId().value())
+            .putInt(messages.size())
+            .putInt(payload.length)
+            .putInt((int) crc.getValue())
+            .put(payload)
+            .array();
+    }
+
+    private static void writeTime(DataOutputStream out, LocalDateTime time) throws IOException {
+        if (time == null) {
+            out.writeLong(NO_TIME);
+            return;
+        }
+        out.writeLong(time.toEpochSecond(ZoneOffset.UTC));
+        out.writeInt(time.getNano());
+    }
+
+    private static LocalDateTime readTime(DataInputStream in) throws IOException {
+        long epochSecond = in.readLong();
+        if (epochSecond == NO_TIME) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(epochSecond, in.readInt(), ZoneOffset.UTC);
+    }
+
+    private record BlockRef(Segment segment, long offset, int length, int crc, long minId, long maxId, int count) {
+    }
+
+    private static final class Segment {
+
+        private final int number;
+        private final Path path;
+        private volatile long indexedBytes;
+        private MappedByteBuffer buffer;
+
+        private Segment(int number, Path path) {
+            this.number = number;
+            this.path = path;
+        }
+
+        /**
+         * 색인된 범위까지 매핑한 읽기 전용 버퍼 (추가된 블록이 있으면 다시 매핑)
+         */
+        private synchronized MappedByteBuffer view() {
+            if (buffer == null || buffer.capacity() < indexedBytes) {
+                try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                    buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, indexedBytes);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Failed to map message archive segment: " + path, e);
+                }
+            }
+            return buffer;
+        }
+    }
+}
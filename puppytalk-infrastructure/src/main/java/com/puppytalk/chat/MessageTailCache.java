@@ -0,0 +1,395 @@
+package com.puppytalk.chat;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 채팅방별 최근 메시지 캐시
+ * <p>
+ * 채팅방마다 최근 {@code messagesPerRoom}개의 메시지를 링 버퍼로 보관한다.
+ * <ul>
+ *   <li>채팅방 수({@code maxRooms})와 적재 후 유지 시간({@code ttl})으로 제거된다 (조회나 추가로 연장되지 않음)</li>
+ *   <li>새 메시지는 트랜잭션 커밋 이후에 추가되어 롤백된 메시지가 보이지 않는다 (커밋 순서가 ID 순서와 달라도 ID 순서로 정렬)</li>
+ *   <li>채팅방 전체 메시지가 버퍼에 들어 있으면(complete) 첫 페이지 조회도 캐시에서 처리한다</li>
+ * </ul>
+ * 메시지 추가와 제거는 커밋 이후 Redis pub/sub 토픽으로 다른 노드에 전파되어 해당 채팅방을 제거하게 하며,
+ * 메시지가 유실되더라도 {@code ttl} 이내에 DB 상태로 수렴한다.
+ * 적재는 채팅방 단위로 원자적으로 수행되어, 적재 중 커밋된 메시지는 적재가 끝난 뒤 추가된다.
+ * 적재는 트랜잭션 밖에서만 수행한다. 쓰기 트랜잭션은 커밋되지 않은 메시지를 캐시에 남길 수 있고,
+ * 읽기 전용 트랜잭션도 스냅샷 이후 커밋된 메시지가 빠진 채로 적재될 수 있기 때문이다.
+ * 적재 조회는 각자의 짧은 트랜잭션으로 실행되므로 적재 시점의 커밋까지 모두 포함한다.
+ */
+@Component
+public class MessageTailCache implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(MessageTailCache.class);
+
+    static final String INVALIDATION_TOPIC = "chat:tail-cache:invalidation";
+    private static final String SEPARATOR = "|";
+
+    private final int messagesPerRoom;
+    private final Cache<Long, RoomTail> cache;
+    private final Consumer<String> publisher;
+    private volatile Runnable unsubscribe = () -> { };
+    private final String nodeId = UUID.randomUUID().toString();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    @Autowired
+    public MessageTailCache(
+        RedissonClient redissonClient,
+        @Value("${chat.tail-cache.messages-per-room:50}") int messagesPerRoom,
+        @Value("${chat.tail-cache.max-rooms:10000}") long maxRooms,
+        @Value("${chat.tail-cache.ttl-seconds:60}") long ttlSeconds
+    ) {
+        this(
+            messagesPerRoom,
+            maxRooms,
+            Duration.ofSeconds(ttlSeconds),
+            redissonClient.getTopic(INVALIDATION_TOPIC, StringCodec.INSTANCE)::publish
+        );
+
+        RTopic topic = redissonClient.getTopic(INVALIDATION_TOPIC, StringCodec.INSTANCE);
+        int listenerId = topic.addListener(String.class, (channel, message) -> onInvalidationMessage(message));
+        this.unsubscribe = () -> topic.removeListener(listenerId);
+    }
+
+    /**
+     * 단일 노드 구성용 생성자 (변경을 다른 노드에 전파하지 않음)
+     */
+    public MessageTailCache(int messagesPerRoom, long maxRooms, Duration ttl) {
+        this(messagesPerRoom, maxRooms, ttl, message -> { });
+    }
+
+    /**
+     * 토픽 대신 임의의 전달 수단을 사용하는 생성자 (테스트용)
+     * <p>
+     * 수신 측은 {@link #onInvalidationMessage(String)}로 메시지를 전달해야 한다.
+     */
+    public MessageTailCache(int messagesPerRoom, long maxRooms, Duration ttl, Consumer<String> publisher) {
+        if (messagesPerRoom <= 0 || maxRooms <= 0 || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("messagesPerRoom, maxRooms and ttl must be positive");
+        }
+
+        this.messagesPerRoom = messagesPerRoom;
+        this.publisher = publisher;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxRooms)
+            .expireAfter(new LoadedAtExpiry(ttl))
+            .build();
+    }
+
+    /**
+     * 최근 메시지 조회 (최신순)
+     *
+     * @param loader 캐시에 없을 때 최신순으로 limit개를 조회하는 함수
+     * @return 최근 메시지, limit이 버퍼 크기를 넘으면 empty (호출자가 DB에서 조회)
+     *         트랜잭션 안에서 캐시에 없으면 적재하지 않고 loader 결과를 그대로 반환
+     */
+    public Optional<List<Message>> findRecent(Long chatRoomId, int limit, IntFunction<List<Message>> loader) {
+        if (limit > messagesPerRoom) {
+            misses.increment();
+            return Optional.empty();
+        }
+
+        RoomTail tail = cache.getIfPresent(chatRoomId);
+        if (tail != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+            if (inTransaction()) {
+                return Optional.of(loader.apply(limit));
+            }
+            tail = load(chatRoomId, loader);
+        }
+        return Optional.of(tail.newest(limit));
+    }
+
+    /**
+     * 커서 이후 메시지 조회 (오래된 순)
+     * <p>
+     * 캐시된 채팅방의 버퍼가 커서 이후의 메시지를 모두 포함하는 경우에만 결과를 반환한다.
+     * 첫 페이지(cursor == null)는 채팅방 전체 메시지가 버퍼에 있을 때만 처리된다.
+     * 캐시되지 않은 채팅방은 첫 페이지 조회일 때만 적재하고(트랜잭션 밖인 경우), 커서 조회는 적재하지 않고
+     * 바로 empty를 반환하여 호출자의 DB 조회 한 번으로 끝나게 한다.
+     *
+     * @param loader 캐시에 없을 때 최신순으로 limit개를 조회하는 함수
+     */
+    public Optional<List<Message>> findAfter(Long chatRoomId, Long cursor, int size, IntFunction<List<Message>> loader) {
+        RoomTail tail = cache.getIfPresent(chatRoomId);
+        if (tail == null && cursor == null && !inTransaction()) {
+            tail = load(chatRoomId, loader);
+        }
+        Optional<List<Message>> result = tail != null ? tail.after(cursor, size) : Optional.empty();
+        if (result.isPresent()) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return result;
+    }
+
+    /**
+     * 저장된 메시지를 버퍼에 추가한다. 캐시되지 않은 채팅방은 무시한다.
+     * 커밋 이후 다른 노드에는 해당 채팅방 제거를 전파한다.
+     */
+    public void append(Message message) {
+        if (message.getId() == null || message.getId().value() == null) {
+            return;
+        }
+
+        Long chatRoomId = message.getChatRoomId().value();
+        afterCommit(() -> {
+            appendNow(message);
+            publish(chatRoomId);
+        });
+    }
+
+    /**
+     * 채팅방을 제거한다. 커밋 전에 다시 적재된 내용이 남지 않도록 커밋 이후에도 제거하고 다른 노드에 전파한다.
+     */
+    public void evict(Long chatRoomId) {
+        cache.invalidate(chatRoomId);
+        afterCommit(() -> {
+            cache.invalidate(chatRoomId);
+            publish(chatRoomId);
+        });
+    }
+
+    /**
+     * 다른 노드에서 발행한 제거 메시지를 처리한다
+     *
+     * @param message {@code nodeId|chatRoomId}
+     */
+    public void onInvalidationMessage(String message) {
+        String[] parts = message.split("\\" + SEPARATOR);
+        if (parts.length != 2) {
+            logger.warn("Malformed tail cache invalidation message: {}", message);
+            return;
+        }
+        if (nodeId.equals(parts[0])) {
+            return;
+        }
+
+        // 적재는 채팅방 단위로 원자적이므로 적재 중 도착한 제거는 적재가 끝난 뒤 반영된다
+        cache.invalidate(Long.valueOf(parts[1]));
+    }
+
+    @Override
+    public void destroy() {
+        unsubscribe.run();
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long roomCount() {
+        return cache.estimatedSize();
+    }
+
+    private RoomTail load(Long chatRoomId, IntFunction<List<Message>> loader) {
+        return cache.get(chatRoomId, key -> RoomTail.load(messagesPerRoom, loader.apply(messagesPerRoom)));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private void publish(Long chatRoomId) {
+        try {
+            publisher.accept(nodeId + SEPARATOR + chatRoomId);
+        } catch (RuntimeException e) {
+            // 전파에 실패해도 다른 노드는 ttl 이내에 DB 상태로 수렴한다
+            logger.warn("Failed to publish tail cache invalidation: chatRoomId={}, error={}", chatRoomId, e.getMessage());
+        }
+    }
+
+    private static boolean inTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive();
+    }
+
+    private void appendNow(Message message) {
+        // 적재 중인 채팅방은 적재가 끝날 때까지 대기한 뒤 추가된다
+        cache.asMap().computeIfPresent(message.getChatRoomId().value(), (key, tail) -> {
+            tail.append(message);
+            return tail;
+        });
+    }
+
+    /**
+     * 적재 시점부터 ttl이 지나면 만료 (메시지 추가나 조회로 연장되지 않음)
+     */
+    private static final class LoadedAtExpiry implements Expiry<Long, RoomTail> {
+
+        private final long ttlNanos;
+
+        private LoadedAtExpiry(Duration ttl) {
+            this.ttlNanos = ttl.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(Long chatRoomId, RoomTail tail, long currentTime) {
+            return ttlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(Long chatRoomId, RoomTail tail, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(Long chatRoomId, RoomTail tail, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    /**
+     * 채팅방 최근 메시지 링 버퍼
+     */
+    static final class RoomTail {
+
+        private final Message[] ring;
+        private int head;
+        private int size;
+        private boolean complete;
+
+        private RoomTail(int capacity) {
+            this.ring = new Message[capacity];
+        }
+
+        /**
+         * @param newestFirst 최신순 메시지 (최대 capacity개)
+         */
+        static RoomTail load(int capacity, List<Message> newestFirst) {
+            RoomTail tail = new RoomTail(capacity);
+            List<Message> oldestFirst = new ArrayList<>(newestFirst);
+            Collections.reverse(oldestFirst);
+            oldestFirst.forEach(tail::append);
+            tail.complete = newestFirst.size() < capacity;
+            return tail;
+        }
+
+        synchronized void append(Message message) {
+            long id = message.getId().value();
+            if (size == 0 || newestId() < id) {
+                push(message);
+                return;
+            }
+
+            // 같은 채팅방의 트랜잭션은 ID 순서와 다르게 커밋될 수 있으므로 정렬 위치에 끼워 넣는다 (같은 ID는 무시)
+            List<Message> oldestFirst = oldestFirst();
+            int index = Collections.binarySearch(oldestFirst.stream().map(m -> m.getId().value()).toList(), id);
+            if (index >= 0) {
+                return;
+            }
+
+            int insertAt = -index - 1;
+            if (insertAt == 0 && (!complete || size == ring.length)) {
+                // 버퍼 구간보다 오래된 메시지: 버퍼에 넣으면 사이의 메시지가 빠진 구간을 포함한 것처럼 보이므로 넣지 않는다
+                complete = false;
+                return;
+            }
+
+            oldestFirst.add(insertAt, message);
+            if (oldestFirst.size() > ring.length) {
+                oldestFirst.remove(0);
+                complete = false;
+            }
+            Arrays.fill(ring, null);
+            for (int i = 0; i < oldestFirst.size(); i++) {
+                ring[i] = oldestFirst.get(i);
+            }
+            size = oldestFirst.size();
+            head = size % ring.length;
+        }
+
+        synchronized List<Message> newest(int limit) {
+            int count = Math.min(limit, size);
+            List<Message> result = new ArrayList<>(count);
+            for (int i = 1; i <= count; i++) {
+                result.add(ring[Math.floorMod(head - i, ring.length)]);
+            }
+            return result;
+        }
+
+        synchronized Optional<List<Message>> after(Long cursor, int limit) {
+            if (size == 0) {
+                return complete ? Optional.of(List.of()) : Optional.empty();
+            }
+
+            Message oldest = ring[Math.floorMod(head - size, ring.length)];
+            boolean covered = complete || (cursor != null && cursor >= oldest.getId().value());
+            if (!covered) {
+                return Optional.empty();
+            }
+
+            List<Message> result = new ArrayList<>(Math.min(limit, size));
+            for (int i = size; i >= 1 && result.size() < limit; i--) {
+                Message message = ring[Math.floorMod(head - i, ring.length)];
+                if (cursor == null || message.getId().value() > cursor) {
+                    result.add(message);
+                }
+            }
+            return Optional.of(result);
+        }
+
+        private void push(Message message) {
+            ring[head] = message;
+            head = (head + 1) % ring.length;
+            if (size < ring.length) {
+                size++;
+            } else {
+                complete = false;
+            }
+        }
+
+        private List<Message> oldestFirst() {
+            List<Message> result = new ArrayList<>(size + 1);
+            for (int i = size; i >= 1; i--) {
+                result.add(ring[Math.floorMod(head - i, ring.length)]);
+            }
+            return result;
+        }
+
+        private long newestId() {
+            return ring[Math.floorMod(head - 1, ring.length)].getId().value();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.puppytalk.chat;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 최근 메시지 캐시 지표
+ * <p>
+ * {@code chat.message.tail.cache.requests}를 result 태그(hit, miss)로, 캐시된 채팅방 수를
+ * {@code chat.message.tail.cache.rooms}로 노출한다.
+ */
+@Component
+public class MessageTailCacheMetrics implements MeterBinder {
+
+    private final MessageTailCache messageTailCache;
+
+    public MessageTailCacheMetrics(MessageTailCache messageTailCache) {
+        this.messageTailCache = messageTailCache;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("chat.message.tail.cache.requests", messageTailCache, MessageTailCache::hitCount)
+            .tag("result", "hit")
+            .description("Chat history reads served from the recent message cache")
+            .register(registry);
+        FunctionCounter.builder("chat.message.tail.cache.requests", messageTailCache, MessageTailCache::missCount)
+            .tag("result", "miss")
+            .description("Chat history reads that went to the database")
+            .register(registry);
+        Gauge.builder("chat.message.tail.cache.rooms", messageTailCache, MessageTailCache::roomCount)
+            .description("Chat rooms held in the recent message cache")
+            .register(registry);
+    }
+}
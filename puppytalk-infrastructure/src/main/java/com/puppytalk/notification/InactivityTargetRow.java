@@ -0,0 +1,15 @@
+package com.puppytalk.notification;
+
+import com.puppytalk.chat.ChatRoomId;
+import com.puppytalk.pet.PetId;
+import com.puppytalk.user.UserId;
+
+/**
+ * 비활성 알림 대상 조회 결과 (사용자, 대표 반려동물, 채팅방 ID)
+ */
+public record InactivityTargetRow(Long userId, Long petId, Long chatRoomId) {
+
+    public InactivityTarget toDomain() {
+        return new InactivityTarget(UserId.from(userId), PetId.from(petId), ChatRoomId.from(chatRoomId));
+    }
+}
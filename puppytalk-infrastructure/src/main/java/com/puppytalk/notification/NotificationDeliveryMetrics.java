@@ -0,0 +1,52 @@
+package com.puppytalk.notification;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 알림 발송 지표
+ * <ul>
+ *   <li>{@code notification.delivery} - 발송 결과별 건수 (result: sent, retried, dead_letter)</li>
+ *   <li>{@code notification.delivery.after.retry} - 재발송으로 성공한 건수</li>
+ *   <li>{@code notification.time.to.delivery} - 알림 생성부터 발송 성공까지 걸린 시간</li>
+ * </ul>
+ * 재발송 비율은 {@code result=retried}를 전체 발송 시도({@code sent + retried + dead_letter})로 나누어 구한다.
+ */
+@Component
+public class NotificationDeliveryMetrics implements MeterBinder {
+
+    private final NotificationDeliveryStats deliveryStats;
+
+    public NotificationDeliveryMetrics(NotificationDeliveryStats deliveryStats) {
+        this.deliveryStats = deliveryStats;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("notification.delivery", deliveryStats, NotificationDeliveryStats::deliveredCount)
+            .tag("result", "sent")
+            .description("Notifications delivered")
+            .register(registry);
+        FunctionCounter.builder("notification.delivery", deliveryStats, NotificationDeliveryStats::retriesScheduledCount)
+            .tag("result", "retried")
+            .description("Failed notification sends rescheduled with backoff")
+            .register(registry);
+        FunctionCounter.builder("notification.delivery", deliveryStats, NotificationDeliveryStats::deadLetteredCount)
+            .tag("result", "dead_letter")
+            .description("Notifications given up after the maximum number of attempts")
+            .register(registry);
+        FunctionCounter.builder("notification.delivery.after.retry", deliveryStats,
+                NotificationDeliveryStats::deliveredAfterRetryCount)
+            .description("Notifications delivered only after at least one retry")
+            .register(registry);
+
+        Timer timeToDelivery = Timer.builder("notification.time.to.delivery")
+            .description("Time from notification creation to successful delivery")
+            .publishPercentiles(0.5, 0.99)
+            .register(registry);
+        deliveryStats.recordTimeToDeliveryWith(timeToDelivery::record);
+    }
+}
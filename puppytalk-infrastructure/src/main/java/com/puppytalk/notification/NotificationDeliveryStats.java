@@ -0,0 +1,63 @@
+package com.puppytalk.notification;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 알림 발송 결과 집계
+ * <p>
+ * 발송 성공/재발송 예약/재발송 중단 건수를 누적하고, 발송 소요 시간은 지정된 기록 대상으로 전달한다.
+ */
+@Component
+public class NotificationDeliveryStats implements NotificationDeliveryRecorder {
+
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder deliveredAfterRetry = new LongAdder();
+    private final LongAdder retriesScheduled = new LongAdder();
+    private final LongAdder deadLettered = new LongAdder();
+    private volatile Consumer<Duration> timeToDeliveryRecorder = duration -> { };
+
+    @Override
+    public void delivered(int attempts, Duration timeToDelivery) {
+        delivered.increment();
+        if (attempts > 1) {
+            deliveredAfterRetry.increment();
+        }
+        timeToDeliveryRecorder.accept(timeToDelivery);
+    }
+
+    @Override
+    public void retryScheduled(int failedAttempts) {
+        retriesScheduled.increment();
+    }
+
+    @Override
+    public void deadLettered(int failedAttempts) {
+        deadLettered.increment();
+    }
+
+    /**
+     * 발송 소요 시간을 기록할 대상을 설정한다 (지표 수집용)
+     */
+    public void recordTimeToDeliveryWith(Consumer<Duration> timeToDeliveryRecorder) {
+        this.timeToDeliveryRecorder = timeToDeliveryRecorder;
+    }
+
+    public long deliveredCount() {
+        return delivered.sum();
+    }
+
+    public long deliveredAfterRetryCount() {
+        return deliveredAfterRetry.sum();
+    }
+
+    public long retriesScheduledCount() {
+        return retriesScheduled.sum();
+    }
+
+    public long deadLetteredCount() {
+        return deadLettered.sum();
+    }
+}
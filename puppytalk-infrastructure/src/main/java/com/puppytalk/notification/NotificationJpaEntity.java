@@ -9,10 +9,13 @@ import java.time.LocalDateTime;
  * 알림 JPA 엔티티
  * 
  * Backend 최적화: 대용량 알림 처리를 위한 인덱스 전략
+ * <p>
+ * created_at 월 파티셔닝과 호환되도록 유니크 제약을 두지 않는다 (파티션 키를 포함하지 않는 유니크 키 불가).
+ * 인덱스는 파티션마다 따로 만들어지므로 최근 파티션의 인덱스만 메모리에 유지된다.
  */
 @Entity
 @Table(name = "notifications", indexes = {
-    @Index(name = "idx_notifications_user_id", columnList = "user_id"),
+    @Index(name = "idx_notifications_user_created", columnList = "user_id, created_at"),
     @Index(name = "idx_notifications_status_scheduled", columnList = "status, scheduled_at"),
     @Index(name = "idx_notifications_user_status", columnList = "user_id, status"),
     @Index(name = "idx_notifications_type_status", columnList = "type, status"),
@@ -63,6 +66,12 @@ public class NotificationJpaEntity extends BaseEntity {
     @Column(name = "failure_reason", length = 500)
     private String failureReason;
     
+    @Column(name = "claimed_by", length = 100)
+    private String claimedBy; // 발송 중(SENDING)인 노드
+    
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil; // 선점 기한 (지나면 다른 노드가 다시 선점)
+    
     protected NotificationJpaEntity() {
         // JPA 기본 생성자
     }
@@ -111,8 +120,8 @@ public class NotificationJpaEntity extends BaseEntity {
             notification.getReadAt(),
             notification.getCreatedAt(),
             notification.getUpdatedAt(),
-            0, // default retry count
-            null // default failure reason
+            notification.getRetryCount(),
+            null // 실패 사유는 발송 결과 반영 시 기록 (기존 행은 저장 시 retainDeliveryState로 유지)
         );
     }
     
@@ -134,7 +143,8 @@ public class NotificationJpaEntity extends BaseEntity {
                 sentAt,
                 readAt,
                 getCreatedAt(),
-                getUpdatedAt()
+                getUpdatedAt(),
+                retryCount
             );
         } else {
             // 새로운 알림 생성 (ID가 없는 경우)
@@ -167,6 +177,8 @@ public class NotificationJpaEntity extends BaseEntity {
     public LocalDateTime getReadAt() { return readAt; }
     public int getRetryCount() { return retryCount; }
     public String getFailureReason() { return failureReason; }
+    public String getClaimedBy() { return claimedBy; }
+    public LocalDateTime getLeaseUntil() { return leaseUntil; }
     
     // Status update methods for JPA
     public void updateStatus(NotificationStatus newStatus) {
@@ -180,6 +192,15 @@ public class NotificationJpaEntity extends BaseEntity {
         this.updatedAt = LocalDateTime.now();
     }
     
+    /**
+     * 도메인 모델에 없는 발송 컬럼을 기존 엔티티에서 이어받는다 (병합 전 호출)
+     */
+    public void retainDeliveryState(NotificationJpaEntity managed) {
+        this.failureReason = managed.failureReason;
+        this.claimedBy = managed.claimedBy;
+        this.leaseUntil = managed.leaseUntil;
+    }
+    
     public void incrementRetry(String reason) {
         this.retryCount++;
         this.status = NotificationStatus.FAILED;
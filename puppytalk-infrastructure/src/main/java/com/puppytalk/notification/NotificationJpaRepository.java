@@ -1,8 +1,12 @@
 package com.puppytalk.notification;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -31,6 +35,50 @@ public interface NotificationJpaRepository extends JpaRepository<NotificationJpa
     
     
     
+    /**
+     * 선점 가능한 알림 조회 (SELECT ... FOR UPDATE SKIP LOCKED)
+     * 다른 트랜잭션이 잠근 행은 건너뛰어 여러 노드가 서로 다른 알림을 가져가도록 한다
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2")) // -2: SKIP LOCKED
+    @Query("SELECT n FROM NotificationJpaEntity n " +
+           "WHERE (n.status IN ('CREATED', 'QUEUED', 'FAILED') " +
+           "    OR (n.status = 'SENDING' AND n.leaseUntil < :now)) " +
+           "AND n.scheduledAt <= :now " +
+           "ORDER BY n.scheduledAt ASC")
+    List<NotificationJpaEntity> findClaimableForUpdate(
+        @Param("now") LocalDateTime now,
+        org.springframework.data.domain.Pageable pageable
+    );
+    
+    /**
+     * 잠근 알림을 발송 중 상태로 선점
+     */
+    @Modifying
+    @Query("UPDATE NotificationJpaEntity n " +
+           "SET n.status = 'SENDING', n.claimedBy = :owner, n.leaseUntil = :leaseUntil, " +
+           "n.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE n.id IN :ids")
+    int claim(
+        @Param("ids") List<Long> ids,
+        @Param("owner") String owner,
+        @Param("leaseUntil") LocalDateTime leaseUntil
+    );
+
+    /**
+     * 선점 기한이 지난 발송 중 알림을 다시 선점 (결과가 반영되지 않은 시도를 실패 횟수에 더한다)
+     */
+    @Modifying
+    @Query("UPDATE NotificationJpaEntity n " +
+           "SET n.claimedBy = :owner, n.leaseUntil = :leaseUntil, n.retryCount = n.retryCount + 1, " +
+           "n.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE n.id IN :ids AND n.status = 'SENDING'")
+    int reclaimExpired(
+        @Param("ids") List<Long> ids,
+        @Param("owner") String owner,
+        @Param("leaseUntil") LocalDateTime leaseUntil
+    );
+
     /**
      * 사용자별 알림 목록 조회 (페이징)
      */
@@ -42,6 +90,18 @@ public interface NotificationJpaRepository extends JpaRepository<NotificationJpa
         org.springframework.data.domain.Pageable pageable
     );
     
+    /**
+     * 생성 시각 하한 이후의 사용자별 알림 목록 조회 (월 파티션 테이블에서 하한 이전 파티션을 읽지 않는다)
+     */
+    @Query("SELECT n FROM NotificationJpaEntity n " +
+           "WHERE n.userId = :userId AND n.createdAt >= :since " +
+           "ORDER BY n.createdAt DESC")
+    List<NotificationJpaEntity> findByUserIdSinceOrderByCreatedAtDesc(
+        @Param("userId") Long userId,
+        @Param("since") LocalDateTime since,
+        org.springframework.data.domain.Pageable pageable
+    );
+    
     /**
      * 사용자별 미읽은 알림 개수
      */
@@ -63,74 +123,66 @@ public interface NotificationJpaRepository extends JpaRepository<NotificationJpa
     );
     
     /**
-     * 여러 알림 상태 일괄 업데이트
+     * 만료된 알림 ID 조회 (기본 키 키셋 페이징)
      */
-    @Modifying
-    @Query("UPDATE NotificationJpaEntity n " +
-           "SET n.status = :status, n.updatedAt = CURRENT_TIMESTAMP " +
-           "WHERE n.id IN :ids")
-    void updateStatusBatch(
-        @Param("ids") List<Long> ids, 
-        @Param("status") NotificationStatus status
+    @Query("SELECT n.id FROM NotificationJpaEntity n " +
+           "WHERE n.id > :afterId " +
+           "AND n.scheduledAt < :cutoffDate " +
+           "AND n.status IN ('CREATED', 'QUEUED', 'FAILED') " +
+           "ORDER BY n.id ASC " +
+           "LIMIT :limit")
+    List<Long> findExpiredIds(
+        @Param("cutoffDate") LocalDateTime cutoffDate,
+        @Param("afterId") Long afterId,
+        @Param("limit") int limit
     );
     
     /**
-     * 만료된 알림 삭제
+     * 만료된 알림 삭제 (조회한 청크 범위, 조건 재확인)
      */
     @Modifying
     @Query("DELETE FROM NotificationJpaEntity n " +
-           "WHERE n.scheduledAt < :cutoffDate " +
+           "WHERE n.id IN :ids " +
+           "AND n.scheduledAt < :cutoffDate " +
            "AND n.status IN ('CREATED', 'QUEUED', 'FAILED')")
-    int deleteExpiredNotifications(@Param("cutoffDate") LocalDateTime cutoffDate);
-    
-    /**
-     * 완료된 오래된 알림 삭제
-     */
-    @Modifying
-    @Query("DELETE FROM NotificationJpaEntity n " +
-           "WHERE n.createdAt < :cutoffDate " +
-           "AND n.status IN ('SENT', 'READ', 'CANCELLED')")
-    int deleteCompletedNotificationsOlderThan(@Param("cutoffDate") LocalDateTime cutoffDate);
-    
-    /**
-     * 알림 통계 조회 - 전체 건수
-     */
-    @Query("SELECT COUNT(n) FROM NotificationJpaEntity n " +
-           "WHERE n.createdAt BETWEEN :startDate AND :endDate")
-    long countNotificationsByDateRange(
-        @Param("startDate") LocalDateTime startDate,
-        @Param("endDate") LocalDateTime endDate
-    );
+    int deleteExpiredByIds(@Param("ids") List<Long> ids, @Param("cutoffDate") LocalDateTime cutoffDate);
     
     /**
-     * 알림 통계 조회 - 발송 성공 건수
+     * 완료된 오래된 알림 ID 조회 (기본 키 키셋 페이징)
      */
-    @Query("SELECT COUNT(n) FROM NotificationJpaEntity n " +
-           "WHERE n.createdAt BETWEEN :startDate AND :endDate " +
-           "AND n.status IN ('SENT', 'READ')")
-    long countSentNotificationsByDateRange(
-        @Param("startDate") LocalDateTime startDate,
-        @Param("endDate") LocalDateTime endDate
+    @Query("SELECT n.id FROM NotificationJpaEntity n " +
+           "WHERE n.id > :afterId " +
+           "AND n.createdAt < :cutoffDate " +
+           "AND n.status IN ('SENT', 'READ', 'CANCELLED', 'DEAD_LETTER') " +
+           "ORDER BY n.id ASC " +
+           "LIMIT :limit")
+    List<Long> findCompletedIdsOlderThan(
+        @Param("cutoffDate") LocalDateTime cutoffDate,
+        @Param("afterId") Long afterId,
+        @Param("limit") int limit
     );
     
     /**
-     * 알림 통계 조회 - 발송 실패 건수
+     * 완료된 오래된 알림 삭제 (조회한 청크 범위, 조건 재확인)
      */
-    @Query("SELECT COUNT(n) FROM NotificationJpaEntity n " +
-           "WHERE n.createdAt BETWEEN :startDate AND :endDate " +
-           "AND n.status = 'FAILED'")
-    long countFailedNotificationsByDateRange(
-        @Param("startDate") LocalDateTime startDate,
-        @Param("endDate") LocalDateTime endDate
-    );
+    @Modifying
+    @Query("DELETE FROM NotificationJpaEntity n " +
+           "WHERE n.id IN :ids " +
+           "AND n.createdAt < :cutoffDate " +
+           "AND n.status IN ('SENT', 'READ', 'CANCELLED', 'DEAD_LETTER')")
+    int deleteCompletedByIds(@Param("ids") List<Long> ids, @Param("cutoffDate") LocalDateTime cutoffDate);
     
     /**
-     * 알림 통계 조회 - 대기 중 건수
+     * 알림 통계 조회 - 상태 그룹별 건수를 한 번의 스캔으로 집계 (조건부 집계)
      */
-    @Query("SELECT COUNT(n) FROM NotificationJpaEntity n " +
-           "WHERE n.createdAt BETWEEN :startDate AND :endDate " +
-           "AND n.status IN ('CREATED', 'QUEUED', 'SENDING')")
-    long countPendingNotificationsByDateRange(
+    @Query("SELECT new com.puppytalk.notification.NotificationStatusCounts(" +
+           "COUNT(n), " +
+           "SUM(CASE WHEN n.status IN ('SENT', 'READ') THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN n.status IN ('FAILED', 'DEAD_LETTER') THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN n.status IN ('CREATED', 'QUEUED', 'SENDING') THEN 1 ELSE 0 END)) " +
+           "FROM NotificationJpaEntity n " +
+           "WHERE n.createdAt BETWEEN :startDate AND :endDate")
+    NotificationStatusCounts countByStatusGroup(
         @Param("startDate") LocalDateTime startDate,
         @Param("endDate") LocalDateTime endDate
     );
@@ -154,10 +206,38 @@ public interface NotificationJpaRepository extends JpaRepository<NotificationJpa
     @Query("SELECT COUNT(n) > 0 FROM NotificationJpaEntity n " +
            "WHERE n.userId = :userId " +
            "AND n.type = :type " +
-           "AND n.status = :status")
-    boolean existsByUserIdAndTypeAndStatus(
+           "AND n.status IN :statuses")
+    boolean existsByUserIdAndTypeAndStatusIn(
         @Param("userId") Long userId,
         @Param("type") NotificationType type,
-        @Param("status") NotificationStatus status
+        @Param("statuses") List<NotificationStatus> statuses
+    );
+    
+    /**
+     * 비활성 알림 대상 조회 (키셋 페이징)
+     * 사용자별로 삭제되지 않은 반려동물 중 ID가 가장 작은 반려동물과 그 채팅방을 함께 조회하고,
+     * 발송 대기 중인 비활성 알림이 있는 사용자는 NOT EXISTS 안티 조인으로 제외
+     */
+    @Query("SELECT new com.puppytalk.notification.InactivityTargetRow(u.id, p.id, c.id) " +
+           "FROM UserJpaEntity u, PetJpaEntity p, ChatRoomJpaEntity c " +
+           "WHERE u.isDeleted = false " +
+           "AND u.lastActiveAt < :inactiveBefore " +
+           "AND u.lastActiveAt >= :dormantBefore " +
+           "AND u.id > :afterUserId " +
+           "AND p.ownerId = u.id " +
+           "AND p.id = (SELECT MIN(p2.id) FROM PetJpaEntity p2 WHERE p2.ownerId = u.id AND p2.isDeleted = false) " +
+           "AND c.userId = u.id AND c.petId = p.id " +
+           "AND NOT EXISTS (" +
+           "    SELECT 1 FROM NotificationJpaEntity n " +
+           "    WHERE n.userId = u.id " +
+           "    AND n.type = 'INACTIVITY_MESSAGE' " +
+           "    AND n.status IN ('CREATED', 'QUEUED', 'SENDING', 'FAILED')) " +
+           "ORDER BY u.id ASC " +
+           "LIMIT :limit")
+    List<InactivityTargetRow> findInactivityNotificationTargets(
+        @Param("inactiveBefore") LocalDateTime inactiveBefore,
+        @Param("dormantBefore") LocalDateTime dormantBefore,
+        @Param("afterUserId") Long afterUserId,
+        @Param("limit") int limit
     );
 }
\ No newline at end of file
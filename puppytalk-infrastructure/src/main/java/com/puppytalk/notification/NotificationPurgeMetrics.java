@@ -0,0 +1,53 @@
+package com.puppytalk.notification;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.Locale;
+import org.springframework.stereotype.Component;
+
+/**
+ * 알림 정리 지표
+ * <ul>
+ *   <li>{@code notification.purge.deleted} - 대상별 삭제된 알림 수 (target: expired, completed)</li>
+ *   <li>{@code notification.purge.chunks} - 대상별 처리한 청크 수</li>
+ *   <li>{@code notification.purge.last.id} - 대상별 마지막으로 처리한 알림 ID (진행 위치)</li>
+ *   <li>{@code notification.purge.chunk.duration} - 청크 하나의 조회/삭제 트랜잭션 소요 시간</li>
+ * </ul>
+ */
+@Component
+public class NotificationPurgeMetrics implements MeterBinder {
+
+    private final NotificationPurgeStats purgeStats;
+
+    public NotificationPurgeMetrics(NotificationPurgeStats purgeStats) {
+        this.purgeStats = purgeStats;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (NotificationPurgeTarget target : NotificationPurgeTarget.values()) {
+            String tag = target.name().toLowerCase(Locale.ROOT);
+            FunctionCounter.builder("notification.purge.deleted", purgeStats, stats -> stats.deletedCount(target))
+                .tag("target", tag)
+                .description("Notifications deleted by the purge job")
+                .register(registry);
+            FunctionCounter.builder("notification.purge.chunks", purgeStats, stats -> stats.chunkCount(target))
+                .tag("target", tag)
+                .description("Purge chunks committed")
+                .register(registry);
+            Gauge.builder("notification.purge.last.id", purgeStats, stats -> stats.lastPurgedId(target))
+                .tag("target", tag)
+                .description("Last notification id processed by the purge job")
+                .register(registry);
+        }
+
+        Timer chunkDuration = Timer.builder("notification.purge.chunk.duration")
+            .description("Time to select and delete one purge chunk")
+            .publishPercentiles(0.5, 0.99)
+            .register(registry);
+        purgeStats.recordChunkDurationWith(chunkDuration::record);
+    }
+}
@@ -0,0 +1,59 @@
+package com.puppytalk.notification;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 알림 정리 진행 집계
+ * <p>
+ * 대상별 삭제 건수와 청크 수를 누적하고 마지막으로 처리한 알림 ID를 보관한다.
+ * 청크 처리 시간은 지정된 기록 대상으로 전달한다.
+ */
+@Component
+public class NotificationPurgeStats implements NotificationPurgeRecorder {
+
+    private final Map<NotificationPurgeTarget, LongAdder> deleted = new EnumMap<>(NotificationPurgeTarget.class);
+    private final Map<NotificationPurgeTarget, LongAdder> chunks = new EnumMap<>(NotificationPurgeTarget.class);
+    private final Map<NotificationPurgeTarget, AtomicLong> lastIds = new EnumMap<>(NotificationPurgeTarget.class);
+    private volatile Consumer<Duration> chunkDurationRecorder = duration -> { };
+
+    public NotificationPurgeStats() {
+        for (NotificationPurgeTarget target : NotificationPurgeTarget.values()) {
+            deleted.put(target, new LongAdder());
+            chunks.put(target, new LongAdder());
+            lastIds.put(target, new AtomicLong());
+        }
+    }
+
+    @Override
+    public void chunkPurged(NotificationPurgeTarget target, int deletedCount, long lastId, Duration duration) {
+        deleted.get(target).add(deletedCount);
+        chunks.get(target).increment();
+        lastIds.get(target).set(lastId);
+        chunkDurationRecorder.accept(duration);
+    }
+
+    /**
+     * 청크 처리 시간을 기록할 대상을 설정한다 (지표 수집용)
+     */
+    public void recordChunkDurationWith(Consumer<Duration> chunkDurationRecorder) {
+        this.chunkDurationRecorder = chunkDurationRecorder;
+    }
+
+    public long deletedCount(NotificationPurgeTarget target) {
+        return deleted.get(target).sum();
+    }
+
+    public long chunkCount(NotificationPurgeTarget target) {
+        return chunks.get(target).sum();
+    }
+
+    public long lastPurgedId(NotificationPurgeTarget target) {
+        return lastIds.get(target).get();
+    }
+}
@@ -4,33 +4,78 @@ import com.puppytalk.notification.exception.NotificationException;
 import com.puppytalk.user.UserId;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 
+import java.sql.Statement;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * 알림 리포지토리 구현
  * 
  * Backend 관점: 고성능 알림 처리와 안정성
+ * <p>
+ * 미읽은 개수가 바뀌는 모든 쓰기는 같은 트랜잭션에서 {@link NotificationUnreadCounter}를 함께 갱신하고,
+ * 상태 전환은 {@link NotificationStatsRollup}의 시간 버킷에 누적한다.
  */
 @Repository
 public class NotificationRepositoryImpl implements NotificationRepository {
     
+    private static final String RECORD_FAILURE_SQL =
+        "UPDATE notifications SET status = ?, retry_count = ?, scheduled_at = COALESCE(?, scheduled_at), " +
+        "failure_reason = ?, claimed_by = NULL, lease_until = NULL, updated_at = ? WHERE id = ? AND claimed_by = ?";
+    private static final String UPDATE_CLAIMED_STATUS_SQL =
+        "UPDATE notifications SET status = ?, sent_at = COALESCE(sent_at, ?), " +
+        "claimed_by = NULL, lease_until = NULL, updated_at = ? WHERE id = ? AND claimed_by = ?";
+    
     private final NotificationJpaRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final NotificationUnreadCounter unreadCounter;
+    private final NotificationStatsRollup statsRollup;
     
-    public NotificationRepositoryImpl(NotificationJpaRepository jpaRepository) {
+    public NotificationRepositoryImpl(
+        NotificationJpaRepository jpaRepository,
+        JdbcTemplate jdbcTemplate,
+        NotificationUnreadCounter unreadCounter,
+        NotificationStatsRollup statsRollup
+    ) {
         this.jpaRepository = jpaRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.unreadCounter = unreadCounter;
+        this.statsRollup = statsRollup;
     }
     
     @Override
+    @Transactional
     public NotificationId save(Notification notification) {
         Assert.notNull(notification, "Notification must not be null");
         
+        // 상태 변경이면 이미 영속성 컨텍스트에 있는 엔티티에서 이전 상태를 읽는다
+        NotificationJpaEntity managed = notification.getId() != null
+            ? jpaRepository.findById(notification.getId().value()).orElse(null)
+            : null;
+        NotificationStatus previousStatus = managed != null ? managed.getStatus() : null;
+        
         NotificationJpaEntity entity = NotificationJpaEntity.from(notification);
+        if (managed != null) {
+            // 도메인 모델에 없는 발송 컬럼(실패 사유, 선점 정보)이 병합 시 지워지지 않도록 유지
+            entity.retainDeliveryState(managed);
+        }
         NotificationJpaEntity saved = jpaRepository.save(entity);
+        adjustUnreadCount(saved.getUserId(), previousStatus, saved.getStatus());
+        if (saved.getStatus() != previousStatus) {
+            statsRollup.record(saved.getType(), saved.getStatus());
+        }
         return NotificationId.from(saved.getId());
     }
     
@@ -51,18 +96,71 @@ public class NotificationRepositoryImpl implements NotificationRepository {
     
     
     
+    @Override
+    public List<Notification> claimPendingNotifications(
+        String owner,
+        LocalDateTime now,
+        LocalDateTime leaseUntil,
+        int limit
+    ) {
+        Assert.hasText(owner, "Owner must not be null or empty");
+        Assert.isTrue(limit > 0, "Limit must be positive");
+        
+        List<NotificationJpaEntity> claimable = jpaRepository.findClaimableForUpdate(now, PageRequest.of(0, limit));
+        if (claimable.isEmpty()) {
+            return List.of();
+        }
+        
+        // 선점 기한이 지난 SENDING 알림은 이전 시도가 실패한 것으로 보고 실패 횟수를 올려 다시 선점한다
+        Map<Boolean, List<Long>> idsByExpired = claimable.stream()
+            .collect(Collectors.partitioningBy(
+                entity -> entity.getStatus() == NotificationStatus.SENDING,
+                Collectors.mapping(NotificationJpaEntity::getId, Collectors.toList())));
+        if (!idsByExpired.get(false).isEmpty()) {
+            jpaRepository.claim(idsByExpired.get(false), owner, leaseUntil);
+        }
+        if (!idsByExpired.get(true).isEmpty()) {
+            jpaRepository.reclaimExpired(idsByExpired.get(true), owner, leaseUntil);
+        }
+        statsRollup.record(
+            claimable.stream()
+                .filter(entity -> entity.getStatus() != NotificationStatus.SENDING)
+                .collect(Collectors.groupingBy(NotificationJpaEntity::getType, Collectors.counting())),
+            NotificationStatus.SENDING
+        );
+        
+        return claimable.stream()
+            .map(entity -> entity.getStatus() == NotificationStatus.SENDING
+                ? entity.toDomain().countExpiredAttempt()
+                : entity.toDomain().updateStatus(NotificationStatus.SENDING))
+            .toList();
+    }
+    
     @Override
     public List<Notification> findByUserIdOrderByCreatedAtDesc(UserId userId, int offset, int limit) {
         Pageable pageable = PageRequest.of(offset / limit, limit);
-        return jpaRepository.findByUserIdOrderByCreatedAtDesc(userId.value(), pageable)
-            .stream()
+        // 하한 이후 알림은 생성 시각 역순의 앞부분이므로 그 구간에서 페이지가 다 차면 전체 조회와 결과가 같다
+        LocalDateTime since = YearMonth.now().minusMonths(1).atDay(1).atStartOfDay();
+        List<NotificationJpaEntity> page = jpaRepository.findByUserIdSinceOrderByCreatedAtDesc(userId.value(), since, pageable);
+        if (page.size() < limit) {
+            page = jpaRepository.findByUserIdOrderByCreatedAtDesc(userId.value(), pageable);
+        }
+        return page.stream()
             .map(NotificationJpaEntity::toDomain)
             .toList();
     }
     
     @Override
     public long countUnreadByUserId(UserId userId) {
-        return jpaRepository.countUnreadByUserId(userId.value());
+        Long id = userId.value();
+        return unreadCounter.find(id).orElseGet(() -> jpaRepository.countUnreadByUserId(id));
+    }
+    
+    @Override
+    public UnreadCountChunk reconcileUnreadCounts(Long afterUserId, int limit) {
+        Assert.isTrue(limit > 0, "Limit must be positive");
+        
+        return unreadCounter.reconcile(afterUserId, limit);
     }
     
     @Override
@@ -75,47 +173,163 @@ public class NotificationRepositoryImpl implements NotificationRepository {
     }
     
     @Override
+    @Transactional
     public void updateStatus(NotificationId id, NotificationStatus status) {
         Optional<NotificationJpaEntity> entity = jpaRepository.findById(id.value());
         if (entity.isPresent()) {
             NotificationJpaEntity notification = entity.get();
+            NotificationStatus previousStatus = notification.getStatus();
             notification.updateStatus(status);
             jpaRepository.save(notification);
+            adjustUnreadCount(notification.getUserId(), previousStatus, status);
+            if (status != previousStatus) {
+                statsRollup.record(notification.getType(), status);
+            }
         } else {
             throw new NotificationException("알림을 찾을 수 없습니다: " + id.value());
         }
     }
     
     @Override
-    public void updateStatusBatch(List<NotificationId> ids, NotificationStatus status) {
+    @Transactional
+    public List<NotificationId> updateStatusBatch(List<NotificationId> ids, NotificationStatus status, String claimedBy) {
+        Assert.hasText(claimedBy, "ClaimedBy must not be null or empty");
+        if (ids.isEmpty()) {
+            return List.of();
+        }
         List<Long> longIds = ids.stream()
             .map(NotificationId::value)
             .toList();
-        jpaRepository.updateStatusBatch(longIds, status);
+        
+        // 선점이 만료되어 다른 노드가 다시 가져간 알림은 카운터와 집계에서도 제외한다
+        String claimed = idInPredicate(longIds.size()) + " AND n.claimed_by = ?";
+        List<Object> args = new ArrayList<>(longIds);
+        args.add(claimedBy);
+        adjustUnreadCountsForStatusChange(claimed, args, status);
+        statsRollup.recordMatching(claimed, args, status);
+        
+        // 어떤 알림이 반영됐는지 알아야 하므로 recordFailures와 같이 행 단위 JDBC 배치로 전송
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Timestamp sentAt = status == NotificationStatus.SENT ? now : null;
+        int[][] updateCounts = jdbcTemplate.batchUpdate(UPDATE_CLAIMED_STATUS_SQL, ids, ids.size(), (ps, id) -> {
+            ps.setString(1, status.name());
+            ps.setTimestamp(2, sentAt);
+            ps.setTimestamp(3, now);
+            ps.setLong(4, id.value());
+            ps.setString(5, claimedBy);
+        });
+        return appliedItems(ids, updateCounts);
     }
     
     @Override
-    public int deleteExpiredNotifications(LocalDateTime cutoffDate) {
-        return jpaRepository.deleteExpiredNotifications(cutoffDate);
+    @Transactional
+    public List<DeliveryFailure> recordFailures(List<DeliveryFailure> failures, String claimedBy) {
+        Assert.notNull(failures, "Failures must not be null");
+        Assert.hasText(claimedBy, "ClaimedBy must not be null or empty");
+        if (failures.isEmpty()) {
+            return List.of();
+        }
+        
+        // FAILED, DEAD_LETTER 모두 미읽음이므로 발송 중 읽음 처리된 알림만 카운터에 반영된다
+        List<Object> args = new ArrayList<>(failures.size() + 1);
+        failures.forEach(failure -> args.add(failure.notificationId().value()));
+        args.add(claimedBy);
+        adjustUnreadCountsForStatusChange(
+            idInPredicate(failures.size()) + " AND n.claimed_by = ?", args, NotificationStatus.FAILED);
+        failures.stream()
+            .collect(Collectors.groupingBy(
+                DeliveryFailure::status,
+                Collectors.mapping(failure -> failure.notificationId().value(), Collectors.toList())))
+            .forEach((status, ids) -> {
+                List<Object> statusArgs = new ArrayList<>(ids);
+                statusArgs.add(claimedBy);
+                statsRollup.recordMatching(idInPredicate(ids.size()) + " AND n.claimed_by = ?", statusArgs, status);
+            });
+        
+        // 알림마다 다음 발송 시각이 달라 JDBC 배치로 한 번에 전송
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int[][] updateCounts = jdbcTemplate.batchUpdate(RECORD_FAILURE_SQL, failures, failures.size(), (ps, failure) -> {
+            ps.setString(1, failure.status().name());
+            ps.setInt(2, failure.retryCount());
+            ps.setTimestamp(3, failure.nextAttemptAt() != null ? Timestamp.valueOf(failure.nextAttemptAt()) : null);
+            ps.setString(4, failure.reason());
+            ps.setTimestamp(5, now);
+            ps.setLong(6, failure.notificationId().value());
+            ps.setString(7, claimedBy);
+        });
+        return appliedItems(failures, updateCounts);
+    }
+    
+    /**
+     * JDBC 배치 결과에서 실제로 반영된 항목만 추린다.
+     * 드라이버가 건수를 알려주지 않으면(SUCCESS_NO_INFO) 반영된 것으로 본다.
+     */
+    private static <T> List<T> appliedItems(List<T> items, int[][] updateCounts) {
+        List<T> applied = new ArrayList<>(items.size());
+        int index = 0;
+        for (int[] batch : updateCounts) {
+            for (int count : batch) {
+                if (count > 0 || count == Statement.SUCCESS_NO_INFO) {
+                    applied.add(items.get(index));
+                }
+                index++;
+            }
+        }
+        return applied;
     }
     
     @Override
-    public int deleteCompletedNotificationsOlderThan(LocalDateTime cutoffDate) {
-        return jpaRepository.deleteCompletedNotificationsOlderThan(cutoffDate);
+    @Transactional
+    public NotificationPurgeChunk purgeChunk(NotificationPurgeTarget target, LocalDateTime cutoff, Long afterId, int limit) {
+        long after = afterId != null ? afterId : 0L;
+        List<Long> ids = target == NotificationPurgeTarget.EXPIRED
+            ? jpaRepository.findExpiredIds(cutoff, after, limit)
+            : jpaRepository.findCompletedIdsOlderThan(cutoff, after, limit);
+        if (ids.isEmpty()) {
+            return new NotificationPurgeChunk(0, 0, afterId, true);
+        }
+        
+        String inIds = "n.id IN (" + String.join(", ", Collections.nCopies(ids.size(), "?")) + ")";
+        List<Object> args = new ArrayList<>(ids);
+        args.add(Timestamp.valueOf(cutoff));
+        
+        int deleted;
+        if (target == NotificationPurgeTarget.EXPIRED) {
+            String expired = inIds + " AND n.scheduled_at < ? AND n.status IN ('CREATED', 'QUEUED', 'FAILED')";
+            unreadCounter.addMatching(expired, -1, args);
+            statsRollup.recordMatching(expired, args, NotificationStatus.EXPIRED);
+            deleted = jpaRepository.deleteExpiredByIds(ids, cutoff);
+        } else {
+            // READ는 카운터에 포함되지 않으므로 나머지 완료 상태만 차감
+            unreadCounter.addMatching(
+                inIds + " AND n.created_at < ? AND n.status IN ('SENT', 'CANCELLED', 'DEAD_LETTER')", -1, args);
+            deleted = jpaRepository.deleteCompletedByIds(ids, cutoff);
+        }
+        
+        return new NotificationPurgeChunk(ids.size(), deleted, ids.get(ids.size() - 1), ids.size() < limit);
     }
     
     @Override
     public NotificationStats getNotificationStats(LocalDateTime startDate, LocalDateTime endDate) {
-        long totalCount = jpaRepository.countNotificationsByDateRange(startDate, endDate);
-        long sentCount = jpaRepository.countSentNotificationsByDateRange(startDate, endDate);
-        long failedCount = jpaRepository.countFailedNotificationsByDateRange(startDate, endDate);
-        long pendingCount = jpaRepository.countPendingNotificationsByDateRange(startDate, endDate);
+        NotificationStatusCounts counts = jpaRepository.countByStatusGroup(startDate, endDate);
+        long totalCount = counts.total();
+        long sentCount = counts.sent();
+        long failedCount = counts.failed();
+        long pendingCount = counts.pending();
         
         double successRate = totalCount > 0 ? (double) sentCount / totalCount * 100 : 0.0;
         
         return new NotificationStats(totalCount, sentCount, failedCount, pendingCount, successRate);
     }
     
+    @Override
+    public List<NotificationStatsBucket> findHourlyStats(LocalDateTime from, LocalDateTime to) {
+        Assert.notNull(from, "From must not be null");
+        Assert.notNull(to, "To must not be null");
+        
+        return statsRollup.findBuckets(from, to);
+    }
+    
     @Override
     public long countSentNotificationsByUserAndDate(UserId userId, LocalDateTime date) {
         LocalDateTime startOfDay = date.toLocalDate().atStartOfDay();
@@ -127,7 +341,43 @@ public class NotificationRepositoryImpl implements NotificationRepository {
     }
     
     @Override
-    public boolean existsByUserIdAndTypeAndStatus(UserId userId, NotificationType type, NotificationStatus status) {
-        return jpaRepository.existsByUserIdAndTypeAndStatus(userId.value(), type, status);
+    public boolean existsByUserIdAndTypeAndStatusIn(UserId userId, NotificationType type, List<NotificationStatus> statuses) {
+        return jpaRepository.existsByUserIdAndTypeAndStatusIn(userId.value(), type, statuses);
+    }
+    
+    @Override
+    public List<InactivityTarget> findInactivityNotificationTargets(
+        LocalDateTime inactiveBefore,
+        LocalDateTime dormantBefore,
+        UserId afterUserId,
+        int limit
+    ) {
+        Long afterId = afterUserId != null ? afterUserId.value() : 0L;
+        return jpaRepository.findInactivityNotificationTargets(inactiveBefore, dormantBefore, afterId, limit)
+            .stream()
+            .map(InactivityTargetRow::toDomain)
+            .toList();
+    }
+    
+    private void adjustUnreadCount(Long userId, NotificationStatus before, NotificationStatus after) {
+        long delta = unreadWeight(after) - unreadWeight(before);
+        // 카운터가 없으면 JPQL 조회로 이번 변경까지 플러시된 실제 개수로 초기화
+        unreadCounter.add(userId, delta, () -> jpaRepository.countUnreadByUserId(userId));
+    }
+    
+    /**
+     * 일괄 상태 변경 직전에 읽음 여부가 바뀌는 알림만 사용자별로 집계하여 카운터에 반영
+     */
+    private void adjustUnreadCountsForStatusChange(String predicate, List<?> args, NotificationStatus status) {
+        String changing = (status.isUnread() ? "n.status = 'READ'" : "n.status <> 'READ'") + " AND " + predicate;
+        unreadCounter.addMatching(changing, status.isUnread() ? 1 : -1, args);
+    }
+    
+    private static String idInPredicate(int size) {
+        return "n.id IN (" + String.join(", ", Collections.nCopies(size, "?")) + ")";
+    }
+    
+    private static long unreadWeight(NotificationStatus status) {
+        return status != null && status.isUnread() ? 1 : 0;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,54 @@
+package com.puppytalk.notification;
+
+import com.puppytalk.infrastructure.common.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+
+/**
+ * 시간별 알림 상태 전환 집계 엔티티
+ * <p>
+ * 스키마 정의용이며, 값은 {@link NotificationStatsRollup}이 증가 쿼리로 직접 갱신한다.
+ */
+@Entity
+@Table(name = "notification_stats_hourly", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_notification_stats_hourly_bucket", columnNames = {"bucket_start", "type", "status"})
+})
+public class NotificationStatsHourlyJpaEntity extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, length = 30)
+    private NotificationType type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private NotificationStatus status;
+
+    @Column(name = "event_count", nullable = false)
+    private long eventCount;
+
+    protected NotificationStatsHourlyJpaEntity() {
+        // JPA 전용 기본 생성자
+    }
+
+    @Override
+    public Long getId() { return id; }
+    public LocalDateTime getBucketStart() { return bucketStart; }
+    public NotificationType getType() { return type; }
+    public NotificationStatus getStatus() { return status; }
+    public long getEventCount() { return eventCount; }
+}
@@ -0,0 +1,183 @@
+package com.puppytalk.notification;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 시간별 알림 상태 전환 집계 (notification_stats_hourly)
+ * <p>
+ * 알림이 어떤 상태로 전환될 때마다 (전환 시각의 시간, 타입, 상태) 버킷의 증가분을 메모리에 모으고,
+ * {@code notification.stats.flush-interval-ms}마다 버킷별로 한 번씩 반영한다.
+ * 같은 버킷 행을 알림 트랜잭션마다 갱신하면 행 잠금 때문에 알림 변경이 직렬화되므로
+ * 알림 트랜잭션에서는 전환 대상 집계(SELECT)만 하고, 증가분은 커밋된 뒤에 모은다 (롤백된 전환은 집계하지 않음).
+ * 반영 실패 시 다음 주기에 다시 시도하고, 종료 시 남은 증가분을 반영한다 (비정상 종료 시 마지막 주기의 증가분은 유실될 수 있음).
+ * 버킷은 알림 정리와 무관하게 남으므로 장기간 대시보드는 알림 테이블 대신 버킷을 읽는다.
+ */
+@Component
+public class NotificationStatsRollup implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationStatsRollup.class);
+
+    private static final String ADD_SQL =
+        "UPDATE notification_stats_hourly SET event_count = event_count + ?, updated_at = ? " +
+        "WHERE bucket_start = ? AND type = ? AND status = ?";
+    private static final String INSERT_SQL =
+        "INSERT INTO notification_stats_hourly (bucket_start, type, status, event_count, created_at, updated_at, version) " +
+        "VALUES (?, ?, ?, ?, ?, ?, 0)";
+    private static final String FIND_SQL =
+        "SELECT bucket_start, type, status, event_count FROM notification_stats_hourly " +
+        "WHERE bucket_start >= ? AND bucket_start < ? ORDER BY bucket_start, type, status";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<BucketKey, Long> pending = new ConcurrentHashMap<>();
+
+    public NotificationStatsRollup(JdbcTemplate jdbcTemplate) {
+        if (jdbcTemplate == null) {
+            throw new IllegalArgumentException("JdbcTemplate must not be null");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 타입별 전환 횟수를 현재 시간 버킷에 누적
+     */
+    public void record(Map<NotificationType, Long> countsByType, NotificationStatus status) {
+        LocalDateTime now = LocalDateTime.now();
+        countsByType.forEach((type, count) -> add(now, type, status, count));
+    }
+
+    /**
+     * 단건 전환을 현재 시간 버킷에 누적
+     */
+    public void record(NotificationType type, NotificationStatus status) {
+        add(LocalDateTime.now(), type, status, 1);
+    }
+
+    /**
+     * 조건에 맞는 알림을 타입별로 집계하여 {@code status} 전환으로 누적 (일괄 변경/삭제 직전에 호출)
+     *
+     * @param notificationPredicate 별칭 {@code n}의 notifications 조건 (SQL)
+     * @param args 조건 파라미터
+     */
+    public void recordMatching(String notificationPredicate, List<?> args, NotificationStatus status) {
+        Map<NotificationType, Long> countsByType = new EnumMap<>(NotificationType.class);
+        jdbcTemplate.query(
+            "SELECT n.type, COUNT(*) FROM notifications n WHERE " + notificationPredicate + " GROUP BY n.type",
+            rs -> {
+                countsByType.put(NotificationType.valueOf(rs.getString(1)), rs.getLong(2));
+            },
+            args.toArray()
+        );
+        record(countsByType, status);
+    }
+
+    /**
+     * 모아 둔 증가분을 버킷별로 반영한다
+     *
+     * @return 반영한 버킷 수
+     */
+    @Scheduled(fixedDelayString = "${notification.stats.flush-interval-ms:5000}")
+    public synchronized int flush() {
+        int flushed = 0;
+        Iterator<BucketKey> keys = pending.keySet().iterator();
+
+        while (keys.hasNext()) {
+            BucketKey key = keys.next();
+            Long count = pending.remove(key);
+            if (count == null) {
+                continue;
+            }
+
+            try {
+                upsert(key, count);
+                flushed++;
+            } catch (RuntimeException e) {
+                // 다음 주기에 다시 반영 (그 사이 들어온 증가분과 합산)
+                pending.merge(key, count, Long::sum);
+                log.warn("Failed to flush notification stats: remaining={}, error={}", pending.size(), e.getMessage());
+                break;
+            }
+        }
+
+        return flushed;
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    @Override
+    public void destroy() {
+        int flushed = flush();
+        log.info("Notification stats flushed on shutdown: buckets={}, remaining={}", flushed, pending.size());
+    }
+
+    /**
+     * 시간 버킷 조회 (아직 반영되지 않은 증가분은 포함하지 않음)
+     *
+     * @param from 시작 시각 (포함)
+     * @param to 종료 시각 (제외)
+     */
+    public List<NotificationStatsBucket> findBuckets(LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.query(FIND_SQL, (rs, rowNum) -> new NotificationStatsBucket(
+            rs.getTimestamp(1).toLocalDateTime(),
+            NotificationType.valueOf(rs.getString(2)),
+            NotificationStatus.valueOf(rs.getString(3)),
+            rs.getLong(4)
+        ), Timestamp.valueOf(from), Timestamp.valueOf(to));
+    }
+
+    private void add(LocalDateTime at, NotificationType type, NotificationStatus status, long count) {
+        if (count <= 0) {
+            return;
+        }
+
+        BucketKey key = new BucketKey(at.truncatedTo(ChronoUnit.HOURS), type, status);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            pending.merge(key, count, Long::sum);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                pending.merge(key, count, Long::sum);
+            }
+        });
+    }
+
+    private void upsert(BucketKey key, long count) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Timestamp bucketStart = Timestamp.valueOf(key.bucketStart());
+        NotificationType type = key.type();
+        NotificationStatus status = key.status();
+        if (jdbcTemplate.update(ADD_SQL, count, now, bucketStart, type.name(), status.name()) > 0) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.update(INSERT_SQL, bucketStart, type.name(), status.name(), count, now, now);
+        } catch (DuplicateKeyException e) {
+            // 다른 노드가 같은 버킷을 먼저 만듦
+            jdbcTemplate.update(ADD_SQL, count, now, bucketStart, type.name(), status.name());
+        }
+    }
+
+    private record BucketKey(LocalDateTime bucketStart, NotificationType type, NotificationStatus status) {
+    }
+}
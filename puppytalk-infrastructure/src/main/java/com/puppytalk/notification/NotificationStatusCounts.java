@@ -0,0 +1,23 @@
+package com.puppytalk.notification;
+
+/**
+ * 기간 내 알림의 상태 그룹별 건수 (조건부 집계 쿼리 결과, 대상이 없으면 합계는 null)
+ */
+public record NotificationStatusCounts(Long totalCount, Long sentCount, Long failedCount, Long pendingCount) {
+
+    public long total() {
+        return totalCount != null ? totalCount : 0;
+    }
+
+    public long sent() {
+        return sentCount != null ? sentCount : 0;
+    }
+
+    public long failed() {
+        return failedCount != null ? failedCount : 0;
+    }
+
+    public long pending() {
+        return pendingCount != null ? pendingCount : 0;
+    }
+}
@@ -0,0 +1,152 @@
+package com.puppytalk.notification;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.function.LongSupplier;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별 미읽은 알림 카운터 (notification_unread_counters)
+ * <p>
+ * 알림 변경과 같은 트랜잭션에서 증감 쿼리로 갱신한다. 카운터가 없는 사용자는 처음 변경될 때
+ * 실제 미읽은 개수로 초기화되고, 그 전까지는 호출자가 COUNT 쿼리로 대체한다.
+ * 동시 변경이나 일괄 삭제 경합으로 생긴 오차는 {@link #reconcile}로 보정한다.
+ */
+@Component
+public class NotificationUnreadCounter {
+
+    private static final String FIND_SQL =
+        "SELECT unread_count FROM notification_unread_counters WHERE user_id = ?";
+    private static final String ADD_SQL =
+        "UPDATE notification_unread_counters SET unread_count = GREATEST(unread_count + ?, 0), updated_at = ? " +
+        "WHERE user_id = ?";
+    private static final String INSERT_SQL =
+        "INSERT INTO notification_unread_counters (user_id, unread_count, created_at, updated_at, version) " +
+        "VALUES (?, ?, ?, ?, 0)";
+    private static final String COMPARE_AND_SET_SQL =
+        "UPDATE notification_unread_counters SET unread_count = ?, updated_at = ? WHERE user_id = ? AND unread_count = ?";
+    private static final String USER_IDS_SQL =
+        "SELECT id FROM users WHERE id > ? ORDER BY id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public NotificationUnreadCounter(JdbcTemplate jdbcTemplate) {
+        if (jdbcTemplate == null) {
+            throw new IllegalArgumentException("JdbcTemplate must not be null");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 저장된 미읽은 개수 (카운터가 없으면 empty)
+     */
+    public OptionalLong find(Long userId) {
+        List<Long> counts = jdbcTemplate.queryForList(FIND_SQL, Long.class, userId);
+        return counts.isEmpty() ? OptionalLong.empty() : OptionalLong.of(counts.get(0));
+    }
+
+    /**
+     * 미읽은 개수 증감
+     *
+     * @param delta 증감량
+     * @param unreadCount 카운터가 없을 때 초기값으로 쓸 실제 미읽은 개수 (이번 변경이 반영된 값)
+     */
+    public void add(Long userId, long delta, LongSupplier unreadCount) {
+        if (delta == 0) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        if (jdbcTemplate.update(ADD_SQL, delta, now, userId) > 0) {
+            return;
+        }
+
+        try {
+            long count = unreadCount.getAsLong();
+            jdbcTemplate.update(INSERT_SQL, userId, count, now, now);
+        } catch (DuplicateKeyException e) {
+            // 다른 트랜잭션이 먼저 초기화함 (커밋 전인 이번 변경은 그 값에 포함되지 않음)
+            jdbcTemplate.update(ADD_SQL, delta, now, userId);
+        }
+    }
+
+    /**
+     * 조건에 맞는 알림 수만큼 사용자별 카운터를 한 문장으로 증감한다 (일괄 상태 변경/삭제 직전에 호출)
+     *
+     * @param notificationPredicate 별칭 {@code n}의 notifications 조건 (SQL)
+     * @param sign 1이면 증가, -1이면 감소
+     * @param args 조건 파라미터
+     */
+    public int addMatching(String notificationPredicate, int sign, List<?> args) {
+        String sql = "UPDATE notification_unread_counters c " +
+            "SET unread_count = GREATEST(c.unread_count + ? * (" +
+            "SELECT COUNT(*) FROM notifications n WHERE n.user_id = c.user_id AND " + notificationPredicate + "), 0), " +
+            "updated_at = ? " +
+            "WHERE c.user_id IN (SELECT n.user_id FROM notifications n WHERE " + notificationPredicate + ")";
+
+        List<Object> params = new ArrayList<>(args.size() * 2 + 2);
+        params.add(sign);
+        params.addAll(args);
+        params.add(Timestamp.valueOf(LocalDateTime.now()));
+        params.addAll(args);
+        return jdbcTemplate.update(sql, params.toArray());
+    }
+
+    /**
+     * 사용자 ID 키셋 한 청크의 카운터를 실제 미읽은 개수와 비교하여 보정한다.
+     * <p>
+     * 보정은 읽은 값과 같을 때만 덮어쓰므로, 그 사이 다른 트랜잭션이 증감한 카운터는 다음 실행에서 다시 확인한다.
+     */
+    public UnreadCountChunk reconcile(Long afterUserId, int limit) {
+        List<Long> userIds = jdbcTemplate.queryForList(
+            USER_IDS_SQL, Long.class, afterUserId != null ? afterUserId : 0L, limit);
+        if (userIds.isEmpty()) {
+            return new UnreadCountChunk(0, 0, afterUserId, true);
+        }
+
+        String inClause = String.join(", ", Collections.nCopies(userIds.size(), "?"));
+        Map<Long, Long> actual = countsByUser(
+            "SELECT user_id, COUNT(*) FROM notifications WHERE user_id IN (" + inClause + ") " +
+            "AND status <> 'READ' GROUP BY user_id", userIds);
+        Map<Long, Long> stored = countsByUser(
+            "SELECT user_id, unread_count FROM notification_unread_counters WHERE user_id IN (" + inClause + ")", userIds);
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int corrected = 0;
+        for (Long userId : userIds) {
+            long actualCount = actual.getOrDefault(userId, 0L);
+            Long storedCount = stored.get(userId);
+            if (storedCount == null) {
+                corrected += actualCount > 0 ? insertIfAbsent(userId, actualCount, now) : 0;
+            } else if (storedCount != actualCount) {
+                corrected += jdbcTemplate.update(COMPARE_AND_SET_SQL, actualCount, now, userId, storedCount);
+            }
+        }
+
+        return new UnreadCountChunk(userIds.size(), corrected, userIds.get(userIds.size() - 1), userIds.size() < limit);
+    }
+
+    private Map<Long, Long> countsByUser(String sql, List<Long> userIds) {
+        Map<Long, Long> counts = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            counts.put(rs.getLong(1), rs.getLong(2));
+        }, userIds.toArray());
+        return counts;
+    }
+
+    private int insertIfAbsent(Long userId, long count, Timestamp now) {
+        try {
+            return jdbcTemplate.update(INSERT_SQL, userId, count, now, now);
+        } catch (DuplicateKeyException e) {
+            return 0; // 그 사이 변경으로 초기화됨
+        }
+    }
+}
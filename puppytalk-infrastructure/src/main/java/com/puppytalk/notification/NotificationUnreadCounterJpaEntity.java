@@ -0,0 +1,32 @@
+package com.puppytalk.notification;
+
+import com.puppytalk.infrastructure.common.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * 사용자별 미읽은 알림 카운터 엔티티
+ * <p>
+ * 스키마 정의용이며, 값은 {@link NotificationUnreadCounter}가 증감 쿼리로 직접 갱신한다.
+ */
+@Entity
+@Table(name = "notification_unread_counters")
+public class NotificationUnreadCounterJpaEntity extends BaseEntity {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "unread_count", nullable = false)
+    private long unreadCount;
+
+    protected NotificationUnreadCounterJpaEntity() {
+        // JPA 전용 기본 생성자
+    }
+
+    @Override
+    public Long getId() { return userId; }
+    public long getUnreadCount() { return unreadCount; }
+}
@@ -18,6 +18,11 @@ public interface PetJpaRepository extends JpaRepository<PetJpaEntity, Long> {
      */
     List<PetJpaEntity> findByOwnerIdAndIsDeleted(Long ownerId, boolean isDeleted);
     
+    /**
+     * ID 목록으로 반려동물 일괄 조회 (삭제된 것 제외)
+     */
+    List<PetJpaEntity> findByIdInAndIsDeleted(List<Long> ids, boolean isDeleted);
+    
     
     /**
      * 소유자의 반려동물 개수 조회 (삭제된 것 제외)
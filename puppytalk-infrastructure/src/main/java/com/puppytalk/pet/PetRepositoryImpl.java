@@ -86,6 +86,21 @@ public class PetRepositoryImpl implements PetRepository {
     }
 
 
+    @Override
+    public List<Pet> findAllByIds(List<PetId> ids) {
+        Assert.notNull(ids, "PetIds must not be null");
+        
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        
+        List<Long> values = ids.stream().map(PetId::value).toList();
+        return petJpaRepository.findByIdInAndIsDeleted(values, false)
+            .stream()
+            .map(PetJpaEntity::toDomain)
+            .toList();
+    }
+
     @Override
     public boolean existsById(PetId id) {
         Assert.notNull(id, "PetId must not be null");
@@ -44,6 +44,18 @@ public final class BCryptPasswordEncoder implements PasswordEncoder {
         return delegate.matches(rawPassword, encodedPassword);
     }
     
+    /**
+     * 저장된 해시의 strength가 현재 설정보다 낮으면 true
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.isBlank()) {
+            return false;
+        }
+        
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+    
     @Override
     public String getAlgorithm() {
         return "BCrypt";
@@ -0,0 +1,174 @@
+package com.puppytalk.user;
+
+import com.puppytalk.user.exception.PasswordHashingBusyException;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+
+/**
+ * 비밀번호 암호화/검증을 전용 스레드 풀에서 수행하는 PasswordEncoder
+ * <p>
+ * BCrypt 연산은 요청당 수백 ms의 CPU를 사용하므로, 동시 실행 수와 대기열을 제한하여
+ * 로그인이 몰려도 다른 요청이 CPU를 확보할 수 있게 한다.
+ * 대기열이 가득 차거나 최대 대기 시간 안에 처리되지 않으면 {@link PasswordHashingBusyException}으로 거절한다.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(BoundedPasswordEncoder.class);
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long maxWaitMillis;
+
+    private final LongAdder rejected = new LongAdder();
+    private volatile Consumer<Duration> queueWaitRecorder = wait -> { };
+    private volatile Consumer<Duration> hashLatencyRecorder = latency -> { };
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, Settings settings) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("PasswordEncoder must not be null");
+        }
+        if (settings.maxConcurrency() <= 0 || settings.queueCapacity() <= 0
+            || settings.maxWait().isNegative() || settings.maxWait().isZero()) {
+            throw new IllegalArgumentException("maxConcurrency, queueCapacity and maxWait must be positive");
+        }
+
+        this.delegate = delegate;
+        this.maxWaitMillis = settings.maxWait().toMillis();
+        this.executor = new ThreadPoolExecutor(
+            settings.maxConcurrency(), settings.maxConcurrency(),
+            60L, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(settings.queueCapacity()),
+            new HashingThreadFactory()
+        );
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    @Override
+    public String encode(String rawPassword) {
+        if (rawPassword == null || rawPassword.isBlank()) {
+            throw new IllegalArgumentException("비밀번호는 필수입니다");
+        }
+        return execute(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(String rawPassword, String encodedPassword) {
+        if (rawPassword == null || encodedPassword == null) {
+            return false;
+        }
+        return execute(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        // 해시 접두부만 확인하므로 호출 스레드에서 수행
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public String getAlgorithm() {
+        return delegate.getAlgorithm();
+    }
+
+    /**
+     * 대기열 대기 시간과 연산 시간을 기록할 대상을 설정한다 (지표 수집용)
+     */
+    public void recordTimingsWith(Consumer<Duration> queueWaitRecorder, Consumer<Duration> hashLatencyRecorder) {
+        this.queueWaitRecorder = queueWaitRecorder;
+        this.hashLatencyRecorder = hashLatencyRecorder;
+    }
+
+    public int activeCount() {
+        return executor.getActiveCount();
+    }
+
+    public int queuedCount() {
+        return executor.getQueue().size();
+    }
+
+    public long rejectedCount() {
+        return rejected.sum();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+
+    private <T> T execute(Callable<T> operation) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                queueWaitRecorder.accept(Duration.ofNanos(startedAt - submittedAt));
+                try {
+                    return operation.call();
+                } finally {
+                    hashLatencyRecorder.accept(Duration.ofNanos(System.nanoTime() - startedAt));
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            log.warn("Password hashing rejected: active={}, queued={}", executor.getActiveCount(), queuedCount());
+            throw PasswordHashingBusyException.queueFull(queuedCount());
+        }
+
+        try {
+            return future.get(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 아직 대기열에 있으면 실행되지 않도록 취소
+            future.cancel(false);
+            rejected.increment();
+            throw PasswordHashingBusyException.timedOut(maxWaitMillis);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 처리 중 인터럽트가 발생했습니다", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("비밀번호 처리에 실패했습니다", e.getCause());
+        }
+    }
+
+    /**
+     * 스레드 풀 설정
+     *
+     * @param maxConcurrency 동시 연산 수 (CPU 코어 수 이하 권장)
+     * @param queueCapacity 대기열 크기
+     * @param maxWait 호출 스레드의 최대 대기 시간 (대기열 대기 + 연산)
+     */
+    public record Settings(int maxConcurrency, int queueCapacity, Duration maxWait) {
+    }
+
+    private static final class HashingThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hashing-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.puppytalk.user;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비밀번호 암호화 스레드 풀 지표
+ * <ul>
+ *   <li>{@code auth.password.hash.duration} - BCrypt 연산 시간</li>
+ *   <li>{@code auth.password.queue.wait} - 연산 시작 전 대기열 대기 시간</li>
+ *   <li>{@code auth.password.queue.size} / {@code auth.password.active} - 대기 중/실행 중 연산 수</li>
+ *   <li>{@code auth.password.rejected} - 포화로 거절된 요청 수</li>
+ * </ul>
+ */
+@Component
+public class BoundedPasswordEncoderMetrics implements MeterBinder {
+
+    private final BoundedPasswordEncoder passwordEncoder;
+
+    public BoundedPasswordEncoderMetrics(BoundedPasswordEncoder passwordEncoder) {
+        this.passwordEncoder = passwordEncoder;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Timer queueWait = Timer.builder("auth.password.queue.wait")
+            .description("Time password hashing requests wait before a hashing thread picks them up")
+            .publishPercentiles(0.5, 0.99)
+            .register(registry);
+        Timer hashDuration = Timer.builder("auth.password.hash.duration")
+            .description("CPU time of a single password hash or verification")
+            .publishPercentiles(0.5, 0.99)
+            .register(registry);
+        passwordEncoder.recordTimingsWith(queueWait::record, hashDuration::record);
+
+        Gauge.builder("auth.password.queue.size", passwordEncoder, BoundedPasswordEncoder::queuedCount)
+            .description("Password hashing requests waiting in the queue")
+            .register(registry);
+        Gauge.builder("auth.password.active", passwordEncoder, BoundedPasswordEncoder::activeCount)
+            .description("Password hashing requests currently running")
+            .register(registry);
+        FunctionCounter.builder("auth.password.rejected", passwordEncoder, BoundedPasswordEncoder::rejectedCount)
+            .description("Password hashing requests rejected because the pool was saturated")
+            .register(registry);
+    }
+}
@@ -6,12 +6,15 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import java.util.Objects;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+    @Index(name = "idx_users_dormant_last_active", columnList = "is_dormant, last_active_at")
+})
 public class UserJpaEntity extends BaseEntity {
 
     @Id
@@ -33,18 +36,23 @@ public class UserJpaEntity extends BaseEntity {
     @Column(name = "last_active_at", nullable = false)
     private LocalDateTime lastActiveAt;
     
+    @Column(name = "is_dormant", nullable = false)
+    private boolean isDormant;
+    
     protected UserJpaEntity() {
         // JPA 전용 기본 생성자
     }
     
     private UserJpaEntity(Long id, String username, String email, String password, boolean isDeleted,
-                         LocalDateTime createdAt, LocalDateTime updatedAt, LocalDateTime lastActiveAt) {
+                         LocalDateTime createdAt, LocalDateTime updatedAt, LocalDateTime lastActiveAt,
+                         boolean isDormant) {
         this.id = id;
         this.username = username;
         this.email = email;
         this.password = password;
         this.isDeleted = isDeleted;
         this.lastActiveAt = lastActiveAt;
+        this.isDormant = isDormant;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
     }
@@ -61,7 +69,8 @@ public class UserJpaEntity extends BaseEntity {
             user.isDeleted(),
             user.getCreatedAt(),
             LocalDateTime.now(),
-            user.getLastActiveAt()
+            user.getLastActiveAt(),
+            user.isDormant()
         );
     }
     
@@ -77,7 +86,8 @@ public class UserJpaEntity extends BaseEntity {
             this.createdAt,
             this.updatedAt,
             this.lastActiveAt,
-            this.isDeleted
+            this.isDeleted,
+            this.isDormant
         );
     }
     
@@ -88,6 +98,7 @@ public class UserJpaEntity extends BaseEntity {
     public String getPassword() { return password; }
     public boolean isDeleted() { return isDeleted; }
     public LocalDateTime getLastActiveAt() { return lastActiveAt; }
+    public boolean isDormant() { return isDormant; }
     
     /**
      * updateFromDomain 패턴 - 도메인 객체로부터 일괄 업데이트
@@ -99,6 +110,7 @@ public class UserJpaEntity extends BaseEntity {
         this.password = user.getPassword();
         this.isDeleted = user.isDeleted();
         this.lastActiveAt = user.getLastActiveAt();
+        this.isDormant = user.isDormant();
         this.updatedAt = LocalDateTime.now();
     }
     
@@ -1,6 +1,7 @@
 package com.puppytalk.user;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import java.time.LocalDateTime;
@@ -52,7 +53,49 @@ public interface UserJpaRepository extends JpaRepository<UserJpaEntity, Long> {
     long countDeletedUsers();
     
     /**
-     * 특정 시간 이전에 활동한 비활성 사용자 목록 조회 (삭제되지 않은 사용자만)
+     * 특정 시간 이전에 활동한 비활성 사용자 ID 조회 (삭제되지 않은 사용자만, 키셋 페이징)
+     * ID만 프로젝션하므로 엔티티가 영속성 컨텍스트에 로딩되지 않는다
      */
-    List<UserJpaEntity> findByLastActiveAtBeforeAndIsDeletedFalse(LocalDateTime cutoffTime);
-}
\ No newline at end of file
+    @Query("SELECT u.id FROM UserJpaEntity u " +
+           "WHERE u.lastActiveAt < :cutoffTime " +
+           "AND u.isDeleted = false " +
+           "AND u.id > :afterUserId " +
+           "ORDER BY u.id ASC " +
+           "LIMIT :limit")
+    List<Long> findInactiveUserIds(
+        @Param("cutoffTime") LocalDateTime cutoffTime,
+        @Param("afterUserId") Long afterUserId,
+        @Param("limit") int limit
+    );
+    
+    /**
+     * 휴면 전환 대상 사용자 ID 조회 (삭제/휴면 사용자 제외, 키셋 페이징)
+     */
+    @Query("SELECT u.id FROM UserJpaEntity u " +
+           "WHERE u.lastActiveAt < :cutoffTime " +
+           "AND u.isDormant = false " +
+           "AND u.isDeleted = false " +
+           "AND u.id > :afterUserId " +
+           "ORDER BY u.id ASC " +
+           "LIMIT :limit")
+    List<Long> findDormantCandidateIds(
+        @Param("cutoffTime") LocalDateTime cutoffTime,
+        @Param("afterUserId") Long afterUserId,
+        @Param("limit") int limit
+    );
+    
+    /**
+     * 사용자 일괄 휴면 전환 (조회 이후 활동했거나 삭제된 사용자 제외)
+     * 활동 여부만 바뀌므로 버전과 수정 시각은 변경하지 않는다
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE UserJpaEntity u SET u.isDormant = true " +
+           "WHERE u.id IN :userIds " +
+           "AND u.lastActiveAt < :cutoffTime " +
+           "AND u.isDormant = false " +
+           "AND u.isDeleted = false")
+    int markDormant(
+        @Param("userIds") List<Long> userIds,
+        @Param("cutoffTime") LocalDateTime cutoffTime
+    );
+}
@@ -96,12 +96,38 @@ public class UserRepositoryImpl implements UserRepository {
     }
     
     @Override
-    public List<Long> findInactiveUsers(LocalDateTime cutoffTime) {
+    public List<Long> findInactiveUserIds(LocalDateTime cutoffTime, Long afterUserId, int limit) {
         Assert.notNull(cutoffTime, "Cutoff time must not be null");
+        Assert.isTrue(limit > 0, "Limit must be positive");
         
-        return userJpaRepository.findByLastActiveAtBeforeAndIsDeletedFalse(cutoffTime)
-            .stream()
-            .map(UserJpaEntity::getId)
-            .toList();
+        return userJpaRepository.findInactiveUserIds(
+            cutoffTime,
+            afterUserId != null ? afterUserId : 0L,
+            limit
+        );
+    }
+    
+    @Override
+    public List<Long> findDormantCandidateIds(LocalDateTime cutoffTime, Long afterUserId, int limit) {
+        Assert.notNull(cutoffTime, "Cutoff time must not be null");
+        Assert.isTrue(limit > 0, "Limit must be positive");
+        
+        return userJpaRepository.findDormantCandidateIds(
+            cutoffTime,
+            afterUserId != null ? afterUserId : 0L,
+            limit
+        );
+    }
+    
+    @Override
+    public int markDormant(List<Long> userIds, LocalDateTime cutoffTime) {
+        Assert.notNull(userIds, "User IDs must not be null");
+        Assert.notNull(cutoffTime, "Cutoff time must not be null");
+        
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+        
+        return userJpaRepository.markDormant(userIds, cutoffTime);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,140 @@
+package com.puppytalk.user;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자 활동시간을 메모리에 모아 주기적으로 일괄 반영하는 기록기
+ * <p>
+ * 사용자별로 가장 최근 활동시각만 유지하고, {@code app.user-activity.flush-interval-ms}마다
+ * {@code UPDATE ... CASE} 한 문장으로 최대 {@code batch-size}명씩 반영한다.
+ * 엔티티를 조회하지 않고 버전 컬럼도 변경하지 않으므로 요청 간 낙관적 락 충돌이 없으며,
+ * 이미 더 최근 시각이 저장되어 있으면 유지한다. 활동이 반영된 사용자는 휴면 상태가 해제된다.
+ * 반영 실패 시 다음 주기에 다시 시도하고,
+ * 종료 시 남은 기록을 반영한다 (비정상 종료 시 마지막 주기의 기록은 유실될 수 있음).
+ */
+@Component
+public class WriteBehindUserActivityRecorder implements UserActivityRecorder, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(WriteBehindUserActivityRecorder.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final Map<Long, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+    private final LongAdder recorded = new LongAdder();
+    private final LongAdder flushedRows = new LongAdder();
+
+    public WriteBehindUserActivityRecorder(
+        JdbcTemplate jdbcTemplate,
+        @Value("${app.user-activity.batch-size:500}") int batchSize
+    ) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void record(UserId userId, LocalDateTime activeAt) {
+        if (userId == null || userId.value() == null || activeAt == null) {
+            throw new IllegalArgumentException("UserId and activeAt must not be null");
+        }
+        pending.merge(userId.value(), activeAt, (previous, current) -> current.isAfter(previous) ? current : previous);
+        recorded.increment();
+    }
+
+    /**
+     * 모아 둔 활동시간을 반영한다
+     *
+     * @return 반영한 사용자 수
+     */
+    @Scheduled(fixedDelayString = "${app.user-activity.flush-interval-ms:5000}")
+    public synchronized int flush() {
+        int flushed = 0;
+        Iterator<Long> userIds = pending.keySet().iterator();
+
+        while (userIds.hasNext()) {
+            Map<Long, LocalDateTime> batch = new LinkedHashMap<>();
+            while (userIds.hasNext() && batch.size() < batchSize) {
+                Long userId = userIds.next();
+                LocalDateTime activeAt = pending.remove(userId);
+                if (activeAt != null) {
+                    batch.put(userId, activeAt);
+                }
+            }
+            if (batch.isEmpty()) {
+                continue;
+            }
+
+            try {
+                updateLastActiveAt(batch);
+                flushed += batch.size();
+            } catch (RuntimeException e) {
+                // 다음 주기에 다시 반영 (그 사이 들어온 더 최근 기록은 유지)
+                batch.forEach((userId, activeAt) -> pending.merge(userId, activeAt,
+                    (current, failed) -> current.isAfter(failed) ? current : failed));
+                log.warn("Failed to flush user activity: users={}, error={}", batch.size(), e.getMessage());
+                break;
+            }
+        }
+
+        flushedRows.add(flushed);
+        return flushed;
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    public long recordedCount() {
+        return recorded.sum();
+    }
+
+    public long flushedCount() {
+        return flushedRows.sum();
+    }
+
+    @Override
+    public void destroy() {
+        int flushed = flush();
+        log.info("User activity flushed on shutdown: users={}, remaining={}", flushed, pending.size());
+    }
+
+    private void updateLastActiveAt(Map<Long, LocalDateTime> batch) {
+        StringBuilder caseClause = new StringBuilder();
+        StringBuilder inClause = new StringBuilder();
+        List<Object> caseArgs = new ArrayList<>(batch.size() * 2);
+        List<Object> idArgs = new ArrayList<>(batch.size());
+
+        for (Map.Entry<Long, LocalDateTime> entry : batch.entrySet()) {
+            caseClause.append(" WHEN ? THEN ?");
+            inClause.append(inClause.isEmpty() ? "?" : ", ?");
+            caseArgs.add(entry.getKey());
+            caseArgs.add(Timestamp.valueOf(entry.getValue()));
+            idArgs.add(entry.getKey());
+        }
+
+        String sql = "UPDATE users SET last_active_at = GREATEST(last_active_at, CASE id"
+            + caseClause + " ELSE last_active_at END), is_dormant = FALSE WHERE id IN (" + inClause + ")";
+
+        List<Object> args = new ArrayList<>(caseArgs);
+        args.addAll(idArgs);
+        jdbcTemplate.update(sql, args.toArray());
+    }
+}
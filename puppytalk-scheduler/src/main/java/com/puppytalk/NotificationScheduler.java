@@ -1,12 +1,24 @@
 package com.puppytalk;
 
-import com.puppytalk.notification.InactivityNotificationFacade;
+import com.puppytalk.batch.PartitionMaintenanceJob;
+import com.puppytalk.batch.PartitionMaintenanceJob.MaintenanceReport;
+import com.puppytalk.batch.PartitionMaintenanceJob.TableReport;
+import com.puppytalk.chat.MessageArchiveJob;
+import com.puppytalk.chat.MessageArchiveJob.ArchiveReport;
+import com.puppytalk.notification.NotificationDispatcher;
+import com.puppytalk.notification.NotificationDispatcher.DispatchReport;
 import com.puppytalk.notification.NotificationFacade;
-import com.puppytalk.pet.PetFacade;
+import com.puppytalk.notification.NotificationPurgeJob;
+import com.puppytalk.notification.NotificationPurgeJob.PurgeReport;
+import com.puppytalk.notification.UnreadCountReconciliationJob;
+import com.puppytalk.notification.UnreadCountReconciliationJob.ReconcileReport;
+import com.puppytalk.scheduler.InactivityNotificationPipeline;
+import com.puppytalk.scheduler.InactivityNotificationPipeline.PipelineReport;
+import com.puppytalk.scheduler.InactivityNotificationPipeline.StageReport;
 import com.puppytalk.scheduler.LogFormats;
-import com.puppytalk.user.UserFacade;
+import com.puppytalk.user.DormantUserBatchJob;
+import com.puppytalk.user.DormantUserBatchJob.BatchReport;
 import java.time.LocalDateTime;
-import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -17,23 +29,34 @@ public class NotificationScheduler {
 
     private static final Logger log = LoggerFactory.getLogger(NotificationScheduler.class);
     private static final int INTERVAL_30_MINUTES = 1800000;
-    private static final int INTERVAL_5_MINUTES = 300000;
 
     private final NotificationFacade notificationFacade;
-    private final InactivityNotificationFacade inactivityNotificationFacade;
-    private final PetFacade petFacade;
-    private final UserFacade userFacade;
+    private final NotificationDispatcher notificationDispatcher;
+    private final InactivityNotificationPipeline inactivityNotificationPipeline;
+    private final DormantUserBatchJob dormantUserBatchJob;
+    private final UnreadCountReconciliationJob unreadCountReconciliationJob;
+    private final NotificationPurgeJob notificationPurgeJob;
+    private final PartitionMaintenanceJob partitionMaintenanceJob;
+    private final MessageArchiveJob messageArchiveJob;
 
     public NotificationScheduler(
         NotificationFacade notificationFacade,
-        InactivityNotificationFacade inactivityNotificationFacade,
-        PetFacade petFacade,
-        UserFacade userFacade
+        NotificationDispatcher notificationDispatcher,
+        InactivityNotificationPipeline inactivityNotificationPipeline,
+        DormantUserBatchJob dormantUserBatchJob,
+        UnreadCountReconciliationJob unreadCountReconciliationJob,
+        NotificationPurgeJob notificationPurgeJob,
+        PartitionMaintenanceJob partitionMaintenanceJob,
+        MessageArchiveJob messageArchiveJob
     ) {
         this.notificationFacade = notificationFacade;
-        this.inactivityNotificationFacade = inactivityNotificationFacade;
-        this.petFacade = petFacade;
-        this.userFacade = userFacade;
+        this.notificationDispatcher = notificationDispatcher;
+        this.inactivityNotificationPipeline = inactivityNotificationPipeline;
+        this.dormantUserBatchJob = dormantUserBatchJob;
+        this.unreadCountReconciliationJob = unreadCountReconciliationJob;
+        this.notificationPurgeJob = notificationPurgeJob;
+        this.partitionMaintenanceJob = partitionMaintenanceJob;
+        this.messageArchiveJob = messageArchiveJob;
     }
 
     /**
@@ -45,30 +68,21 @@ public class NotificationScheduler {
         log.info(LogFormats.SCHEDULER_START, "detectInactiveUsersAndCreateNotifications", LocalDateTime.now());
 
         try {
-            // 1. 2시간 동안 접속하지 않은 사용자 탐색
-            List<Long> inactiveUserIds = notificationFacade.findInactiveUsersForNotification();
-            
-            log.info(LogFormats.INACTIVE_USER_DETECTION_START, 2, inactiveUserIds.size());
-
-            if (inactiveUserIds.isEmpty()) {
-                long duration = System.currentTimeMillis() - startTime;
-                log.info(LogFormats.INACTIVE_USER_DETECTION_COMPLETE, 0, 0, duration);
-                return;
+            // 2시간 동안 접속하지 않은 사용자를 페이지 단위로 읽는 대로 AI 개인화 알림 생성 (병렬 파이프라인)
+            PipelineReport report = inactivityNotificationPipeline.run(
+                notificationFacade::forEachInactivityNotificationTargetPage
+            );
+            int createdNotifications = report.created();
+
+            log.info(LogFormats.INACTIVE_PIPELINE_SUMMARY,
+                report.failed(), report.timedOut(), report.deferred());
+            for (StageReport stage : report.stages()) {
+                log.info(LogFormats.INACTIVE_PIPELINE_STAGE, stage.stage(), stage.processed(), stage.failed(),
+                    stage.throughputPerSecond(), stage.avgLatencyMillis(), stage.maxLatencyMillis());
             }
 
-            int createdNotifications = 0;
-            for (Long userId : inactiveUserIds) {
-                try {
-                    // AI 서비스를 호출하여 개인화된 메시지를 생성
-                    createInactivityNotificationForUser(userId);
-                    createdNotifications++;
-                } catch (Exception e) {
-                    log.error("Failed to create inactivity notification for user {}: {}", userId, e.getMessage(), e);
-                }
-            }
-            
             long duration = System.currentTimeMillis() - startTime;
-            log.info(LogFormats.INACTIVE_USER_DETECTION_COMPLETE, inactiveUserIds.size(), createdNotifications, duration);
+            log.info(LogFormats.INACTIVE_USER_DETECTION_COMPLETE, report.targetUsers(), createdNotifications, duration);
             
         } catch (Exception e) {
             long duration = System.currentTimeMillis() - startTime;
@@ -77,19 +91,22 @@ public class NotificationScheduler {
     }
 
     /**
-     * 발송 대기 중인 알림 처리 (5분마다)
+     * 발송 대기 중인 알림 처리 (이전 실행 종료 후 10초마다) <br> 알림을 선점하여 동시 발송하므로 여러 노드에서 실행해도 중복 발송되지 않음
      */
-    @Scheduled(fixedRate = INTERVAL_5_MINUTES)
+    @Scheduled(fixedDelayString = "${notification.dispatch.interval-ms:10000}")
     public void processPendingNotifications() {
         long startTime = System.currentTimeMillis();
-        log.info(LogFormats.NOTIFICATION_SCHEDULER_START, "processPendingNotifications", 100);
 
         try {
-            // NotificationFacade에 위임하여 처리
-            notificationFacade.processPendingNotifications(100);
+            DispatchReport report = notificationDispatcher.dispatchPending();
+            if (report.claimed() == 0) {
+                return;
+            }
             
-            long duration = System.currentTimeMillis() - startTime;
-            log.info(LogFormats.NOTIFICATION_BATCH_PROCESSED, "processPendingNotifications", 100, 0);
+            log.info(LogFormats.NOTIFICATION_BATCH_PROCESSED, "processPendingNotifications", report.sent(), report.failed());
+            log.info(LogFormats.NOTIFICATION_DISPATCH_SUMMARY,
+                report.batches(), report.claimed(), report.retried(), report.deadLettered(),
+                report.unfinished(), report.stale(), report.durationMillis());
             
         } catch (Exception e) {
             long duration = System.currentTimeMillis() - startTime;
@@ -97,24 +114,42 @@ public class NotificationScheduler {
         }
     }
 
+    /**
+     * 알림/메시지 월 파티션 유지 (기본 매일 새벽 2시 30분) <br> 행 단위 정리 전에 보관 기간이 지난 파티션을 통째로 제거
+     */
+    @Scheduled(cron = "${app.partitioning.cron:0 30 2 * * *}")
+    public void maintainPartitions() {
+        long startTime = System.currentTimeMillis();
+
+        try {
+            MaintenanceReport report = partitionMaintenanceJob.run();
+            for (TableReport table : report.tables()) {
+                log.info(LogFormats.PARTITION_MAINTENANCE_COMPLETE,
+                    table.table(), table.partitioned(), table.created(), table.expired(), report.durationMillis());
+            }
 
+        } catch (Exception e) {
+            long duration = System.currentTimeMillis() - startTime;
+            log.error(LogFormats.SCHEDULER_ERROR, "maintainPartitions", e.getMessage(), duration, e);
+        }
+    }
+    
     /**
-     * 만료된/오래된 알림 정리 (매일 새벽 3시)
+     * 만료된/오래된 알림 정리 (기본 매일 새벽 3시) <br> 청크 단위로 쉬어가며 삭제하고, 실행 예산을 넘기면 다음 실행에서 이어서 처리
      */
-    @Scheduled(cron = "0 0 3 * * *")
+    @Scheduled(cron = "${notification.purge.cron:0 0 3 * * *}")
     public void cleanupNotifications() {
         long startTime = System.currentTimeMillis();
         log.info(LogFormats.SCHEDULER_START, "cleanupNotifications", LocalDateTime.now());
 
         try {
-            // 만료된 알림 정리
-            int expiredCount = notificationFacade.cleanupExpiredNotifications();
-
-            // 오래된 완료 알림 정리
-            int oldCount = notificationFacade.cleanupOldNotifications();
+            PurgeReport report = notificationPurgeJob.run();
 
-            long duration = System.currentTimeMillis() - startTime;
-            log.info(LogFormats.NOTIFICATION_CLEANUP_COMPLETE, expiredCount, oldCount, duration);
+            log.info(LogFormats.NOTIFICATION_CLEANUP_COMPLETE,
+                report.expired().deleted(), report.completed().deleted(), report.durationMillis());
+            log.info(LogFormats.NOTIFICATION_PURGE_SUMMARY,
+                report.expired().chunks(), report.expired().completed(),
+                report.completed().chunks(), report.completed().completed());
 
         } catch (Exception e) {
             long duration = System.currentTimeMillis() - startTime;
@@ -123,50 +158,68 @@ public class NotificationScheduler {
     }
     
     /**
-     * 휴면 사용자 배치 처리 (매일 새벽 2시)
+     * 미읽은 알림 카운터 보정 (기본 매일 새벽 4시) <br> 알림 정리 이후 실행하여 일괄 삭제 중 생긴 오차까지 보정
      */
-    @Scheduled(cron = "0 0 2 * * *")
-    public void processDormantUsers() {
+    @Scheduled(cron = "${notification.unread-count.reconcile-cron:0 0 4 * * *}")
+    public void reconcileUnreadCounts() {
         long startTime = System.currentTimeMillis();
-        log.info(LogFormats.SCHEDULER_START, "processDormantUsers", LocalDateTime.now());
+        log.info(LogFormats.SCHEDULER_START, "reconcileUnreadCounts", LocalDateTime.now());
 
         try {
-            int processedCount = userFacade.processDormantUsers();
-            
-            long duration = System.currentTimeMillis() - startTime;
-            log.info(LogFormats.SCHEDULER_COMPLETE, "processDormantUsers", duration, processedCount);
-            
+            ReconcileReport report = unreadCountReconciliationJob.run();
+
+            log.info(LogFormats.UNREAD_COUNT_RECONCILE_COMPLETE,
+                report.resumedFrom(), report.chunks(), report.scanned(), report.corrected(), report.durationMillis());
+
         } catch (Exception e) {
             long duration = System.currentTimeMillis() - startTime;
-            log.error(LogFormats.SCHEDULER_ERROR, "processDormantUsers", e.getMessage(), duration, e);
+            log.error(LogFormats.SCHEDULER_ERROR, "reconcileUnreadCounts", e.getMessage(), duration, e);
         }
     }
-
+    
     /**
-     * AI 기반 개인화 비활성 알림 생성<br> 알림 생성 과정:<br>
-     * 1. 사용자의 반려동물 조회<br>
-     * 2. 채팅방 조회<br>
-     * 3. 이전 대화 내역 분석<br>
-     * 4. 반려동물 페르소나 + 이전 대화 내역 기반 AI 메시지 생성<br>
-     * 5. 알림 생성<br>
+     * 오래된 채팅 메시지 보관 (기본 매일 새벽 5시) <br> 압축 보관 파일로 옮긴 뒤 테이블에서 삭제하며, 중단 시 다음 실행에서 이어서 처리
      */
-    private void createInactivityNotificationForUser(Long userId) {
-        try {
-            // 1. 사용자의 반려동물 조회
-            Long petId = petFacade.findFirstPetByUserId(userId);
+    @Scheduled(cron = "${chat.archive.cron:0 0 5 * * *}")
+    public void archiveMessages() {
+        long startTime = System.currentTimeMillis();
 
-            if (petId == null) {
-                log.warn("No pet found for user: userId={}", userId);
+        try {
+            ArchiveReport report = messageArchiveJob.run();
+            if (report.chunks() == 0) {
                 return;
             }
 
-            // 2. 알림 생성
-            inactivityNotificationFacade.createInactivityNotification(userId, petId);
-            log.info(LogFormats.INACTIVE_NOTIFICATION_CREATED, userId, petId, "INACTIVITY");
+            log.info(LogFormats.MESSAGE_ARCHIVE_COMPLETE, report.resumedFrom(), report.chunks(), report.scanned(),
+                report.archived(), report.completed(), report.durationMillis());
+
+        } catch (Exception e) {
+            long duration = System.currentTimeMillis() - startTime;
+            log.error(LogFormats.SCHEDULER_ERROR, "archiveMessages", e.getMessage(), duration, e);
+        }
+    }
+    
+    /**
+     * 휴면 사용자 배치 처리 (매일 새벽 2시) <br> 청크 단위로 커밋하며, 중단 시 다음 실행에서 이어서 처리
+     */
+    @Scheduled(cron = "0 0 2 * * *")
+    public void processDormantUsers() {
+        long startTime = System.currentTimeMillis();
+        log.info(LogFormats.SCHEDULER_START, "processDormantUsers", LocalDateTime.now());
+
+        try {
+            BatchReport report = dormantUserBatchJob.run();
+            
+            log.info(LogFormats.DORMANT_PROCESSING_COMPLETE, report.scanned(), report.marked(), report.durationMillis());
+            log.info(LogFormats.DORMANT_BATCH_SUMMARY,
+                report.resumedFrom(), report.chunks(), report.throughputPerSecond());
+            
+            long duration = System.currentTimeMillis() - startTime;
+            log.info(LogFormats.SCHEDULER_COMPLETE, "processDormantUsers", duration, report.marked());
             
         } catch (Exception e) {
-            log.error("Failed to create inactivity notification: userId={}, error={}", userId, e.getMessage(), e);
-            throw e;
+            long duration = System.currentTimeMillis() - startTime;
+            log.error(LogFormats.SCHEDULER_ERROR, "processDormantUsers", e.getMessage(), duration, e);
         }
     }
 
@@ -0,0 +1,325 @@
+package com.puppytalk.scheduler;
+
+import com.puppytalk.notification.InactivityNotificationFacade;
+import com.puppytalk.notification.dto.request.InactivityNotificationTarget;
+import com.puppytalk.notification.dto.response.InactivityNotificationBatchResult;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비활성 사용자 알림 생성 파이프라인
+ * <p>
+ * 대상 페이지를 읽는 대로 {@code batchSize} 단위로 묶어 전용 스레드 풀에서 병렬로 처리한다.
+ * 배치마다 AI 메시지를 한 번의 배치 호출로 생성하고 알림을 저장한다.
+ * <ul>
+ *   <li>동시 실행 배치 수는 {@code maxConcurrency}로 제한되며, 한도에 도달하면 다음 배치 제출과 다음 페이지 조회가 대기한다
+ *       (backpressure, 메모리에는 현재 페이지와 실행 중인 배치만 유지된다)</li>
+ *   <li>배치 처리 시간이 {@code batchTimeout}을 넘으면 해당 배치의 사용자를 타임아웃으로 집계한다</li>
+ *   <li>실행 예산({@code runBudget})을 넘기면 남은 사용자는 제출하지 않고 다음 실행으로 미루며, 남은 페이지는 조회하지 않는다
+ *       (미룬 수는 마지막으로 읽은 페이지까지만 집계한 하한값이다)</li>
+ * </ul>
+ * 단계별 처리량/지연 시간은 {@link PipelineReport}로 반환된다.
+ */
+@Component
+public class InactivityNotificationPipeline implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(InactivityNotificationPipeline.class);
+
+    private static final String STAGE_NOTIFICATION = "notificationBatch";
+
+    private final InactivityNotificationFacade inactivityNotificationFacade;
+    private final int maxConcurrency;
+    private final int batchSize;
+    private final long batchTimeoutMillis;
+    private final long runBudgetMillis;
+    private final ThreadPoolExecutor executor;
+
+    public InactivityNotificationPipeline(
+        InactivityNotificationFacade inactivityNotificationFacade,
+        @Value("${scheduler.inactivity.max-concurrency:4}") int maxConcurrency,
+        @Value("${scheduler.inactivity.batch-size:50}") int batchSize,
+        @Value("${scheduler.inactivity.batch-timeout-ms:120000}") long batchTimeoutMillis,
+        @Value("${scheduler.inactivity.run-budget-ms:1500000}") long runBudgetMillis
+    ) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("maxConcurrency must be positive: " + maxConcurrency);
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+        }
+        if (batchTimeoutMillis <= 0 || runBudgetMillis <= 0) {
+            throw new IllegalArgumentException("timeouts must be positive");
+        }
+
+        this.inactivityNotificationFacade = inactivityNotificationFacade;
+        this.maxConcurrency = maxConcurrency;
+        this.batchSize = batchSize;
+        this.batchTimeoutMillis = batchTimeoutMillis;
+        this.runBudgetMillis = runBudgetMillis;
+
+        // 제출은 세마포어로 제한되므로 큐에는 최대 maxConcurrency 개의 작업만 쌓인다
+        this.executor = new ThreadPoolExecutor(
+            maxConcurrency, maxConcurrency,
+            60L, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            new PipelineThreadFactory()
+        );
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * 대상 페이지를 순회하며 비활성 알림 생성을 배치 단위로 병렬 실행한다.
+     * 모든 제출 작업이 완료되거나 타임아웃될 때까지 대기한다.
+     *
+     * @param targets 알림 대상 페이지 공급원
+     * @return 실행 결과 및 단계별 통계
+     */
+    public PipelineReport run(TargetSource targets) {
+        long startNanos = System.nanoTime();
+        long deadlineNanos = startNanos + TimeUnit.MILLISECONDS.toNanos(runBudgetMillis);
+
+        Semaphore permits = new Semaphore(maxConcurrency);
+        StageStats notificationStats = new StageStats(STAGE_NOTIFICATION);
+        List<CompletableFuture<BatchOutcome>> inFlight = new ArrayList<>();
+        OutcomeTotals totals = new OutcomeTotals();
+
+        targets.forEachPage(page -> {
+            totals.targetUsers += page.size();
+            for (int from = 0; from < page.size(); from += batchSize) {
+                // 예산을 넘기거나 제출이 거절되면 이번 실행에서는 더 제출하지 않는다
+                if (totals.stopped || !acquire(permits, deadlineNanos)) {
+                    totals.stopped = true;
+                    totals.deferred += page.size() - from;
+                    break;
+                }
+
+                List<InactivityNotificationTarget> batch = page.subList(from, Math.min(from + batchSize, page.size()));
+                try {
+                    CompletableFuture<BatchOutcome> future = CompletableFuture.supplyAsync(() -> {
+                        try {
+                            return processBatch(batch, notificationStats);
+                        } finally {
+                            // 타임아웃 이후에도 실제 작업이 끝날 때까지 슬롯을 점유해야 동시성 한도가 지켜진다
+                            permits.release();
+                        }
+                    }, executor);
+                    inFlight.add(future
+                        .orTimeout(batchTimeoutMillis, TimeUnit.MILLISECONDS)
+                        .handle((outcome, error) -> error == null ? outcome : toFailureOutcome(batch, error)));
+                } catch (RejectedExecutionException e) {
+                    permits.release();
+                    log.warn("Inactivity pipeline rejected submission: batchSize={}, error={}", batch.size(), e.getMessage());
+                    totals.stopped = true;
+                    totals.deferred += page.size() - from;
+                    break;
+                }
+            }
+
+            // 완료된 배치는 집계 후 목록에서 제거하여 실행 중인 배치만 유지한다
+            inFlight.removeIf(future -> {
+                if (!future.isDone()) {
+                    return false;
+                }
+                totals.add(future.join());
+                return true;
+            });
+
+            // 멈춘 뒤에는 남은 페이지를 읽지 않는다
+            return !totals.stopped;
+        });
+
+        CompletableFuture.allOf(inFlight.toArray(new CompletableFuture[0])).join();
+        inFlight.forEach(future -> totals.add(future.join()));
+
+        long elapsedNanos = System.nanoTime() - startNanos;
+        return new PipelineReport(
+            totals.targetUsers,
+            totals.created,
+            totals.failed,
+            totals.timedOut,
+            totals.deferred,
+            TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+            List.of(notificationStats.snapshot(elapsedNanos))
+        );
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private boolean acquire(Semaphore permits, long deadlineNanos) {
+        long remainingNanos = deadlineNanos - System.nanoTime();
+        if (remainingNanos <= 0) {
+            return false;
+        }
+
+        try {
+            return permits.tryAcquire(remainingNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private BatchOutcome processBatch(List<InactivityNotificationTarget> targets, StageStats notificationStats) {
+        InactivityNotificationBatchResult result = notificationStats.measure(
+            () -> inactivityNotificationFacade.createInactivityNotifications(targets)
+        );
+        for (Long failedUserId : result.failedUserIds()) {
+            log.warn("Failed to create inactivity notification: userId={}", failedUserId);
+        }
+
+        return new BatchOutcome(result.createdCount(), result.failedCount(), 0);
+    }
+
+    private BatchOutcome toFailureOutcome(List<InactivityNotificationTarget> batch, Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null
+            ? error.getCause()
+            : error;
+
+        if (cause instanceof TimeoutException) {
+            log.warn("Inactivity notification batch timed out: batchSize={}, timeout={}ms", batch.size(), batchTimeoutMillis);
+            return new BatchOutcome(0, 0, batch.size());
+        }
+
+        log.error("Failed to create inactivity notification batch: batchSize={}, error={}", batch.size(), cause.getMessage(), cause);
+        return new BatchOutcome(0, batch.size(), 0);
+    }
+
+    private record BatchOutcome(int created, int failed, int timedOut) {
+    }
+
+    /**
+     * 알림 대상 페이지 공급원 (페이지를 읽는 대로 처리기에 전달하고, 처리기가 false를 반환하면 다음 페이지를 읽지 않는다)
+     */
+    @FunctionalInterface
+    public interface TargetSource {
+
+        void forEachPage(Predicate<List<InactivityNotificationTarget>> pageHandler);
+    }
+
+    // 페이지 처리기는 스케줄러 스레드에서만 호출되므로 동기화하지 않는다
+    private static final class OutcomeTotals {
+
+        private int targetUsers;
+        private int created;
+        private int failed;
+        private int timedOut;
+        private int deferred;
+        private boolean stopped;
+
+        private void add(BatchOutcome outcome) {
+            created += outcome.created();
+            failed += outcome.failed();
+            timedOut += outcome.timedOut();
+        }
+    }
+
+    /**
+     * 파이프라인 실행 결과
+     *
+     * @param targetUsers 대상 사용자 수
+     * @param created 알림 생성 성공 수
+     * @param failed 실패 수
+     * @param timedOut 배치 타임아웃으로 집계된 사용자 수
+     * @param deferred 실행 예산 초과로 다음 실행으로 미룬 최소 수 (읽지 않은 페이지는 포함하지 않음)
+     * @param durationMillis 전체 소요 시간
+     * @param stages 단계별 통계
+     */
+    public record PipelineReport(
+        int targetUsers,
+        int created,
+        int failed,
+        int timedOut,
+        int deferred,
+        long durationMillis,
+        List<StageReport> stages
+    ) {
+    }
+
+    /**
+     * 단계별 처리량/지연 시간 통계
+     */
+    public record StageReport(
+        String stage,
+        long processed,
+        long failed,
+        double throughputPerSecond,
+        long avgLatencyMillis,
+        long maxLatencyMillis
+    ) {
+    }
+
+    private static final class StageStats {
+
+        private final String name;
+        private final LongAdder processed = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        private StageStats(String name) {
+            this.name = name;
+        }
+
+        private <T> T measure(Supplier<T> stage) {
+            long start = System.nanoTime();
+            try {
+                return stage.get();
+            } catch (RuntimeException e) {
+                failed.increment();
+                throw e;
+            } finally {
+                long elapsed = System.nanoTime() - start;
+                processed.increment();
+                totalNanos.add(elapsed);
+                maxNanos.accumulateAndGet(elapsed, Math::max);
+            }
+        }
+
+        private StageReport snapshot(long wallClockNanos) {
+            long count = processed.sum();
+            double seconds = wallClockNanos / 1_000_000_000.0;
+            return new StageReport(
+                name,
+                count,
+                failed.sum(),
+                seconds > 0 ? Math.round(count / seconds * 100) / 100.0 : 0.0,
+                count > 0 ? TimeUnit.NANOSECONDS.toMillis(totalNanos.sum() / count) : 0L,
+                TimeUnit.NANOSECONDS.toMillis(maxNanos.get())
+            );
+        }
+    }
+
+    private static final class PipelineThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "inactivity-pipeline-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -15,16 +15,25 @@ public final class LogFormats {
     public static final String DORMANT_USER_PROCESSED = "DORMANT_USER_PROCESSED: userId={}, lastActiveAt={}";
     public static final String DORMANT_USER_SKIPPED = "DORMANT_USER_SKIPPED: userId={}, reason={}";
     public static final String DORMANT_PROCESSING_COMPLETE = "DORMANT_PROCESSING_COMPLETE: totalCandidates={}, processedCount={}, duration={}ms";
+    public static final String DORMANT_BATCH_SUMMARY = "DORMANT_BATCH_SUMMARY: resumedFrom={}, chunks={}, throughput={}/s";
     
     // 알림 처리 스케줄러
-    public static final String NOTIFICATION_SCHEDULER_START = "NOTIFICATION_SCHEDULER_START: jobType={}, batchSize={}";
     public static final String NOTIFICATION_BATCH_PROCESSED = "NOTIFICATION_BATCH_PROCESSED: jobType={}, processedCount={}, failedCount={}";
+    public static final String NOTIFICATION_DISPATCH_SUMMARY = "NOTIFICATION_DISPATCH_SUMMARY: batches={}, claimed={}, retried={}, deadLettered={}, unfinished={}, stale={}, duration={}ms";
     public static final String NOTIFICATION_CLEANUP_COMPLETE = "NOTIFICATION_CLEANUP_COMPLETE: expiredCount={}, oldCount={}, duration={}ms";
+    public static final String NOTIFICATION_PURGE_SUMMARY = "NOTIFICATION_PURGE_SUMMARY: expiredChunks={}, expiredFinished={}, completedChunks={}, completedFinished={}";
+    public static final String UNREAD_COUNT_RECONCILE_COMPLETE = "UNREAD_COUNT_RECONCILE_COMPLETE: resumedFrom={}, chunks={}, scannedUsers={}, corrected={}, duration={}ms";
+    
+    // 파티션 유지 스케줄러
+    public static final String PARTITION_MAINTENANCE_COMPLETE = "PARTITION_MAINTENANCE_COMPLETE: table={}, partitioned={}, created={}, expired={}, duration={}ms";
+    
+    // 메시지 보관 스케줄러
+    public static final String MESSAGE_ARCHIVE_COMPLETE = "MESSAGE_ARCHIVE_COMPLETE: resumedFrom={}, chunks={}, moved={}, archived={}, finished={}, duration={}ms";
     
     // 비활성 사용자 감지 스케줄러
-    public static final String INACTIVE_USER_DETECTION_START = "INACTIVE_USER_DETECTION_START: cutoffHours={}, targetUserCount={}";
-    public static final String INACTIVE_NOTIFICATION_CREATED = "INACTIVE_NOTIFICATION_CREATED: userId={}, petId={}, notificationType={}";
     public static final String INACTIVE_USER_DETECTION_COMPLETE = "INACTIVE_USER_DETECTION_COMPLETE: targetUsers={}, createdNotifications={}, duration={}ms";
+    public static final String INACTIVE_PIPELINE_SUMMARY = "INACTIVE_PIPELINE_SUMMARY: failed={}, timedOut={}, deferredAtLeast={}";
+    public static final String INACTIVE_PIPELINE_STAGE = "INACTIVE_PIPELINE_STAGE: stage={}, processed={}, failed={}, throughput={}/s, avgLatency={}ms, maxLatency={}ms";
     
     private LogFormats() {
         throw new UnsupportedOperationException("Utility class cannot be instantiated");
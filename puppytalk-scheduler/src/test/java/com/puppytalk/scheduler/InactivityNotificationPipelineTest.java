@@ -0,0 +1,130 @@
+package com.puppytalk.scheduler;
+
+import com.puppytalk.notification.InactivityNotificationFacade;
+import com.puppytalk.notification.dto.request.InactivityNotificationTarget;
+import com.puppytalk.notification.dto.response.InactivityNotificationBatchResult;
+import com.puppytalk.scheduler.InactivityNotificationPipeline.PipelineReport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class InactivityNotificationPipelineTest {
+
+    @Mock
+    private InactivityNotificationFacade inactivityNotificationFacade;
+
+    private InactivityNotificationPipeline pipeline;
+
+    @AfterEach
+    void tearDown() {
+        if (pipeline != null) {
+            pipeline.destroy();
+        }
+    }
+
+    @Test
+    void 사용자를_배치로_묶어_동시_실행_수_한도_내에서_처리한다() {
+        // Given
+        pipeline = new InactivityNotificationPipeline(inactivityNotificationFacade, 2, 10, 5_000L, 60_000L);
+        List<InactivityNotificationTarget> targets = targets(1, 95);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        doAnswer(invocation -> {
+            List<InactivityNotificationTarget> targets = invocation.getArgument(0);
+            int current = running.incrementAndGet();
+            maxRunning.accumulateAndGet(current, Math::max);
+            Thread.sleep(20);
+            running.decrementAndGet();
+            return new InactivityNotificationBatchResult(targets.size(), targets.size(), List.of());
+        }).when(inactivityNotificationFacade).createInactivityNotifications(anyList());
+
+        // When
+        PipelineReport report = pipeline.run(pageHandler -> {
+            pageHandler.test(targets.subList(0, 50));
+            pageHandler.test(targets.subList(50, 95));
+        });
+
+        // Then
+        assertEquals(95, report.targetUsers());
+        assertEquals(95, report.created());
+        assertEquals(0, report.deferred());
+        assertTrue(maxRunning.get() <= 2, "max concurrency exceeded: " + maxRunning.get());
+        verify(inactivityNotificationFacade, times(10)).createInactivityNotifications(anyList());
+        assertEquals(1, report.stages().size());
+    }
+
+    @Test
+    void 배치_타임아웃과_항목별_실패를_구분하여_집계한다() {
+        // Given
+        pipeline = new InactivityNotificationPipeline(inactivityNotificationFacade, 2, 2, 100L, 60_000L);
+
+        doAnswer(invocation -> {
+            List<InactivityNotificationTarget> targets = invocation.getArgument(0);
+            if (targets.get(0).userId() == 1L) {
+                Thread.sleep(500);
+                return new InactivityNotificationBatchResult(2, 2, List.of());
+            }
+            return new InactivityNotificationBatchResult(2, 1, List.of(4L));
+        }).when(inactivityNotificationFacade).createInactivityNotifications(anyList());
+
+        // When
+        PipelineReport report = pipeline.run(pageHandler -> pageHandler.test(targets(1, 4)));
+
+        // Then
+        assertEquals(1, report.created());
+        assertEquals(1, report.failed());
+        assertEquals(2, report.timedOut());
+    }
+
+    @Test
+    void 실행_예산을_넘기면_남은_사용자는_제출하지_않고_남은_페이지는_읽지_않는다() {
+        // Given
+        pipeline = new InactivityNotificationPipeline(inactivityNotificationFacade, 1, 10, 5_000L, 50L);
+        List<Integer> readPages = new ArrayList<>();
+
+        doAnswer(invocation -> {
+            List<InactivityNotificationTarget> batch = invocation.getArgument(0);
+            Thread.sleep(200);
+            return new InactivityNotificationBatchResult(batch.size(), batch.size(), List.of());
+        }).when(inactivityNotificationFacade).createInactivityNotifications(anyList());
+
+        // When
+        PipelineReport report = pipeline.run(pageHandler -> {
+            for (int page = 0; page < 3; page++) {
+                readPages.add(page);
+                if (!pageHandler.test(targets(page * 10 + 1, page * 10 + 10))) {
+                    return;
+                }
+            }
+        });
+
+        // Then: 두 번째 페이지에서 예산을 넘겨 세 번째 페이지는 조회하지 않는다
+        assertEquals(2, readPages.size());
+        assertEquals(20, report.targetUsers());
+        assertEquals(10, report.created());
+        assertEquals(10, report.deferred());
+        verify(inactivityNotificationFacade, times(1)).createInactivityNotifications(anyList());
+    }
+
+    private static List<InactivityNotificationTarget> targets(long fromUserId, long toUserId) {
+        return LongStream.rangeClosed(fromUserId, toUserId)
+            .mapToObj(userId -> InactivityNotificationTarget.of(userId, userId, userId))
+            .toList();
+    }
+}
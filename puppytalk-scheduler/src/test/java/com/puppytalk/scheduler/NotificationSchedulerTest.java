@@ -1,20 +1,35 @@
 package com.puppytalk.scheduler;
 
 import com.puppytalk.NotificationScheduler;
+import com.puppytalk.batch.PartitionMaintenanceJob;
+import com.puppytalk.batch.PartitionMaintenanceJob.MaintenanceReport;
+import com.puppytalk.batch.PartitionMaintenanceJob.TableReport;
+import com.puppytalk.chat.MessageArchiveJob;
+import com.puppytalk.chat.MessageArchiveJob.ArchiveReport;
 import com.puppytalk.notification.InactivityNotificationFacade;
+import com.puppytalk.notification.NotificationDispatcher;
+import com.puppytalk.notification.NotificationDispatcher.DispatchReport;
 import com.puppytalk.notification.NotificationFacade;
+import com.puppytalk.notification.NotificationPurgeJob;
+import com.puppytalk.notification.NotificationPurgeJob.PurgeReport;
+import com.puppytalk.notification.NotificationPurgeJob.TargetReport;
+import com.puppytalk.notification.NotificationPurgeTarget;
+import com.puppytalk.notification.UnreadCountReconciliationJob;
+import com.puppytalk.notification.UnreadCountReconciliationJob.ReconcileReport;
+import com.puppytalk.notification.dto.request.InactivityNotificationTarget;
+import com.puppytalk.notification.dto.response.InactivityNotificationBatchResult;
 import com.puppytalk.notification.dto.response.NotificationListResult;
 import com.puppytalk.notification.dto.response.NotificationResult;
-import com.puppytalk.pet.PetFacade;
-import com.puppytalk.user.UserFacade;
+import com.puppytalk.user.DormantUserBatchJob;
+import com.puppytalk.user.DormantUserBatchJob.BatchReport;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.Collections;
 import java.util.List;
+import java.util.function.Predicate;
 
 import static org.mockito.Mockito.*;
 
@@ -24,93 +39,147 @@ class NotificationSchedulerTest {
     @Mock
     private NotificationFacade notificationFacade;
     
+    @Mock
+    private NotificationDispatcher notificationDispatcher;
+    
     @Mock
     private InactivityNotificationFacade inactivityNotificationFacade;
     
     @Mock
-    private PetFacade petFacade;
+    private DormantUserBatchJob dormantUserBatchJob;
     
     @Mock
-    private UserFacade userFacade;
+    private UnreadCountReconciliationJob unreadCountReconciliationJob;
+    
+    @Mock
+    private NotificationPurgeJob notificationPurgeJob;
+    
+    @Mock
+    private PartitionMaintenanceJob partitionMaintenanceJob;
+    
+    @Mock
+    private MessageArchiveJob messageArchiveJob;
 
     private NotificationScheduler notificationScheduler;
 
     @BeforeEach
     void setUp() {
-        notificationScheduler = new NotificationScheduler(notificationFacade, inactivityNotificationFacade, petFacade, userFacade);
+        InactivityNotificationPipeline pipeline = new InactivityNotificationPipeline(
+            inactivityNotificationFacade, 4, 50, 5_000L, 60_000L);
+        notificationScheduler = new NotificationScheduler(notificationFacade, notificationDispatcher, pipeline, dormantUserBatchJob,
+            unreadCountReconciliationJob, notificationPurgeJob, partitionMaintenanceJob,
+            messageArchiveJob);
     }
 
     @Test
     void 비활성_사용자_감지_및_알림_생성_테스트() {
         // Given
-        List<Long> inactiveUserIds = List.of(1L, 2L, 3L);
-        when(notificationFacade.findInactiveUsersForNotification())
-            .thenReturn(inactiveUserIds);
-        when(petFacade.findFirstPetByUserId(any()))
-            .thenReturn(1L); // Mock pet ID
+        List<InactivityNotificationTarget> targets = List.of(
+            InactivityNotificationTarget.of(1L, 11L, 21L),
+            InactivityNotificationTarget.of(2L, 12L, 22L),
+            InactivityNotificationTarget.of(3L, 13L, 23L)
+        );
+        givenTargetPages(targets);
+        when(inactivityNotificationFacade.createInactivityNotifications(anyList()))
+            .thenReturn(new InactivityNotificationBatchResult(3, 3, List.of()));
 
         // When
         notificationScheduler.detectInactiveUsersAndCreateNotifications();
 
         // Then
-        verify(notificationFacade).findInactiveUsersForNotification();
-        verify(petFacade, times(3)).findFirstPetByUserId(any());
-        verify(inactivityNotificationFacade, times(3)).createInactivityNotification(any(), any());
+        verify(notificationFacade).forEachInactivityNotificationTargetPage(any());
+        verify(inactivityNotificationFacade, times(1)).createInactivityNotifications(targets);
     }
 
     @Test
     void 비활성_사용자가_없을_때_테스트() {
         // Given
-        when(notificationFacade.findInactiveUsersForNotification())
-            .thenReturn(Collections.emptyList());
+        givenTargetPages();
 
         // When
         notificationScheduler.detectInactiveUsersAndCreateNotifications();
 
         // Then
-        verify(notificationFacade).findInactiveUsersForNotification();
-        verify(petFacade, never()).findFirstPetByUserId(any());
-        verify(inactivityNotificationFacade, never()).createInactivityNotification(any(), any());
+        verify(notificationFacade).forEachInactivityNotificationTargetPage(any());
+        verify(inactivityNotificationFacade, never()).createInactivityNotifications(anyList());
     }
 
     @Test
     void 대기중인_알림_처리_테스트() {
         // Given
-        // NotificationFacade의 processPendingNotifications 메서드를 mock
-        doNothing().when(notificationFacade).processPendingNotifications(100);
+        when(notificationDispatcher.dispatchPending()).thenReturn(new DispatchReport(1, 3, 2, 1, 0, 0, 0, 10L));
 
         // When
         notificationScheduler.processPendingNotifications();
 
         // Then
-        verify(notificationFacade).processPendingNotifications(100);
+        verify(notificationDispatcher).dispatchPending();
     }
 
 
     @Test
     void 알림_정리_테스트() {
         // Given
-        when(notificationFacade.cleanupExpiredNotifications()).thenReturn(5);
-        when(notificationFacade.cleanupOldNotifications()).thenReturn(10);
+        when(notificationPurgeJob.run()).thenReturn(new PurgeReport(
+            new TargetReport(NotificationPurgeTarget.EXPIRED, null, 1, 5, true),
+            new TargetReport(NotificationPurgeTarget.COMPLETED, null, 1, 10, true),
+            10L));
 
         // When
         notificationScheduler.cleanupNotifications();
 
         // Then
-        verify(notificationFacade).cleanupExpiredNotifications();
-        verify(notificationFacade).cleanupOldNotifications();
+        verify(notificationPurgeJob).run();
+    }
+
+    @Test
+    void 파티션_유지_테스트() {
+        // Given
+        when(partitionMaintenanceJob.run()).thenReturn(new MaintenanceReport(List.of(
+            new TableReport("notifications", true, List.of("p202701"), List.of("p202607")),
+            new TableReport("messages", false, List.of(), List.of())), 10L));
+
+        // When
+        notificationScheduler.maintainPartitions();
+
+        // Then
+        verify(partitionMaintenanceJob).run();
+    }
+
+    @Test
+    void 메시지_보관_테스트() {
+        // Given
+        when(messageArchiveJob.run()).thenReturn(new ArchiveReport(null, 2, 1000, 1000, true, 10L));
+
+        // When
+        notificationScheduler.archiveMessages();
+
+        // Then
+        verify(messageArchiveJob).run();
     }
 
     @Test
     void 휴면_사용자_처리_테스트() {
         // Given
-        when(userFacade.processDormantUsers()).thenReturn(3);
+        when(dormantUserBatchJob.run()).thenReturn(new BatchReport(null, 1, 3, 3, 10L));
 
         // When
         notificationScheduler.processDormantUsers();
 
         // Then
-        verify(userFacade).processDormantUsers();
+        verify(dormantUserBatchJob).run();
+    }
+
+    @Test
+    void 미읽은_알림_카운터_보정_테스트() {
+        // Given
+        when(unreadCountReconciliationJob.run()).thenReturn(new ReconcileReport(null, 2, 700, 3, 10L));
+
+        // When
+        notificationScheduler.reconcileUnreadCounts();
+
+        // Then
+        verify(unreadCountReconciliationJob).run();
     }
 
     private NotificationResult createMockNotification(Long id) {
@@ -132,4 +201,17 @@ class NotificationSchedulerTest {
             true                            // found
         );
     }
+
+    @SafeVarargs
+    private void givenTargetPages(List<InactivityNotificationTarget>... pages) {
+        doAnswer(invocation -> {
+            Predicate<List<InactivityNotificationTarget>> pageHandler = invocation.getArgument(0);
+            for (List<InactivityNotificationTarget> page : pages) {
+                if (!pageHandler.test(page)) {
+                    break;
+                }
+            }
+            return null;
+        }).when(notificationFacade).forEachInactivityNotificationTargetPage(any());
+    }
 }
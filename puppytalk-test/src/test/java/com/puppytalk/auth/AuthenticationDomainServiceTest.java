@@ -98,6 +98,7 @@ class AuthenticationDomainServiceTest {
             assertThat(token).isNotNull();
             assertThat(token.accessToken()).isEqualTo("generated_token_" + user.getId().value());
             assertThat(userDomainService.updateLastActiveTimeCalled).isTrue();
+            assertThat(userDomainService.upgradePasswordCalled).isTrue();
             assertThat(tokenStore.storedTokens).hasSize(1);
             
             TestTokenStore.StoredToken storedToken = tokenStore.storedTokens.get(0);
@@ -149,6 +150,7 @@ class AuthenticationDomainServiceTest {
             assertThatThrownBy(() -> authenticationDomainService.login(username, password))
                 .isInstanceOf(InvalidCredentialsException.class)
                 .hasMessageContaining("인증 정보가 올바르지 않습니다");
+            assertThat(userDomainService.upgradePasswordCalled).isFalse();
         }
 
         @Test
@@ -277,6 +279,68 @@ class AuthenticationDomainServiceTest {
             // then
             assertThat(result).isEqualTo(user);
         }
+
+        @Test
+        @DisplayName("캐시된 토큰은 토큰 저장소와 사용자를 다시 조회하지 않는다")
+        void validateTokenAndGetUser_CachedToken_SkipsLookups() {
+            // given
+            String accessToken = "valid_token";
+            UserId userId = UserId.from(1L);
+            User user = createTestUser();
+            TestAuthenticatedUserCache userCache = new TestAuthenticatedUserCache();
+            AuthenticationDomainService service = new AuthenticationDomainService(
+                userDomainService, tokenProvider, tokenStore, userCache);
+
+            tokenStore.activeTokens.add(accessToken);
+            tokenProvider.validTokens.add(accessToken);
+            tokenProvider.tokenUserIds.put(accessToken, userId);
+            userDomainService.userById.put(userId, user);
+
+            // when
+            service.validateTokenAndGetUser(accessToken);
+            User result = service.validateTokenAndGetUser(accessToken);
+
+            // then
+            assertThat(result).isEqualTo(user);
+            assertThat(tokenProvider.verifyCount).isEqualTo(1);
+            assertThat(tokenStore.isTokenActiveCount).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("서명 검증에 실패하면 토큰 저장소를 조회하지 않는다")
+        void validateTokenAndGetUser_InvalidJwt_SkipsTokenStore() {
+            // given
+            String accessToken = "invalid_jwt";
+            tokenStore.activeTokens.add(accessToken);
+
+            // when & then
+            assertThatThrownBy(() -> authenticationDomainService.validateTokenAndGetUser(accessToken))
+                .isInstanceOf(InvalidTokenException.class);
+            assertThat(tokenStore.isTokenActiveCount).isZero();
+        }
+
+        @Test
+        @DisplayName("로그아웃한 토큰은 캐시에서도 제거된다")
+        void logoutToken_InvalidatesCachedUser() {
+            // given
+            String accessToken = "valid_token";
+            UserId userId = UserId.from(1L);
+            TestAuthenticatedUserCache userCache = new TestAuthenticatedUserCache();
+            AuthenticationDomainService service = new AuthenticationDomainService(
+                userDomainService, tokenProvider, tokenStore, userCache);
+
+            tokenStore.activeTokens.add(accessToken);
+            tokenProvider.validTokens.add(accessToken);
+            tokenProvider.tokenUserIds.put(accessToken, userId);
+            userDomainService.userById.put(userId, createTestUser());
+            service.validateTokenAndGetUser(accessToken);
+
+            // when
+            service.logoutToken(accessToken);
+
+            // then
+            assertThat(userCache.users).doesNotContainKey(accessToken);
+        }
     }
 
     @Nested
@@ -357,7 +421,7 @@ class AuthenticationDomainServiceTest {
     private User createTestUser() {
         UserId userId = UserId.from(1L);
         LocalDateTime now = LocalDateTime.now();
-        return User.of(userId, "testuser", "test@example.com", "encoded_password", now, now, now, false);
+        return User.of(userId, "testuser", "test@example.com", "encoded_password", now, now, now, false, false);
     }
 
     private static class TestUserDomainService extends UserDomainService {
@@ -366,6 +430,7 @@ class AuthenticationDomainServiceTest {
         private final java.util.List<String> getUserByUsernameCalled = new java.util.ArrayList<>();
         private boolean passwordCheckResult = true;
         private boolean updateLastActiveTimeCalled = false;
+        private boolean upgradePasswordCalled = false;
 
         public TestUserDomainService() {
             super(null, null);
@@ -395,6 +460,12 @@ class AuthenticationDomainServiceTest {
             return passwordCheckResult;
         }
 
+        @Override
+        public boolean upgradePasswordIfNeeded(User user, String rawPassword) {
+            upgradePasswordCalled = true;
+            return false;
+        }
+
         @Override
         public void updateLastActiveTime(UserId userId) {
             updateLastActiveTimeCalled = true;
@@ -405,6 +476,7 @@ class AuthenticationDomainServiceTest {
         private final java.util.Map<UserId, String> generatedTokens = new java.util.HashMap<>();
         private final java.util.Map<String, UserId> tokenUserIds = new java.util.HashMap<>();
         private final java.util.Set<String> validTokens = new java.util.HashSet<>();
+        private int verifyCount = 0;
 
         @Override
         public JwtToken generateToken(UserId userId, String username) {
@@ -423,6 +495,39 @@ class AuthenticationDomainServiceTest {
         public boolean validateToken(String token) {
             return validTokens.contains(token);
         }
+
+        @Override
+        public TokenClaims verify(String accessToken) {
+            verifyCount++;
+            if (!validTokens.contains(accessToken)) {
+                throw InvalidTokenException.invalidToken();
+            }
+            return new TokenClaims(tokenUserIds.get(accessToken), LocalDateTime.now().plusHours(1));
+        }
+    }
+
+    private static class TestAuthenticatedUserCache implements AuthenticatedUserCache {
+        private final java.util.Map<String, User> users = new java.util.HashMap<>();
+
+        @Override
+        public java.util.Optional<User> get(String accessToken) {
+            return java.util.Optional.ofNullable(users.get(accessToken));
+        }
+
+        @Override
+        public void put(String accessToken, User user, LocalDateTime tokenExpiry) {
+            users.put(accessToken, user);
+        }
+
+        @Override
+        public void invalidate(String accessToken) {
+            users.remove(accessToken);
+        }
+
+        @Override
+        public void invalidateUser(UserId userId) {
+            users.values().removeIf(user -> user.getId().equals(userId));
+        }
     }
 
     private static class TestTokenStore implements TokenStore {
@@ -431,6 +536,7 @@ class AuthenticationDomainServiceTest {
         private final java.util.List<UserId> invalidatedUserIds = new java.util.ArrayList<>();
         private final java.util.List<String> invalidatedTokens = new java.util.ArrayList<>();
         private final java.util.Map<UserId, List<ActiveTokenInfo>> activeTokensByUser = new java.util.HashMap<>();
+        private int isTokenActiveCount = 0;
 
         @Override
         public void storeToken(UserId userId, String accessToken, LocalDateTime tokenExpiry) {
@@ -439,6 +545,7 @@ class AuthenticationDomainServiceTest {
 
         @Override
         public boolean isTokenActive(String accessToken) {
+            isTokenActiveCount++;
             return activeTokens.contains(accessToken);
         }
 
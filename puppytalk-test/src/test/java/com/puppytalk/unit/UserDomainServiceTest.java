@@ -528,9 +528,19 @@ class UserDomainServiceTest {
         public String getLastExistsByEmailParam() { return lastExistsByEmailParam; }
         
         @Override
-        public List<Long> findInactiveUsers(LocalDateTime cutoffTime) {
+        public List<Long> findInactiveUserIds(LocalDateTime cutoffTime, Long afterUserId, int limit) {
             return List.of(); // Mock 구현: 빈 리스트 반환
         }
+
+        @Override
+        public List<Long> findDormantCandidateIds(LocalDateTime cutoffTime, Long afterUserId, int limit) {
+            return List.of();
+        }
+
+        @Override
+        public int markDormant(List<Long> userIds, LocalDateTime cutoffTime) {
+            return 0;
+        }
     }
     
     /**
@@ -0,0 +1,131 @@
+package com.puppytalk.unit.ai;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.puppytalk.ai.client.AiServiceTransport;
+import com.puppytalk.ai.client.AiServiceTransport.EndpointTimeout;
+import com.puppytalk.ai.client.AiServiceTransport.PoolSnapshot;
+import com.puppytalk.ai.client.AiServiceTransport.Protocol;
+import com.puppytalk.ai.client.AiServiceTransport.Settings;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+
+@DisplayName("AiServiceTransport 스텁 서버 테스트")
+class AiServiceTransportTest {
+
+    private HttpServer server;
+    private AiServiceTransport transport;
+    private RestClient restClient;
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext(AiServiceTransport.CHAT_PATH, exchange -> respond(exchange, 0));
+        server.createContext(AiServiceTransport.INACTIVITY_NOTIFICATION_PATH, exchange -> respond(exchange, 800));
+        server.setExecutor(Executors.newFixedThreadPool(4));
+        server.start();
+
+        transport = new AiServiceTransport(new Settings(
+            Protocol.HTTP_1_1,
+            4,
+            Duration.ofMillis(500),
+            Duration.ofSeconds(30),
+            Duration.ofMillis(500),
+            Map.of(
+                AiServiceTransport.CHAT_PATH, EndpointTimeout.of(1_000, 2_000),
+                AiServiceTransport.INACTIVITY_NOTIFICATION_PATH, EndpointTimeout.of(200, 300)
+            ),
+            EndpointTimeout.of(1_000, 2_000)
+        ));
+        restClient = RestClient.builder()
+            .baseUrl("http://127.0.0.1:" + server.getAddress().getPort())
+            .requestFactory(transport.requestFactory())
+            .build();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        transport.destroy();
+        server.stop(0);
+    }
+
+    @DisplayName("연속 요청은 keep-alive 연결 하나를 재사용한다")
+    @Test
+    void sequentialRequests_ReuseSingleConnection() {
+        // when
+        for (int i = 0; i < 5; i++) {
+            String body = restClient.post()
+                .uri(AiServiceTransport.CHAT_PATH)
+                .body("{}")
+                .retrieve()
+                .body(String.class);
+            assertEquals("{\"success\":true}", body);
+        }
+
+        // then
+        assertEquals(1, clientPorts.size());
+        PoolSnapshot snapshot = transport.poolSnapshot();
+        assertEquals(0, snapshot.leased());
+        assertEquals(1, snapshot.idle());
+        assertEquals(4, snapshot.max());
+        assertEquals(0, transport.pendingDeadlines());
+    }
+
+    @DisplayName("엔드포인트별 read 타임아웃을 넘기면 요청이 실패하고 연결이 반환된다")
+    @Test
+    void slowEndpoint_TimesOutWithEndpointTimeout() {
+        // when
+        long start = System.nanoTime();
+        assertThrows(ResourceAccessException.class, () -> restClient.post()
+            .uri(AiServiceTransport.INACTIVITY_NOTIFICATION_PATH)
+            .body("{}")
+            .retrieve()
+            .body(String.class));
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        // then
+        assertTrue(elapsedMillis < 800, "timeout not applied: " + elapsedMillis + "ms");
+        assertEquals(0, transport.poolSnapshot().leased());
+        assertEquals(0, transport.pendingDeadlines());
+    }
+
+    private void respond(HttpExchange exchange, long delayMillis) throws IOException {
+        clientPorts.add(exchange.getRemoteAddress().getPort());
+        exchange.getRequestBody().readAllBytes();
+        try {
+            Thread.sleep(delayMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        byte[] body = "{\"success\":true}".getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        try {
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } catch (IOException e) {
+            // 클라이언트가 타임아웃으로 연결을 끊은 경우
+            exchange.close();
+        }
+    }
+}
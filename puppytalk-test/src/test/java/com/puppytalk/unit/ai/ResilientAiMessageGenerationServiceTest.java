@@ -0,0 +1,182 @@
+package com.puppytalk.unit.ai;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.puppytalk.ai.AiMessageGenerationService;
+import com.puppytalk.ai.ChatContext;
+import com.puppytalk.ai.InactivityMessageRequest;
+import com.puppytalk.ai.InactivityMessageResult;
+import com.puppytalk.ai.exception.AiGenerationException;
+import com.puppytalk.ai.service.ResilientAiMessageGenerationService;
+import com.puppytalk.ai.service.ResilientAiMessageGenerationService.Settings;
+import com.puppytalk.ai.service.ResilientAiMessageGenerationService.Traffic;
+import com.puppytalk.chat.ChatRoom;
+import com.puppytalk.chat.Message;
+import com.puppytalk.pet.Pet;
+import com.puppytalk.pet.PetId;
+import com.puppytalk.user.UserId;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ResilientAiMessageGenerationService 단위 테스트")
+class ResilientAiMessageGenerationServiceTest {
+
+    private StubAiMessageGenerationService delegate;
+    private ResilientAiMessageGenerationService service;
+
+    @BeforeEach
+    void setUp() {
+        delegate = new StubAiMessageGenerationService();
+        service = new ResilientAiMessageGenerationService(delegate, new Settings(
+            10,
+            4,
+            50f,
+            100f,
+            Duration.ofMinutes(1),
+            1,
+            new Traffic(Duration.ofSeconds(5), 1, Duration.ZERO),
+            new Traffic(Duration.ofSeconds(5), 1, Duration.ZERO)
+        ));
+    }
+
+    @DisplayName("실패율이 임계치를 넘으면 서킷이 열리고 AI 서비스를 호출하지 않고 실패한다")
+    @Test
+    void failureRateExceeded_OpensCircuit() {
+        // given
+        delegate.failing = true;
+        for (int i = 0; i < 4; i++) {
+            AiGenerationException exception = assertThrows(AiGenerationException.class,
+                () -> service.generateChatResponse(chatContext()));
+            assertFalse(exception.isUnavailable());
+        }
+
+        // when
+        AiGenerationException exception = assertThrows(AiGenerationException.class,
+            () -> service.generateChatResponse(chatContext()));
+
+        // then
+        assertTrue(exception.isUnavailable());
+        assertEquals(4, delegate.chatCalls.get());
+    }
+
+    @DisplayName("채팅 서킷이 열려도 비활성 알림 트래픽은 영향을 받지 않는다")
+    @Test
+    void chatCircuitOpen_NotificationTrafficIsolated() {
+        // given
+        delegate.failing = true;
+        for (int i = 0; i < 5; i++) {
+            assertThrows(AiGenerationException.class, () -> service.generateChatResponse(chatContext()));
+        }
+        delegate.failing = false;
+
+        // when
+        List<InactivityMessageResult> results = service.generateInactivityNotifications(List.of(inactivityRequest()));
+
+        // then
+        assertEquals(1, results.size());
+        assertTrue(results.get(0).isSuccess());
+    }
+
+    @DisplayName("배치 호출이 실패하면 모든 항목을 실패 결과로 돌려준다")
+    @Test
+    void batchFailure_FallsBackToItemFailures() {
+        // given
+        delegate.failing = true;
+
+        // when
+        List<InactivityMessageResult> results = service.generateInactivityNotifications(
+            List.of(inactivityRequest(), inactivityRequest())
+        );
+
+        // then
+        assertEquals(2, results.size());
+        assertTrue(results.stream().noneMatch(InactivityMessageResult::isSuccess));
+    }
+
+    @DisplayName("동시 호출 한도를 넘는 채팅 요청은 대기하지 않고 거절된다")
+    @Test
+    void chatBulkheadFull_RejectsImmediately() throws InterruptedException {
+        // given
+        delegate.blockChat = new CountDownLatch(1);
+        CountDownLatch entered = new CountDownLatch(1);
+        delegate.chatEntered = entered;
+        Thread inFlight = new Thread(() -> service.generateChatResponse(chatContext()));
+        inFlight.start();
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+        // when
+        AiGenerationException exception = assertThrows(AiGenerationException.class,
+            () -> service.generateChatResponse(chatContext()));
+
+        // then
+        assertTrue(exception.isUnavailable());
+        delegate.blockChat.countDown();
+        inFlight.join(5_000);
+        assertEquals(1, delegate.chatCalls.get());
+    }
+
+    private ChatContext chatContext() {
+        return new ChatContext(1L, 1L, "활발한 강아지", "안녕", List.of());
+    }
+
+    private InactivityMessageRequest inactivityRequest() {
+        Pet pet = Pet.of(PetId.from(1L), UserId.from(1L), "뽀삐", "활발한 강아지", LocalDateTime.now(), false);
+        return new InactivityMessageRequest(UserId.from(1L), pet, 2, List.of());
+    }
+
+    private static class StubAiMessageGenerationService implements AiMessageGenerationService {
+
+        private final AtomicInteger chatCalls = new AtomicInteger();
+        private volatile boolean failing;
+        private volatile CountDownLatch blockChat;
+        private volatile CountDownLatch chatEntered;
+
+        @Override
+        public String generateChatResponse(ChatContext context) {
+            chatCalls.incrementAndGet();
+            if (chatEntered != null) {
+                chatEntered.countDown();
+            }
+            if (blockChat != null) {
+                try {
+                    blockChat.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            if (failing) {
+                throw AiGenerationException.failed("stub failure");
+            }
+            return "멍멍!";
+        }
+
+        @Override
+        public String generateInactivityNotification(ChatRoom chatRoom, Pet pet,
+                                                   int hoursSinceLastActivity, List<Message> lastMessages) {
+            if (failing) {
+                throw AiGenerationException.failed("stub failure");
+            }
+            return "보고 싶어요!";
+        }
+
+        @Override
+        public List<InactivityMessageResult> generateInactivityNotifications(List<InactivityMessageRequest> requests) {
+            if (failing) {
+                throw AiGenerationException.failed("stub failure");
+            }
+            return requests.stream()
+                .map(request -> InactivityMessageResult.success(request.userId(), "보고 싶어요!"))
+                .toList();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.puppytalk.unit.auth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.puppytalk.auth.CaffeineTokenStore;
+import com.puppytalk.user.UserId;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("CaffeineTokenStore 단위 테스트")
+class CaffeineTokenStoreTest {
+
+    private static final UserId USER_ID = UserId.from(1L);
+    private static final int THREADS = 16;
+    private static final int TOKENS_PER_THREAD = 200;
+
+    private CaffeineTokenStore tokenStore;
+
+    @BeforeEach
+    void setUp() {
+        tokenStore = new CaffeineTokenStore();
+    }
+
+    @DisplayName("같은 사용자에 대한 동시 저장에서도 토큰이 색인에서 누락되지 않는다")
+    @Test
+    void storeToken_ConcurrentSameUser_AllIndexed() throws Exception {
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        LocalDateTime tokenExpiry = LocalDateTime.now().plusHours(1);
+
+        // when
+        for (int thread = 0; thread < THREADS; thread++) {
+            int threadIndex = thread;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < TOKENS_PER_THREAD; i++) {
+                    tokenStore.storeToken(USER_ID, "token-" + threadIndex + "-" + i, tokenExpiry);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // then
+        assertEquals(THREADS * TOKENS_PER_THREAD, tokenStore.indexedTokenCount(USER_ID));
+        assertEquals(THREADS * TOKENS_PER_THREAD, tokenStore.getActiveTokensForUser(USER_ID).size());
+    }
+
+    @DisplayName("같은 토큰을 다시 저장해도 색인에는 한 번만 남는다")
+    @Test
+    void storeToken_SameTokenTwice_IndexedOnce() {
+        // when
+        tokenStore.storeToken(USER_ID, "token-1", LocalDateTime.now().plusHours(1));
+        tokenStore.storeToken(USER_ID, "token-1", LocalDateTime.now().plusHours(1));
+
+        // then
+        assertEquals(1, tokenStore.indexedTokenCount(USER_ID));
+        assertTrue(tokenStore.isTokenActive("token-1"));
+    }
+
+    @DisplayName("전체 로그아웃은 사용자 색인과 토큰을 함께 제거한다")
+    @Test
+    void invalidateAllTokensForUser_RemovesIndexAndTokens() {
+        // given
+        tokenStore.storeToken(USER_ID, "token-1", LocalDateTime.now().plusHours(1));
+        tokenStore.storeToken(USER_ID, "token-2", LocalDateTime.now().plusHours(1));
+
+        // when
+        tokenStore.invalidateAllTokensForUser(USER_ID);
+
+        // then
+        assertEquals(0, tokenStore.indexedTokenCount(USER_ID));
+        assertFalse(tokenStore.isTokenActive("token-1"));
+        assertFalse(tokenStore.isTokenActive("token-2"));
+    }
+
+    @DisplayName("개별 무효화된 토큰은 활성 토큰 목록에서 제외된다")
+    @Test
+    void invalidateToken_ExcludedFromActiveTokens() {
+        // given
+        tokenStore.storeToken(USER_ID, "token-1", LocalDateTime.now().plusHours(1));
+        tokenStore.storeToken(USER_ID, "token-2", LocalDateTime.now().plusHours(1));
+
+        // when
+        tokenStore.invalidateToken("token-1");
+
+        // then
+        assertFalse(tokenStore.isTokenActive("token-1"));
+        assertEquals(Optional.of(USER_ID), tokenStore.getUserIdByToken("token-2"));
+        assertEquals(1, tokenStore.getActiveTokensForUser(USER_ID).size());
+    }
+}
@@ -0,0 +1,141 @@
+package com.puppytalk.unit.auth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.puppytalk.auth.CaffeineAuthenticatedUserCache;
+import com.puppytalk.auth.NearCacheTokenStore;
+import com.puppytalk.auth.TokenStore;
+import com.puppytalk.user.UserId;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("NearCacheTokenStore 단위 테스트")
+class NearCacheTokenStoreTest {
+
+    private static final UserId USER_ID = UserId.from(1L);
+    private static final UserId OTHER_USER_ID = UserId.from(2L);
+
+    private TokenStore redis;
+    private NearCacheTokenStore nodeA;
+    private NearCacheTokenStore nodeB;
+    private List<Duration> lags;
+
+    @BeforeEach
+    void setUp() {
+        redis = mock(TokenStore.class);
+        when(redis.getUserIdByToken("token-1")).thenReturn(Optional.of(USER_ID));
+        when(redis.getUserIdByToken("token-2")).thenReturn(Optional.of(OTHER_USER_ID));
+
+        // 두 노드가 같은 Redis를 공유하고, 한쪽의 발행 메시지가 다른 쪽으로 전달되는 구성
+        AtomicReference<NearCacheTokenStore> nodeBRef = new AtomicReference<>();
+        nodeA = node(message -> nodeBRef.get().onInvalidationMessage(message));
+        nodeB = node(message -> nodeA.onInvalidationMessage(message));
+        nodeBRef.set(nodeB);
+
+        lags = new ArrayList<>();
+        nodeB.recordPropagationLagWith(lags::add);
+    }
+
+    @DisplayName("조회 결과는 로컬 캐시에서 재사용된다")
+    @Test
+    void isTokenActive_SecondLookup_ServedLocally() {
+        // when
+        assertTrue(nodeB.isTokenActive("token-1"));
+        assertTrue(nodeB.isTokenActive("token-1"));
+
+        // then
+        verify(redis, times(1)).getUserIdByToken("token-1");
+        assertEquals(1, nodeB.hitCount());
+        assertEquals(1, nodeB.missCount());
+    }
+
+    @DisplayName("Redis 조회에 실패하면 비활성으로 처리하되 캐시하지 않아 복구 후 바로 다시 조회한다")
+    @Test
+    void isTokenActive_LookupFails_NotCached() {
+        // given
+        when(redis.getUserIdByToken("token-1"))
+            .thenThrow(new IllegalStateException("redis unavailable"))
+            .thenReturn(Optional.of(USER_ID));
+
+        // when
+        boolean duringOutage = nodeB.isTokenActive("token-1");
+        boolean afterRecovery = nodeB.isTokenActive("token-1");
+
+        // then
+        assertFalse(duringOutage);
+        assertTrue(afterRecovery);
+        verify(redis, times(2)).getUserIdByToken("token-1");
+        assertEquals(2, nodeB.missCount());
+    }
+
+    @DisplayName("다른 노드에서 무효화한 토큰은 Redis 재조회 없이 즉시 비활성이 된다")
+    @Test
+    void invalidateToken_PropagatesToOtherNode() {
+        // given
+        assertTrue(nodeB.isTokenActive("token-1"));
+
+        // when
+        nodeA.invalidateToken("token-1");
+
+        // then
+        verify(redis).invalidateToken("token-1");
+        assertFalse(nodeB.isTokenActive("token-1"));
+        verify(redis, times(1)).getUserIdByToken("token-1");
+        assertEquals(1, nodeB.receivedInvalidationCount());
+        assertEquals(1, lags.size());
+    }
+
+    @DisplayName("전체 로그아웃은 다른 노드에 캐시된 해당 사용자 토큰만 비활성화한다")
+    @Test
+    void invalidateAllTokensForUser_PropagatesToOtherNode() {
+        // given
+        nodeB.isTokenActive("token-1");
+        nodeB.isTokenActive("token-2");
+
+        // when
+        nodeA.invalidateAllTokensForUser(USER_ID);
+
+        // then
+        assertFalse(nodeB.isTokenActive("token-1"));
+        assertTrue(nodeB.isTokenActive("token-2"));
+        assertEquals(Optional.empty(), nodeB.getUserIdByToken("token-1"));
+    }
+
+    @DisplayName("무효화 메시지 발행에 실패해도 로컬 무효화는 완료된다")
+    @Test
+    void invalidateToken_PublishFailure_StillInvalidatesLocally() {
+        // given
+        NearCacheTokenStore isolated = node(message -> {
+            throw new IllegalStateException("redis down");
+        });
+        assertTrue(isolated.isTokenActive("token-1"));
+
+        // when
+        isolated.invalidateToken("token-1");
+
+        // then
+        assertFalse(isolated.isTokenActive("token-1"));
+    }
+
+    private NearCacheTokenStore node(Consumer<String> publisher) {
+        return new NearCacheTokenStore(
+            redis,
+            publisher,
+            new CaffeineAuthenticatedUserCache(Duration.ofSeconds(30), 1_000),
+            new NearCacheTokenStore.Settings(Duration.ofSeconds(10), 1_000)
+        );
+    }
+}
@@ -0,0 +1,195 @@
+package com.puppytalk.unit.auth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.puppytalk.auth.ActiveTokenInfo;
+import com.puppytalk.auth.RedisTokenStore;
+import com.puppytalk.user.UserId;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.Redisson;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.config.Config;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("RedisTokenStore 단위 테스트")
+class RedisTokenStoreTest {
+
+    private static final UserId USER_ID = UserId.from(1L);
+    private static final UserId OTHER_USER_ID = UserId.from(2L);
+
+    @Container
+    private static final GenericContainer<?> REDIS =
+        new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+    private static RedissonClient redissonClient;
+
+    private RedisTokenStore tokenStore;
+
+    @BeforeAll
+    static void connect() {
+        Config config = new Config();
+        config.useSingleServer().setAddress("redis://" + REDIS.getHost() + ":" + REDIS.getMappedPort(6379));
+        redissonClient = Redisson.create(config);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        redissonClient.shutdown();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redissonClient.getKeys().flushall();
+        tokenStore = new RedisTokenStore(redissonClient);
+    }
+
+    @DisplayName("저장한 토큰은 활성 상태로 조회되고 원문이 아닌 해시 키로 저장된다")
+    @Test
+    void storeToken_ActiveAndStoredByHash() {
+        // when
+        tokenStore.storeToken(USER_ID, "token-1", LocalDateTime.now().plusHours(1));
+
+        // then
+        assertTrue(tokenStore.isTokenActive("token-1"));
+        assertEquals(Optional.of(USER_ID), tokenStore.getUserIdByToken("token-1"));
+        assertTrue(redissonClient.getBucket("jwt:access:" + sha256("token-1")).isExists());
+        assertFalse(redissonClient.getBucket("jwt:access:token-1").isExists());
+        assertEquals(List.of(sha256("token-1")), List.copyOf(userTokens(USER_ID).readAll()));
+        assertTrue(userTokens(USER_ID).remainTimeToLive() > 0);
+    }
+
+    @DisplayName("저장하지 않은 토큰과 만료 시각이 지난 토큰은 활성이 아니다")
+    @Test
+    void storeToken_UnknownOrExpired_Inactive() {
+        // when
+        tokenStore.storeToken(USER_ID, "expired", LocalDateTime.now().minusSeconds(1));
+
+        // then
+        assertFalse(tokenStore.isTokenActive("unknown"));
+        assertFalse(tokenStore.isTokenActive("expired"));
+        assertEquals(Optional.empty(), tokenStore.getUserIdByToken("expired"));
+        assertFalse(userTokens(USER_ID).isExists());
+    }
+
+    @DisplayName("토큰 저장 시 사용자 색인에서 만료된 항목을 정리한다")
+    @Test
+    void storeToken_PrunesExpiredIndexEntries() {
+        // given
+        userTokens(USER_ID).add(toScore(LocalDateTime.now().minusMinutes(1)), "expired-hash");
+
+        // when
+        tokenStore.storeToken(USER_ID, "token-1", LocalDateTime.now().plusHours(1));
+
+        // then
+        assertEquals(List.of(sha256("token-1")), List.copyOf(userTokens(USER_ID).readAll()));
+    }
+
+    @DisplayName("무효화한 토큰은 블랙리스트에 등록되고 사용자 색인에서 제거된다")
+    @Test
+    void invalidateToken_BlacklistsAndRemovesFromIndex() {
+        // given
+        tokenStore.storeToken(USER_ID, "token-1", LocalDateTime.now().plusHours(1));
+        tokenStore.storeToken(USER_ID, "token-2", LocalDateTime.now().plusHours(1));
+
+        // when
+        tokenStore.invalidateToken("token-1");
+
+        // then
+        assertFalse(tokenStore.isTokenActive("token-1"));
+        assertTrue(tokenStore.isTokenActive("token-2"));
+        assertTrue(redissonClient.getBucket("jwt:blacklist:" + sha256("token-1")).isExists());
+        assertEquals(List.of(sha256("token-2")), List.copyOf(userTokens(USER_ID).readAll()));
+    }
+
+    @DisplayName("전체 로그아웃은 해당 사용자의 토큰만 모두 무효화한다")
+    @Test
+    void invalidateAllTokensForUser_InvalidatesOnlyThatUser() {
+        // given
+        tokenStore.storeToken(USER_ID, "token-1", LocalDateTime.now().plusHours(1));
+        tokenStore.storeToken(USER_ID, "token-2", LocalDateTime.now().plusHours(1));
+        tokenStore.storeToken(OTHER_USER_ID, "token-3", LocalDateTime.now().plusHours(1));
+
+        // when
+        tokenStore.invalidateAllTokensForUser(USER_ID);
+
+        // then
+        assertFalse(tokenStore.isTokenActive("token-1"));
+        assertFalse(tokenStore.isTokenActive("token-2"));
+        assertTrue(tokenStore.isTokenActive("token-3"));
+        assertTrue(tokenStore.getActiveTokensForUser(USER_ID).isEmpty());
+        assertEquals(0, userTokens(USER_ID).size());
+    }
+
+    @DisplayName("사용자 활성 토큰 목록은 토큰 해시와 저장 정보를 돌려준다")
+    @Test
+    void getActiveTokensForUser_ReturnsHashedTokens() {
+        // given
+        LocalDateTime tokenExpiry = LocalDateTime.now().plusHours(1);
+        tokenStore.storeToken(USER_ID, "token-1", tokenExpiry);
+
+        // when
+        List<ActiveTokenInfo> tokens = tokenStore.getActiveTokensForUser(USER_ID);
+
+        // then
+        assertEquals(1, tokens.size());
+        assertEquals(USER_ID, tokens.get(0).userId());
+        assertEquals(sha256("token-1"), tokens.get(0).accessToken());
+        assertEquals(tokenExpiry.truncatedTo(ChronoUnit.MILLIS), tokens.get(0).tokenExpiry());
+    }
+
+    @DisplayName("이전 키 구성으로 저장된 토큰은 활성으로 조회되지 않는다 (배포 시 재로그인)")
+    @Test
+    void isTokenActive_LegacyLayout_Inactive() {
+        // given
+        String legacyJson = "{\"userId\":1,\"accessToken\":\"legacy-token\",\"tokenExpiry\":\""
+            + LocalDateTime.now().plusHours(1) + "\"}";
+        redissonClient.getBucket("jwt:access:legacy-token", StringCodec.INSTANCE)
+            .set(legacyJson, 1, TimeUnit.HOURS);
+        redissonClient.getBucket("jwt:user:1:legacy-token", StringCodec.INSTANCE)
+            .set(legacyJson, 1, TimeUnit.HOURS);
+
+        // when & then
+        assertFalse(tokenStore.isTokenActive("legacy-token"));
+        assertEquals(Optional.empty(), tokenStore.getUserIdByToken("legacy-token"));
+        assertTrue(tokenStore.getActiveTokensForUser(USER_ID).isEmpty());
+    }
+
+    private static RScoredSortedSet<String> userTokens(UserId userId) {
+        return redissonClient.getScoredSortedSet("jwt:user:" + userId.value() + ":tokens", StringCodec.INSTANCE);
+    }
+
+    private static double toScore(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static String sha256(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
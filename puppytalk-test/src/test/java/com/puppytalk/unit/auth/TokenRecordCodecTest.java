@@ -0,0 +1,92 @@
+package com.puppytalk.unit.auth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.puppytalk.auth.ActiveTokenInfo;
+import com.puppytalk.auth.TokenRecordCodec;
+import com.puppytalk.user.UserId;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TokenRecordCodec 단위 테스트")
+class TokenRecordCodecTest {
+
+    private static final UserId USER_ID = UserId.from(42L);
+    private static final LocalDateTime ISSUED_AT = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+    private static final LocalDateTime TOKEN_EXPIRY = ISSUED_AT.plusHours(1);
+
+    @DisplayName("인코딩한 레코드는 동일한 토큰 정보로 디코딩된다")
+    @Test
+    void encodeDecode_RoundTrip() {
+        // when
+        byte[] record = TokenRecordCodec.encode(USER_ID, TOKEN_EXPIRY, ISSUED_AT, "unknown-client");
+        ActiveTokenInfo tokenInfo = TokenRecordCodec.decode("token-hash", record);
+
+        // then
+        assertEquals(USER_ID, tokenInfo.userId());
+        assertEquals("token-hash", tokenInfo.accessToken());
+        assertEquals(TOKEN_EXPIRY, tokenInfo.tokenExpiry());
+        assertEquals(ISSUED_AT, tokenInfo.issuedAt());
+        assertEquals("unknown-client", tokenInfo.clientInfo());
+        assertEquals(TOKEN_EXPIRY, TokenRecordCodec.readTokenExpiry(record));
+        assertEquals(USER_ID, TokenRecordCodec.readUserId(record));
+    }
+
+    @DisplayName("바이너리 레코드는 기존 JSON 레코드보다 작다")
+    @Test
+    void encode_SmallerThanJsonRecord() throws Exception {
+        // given: 기존 형식은 토큰 원문을 포함한 JSON 맵이었다
+        String accessToken = "eyJhbGciOiJIUzI1NiJ9." + "a".repeat(120) + "." + "b".repeat(43);
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        byte[] json = objectMapper.writeValueAsString(Map.of(
+            "userId", USER_ID.value(),
+            "accessToken", accessToken,
+            "tokenExpiry", TOKEN_EXPIRY,
+            "issuedAt", ISSUED_AT,
+            "clientInfo", "unknown-client"
+        )).getBytes(StandardCharsets.UTF_8);
+
+        // when
+        byte[] record = TokenRecordCodec.encode(USER_ID, TOKEN_EXPIRY, ISSUED_AT, "unknown-client");
+
+        // then
+        assertEquals(27 + "unknown-client".length(), record.length);
+        assertTrue(record.length * 5 < json.length, "binary=" + record.length + ", json=" + json.length);
+    }
+
+    @DisplayName("긴 클라이언트 정보는 UTF-8 문자 경계에서 255바이트 이하로 잘린다")
+    @Test
+    void encode_LongClientInfo_Truncated() {
+        // when
+        byte[] record = TokenRecordCodec.encode(USER_ID, TOKEN_EXPIRY, ISSUED_AT, "강".repeat(100));
+        String clientInfo = TokenRecordCodec.decode("token-hash", record).clientInfo();
+
+        // then
+        assertEquals("강".repeat(85), clientInfo);
+    }
+
+    @DisplayName("지원하지 않는 버전이나 손상된 레코드는 거부한다")
+    @Test
+    void decode_UnsupportedRecord_Throws() {
+        // given
+        byte[] record = TokenRecordCodec.encode(USER_ID, TOKEN_EXPIRY, ISSUED_AT, "unknown-client");
+        byte[] unknownVersion = record.clone();
+        unknownVersion[0] = 99;
+        byte[] truncated = Arrays.copyOf(record, record.length - 1);
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> TokenRecordCodec.decode("token-hash", unknownVersion));
+        assertThrows(IllegalArgumentException.class, () -> TokenRecordCodec.readTokenExpiry(unknownVersion));
+        assertThrows(IllegalArgumentException.class, () -> TokenRecordCodec.decode("token-hash", truncated));
+        assertThrows(IllegalArgumentException.class, () -> TokenRecordCodec.decode("token-hash", "{}".getBytes()));
+    }
+}
@@ -0,0 +1,98 @@
+package com.puppytalk.unit.batch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.puppytalk.batch.MonthlyPartitionPolicy;
+import com.puppytalk.batch.PartitionPlan;
+import com.puppytalk.batch.TablePartition;
+import java.time.YearMonth;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("MonthlyPartitionPolicy 단위 테스트")
+class MonthlyPartitionPolicyTest {
+
+    private static final YearMonth CURRENT = YearMonth.of(2026, 10);
+
+    @DisplayName("마지막 월 파티션 이후부터 미리 만들 개월 수까지 생성 대상으로 고른다")
+    @Test
+    void plan_PremakesMonthsAfterLastPartition() {
+        // given
+        MonthlyPartitionPolicy policy = new MonthlyPartitionPolicy(3, 0);
+        List<TablePartition> partitions = partitions("phistory", "p202610", "p202611", "pmax");
+
+        // when
+        PartitionPlan plan = policy.plan(partitions, CURRENT);
+
+        // then
+        assertEquals(List.of(YearMonth.of(2026, 12), YearMonth.of(2027, 1)), plan.toCreate());
+        assertEquals(List.of(), plan.toExpire());
+    }
+
+    @DisplayName("유지 작업이 밀려 마지막 월이 지났으면 빠진 월부터 채워 만든다")
+    @Test
+    void plan_LaggingPartitions_FillsMissedMonths() {
+        // given
+        MonthlyPartitionPolicy policy = new MonthlyPartitionPolicy(1, 0);
+
+        // when
+        PartitionPlan plan = policy.plan(partitions("p202607", "pmax"), CURRENT);
+
+        // then
+        assertEquals(List.of(YearMonth.of(2026, 8), YearMonth.of(2026, 9), YearMonth.of(2026, 10),
+            YearMonth.of(2026, 11)), plan.toCreate());
+    }
+
+    @DisplayName("월 파티션이 없으면 현재 월부터 만든다")
+    @Test
+    void plan_NoMonthlyPartitions_StartsFromCurrentMonth() {
+        // given
+        MonthlyPartitionPolicy policy = new MonthlyPartitionPolicy(1, 0);
+
+        // when
+        PartitionPlan plan = policy.plan(partitions("phistory", "pmax"), CURRENT);
+
+        // then
+        assertEquals(List.of(YearMonth.of(2026, 10), YearMonth.of(2026, 11)), plan.toCreate());
+    }
+
+    @DisplayName("월이 끝난 뒤 보관 개월 수가 지난 월 파티션만 만료 대상으로 고른다")
+    @Test
+    void plan_ExpiresPartitionsPastRetention() {
+        // given: 2개월 보관이면 7월 파티션(8월 1일에 끝남)은 10월에 만료
+        MonthlyPartitionPolicy policy = new MonthlyPartitionPolicy(0, 2);
+        List<TablePartition> partitions = partitions("phistory", "p202606", "p202607", "p202608", "p202610", "pmax");
+
+        // when
+        PartitionPlan plan = policy.plan(partitions, CURRENT);
+
+        // then
+        assertEquals(List.of("p202606", "p202607"), plan.toExpire().stream().map(TablePartition::name).toList());
+        assertTrue(plan.toCreate().isEmpty());
+    }
+
+    @DisplayName("규칙에 맞지 않는 파티션 이름은 관리 대상에서 제외한다")
+    @Test
+    void of_UnmanagedNames() {
+        assertEquals(YearMonth.of(2026, 10), TablePartition.of("p202610").month());
+        assertTrue(TablePartition.of("pmax").isCatchAll());
+        assertFalse(TablePartition.of("pmax").isMonthly());
+        assertNull(TablePartition.of("phistory").month());
+        assertNull(TablePartition.of("p202613").month());
+    }
+
+    @DisplayName("음수 보관 개월 수는 허용하지 않는다")
+    @Test
+    void create_NegativeRetention_Throws() {
+        assertThrows(IllegalArgumentException.class, () -> new MonthlyPartitionPolicy(3, -1));
+    }
+
+    private List<TablePartition> partitions(String... names) {
+        return List.of(names).stream().map(TablePartition::of).toList();
+    }
+}
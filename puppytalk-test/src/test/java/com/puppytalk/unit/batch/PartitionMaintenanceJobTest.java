@@ -0,0 +1,92 @@
+package com.puppytalk.unit.batch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.puppytalk.batch.PartitionExpiryAction;
+import com.puppytalk.batch.PartitionMaintenanceJob;
+import com.puppytalk.batch.PartitionMaintenanceJob.MaintenanceReport;
+import com.puppytalk.batch.PartitionMaintenanceJob.TableReport;
+import com.puppytalk.batch.TablePartition;
+import com.puppytalk.batch.TablePartitionRepository;
+import java.time.YearMonth;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("PartitionMaintenanceJob 단위 테스트")
+class PartitionMaintenanceJobTest {
+
+    private TablePartitionRepository tablePartitionRepository;
+
+    @BeforeEach
+    void setUp() {
+        tablePartitionRepository = mock(TablePartitionRepository.class);
+    }
+
+    @DisplayName("파티션을 미리 만들고 보관 기간이 지난 파티션을 테이블별 방식으로 제거한다")
+    @Test
+    void run_PremakesAndExpiresPerTable() {
+        // given
+        YearMonth current = YearMonth.now();
+        TablePartition old = TablePartition.monthly(current.minusMonths(3));
+        List<TablePartition> partitions = List.of(
+            old, TablePartition.monthly(current), TablePartition.of(TablePartition.CATCH_ALL));
+        when(tablePartitionRepository.findPartitions(anyString())).thenReturn(partitions);
+        when(tablePartitionRepository.archivePartition("messages", old)).thenReturn("messages_archive");
+        PartitionMaintenanceJob job = new PartitionMaintenanceJob(
+            tablePartitionRepository, true, 1, 2, PartitionExpiryAction.DROP, 2, PartitionExpiryAction.ARCHIVE);
+
+        // when
+        MaintenanceReport report = job.run();
+
+        // then
+        TableReport notifications = report.tables().get(0);
+        assertEquals("notifications", notifications.table());
+        assertEquals(List.of(TablePartition.monthly(current.plusMonths(1)).name()), notifications.created());
+        assertEquals(List.of(old.name()), notifications.expired());
+        verify(tablePartitionRepository).addMonthlyPartition("notifications", current.plusMonths(1));
+        verify(tablePartitionRepository).dropPartition("notifications", old);
+        verify(tablePartitionRepository).archivePartition("messages", old);
+        verify(tablePartitionRepository, never()).dropPartition("messages", old);
+    }
+
+    @DisplayName("파티셔닝되지 않은 테이블은 건너뛴다")
+    @Test
+    void run_NotPartitioned_Skips() {
+        // given
+        when(tablePartitionRepository.findPartitions(anyString())).thenReturn(List.of());
+        PartitionMaintenanceJob job = new PartitionMaintenanceJob(
+            tablePartitionRepository, true, 3, 2, PartitionExpiryAction.DROP, 0, PartitionExpiryAction.ARCHIVE);
+
+        // when
+        MaintenanceReport report = job.run();
+
+        // then
+        assertTrue(report.tables().stream().noneMatch(TableReport::partitioned));
+        verify(tablePartitionRepository, never()).addMonthlyPartition(anyString(), any());
+    }
+
+    @DisplayName("비활성화 상태면 아무것도 하지 않는다")
+    @Test
+    void run_Disabled_DoesNothing() {
+        // given
+        PartitionMaintenanceJob job = new PartitionMaintenanceJob(
+            tablePartitionRepository, false, 3, 2, PartitionExpiryAction.DROP, 0, PartitionExpiryAction.ARCHIVE);
+
+        // when
+        MaintenanceReport report = job.run();
+
+        // then
+        assertTrue(report.tables().isEmpty());
+        verifyNoInteractions(tablePartitionRepository);
+    }
+}
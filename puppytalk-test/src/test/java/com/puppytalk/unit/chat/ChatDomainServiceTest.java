@@ -13,6 +13,7 @@ import com.puppytalk.chat.ChatRoom;
 import com.puppytalk.chat.ChatRoomId;
 import com.puppytalk.chat.ChatRoomRepository;
 import com.puppytalk.chat.Message;
+import com.puppytalk.chat.MessageArchiveChunk;
 import com.puppytalk.chat.MessageId;
 import com.puppytalk.chat.MessageRepository;
 import com.puppytalk.chat.MessageType;
@@ -190,14 +191,51 @@ class ChatDomainServiceTest {
         chatDomainService.sendUserMessage(chatRoomId, userId, content);
         
         // then
-        assertTrue(mockChatRoomRepository.isFindByIdCalled());
+        assertEquals(1, mockChatRoomRepository.getFindByIdCallCount());
         assertTrue(mockMessageRepository.isCreateCalled());
-        assertTrue(mockChatRoomRepository.isUpdateCalled());
+        assertEquals(1, mockChatRoomRepository.getUpdateLastMessageAtCallCount());
+        assertFalse(mockChatRoomRepository.isUpdateCalled());
         
         Message savedMessage = mockMessageRepository.getLastCreatedMessage();
         assertNotNull(savedMessage);
     }
     
+    @DisplayName("사용자 메시지 전송 - 조회한 채팅방을 전달하면 채팅방을 다시 조회하지 않음")
+    @Test
+    void sendUserMessage_ResolvedChatRoom_NoChatRoomLookup() {
+        // given
+        ChatRoomId chatRoomId = ChatRoomId.from(1L);
+        UserId userId = UserId.from(1L);
+        ChatRoom chatRoom = ChatRoom.of(chatRoomId, userId, PetId.from(1L), LocalDateTime.now(), LocalDateTime.now());
+        mockChatRoomRepository.setFindByIdResult(Optional.of(chatRoom));
+        
+        // when
+        ChatRoom resolved = chatDomainService.findChatRoom(chatRoomId, userId);
+        chatDomainService.sendUserMessage(resolved, userId, "안녕하세요!");
+        chatDomainService.findMessageListWithCursor(resolved, userId, null, 20);
+        chatDomainService.findRecentChatHistory(resolved, 20);
+        
+        // then
+        assertEquals(1, mockChatRoomRepository.getFindByIdCallCount());
+        assertEquals(1, mockChatRoomRepository.getUpdateLastMessageAtCallCount());
+        assertFalse(mockChatRoomRepository.isUpdateCalled());
+    }
+    
+    @DisplayName("사용자 메시지 전송 - 조회한 채팅방이 다른 사용자 소유면 실패")
+    @Test
+    void sendUserMessage_ResolvedChatRoom_AccessDenied() {
+        // given
+        ChatRoom chatRoom = ChatRoom.of(ChatRoomId.from(1L), UserId.from(2L), PetId.from(1L), LocalDateTime.now(), LocalDateTime.now());
+        
+        // when & then
+        assertThrows(
+            ChatRoomAccessDeniedException.class,
+            () -> chatDomainService.sendUserMessage(chatRoom, UserId.from(1L), "안녕하세요!")
+        );
+        assertFalse(mockMessageRepository.isCreateCalled());
+        assertEquals(0, mockChatRoomRepository.getUpdateLastMessageAtCallCount());
+    }
+    
     @DisplayName("반려동물 메시지 전송 - 성공")
     @Test
     void sendPetMessage_Success() {
@@ -215,9 +253,23 @@ class ChatDomainServiceTest {
         
         // then
         assertNotNull(result);
-        assertTrue(mockChatRoomRepository.isFindByIdCalled());
+        assertFalse(mockChatRoomRepository.isFindByIdCalled());
         assertTrue(mockMessageRepository.isCreateCalled());
-        assertTrue(mockChatRoomRepository.isUpdateCalled());
+        assertEquals(1, mockChatRoomRepository.getUpdateLastMessageAtCallCount());
+    }
+    
+    @DisplayName("반려동물 메시지 전송 - 채팅방이 없으면 메시지를 저장하지 않음")
+    @Test
+    void sendPetMessage_ChatRoomNotFound_ThrowsException() {
+        // given
+        mockChatRoomRepository.setFindByIdResult(Optional.empty());
+        
+        // when & then
+        assertThrows(
+            ChatRoomNotFoundException.class,
+            () -> chatDomainService.sendPetMessage(ChatRoomId.from(999L), "멍멍!")
+        );
+        assertFalse(mockMessageRepository.isCreateCalled());
     }
     
     @DisplayName("메시지 목록 조회 - 성공")
@@ -512,6 +564,8 @@ class ChatDomainServiceTest {
         private boolean updateCalled = false;
         private boolean findByUserIdCalled = false;
         private boolean existsByUserIdAndPetIdCalled = false;
+        private int findByIdCallCount = 0;
+        private int updateLastMessageAtCallCount = 0;
         
         private UserId lastFindByUserIdAndPetIdUserId;
         private PetId lastFindByUserIdAndPetIdPetId;
@@ -537,6 +591,7 @@ class ChatDomainServiceTest {
         @Override
         public Optional<ChatRoom> findById(ChatRoomId id) {
             findByIdCalled = true;
+            findByIdCallCount++;
             lastFindByIdParam = id;
             return findByIdResult;
         }
@@ -555,6 +610,12 @@ class ChatDomainServiceTest {
             return chatRoom;
         }
         
+        @Override
+        public boolean updateLastMessageAt(ChatRoomId id, LocalDateTime lastMessageAt) {
+            updateLastMessageAtCallCount++;
+            return findByIdResult.isPresent();
+        }
+        
         @Override
         public List<ChatRoom> findByUserId(UserId userId) {
             findByUserIdCalled = true;
@@ -610,6 +671,8 @@ class ChatDomainServiceTest {
         public boolean isUpdateCalled() { return updateCalled; }
         public boolean isFindByUserIdCalled() { return findByUserIdCalled; }
         public boolean isExistsByUserIdAndPetIdCalled() { return existsByUserIdAndPetIdCalled; }
+        public int getFindByIdCallCount() { return findByIdCallCount; }
+        public int getUpdateLastMessageAtCallCount() { return updateLastMessageAtCallCount; }
         
         public UserId getLastFindByUserIdAndPetIdUserId() { return lastFindByUserIdAndPetIdUserId; }
         public PetId getLastFindByUserIdAndPetIdPetId() { return lastFindByUserIdAndPetIdPetId; }
@@ -704,6 +767,11 @@ class ChatDomainServiceTest {
             return findByChatRoomIdAndCreatedAtAfterResult;
         }
         
+        @Override
+        public MessageArchiveChunk archiveChunk(LocalDateTime cutoff, Long afterMessageId, int limit) {
+            return new MessageArchiveChunk(0, 0, afterMessageId, true);
+        }
+        
         
         // Test helper methods
         public void setCreateResult(Message result) {
@@ -0,0 +1,99 @@
+package com.puppytalk.unit.chat;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.puppytalk.chat.ChatDomainService;
+import com.puppytalk.chat.ChatFacade;
+import com.puppytalk.chat.ChatMessageStreamRegistry;
+import com.puppytalk.chat.ChatReplyWorker;
+import com.puppytalk.chat.ChatRoom;
+import com.puppytalk.chat.ChatRoomId;
+import com.puppytalk.chat.ChatRoomRepository;
+import com.puppytalk.chat.Message;
+import com.puppytalk.chat.MessageId;
+import com.puppytalk.chat.MessageRepository;
+import com.puppytalk.chat.MessageType;
+import com.puppytalk.chat.dto.request.MessageSendCommand;
+import com.puppytalk.pet.Pet;
+import com.puppytalk.pet.PetDomainService;
+import com.puppytalk.pet.PetId;
+import com.puppytalk.user.UserDomainService;
+import com.puppytalk.user.UserId;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ChatFacade 메시지 전송 조회 횟수 테스트")
+class ChatFacadeSendMessageTest {
+
+    private static final ChatRoomId CHAT_ROOM_ID = ChatRoomId.from(1L);
+    private static final UserId USER_ID = UserId.from(1L);
+    private static final PetId PET_ID = PetId.from(1L);
+
+    private ChatRoomRepository chatRoomRepository;
+    private MessageRepository messageRepository;
+    private ChatFacade chatFacade;
+
+    @BeforeEach
+    void setUp() {
+        chatRoomRepository = mock(ChatRoomRepository.class);
+        messageRepository = mock(MessageRepository.class);
+        PetDomainService petDomainService = mock(PetDomainService.class);
+
+        chatFacade = new ChatFacade(
+            new ChatDomainService(chatRoomRepository, messageRepository),
+            petDomainService,
+            mock(UserDomainService.class),
+            mock(ChatReplyWorker.class),
+            mock(ChatMessageStreamRegistry.class)
+        );
+
+        ChatRoom chatRoom = ChatRoom.of(CHAT_ROOM_ID, USER_ID, PET_ID, LocalDateTime.now(), LocalDateTime.now());
+        when(chatRoomRepository.findById(CHAT_ROOM_ID)).thenReturn(Optional.of(chatRoom));
+        when(chatRoomRepository.updateLastMessageAt(eq(CHAT_ROOM_ID), any())).thenReturn(true);
+        when(messageRepository.create(any())).thenReturn(message(10L));
+
+        Pet pet = mock(Pet.class);
+        when(pet.getId()).thenReturn(PET_ID);
+        when(pet.getPersona()).thenReturn("활발한 강아지");
+        when(petDomainService.getPet(PET_ID, USER_ID)).thenReturn(pet);
+    }
+
+    @DisplayName("메시지 전송당 채팅방 조회 1회, 마지막 메시지 시각 직접 갱신 1회만 수행한다")
+    @Test
+    void sendUserMessage_ChatRoomStatements() {
+        // when
+        chatFacade.sendUserMessage(MessageSendCommand.of(CHAT_ROOM_ID.value(), USER_ID.value(), "안녕!"));
+
+        // then
+        verify(chatRoomRepository, times(1)).findById(CHAT_ROOM_ID);
+        verify(chatRoomRepository, times(1)).updateLastMessageAt(eq(CHAT_ROOM_ID), any());
+        verify(chatRoomRepository, never()).update(any());
+        // 기존 경로: 채팅방 조회 3회 + update 내부 조회/저장 2회 = 5회
+        assertEquals(2, mockingDetails(chatRoomRepository).getInvocations().size());
+        // 메시지 저장 1회 (최근 대화는 커밋 이후 응답 워커가 조회)
+        assertEquals(1, mockingDetails(messageRepository).getInvocations().size());
+    }
+
+    private Message message(Long messageId) {
+        return Message.of(
+            MessageId.from(messageId),
+            CHAT_ROOM_ID,
+            USER_ID,
+            "안녕!",
+            MessageType.USER,
+            LocalDateTime.now(),
+            LocalDateTime.now()
+        );
+    }
+}
@@ -0,0 +1,216 @@
+package com.puppytalk.unit.chat;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.puppytalk.chat.ChatMessageStreamRegistry;
+import com.puppytalk.chat.ChatRoomId;
+import com.puppytalk.chat.Message;
+import com.puppytalk.chat.MessageId;
+import com.puppytalk.chat.MessageType;
+import com.puppytalk.chat.dto.response.MessageResult;
+import com.puppytalk.chat.dto.response.ReplyFailedResult;
+import com.puppytalk.user.UserId;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@DisplayName("ChatMessageStreamRegistry 단위 테스트")
+class ChatMessageStreamRegistryTest {
+
+    private ChatMessageStreamRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new ChatMessageStreamRegistry(2, 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        registry.destroy();
+    }
+
+    @DisplayName("저장된 메시지는 같은 채팅방 구독자에게만 전달된다")
+    @Test
+    void onMessageSaved_DeliversToRoomSubscribers() throws InterruptedException {
+        // given
+        BlockingQueue<MessageResult> room1 = new LinkedBlockingQueue<>();
+        BlockingQueue<MessageResult> room2 = new LinkedBlockingQueue<>();
+        registry.subscribe(ChatRoomId.from(1L), subscriber(room1::add, () -> { }));
+        registry.subscribe(ChatRoomId.from(2L), subscriber(room2::add, () -> { }));
+
+        // when
+        registry.onMessageSaved(message(10L, 1L));
+
+        // then
+        MessageResult delivered = room1.poll(2, TimeUnit.SECONDS);
+        assertEquals(10L, delivered.messageId());
+        assertNull(room2.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    @DisplayName("트랜잭션 안에서 저장된 메시지는 커밋 이후에 전달된다")
+    @Test
+    void onMessageSaved_InTransaction_DeliversAfterCommit() throws InterruptedException {
+        // given
+        BlockingQueue<MessageResult> received = new LinkedBlockingQueue<>();
+        registry.subscribe(ChatRoomId.from(1L), subscriber(received::add, () -> { }));
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        registry.onMessageSaved(message(10L, 1L));
+
+        // then
+        assertNull(received.poll(100, TimeUnit.MILLISECONDS));
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(10L, received.poll(2, TimeUnit.SECONDS).messageId());
+    }
+
+    @DisplayName("구독을 닫으면 더 이상 전달되지 않고, 실패한 구독자는 정리된다")
+    @Test
+    void closeAndFailingSubscriber_AreRemoved() throws InterruptedException {
+        // given
+        BlockingQueue<MessageResult> received = new LinkedBlockingQueue<>();
+        ChatMessageStreamRegistry.Subscription closed = registry.subscribe(ChatRoomId.from(1L), subscriber(received::add, () -> { }));
+        registry.subscribe(ChatRoomId.from(1L), subscriber(message -> {
+            throw new IllegalStateException("connection closed");
+        }, () -> { }));
+        assertEquals(2, registry.subscriberCount());
+
+        // when
+        closed.close();
+        registry.onMessageSaved(message(10L, 1L));
+
+        // then
+        assertNull(received.poll(200, TimeUnit.MILLISECONDS));
+        assertEquals(0, registry.subscriberCount());
+    }
+
+    @DisplayName("전달이 멈춘 구독자가 있어도 다른 채팅방 구독자에게는 계속 전달된다")
+    @Test
+    void onMessageSaved_StalledSubscriber_DoesNotBlockOtherRooms() throws InterruptedException {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        registry.subscribe(ChatRoomId.from(1L), subscriber(message -> awaitQuietly(release), () -> { }));
+        BlockingQueue<MessageResult> room2 = new LinkedBlockingQueue<>();
+        registry.subscribe(ChatRoomId.from(2L), subscriber(room2::add, () -> { }));
+
+        // when
+        registry.onMessageSaved(message(10L, 1L));
+        registry.onMessageSaved(message(11L, 2L));
+
+        // then
+        assertEquals(11L, room2.poll(2, TimeUnit.SECONDS).messageId());
+        release.countDown();
+    }
+
+    @DisplayName("대기열이 가득 찬 구독자는 이벤트를 버리지 않고 구독을 종료하며 재연결을 알린다")
+    @Test
+    void onMessageSaved_QueueOverflow_ClosesAndNotifies() throws InterruptedException {
+        // given: 첫 메시지 전달이 멈춘 상태에서 대기열(4개)을 넘겨 보낸다
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch overflowed = new CountDownLatch(1);
+        List<Long> delivered = new CopyOnWriteArrayList<>();
+        registry.subscribe(ChatRoomId.from(1L), subscriber(message -> {
+            delivered.add(message.messageId());
+            awaitQuietly(release);
+        }, overflowed::countDown));
+
+        // when
+        registry.onMessageSaved(message(1L, 1L));
+        while (delivered.isEmpty()) {
+            Thread.sleep(10);
+        }
+        for (long id = 2; id <= 6; id++) {
+            registry.onMessageSaved(message(id, 1L));
+        }
+
+        // then
+        assertEquals(0, registry.subscriberCount());
+        release.countDown();
+        assertTrue(overflowed.await(2, TimeUnit.SECONDS));
+        assertEquals(List.of(1L), delivered);
+    }
+
+    @DisplayName("응답 실패는 메시지와 같은 순서로 채팅방 구독자에게 전달된다")
+    @Test
+    void publishReplyFailed_DeliveredInOrder() throws InterruptedException {
+        // given
+        BlockingQueue<Object> received = new LinkedBlockingQueue<>();
+        registry.subscribe(ChatRoomId.from(1L), new ChatMessageStreamRegistry.Subscriber() {
+            @Override
+            public void onMessage(MessageResult message) {
+                received.add(message.messageId());
+            }
+
+            @Override
+            public void onReplyFailed(ReplyFailedResult replyFailed) {
+                received.add(replyFailed);
+            }
+
+            @Override
+            public void onOverflow() {
+            }
+        });
+
+        // when
+        registry.onMessageSaved(message(10L, 1L));
+        registry.publishReplyFailed(ChatRoomId.from(1L), MessageId.from(10L));
+
+        // then
+        assertEquals(10L, received.poll(2, TimeUnit.SECONDS));
+        assertEquals(new ReplyFailedResult(1L, 10L), received.poll(2, TimeUnit.SECONDS));
+    }
+
+    private static ChatMessageStreamRegistry.Subscriber subscriber(Consumer<MessageResult> onMessage, Runnable onOverflow) {
+        return new ChatMessageStreamRegistry.Subscriber() {
+            @Override
+            public void onMessage(MessageResult message) {
+                onMessage.accept(message);
+            }
+
+            @Override
+            public void onReplyFailed(ReplyFailedResult replyFailed) {
+            }
+
+            @Override
+            public void onOverflow() {
+                onOverflow.run();
+            }
+        };
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Message message(Long messageId, Long chatRoomId) {
+        return Message.of(
+            MessageId.from(messageId),
+            ChatRoomId.from(chatRoomId),
+            UserId.from(1L),
+            "안녕!",
+            MessageType.USER,
+            LocalDateTime.now(),
+            LocalDateTime.now()
+        );
+    }
+}
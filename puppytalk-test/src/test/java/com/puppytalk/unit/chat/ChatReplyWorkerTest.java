@@ -0,0 +1,202 @@
+package com.puppytalk.unit.chat;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.puppytalk.ai.AiMessageGenerationService;
+import com.puppytalk.chat.ChatDomainService;
+import com.puppytalk.chat.ChatMessageStreamRegistry;
+import com.puppytalk.chat.ChatReplyWorker;
+import com.puppytalk.chat.ChatRoom;
+import com.puppytalk.chat.ChatRoomId;
+import com.puppytalk.chat.ChatRoomRepository;
+import com.puppytalk.chat.Message;
+import com.puppytalk.chat.MessageId;
+import com.puppytalk.chat.MessageJpaEntity;
+import com.puppytalk.chat.MessageJpaRepository;
+import com.puppytalk.chat.MessageRepositoryImpl;
+import com.puppytalk.chat.MessageSegmentArchive;
+import com.puppytalk.chat.MessageTailCache;
+import com.puppytalk.chat.MessageType;
+import com.puppytalk.pet.Pet;
+import com.puppytalk.pet.PetId;
+import com.puppytalk.unit.support.NoOpTransactionManager;
+import com.puppytalk.user.UserId;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@DisplayName("ChatReplyWorker 단위 테스트")
+class ChatReplyWorkerTest {
+
+    private static final MessageId USER_MESSAGE_ID = MessageId.from(50L);
+
+    @TempDir
+    Path directory;
+
+    private ChatDomainService chatDomainService;
+    private AiMessageGenerationService aiMessageGenerationService;
+    private ChatMessageStreamRegistry streamRegistry;
+    private ChatReplyWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        chatDomainService = mock(ChatDomainService.class);
+        aiMessageGenerationService = mock(AiMessageGenerationService.class);
+        streamRegistry = mock(ChatMessageStreamRegistry.class);
+        worker = new ChatReplyWorker(chatDomainService, aiMessageGenerationService, streamRegistry, new NoOpTransactionManager(), 2, 10);
+        when(aiMessageGenerationService.generateChatResponse(any())).thenReturn("멍멍!");
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        worker.destroy();
+    }
+
+    @DisplayName("트랜잭션 안에서 예약된 응답은 커밋 이후에 생성되어 저장된다")
+    @Test
+    void scheduleReply_InTransaction_RunsAfterCommit() {
+        // given
+        ChatRoomId chatRoomId = ChatRoomId.from(1L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        worker.scheduleReply(chatRoom(chatRoomId), pet(), userMessage("안녕"));
+
+        // then
+        verify(aiMessageGenerationService, never()).generateChatResponse(any());
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+        verify(chatDomainService, timeout(2_000)).sendPetMessage(eq(chatRoomId), eq("멍멍!"));
+    }
+
+    @DisplayName("트랜잭션이 롤백되면 응답을 생성하지 않는다")
+    @Test
+    void scheduleReply_RolledBack_NotExecuted() throws InterruptedException {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        worker.scheduleReply(chatRoom(ChatRoomId.from(1L)), pet(), userMessage("안녕"));
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        Thread.sleep(100);
+
+        // then
+        verify(aiMessageGenerationService, never()).generateChatResponse(any());
+        verify(chatDomainService, never()).sendPetMessage(any(), any());
+    }
+
+    @DisplayName("AI 응답 생성에 실패하면 반려동물 메시지를 저장하지 않고 응답 실패를 알린다")
+    @Test
+    void scheduleReply_AiFailure_PublishesReplyFailed() {
+        // given
+        ChatRoomId chatRoomId = ChatRoomId.from(1L);
+        when(aiMessageGenerationService.generateChatResponse(any())).thenThrow(new RuntimeException("AI down"));
+
+        // when
+        worker.scheduleReply(chatRoom(chatRoomId), pet(), userMessage("안녕"));
+
+        // then
+        verify(streamRegistry, timeout(2_000)).publishReplyFailed(chatRoomId, USER_MESSAGE_ID);
+        verify(chatDomainService, never()).sendPetMessage(any(), any());
+    }
+
+    @DisplayName("대기열이 가득 차면 거부된 요청은 반려동물 메시지 없이 호출 스레드에서 응답 실패를 알린다")
+    @Test
+    void scheduleReply_QueueFull_PublishesReplyFailed() throws InterruptedException {
+        // given: 스레드 1개, 대기열 1개가 모두 찬 상태
+        worker.destroy();
+        worker = new ChatReplyWorker(chatDomainService, aiMessageGenerationService, streamRegistry, new NoOpTransactionManager(), 1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(aiMessageGenerationService.generateChatResponse(any())).thenAnswer(invocation -> {
+            release.await(2, TimeUnit.SECONDS);
+            return "멍멍!";
+        });
+        worker.scheduleReply(chatRoom(ChatRoomId.from(1L)), pet(), userMessage("안녕"));
+        verify(aiMessageGenerationService, timeout(2_000)).generateChatResponse(any());
+        worker.scheduleReply(chatRoom(ChatRoomId.from(2L)), pet(), userMessage("안녕"));
+        ChatRoomId rejected = ChatRoomId.from(3L);
+
+        // when
+        worker.scheduleReply(chatRoom(rejected), pet(), userMessage("안녕"));
+
+        // then
+        verify(streamRegistry).publishReplyFailed(rejected, USER_MESSAGE_ID);
+        release.countDown();
+        verify(chatDomainService, timeout(2_000)).sendPetMessage(eq(ChatRoomId.from(2L)), eq("멍멍!"));
+        verify(chatDomainService, never()).sendPetMessage(eq(rejected), any());
+    }
+
+    @DisplayName("같은 채팅방에 다시 보낸 메시지의 응답은 최근 대화를 캐시에서 읽는다")
+    @Test
+    void scheduleReply_SecondSendToSameRoom_HitsTailCache() throws InterruptedException {
+        // given: 실제 최근 메시지 캐시를 거치는 메시지 리포지토리
+        MessageJpaRepository jpaRepository = mock(MessageJpaRepository.class);
+        MessageJpaEntity saved = mock(MessageJpaEntity.class);
+        when(saved.toDomain()).thenReturn(Message.of(MessageId.from(100L), ChatRoomId.from(1L), null, "멍멍!",
+            MessageType.PET, LocalDateTime.now(), LocalDateTime.now()));
+        when(jpaRepository.save(any())).thenReturn(saved);
+        ChatRoomRepository chatRoomRepository = mock(ChatRoomRepository.class);
+        when(chatRoomRepository.updateLastMessageAt(any(), any())).thenReturn(true);
+        MessageTailCache tailCache = new MessageTailCache(50, 100, Duration.ofMinutes(10));
+        MessageRepositoryImpl messageRepository = new MessageRepositoryImpl(
+            jpaRepository, tailCache, new MessageSegmentArchive(directory, 1024 * 1024, Duration.ZERO));
+
+        worker.destroy();
+        worker = new ChatReplyWorker(new ChatDomainService(chatRoomRepository, messageRepository),
+            aiMessageGenerationService, streamRegistry, new NoOpTransactionManager(), 1, 10);
+        ChatRoom chatRoom = chatRoom(ChatRoomId.from(1L));
+
+        // when
+        worker.scheduleReply(chatRoom, pet(), userMessage("안녕"));
+        verify(aiMessageGenerationService, timeout(2_000)).generateChatResponse(any());
+        worker.scheduleReply(chatRoom, pet(), userMessage("또 왔어"));
+        verify(aiMessageGenerationService, timeout(2_000).times(2)).generateChatResponse(any());
+
+        // then
+        assertEquals(1, tailCache.missCount());
+        assertEquals(1, tailCache.hitCount());
+        verify(jpaRepository, times(1)).findRecentByChatRoomIdOrderByIdDesc(anyLong(), anyInt());
+    }
+
+    private ChatRoom chatRoom(ChatRoomId chatRoomId) {
+        return ChatRoom.of(chatRoomId, UserId.from(1L), PetId.from(1L), LocalDateTime.now(), LocalDateTime.now());
+    }
+
+    private Message userMessage(String content) {
+        return Message.of(USER_MESSAGE_ID, ChatRoomId.from(1L), UserId.from(1L), content,
+            MessageType.USER, LocalDateTime.now(), LocalDateTime.now());
+    }
+
+    private Pet pet() {
+        Pet pet = mock(Pet.class);
+        when(pet.getId()).thenReturn(PetId.from(1L));
+        when(pet.getPersona()).thenReturn("활발한 강아지");
+        return pet;
+    }
+}
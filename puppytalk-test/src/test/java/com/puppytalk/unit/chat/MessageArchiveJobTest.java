@@ -0,0 +1,150 @@
+package com.puppytalk.unit.chat;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.puppytalk.batch.BatchCheckpointRepository;
+import com.puppytalk.chat.ChatDomainService;
+import com.puppytalk.chat.MessageArchiveChunk;
+import com.puppytalk.chat.MessageArchiveJob;
+import com.puppytalk.chat.MessageArchiveJob.ArchiveReport;
+import com.puppytalk.unit.support.NoOpTransactionManager;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("MessageArchiveJob 단위 테스트")
+class MessageArchiveJobTest {
+
+    private static final String JOB_NAME = "message-archive";
+
+    private ChatDomainService chatDomainService;
+    private InMemoryCheckpointRepository checkpointRepository;
+
+    @BeforeEach
+    void setUp() {
+        chatDomainService = mock(ChatDomainService.class);
+        checkpointRepository = new InMemoryCheckpointRepository();
+    }
+
+    @DisplayName("비활성화 상태면 아무 작업도 하지 않는다")
+    @Test
+    void run_Disabled_DoesNothing() {
+        // given
+        MessageArchiveJob job = job(false, 60_000);
+
+        // when
+        ArchiveReport report = job.run();
+
+        // then
+        assertEquals(new ArchiveReport(null, 0, 0, 0, true, 0), report);
+        verifyNoInteractions(chatDomainService);
+    }
+
+    @DisplayName("청크마다 체크포인트를 저장하고 대상을 끝까지 처리하면 삭제한다")
+    @Test
+    void run_ArchivesChunks_CheckpointPerChunk() {
+        // given
+        MessageArchiveJob job = job(true, 60_000);
+        when(chatDomainService.archiveMessageChunk(any(), isNull(), eq(2)))
+            .thenReturn(new MessageArchiveChunk(2, 2, 2L, false));
+        when(chatDomainService.archiveMessageChunk(any(), eq(2L), eq(2)))
+            .thenReturn(new MessageArchiveChunk(1, 0, 3L, true));
+
+        // when
+        ArchiveReport report = job.run();
+
+        // then
+        assertEquals(2, report.chunks());
+        assertEquals(3, report.scanned());
+        assertEquals(2, report.archived());
+        assertEquals(List.of(2L, 3L), checkpointRepository.savedIds);
+        assertEquals(Optional.empty(), checkpointRepository.findLastProcessedId(JOB_NAME));
+    }
+
+    @DisplayName("실행 예산을 다 쓰면 체크포인트를 남기고 다음 실행에서 이어서 처리한다")
+    @Test
+    void run_BudgetExhausted_ResumesNextRun() {
+        // given
+        MessageArchiveJob job = job(true, 1);
+        when(chatDomainService.archiveMessageChunk(any(), isNull(), eq(2)))
+            .thenAnswer(invocation -> {
+                Thread.sleep(5);
+                return new MessageArchiveChunk(2, 2, 2L, false);
+            });
+        when(chatDomainService.archiveMessageChunk(any(), eq(2L), eq(2)))
+            .thenReturn(new MessageArchiveChunk(1, 1, 3L, true));
+
+        // when
+        ArchiveReport first = job.run();
+
+        // then
+        assertFalse(first.completed());
+        assertEquals(Optional.of(2L), checkpointRepository.findLastProcessedId(JOB_NAME));
+        verify(chatDomainService, never()).archiveMessageChunk(any(), eq(2L), eq(2));
+
+        // when
+        ArchiveReport second = job.run();
+
+        // then
+        assertEquals(2L, second.resumedFrom());
+        assertEquals(1, second.archived());
+        assertEquals(Optional.empty(), checkpointRepository.findLastProcessedId(JOB_NAME));
+    }
+
+    @DisplayName("보관 중 실패하면 마지막으로 커밋된 청크의 체크포인트가 남는다")
+    @Test
+    void run_Failure_KeepsLastCommittedCheckpoint() {
+        // given
+        MessageArchiveJob job = job(true, 60_000);
+        when(chatDomainService.archiveMessageChunk(any(), isNull(), eq(2)))
+            .thenReturn(new MessageArchiveChunk(2, 2, 2L, false));
+        when(chatDomainService.archiveMessageChunk(any(), eq(2L), eq(2)))
+            .thenThrow(new IllegalStateException("Failed to append to message archive"));
+
+        // when & then
+        assertThrows(IllegalStateException.class, job::run);
+        assertEquals(Optional.of(2L), checkpointRepository.findLastProcessedId(JOB_NAME));
+    }
+
+    private MessageArchiveJob job(boolean enabled, long runBudgetMillis) {
+        return new MessageArchiveJob(chatDomainService, checkpointRepository, new NoOpTransactionManager(),
+            enabled, 90, 2, 0, runBudgetMillis);
+    }
+
+    private static class InMemoryCheckpointRepository implements BatchCheckpointRepository {
+
+        private final Map<String, Long> checkpoints = new HashMap<>();
+        private final List<Long> savedIds = new ArrayList<>();
+
+        @Override
+        public Optional<Long> findLastProcessedId(String jobName) {
+            return Optional.ofNullable(checkpoints.get(jobName));
+        }
+
+        @Override
+        public void save(String jobName, long lastProcessedId) {
+            checkpoints.put(jobName, lastProcessedId);
+            savedIds.add(lastProcessedId);
+        }
+
+        @Override
+        public void delete(String jobName) {
+            checkpoints.remove(jobName);
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.puppytalk.unit.chat;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.puppytalk.chat.ChatRoomId;
+import com.puppytalk.chat.Message;
+import com.puppytalk.chat.MessageArchiveChunk;
+import com.puppytalk.chat.MessageId;
+import com.puppytalk.chat.MessageJpaEntity;
+import com.puppytalk.chat.MessageJpaRepository;
+import com.puppytalk.chat.MessageRepositoryImpl;
+import com.puppytalk.chat.MessageSegmentArchive;
+import com.puppytalk.chat.MessageTailCache;
+import com.puppytalk.chat.MessageType;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("MessageRepositoryImpl 보관 단위 테스트")
+class MessageRepositoryImplTest {
+
+    private static final Long CHAT_ROOM_ID = 10L;
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    @TempDir
+    Path directory;
+
+    private MessageJpaRepository jpaRepository;
+    private MessageSegmentArchive archive;
+    private MessageRepositoryImpl repository;
+
+    @BeforeEach
+    void setUp() {
+        jpaRepository = mock(MessageJpaRepository.class);
+        archive = new MessageSegmentArchive(directory, 1024 * 1024, Duration.ZERO);
+        repository = new MessageRepositoryImpl(jpaRepository, new MessageTailCache(5, 100, Duration.ofMinutes(10)), archive);
+    }
+
+    @DisplayName("보관된 최대 ID보다 작은 메시지도 보관한 뒤 삭제한다")
+    @Test
+    void archiveChunk_LowerIdThanArchived_ArchivedBeforeDelete() {
+        // given: 5, 6이 먼저 보관되고 생성 시각이 늦은 3이 다음 실행에서 대상이 된 경우
+        archive.append(List.of(message(5), message(6)));
+        List<MessageJpaEntity> archivable = entities(3, 7);
+        when(jpaRepository.findArchivableAfter(CUTOFF, 0L, 10)).thenReturn(archivable);
+
+        // when
+        MessageArchiveChunk chunk = repository.archiveChunk(CUTOFF, null, 10);
+
+        // then
+        assertEquals(new MessageArchiveChunk(2, 2, 7L, true), chunk);
+        verify(jpaRepository).deleteAllByIdInBatch(List.of(3L, 7L));
+        assertEquals(List.of(3L, 5L, 6L, 7L), ids(archive.findAfter(CHAT_ROOM_ID, null, 10)));
+    }
+
+    @DisplayName("삭제가 롤백되어 다시 처리한 청크는 중복 기록 없이 삭제한다")
+    @Test
+    void archiveChunk_AlreadyArchived_DeletesWithoutDuplicate() {
+        // given
+        archive.append(List.of(message(1), message(2)));
+        List<MessageJpaEntity> archivable = entities(1, 2);
+        when(jpaRepository.findArchivableAfter(CUTOFF, 0L, 2)).thenReturn(archivable);
+
+        // when
+        MessageArchiveChunk chunk = repository.archiveChunk(CUTOFF, null, 2);
+
+        // then
+        assertEquals(new MessageArchiveChunk(2, 2, 2L, false), chunk);
+        verify(jpaRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        assertEquals(List.of(1L, 2L), ids(archive.findAfter(CHAT_ROOM_ID, null, 10)));
+    }
+
+    @DisplayName("커서 조회는 보관 파일과 테이블을 ID 순서로 병합하고 보관된 최대 ID 이하의 테이블 행도 포함한다")
+    @Test
+    void findByChatRoomIdWithCursor_MergesArchiveAndTable() {
+        // given: 3은 아직 보관 기간이 지나지 않아 테이블에 남아 있고, 4는 삭제가 롤백되어 양쪽에 있다
+        archive.append(List.of(message(1), message(2), message(4)));
+        List<MessageJpaEntity> stored = entities(3, 4, 5, 6);
+        when(jpaRepository.findByChatRoomIdWithCursor(eq(CHAT_ROOM_ID), any(), anyInt()))
+            .thenAnswer(invocation -> {
+                Long cursor = invocation.getArgument(1);
+                int size = invocation.getArgument(2);
+                return stored.stream()
+                    .filter(entity -> cursor == null || entity.toDomain().getId().value() > cursor)
+                    .limit(size)
+                    .toList();
+            });
+
+        // when
+        List<Message> firstPage = repository.findByChatRoomIdWithCursor(ChatRoomId.from(CHAT_ROOM_ID), null, 3);
+        List<Message> nextPage = repository.findByChatRoomIdWithCursor(ChatRoomId.from(CHAT_ROOM_ID), MessageId.from(3L), 3);
+
+        // then
+        assertEquals(List.of(1L, 2L, 3L), ids(firstPage));
+        assertEquals(List.of(4L, 5L, 6L), ids(nextPage));
+    }
+
+    @DisplayName("전체 메시지 조회는 보관 파일과 테이블을 중복 없이 합친다")
+    @Test
+    void findByChatRoomIdWithCursor_All_MergesWithoutDuplicates() {
+        // given
+        archive.append(List.of(message(1), message(4)));
+        List<MessageJpaEntity> stored = entities(2, 4, 5);
+        when(jpaRepository.findByChatRoomIdOrderByCreatedAtAsc(CHAT_ROOM_ID)).thenReturn(stored);
+
+        // when
+        List<Message> messages = repository.findByChatRoomIdWithCursor(ChatRoomId.from(CHAT_ROOM_ID));
+
+        // then
+        assertEquals(List.of(1L, 2L, 4L, 5L), ids(messages));
+    }
+
+    @DisplayName("최근 메시지는 최근 파티션 구간에서 다 채우면 전체 구간을 읽지 않는다")
+    @Test
+    void findRecentMessages_FilledInRecentPartitions_SkipsFullScan() {
+        // given: 버퍼 크기(5)보다 큰 요청은 캐시를 거치지 않는다
+        List<MessageJpaEntity> recent = entities(11, 10, 9, 8, 7, 6);
+        when(jpaRepository.findRecentByChatRoomIdSince(eq(CHAT_ROOM_ID), any(), eq(6))).thenReturn(recent);
+
+        // when
+        List<Message> messages = repository.findRecentMessages(ChatRoomId.from(CHAT_ROOM_ID), 6);
+
+        // then
+        assertEquals(List.of(11L, 10L, 9L, 8L, 7L, 6L), ids(messages));
+        verify(jpaRepository, never()).findRecentByChatRoomIdOrderByIdDesc(anyLong(), anyInt());
+    }
+
+    @DisplayName("최근 파티션 구간에서 다 채우지 못하면 전체 구간에서 다시 읽는다")
+    @Test
+    void findRecentMessages_FewInRecentPartitions_FallsBackToFullScan() {
+        // given
+        List<MessageJpaEntity> recent = entities(11, 10);
+        List<MessageJpaEntity> all = entities(11, 10, 4, 3);
+        when(jpaRepository.findRecentByChatRoomIdSince(eq(CHAT_ROOM_ID), any(), eq(6))).thenReturn(recent);
+        when(jpaRepository.findRecentByChatRoomIdOrderByIdDesc(CHAT_ROOM_ID, 6)).thenReturn(all);
+
+        // when
+        List<Message> messages = repository.findRecentMessages(ChatRoomId.from(CHAT_ROOM_ID), 6);
+
+        // then
+        assertEquals(List.of(11L, 10L, 4L, 3L), ids(messages));
+    }
+
+    @DisplayName("채팅방 메시지가 모두 보관되면 최근 메시지를 보관 파일에서 최신순으로 채운다")
+    @Test
+    void findRecentMessages_WholeRoomArchived_FillsFromArchive() {
+        // given: 채팅방 메시지 1~4가 모두 보관되어 테이블에서 삭제된 상태
+        List<MessageJpaEntity> archivable = entities(1, 2, 3, 4);
+        when(jpaRepository.findArchivableAfter(CUTOFF, 0L, 10)).thenReturn(archivable);
+        repository.archiveChunk(CUTOFF, null, 10);
+
+        // when
+        List<Message> recent = repository.findRecentMessages(ChatRoomId.from(CHAT_ROOM_ID), 3);
+        List<Message> cached = repository.findRecentMessages(ChatRoomId.from(CHAT_ROOM_ID), 3);
+
+        // then
+        assertEquals(List.of(4L, 3L, 2L), ids(recent));
+        assertEquals(ids(recent), ids(cached));
+        verify(jpaRepository).findRecentByChatRoomIdOrderByIdDesc(CHAT_ROOM_ID, 5);
+    }
+
+    @DisplayName("테이블에서 다 채우지 못한 최근 메시지는 보관 파일과 ID 순서로 병합한다")
+    @Test
+    void findRecentMessages_PartiallyArchived_MergesNewestFirst() {
+        // given: 3은 생성 시각이 늦어 아직 테이블에 남아 있고, 4는 삭제가 롤백되어 양쪽에 있다
+        archive.append(List.of(message(1), message(2), message(4), message(5)));
+        List<MessageJpaEntity> stored = entities(6, 4, 3);
+        when(jpaRepository.findRecentByChatRoomIdOrderByIdDesc(CHAT_ROOM_ID, 6)).thenReturn(stored);
+
+        // when
+        List<Message> messages = repository.findRecentMessages(ChatRoomId.from(CHAT_ROOM_ID), 6);
+
+        // then
+        assertEquals(List.of(6L, 5L, 4L, 3L, 2L, 1L), ids(messages));
+    }
+
+    private static List<MessageJpaEntity> entities(long... ids) {
+        return Arrays.stream(ids)
+            .mapToObj(id -> {
+                MessageJpaEntity entity = mock(MessageJpaEntity.class);
+                when(entity.toDomain()).thenReturn(message(id));
+                return entity;
+            })
+            .toList();
+    }
+
+    private static Message message(long id) {
+        LocalDateTime createdAt = CUTOFF.minusDays(30).plusMinutes(id);
+        return Message.of(MessageId.from(id), ChatRoomId.from(CHAT_ROOM_ID), null, "메시지 " + id,
+            MessageType.USER, createdAt, createdAt);
+    }
+
+    private static List<Long> ids(List<Message> messages) {
+        return messages.stream().map(message -> message.getId().value()).toList();
+    }
+}
@@ -0,0 +1,142 @@
+package com.puppytalk.unit.chat;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.puppytalk.chat.ChatRoomId;
+import com.puppytalk.chat.Message;
+import com.puppytalk.chat.MessageId;
+import com.puppytalk.chat.MessageSegmentArchive;
+import com.puppytalk.chat.MessageType;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("MessageSegmentArchive 단위 테스트")
+class MessageSegmentArchiveTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2026, 1, 10, 9, 30, 15, 123_000_000);
+
+    @TempDir
+    Path directory;
+
+    private MessageSegmentArchive archive;
+
+    @BeforeEach
+    void setUp() {
+        archive = new MessageSegmentArchive(directory, 1024 * 1024, Duration.ZERO);
+    }
+
+    @DisplayName("채팅방별로 기록한 메시지를 커서 이후부터 ID 순서로 조회한다")
+    @Test
+    void append_FindAfter_ReturnsMessagesInIdOrder() {
+        // given
+        archive.append(List.of(message(1, 10L), message(2, 20L), message(3, 10L)));
+        archive.append(List.of(message(4, 10L), message(5, 10L)));
+
+        // when
+        List<Message> firstPage = archive.findAfter(10L, null, 2);
+        List<Message> nextPage = archive.findAfter(10L, 3L, 10);
+
+        // then
+        assertEquals(List.of(1L, 3L), ids(firstPage));
+        assertEquals(List.of(4L, 5L), ids(nextPage));
+        assertEquals("메시지 1", firstPage.get(0).getContent());
+        assertEquals(CREATED_AT, firstPage.get(0).getCreatedAt());
+        assertEquals(MessageType.USER, firstPage.get(0).getType());
+        assertEquals(5L, archive.lastArchivedId(10L));
+        assertTrue(archive.hasArchivedAfter(10L, 4L));
+        assertFalse(archive.hasArchivedAfter(10L, 5L));
+        assertNull(archive.lastArchivedId(99L));
+    }
+
+    @DisplayName("이미 보관된 메시지는 다시 기록하지 않고 보관된 ID로 돌려준다")
+    @Test
+    void append_AlreadyArchived_NotDuplicated() {
+        // given
+        archive.append(List.of(message(1, 10L), message(2, 10L)));
+
+        // when
+        Set<Long> archived = archive.append(List.of(message(1, 10L), message(2, 10L), message(3, 10L)));
+
+        // then
+        assertEquals(Set.of(1L, 2L, 3L), archived);
+        assertEquals(List.of(1L, 2L, 3L), ids(archive.findAfter(10L, null, 10)));
+    }
+
+    @DisplayName("보관된 최대 ID보다 작은 ID도 보관되고 조회는 겹치는 블록을 ID 순서로 병합한다")
+    @Test
+    void append_LowerIdAfterHigher_ArchivedAndMerged() {
+        // given
+        archive.append(List.of(message(5, 10L), message(6, 10L)));
+
+        // when
+        Set<Long> archived = archive.append(List.of(message(3, 10L), message(7, 10L)));
+
+        // then
+        assertEquals(Set.of(3L, 7L), archived);
+        assertEquals(List.of(3L, 5L, 6L, 7L), ids(archive.findAfter(10L, null, 10)));
+        assertEquals(List.of(3L, 5L), ids(archive.findAfter(10L, null, 2)));
+        assertEquals(List.of(5L, 6L), ids(archive.findAfter(10L, 3L, 2)));
+        assertEquals(7L, archive.lastArchivedId(10L));
+    }
+
+    @DisplayName("새 인스턴스는 세그먼트 헤더로 색인을 다시 구성하고 끊긴 마지막 블록은 무시한다")
+    @Test
+    void reopen_RebuildsIndex_IgnoresTornTail() throws IOException {
+        // given
+        archive.append(List.of(message(1, 10L), message(2, 10L)));
+        Path segment = segmentFiles().get(0);
+        Files.write(segment, new byte[] {0x4D, 0x53, 0x47}, StandardOpenOption.APPEND);
+
+        // when
+        MessageSegmentArchive reopened = new MessageSegmentArchive(directory, 1024 * 1024, Duration.ZERO);
+        reopened.append(List.of(message(3, 10L)));
+
+        // then
+        assertEquals(List.of(1L, 2L, 3L), ids(reopened.findAfter(10L, null, 10)));
+        assertEquals(List.of(1L, 2L, 3L), ids(archive.findAfter(10L, null, 10)));
+    }
+
+    @DisplayName("세그먼트 크기 상한을 넘으면 새 세그먼트 파일에 기록한다")
+    @Test
+    void append_ExceedsSegmentSize_RollsSegment() throws IOException {
+        // given
+        MessageSegmentArchive small = new MessageSegmentArchive(directory, 100, Duration.ZERO);
+
+        // when
+        small.append(List.of(message(1, 10L)));
+        small.append(List.of(message(2, 10L)));
+
+        // then
+        assertEquals(2, segmentFiles().size());
+        assertEquals(List.of(1L, 2L), ids(small.findAfter(10L, null, 10)));
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(".seg")).sorted().toList();
+        }
+    }
+
+    private static Message message(long id, Long chatRoomId) {
+        return Message.of(MessageId.from(id), ChatRoomId.from(chatRoomId), null, "메시지 " + id,
+            MessageType.USER, CREATED_AT, CREATED_AT);
+    }
+
+    private static List<Long> ids(List<Message> messages) {
+        return messages.stream().map(message -> message.getId().value()).toList();
+    }
+}
@@ -0,0 +1,307 @@
+package com.puppytalk.unit.chat;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.puppytalk.chat.ChatRoomId;
+import com.puppytalk.chat.Message;
+import com.puppytalk.chat.MessageId;
+import com.puppytalk.chat.MessageTailCache;
+import com.puppytalk.chat.MessageType;
+import com.puppytalk.user.UserId;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntFunction;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@DisplayName("MessageTailCache 단위 테스트")
+class MessageTailCacheTest {
+
+    private static final Long CHAT_ROOM_ID = 1L;
+
+    private MessageTailCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = new MessageTailCache(5, 100, Duration.ofMinutes(10));
+        loads = new AtomicInteger();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @DisplayName("트랜잭션 안에서는 읽기 전용이어도 최근 메시지를 조회만 하고 캐시에 적재하지 않는다")
+    @Test
+    void findRecent_InTransaction_DoesNotPopulate() {
+        // given
+        IntFunction<List<Message>> loader = loader(1, 10);
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // when
+        List<Message> inTransaction = cache.findRecent(CHAT_ROOM_ID, 3, loader).orElseThrow();
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        cache.findRecent(CHAT_ROOM_ID, 3, loader);
+
+        // then
+        assertEquals(List.of(10L, 9L, 8L), ids(inTransaction));
+        assertEquals(2, loads.get());
+        assertEquals(1, cache.roomCount());
+    }
+
+    @DisplayName("최근 메시지는 처음 한 번만 적재하고 이후에는 캐시에서 조회한다")
+    @Test
+    void findRecent_LoadsOnceThenHits() {
+        // given
+        IntFunction<List<Message>> loader = loader(1, 10);
+
+        // when
+        List<Message> first = cache.findRecent(CHAT_ROOM_ID, 3, loader).orElseThrow();
+        List<Message> second = cache.findRecent(CHAT_ROOM_ID, 3, loader).orElseThrow();
+
+        // then
+        assertEquals(List.of(10L, 9L, 8L), ids(first));
+        assertEquals(ids(first), ids(second));
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.hitCount());
+        assertEquals(1, cache.missCount());
+    }
+
+    @DisplayName("버퍼 크기를 넘는 조회는 캐시에서 처리하지 않는다")
+    @Test
+    void findRecent_LimitOverCapacity_ReturnsEmpty() {
+        // when
+        Optional<List<Message>> result = cache.findRecent(CHAT_ROOM_ID, 6, loader(1, 10));
+
+        // then
+        assertTrue(result.isEmpty());
+        assertEquals(0, loads.get());
+        assertEquals(1, cache.missCount());
+    }
+
+    @DisplayName("커밋된 메시지는 버퍼에 추가되고 가장 오래된 메시지가 밀려난다")
+    @Test
+    void append_AfterCommit_RotatesRing() {
+        // given
+        cache.findRecent(CHAT_ROOM_ID, 1, loader(1, 10));
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        cache.append(message(11L));
+        assertEquals(List.of(10L), ids(cache.findRecent(CHAT_ROOM_ID, 1, loader(1, 10)).orElseThrow()));
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // then
+        assertEquals(List.of(11L, 10L, 9L, 8L, 7L), ids(cache.findRecent(CHAT_ROOM_ID, 5, loader(1, 10)).orElseThrow()));
+        assertEquals(1, loads.get());
+    }
+
+    @DisplayName("이미 버퍼에 있는 메시지는 중복 추가되지 않는다")
+    @Test
+    void append_Duplicate_Ignored() {
+        // given
+        cache.findRecent(CHAT_ROOM_ID, 1, loader(1, 3));
+
+        // when
+        cache.append(message(3L));
+        cache.append(message(2L));
+
+        // then
+        assertEquals(List.of(3L, 2L, 1L), ids(cache.findRecent(CHAT_ROOM_ID, 5, loader(1, 3)).orElseThrow()));
+    }
+
+    @DisplayName("ID 순서와 다르게 커밋된 메시지는 버퍼의 정렬 위치에 추가된다")
+    @Test
+    void append_OutOfIdOrder_InsertedInOrder() {
+        // given
+        cache.findRecent(CHAT_ROOM_ID, 1, loader(1, 3));
+
+        // when: 5가 4보다 먼저 커밋된 경우
+        cache.append(message(5L));
+        cache.append(message(4L));
+
+        // then
+        assertEquals(List.of(5L, 4L, 3L, 2L, 1L), ids(cache.findRecent(CHAT_ROOM_ID, 5, loader(1, 3)).orElseThrow()));
+        assertEquals(List.of(4L, 5L), ids(cache.findAfter(CHAT_ROOM_ID, 3L, 5, loader(1, 10)).orElseThrow()));
+    }
+
+    @DisplayName("가득 찬 버퍼에 늦게 커밋된 메시지는 가장 오래된 메시지를 밀어내고, 버퍼 구간보다 오래된 메시지는 넣지 않는다")
+    @Test
+    void append_OutOfIdOrder_FullBuffer_KeepsNewestWindow() {
+        // given: 버퍼에 4, 5, 6, 8, 9 (7은 아직 커밋되지 않음)
+        cache.findRecent(CHAT_ROOM_ID, 1, limit -> List.of(message(9L), message(8L), message(6L), message(5L), message(4L)));
+
+        // when
+        cache.append(message(7L));
+        cache.append(message(3L));
+
+        // then
+        assertEquals(List.of(9L, 8L, 7L, 6L, 5L), ids(cache.findRecent(CHAT_ROOM_ID, 5, loader(1, 9)).orElseThrow()));
+        assertTrue(cache.findAfter(CHAT_ROOM_ID, 3L, 5, loader(1, 10)).isEmpty());
+        assertEquals(List.of(6L, 7L), ids(cache.findAfter(CHAT_ROOM_ID, 5L, 2, loader(1, 10)).orElseThrow()));
+    }
+
+    @DisplayName("채팅방 전체 메시지가 버퍼에 있으면 첫 페이지를 캐시에서 오래된 순으로 조회한다")
+    @Test
+    void findAfter_CompleteRoom_ServesFirstPage() {
+        // given
+        cache.findRecent(CHAT_ROOM_ID, 1, loader(1, 3));
+
+        // when
+        Optional<List<Message>> result = cache.findAfter(CHAT_ROOM_ID, null, 2, loader(1, 10));
+
+        // then
+        assertEquals(List.of(1L, 2L), ids(result.orElseThrow()));
+    }
+
+    @DisplayName("캐시되지 않은 채팅방의 첫 페이지 조회는 채팅방을 적재하고 이후 조회는 캐시에서 처리한다")
+    @Test
+    void findAfter_FirstPageNotCached_LoadsRoom() {
+        // when
+        Optional<List<Message>> firstPage = cache.findAfter(CHAT_ROOM_ID, null, 2, loader(1, 3));
+        List<Message> recent = cache.findRecent(CHAT_ROOM_ID, 2, loader(1, 3)).orElseThrow();
+
+        // then
+        assertEquals(List.of(1L, 2L), ids(firstPage.orElseThrow()));
+        assertEquals(List.of(3L, 2L), ids(recent));
+        assertEquals(1, loads.get());
+        assertEquals(2, cache.hitCount());
+    }
+
+    @DisplayName("캐시되지 않은 채팅방의 커서 조회는 적재하지 않고 DB 조회로 넘긴다")
+    @Test
+    void findAfter_NotCached_ReturnsEmptyWithoutLoading() {
+        // when
+        Optional<List<Message>> result = cache.findAfter(CHAT_ROOM_ID, 7L, 2, loader(1, 10));
+
+        // then
+        assertTrue(result.isEmpty());
+        assertEquals(0, loads.get());
+        assertEquals(0, cache.roomCount());
+        assertEquals(1, cache.missCount());
+    }
+
+    @DisplayName("버퍼가 커서 이후 구간을 포함하지 않으면 DB 조회로 넘긴다")
+    @Test
+    void findAfter_CursorBeforeBuffer_ReturnsEmpty() {
+        // given
+        cache.findRecent(CHAT_ROOM_ID, 1, loader(1, 10));
+
+        // when
+        Optional<List<Message>> firstPage = cache.findAfter(CHAT_ROOM_ID, null, 2, loader(1, 10));
+        Optional<List<Message>> oldCursor = cache.findAfter(CHAT_ROOM_ID, 3L, 2, loader(1, 10));
+        Optional<List<Message>> recentCursor = cache.findAfter(CHAT_ROOM_ID, 7L, 2, loader(1, 10));
+
+        // then
+        assertTrue(firstPage.isEmpty());
+        assertTrue(oldCursor.isEmpty());
+        assertEquals(List.of(8L, 9L), ids(recentCursor.orElseThrow()));
+        assertEquals(1, cache.hitCount());
+        assertEquals(3, cache.missCount());
+    }
+
+    @DisplayName("다른 노드에서 커밋된 메시지는 이 노드의 채팅방을 제거하여 다음 조회에서 다시 적재한다")
+    @Test
+    void append_OnOtherNode_EvictsRoom() {
+        // given: 두 노드가 한쪽의 발행 메시지를 다른 쪽으로 전달하는 구성
+        AtomicReference<MessageTailCache> nodeBRef = new AtomicReference<>();
+        MessageTailCache nodeA = new MessageTailCache(5, 100, Duration.ofMinutes(10),
+            message -> nodeBRef.get().onInvalidationMessage(message));
+        MessageTailCache nodeB = new MessageTailCache(5, 100, Duration.ofMinutes(10), nodeA::onInvalidationMessage);
+        nodeBRef.set(nodeB);
+        nodeA.findRecent(CHAT_ROOM_ID, 1, loader(1, 10));
+        nodeB.findRecent(CHAT_ROOM_ID, 1, loader(1, 10));
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        nodeA.append(message(11L));
+        assertEquals(1, nodeB.roomCount());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // then
+        assertEquals(1, nodeA.roomCount());
+        assertEquals(0, nodeB.roomCount());
+        assertEquals(List.of(11L, 10L), ids(nodeB.findRecent(CHAT_ROOM_ID, 2, loader(1, 11)).orElseThrow()));
+    }
+
+    @DisplayName("채팅방 제거는 커밋 이후 다시 제거되고 다른 노드에도 전파된다")
+    @Test
+    void evict_AfterCommit_PropagatesToOtherNode() {
+        // given
+        MessageTailCache nodeB = new MessageTailCache(5, 100, Duration.ofMinutes(10));
+        MessageTailCache nodeA = new MessageTailCache(5, 100, Duration.ofMinutes(10), nodeB::onInvalidationMessage);
+        nodeB.findRecent(CHAT_ROOM_ID, 1, loader(1, 10));
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when: 커밋 전에 같은 채팅방이 다시 적재된 경우
+        nodeA.evict(CHAT_ROOM_ID);
+        nodeA.findRecent(CHAT_ROOM_ID, 1, loader(1, 10));
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // then
+        assertEquals(0, nodeA.roomCount());
+        assertEquals(0, nodeB.roomCount());
+    }
+
+    @DisplayName("적재 후 유지 시간은 조회로 연장되지 않는다")
+    @Test
+    void findRecent_TtlNotExtendedByReads() throws InterruptedException {
+        // given
+        cache = new MessageTailCache(5, 100, Duration.ofMillis(200));
+        cache.findRecent(CHAT_ROOM_ID, 1, loader(1, 10));
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            Thread.sleep(100);
+            cache.findRecent(CHAT_ROOM_ID, 1, loader(1, 10));
+        }
+
+        // then
+        assertEquals(2, loads.get());
+    }
+
+    private IntFunction<List<Message>> loader(long fromId, long toId) {
+        return limit -> {
+            loads.incrementAndGet();
+            List<Message> newestFirst = new ArrayList<>();
+            LongStream.iterate(toId, id -> id >= fromId, id -> id - 1)
+                .limit(limit)
+                .forEach(id -> newestFirst.add(message(id)));
+            return newestFirst;
+        };
+    }
+
+    private List<Long> ids(List<Message> messages) {
+        return messages.stream().map(message -> message.getId().value()).toList();
+    }
+
+    private Message message(Long messageId) {
+        return Message.of(
+            MessageId.from(messageId),
+            ChatRoomId.from(CHAT_ROOM_ID),
+            UserId.from(1L),
+            "안녕!",
+            MessageType.USER,
+            LocalDateTime.now(),
+            LocalDateTime.now()
+        );
+    }
+}
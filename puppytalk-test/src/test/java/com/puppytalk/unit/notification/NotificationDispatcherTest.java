@@ -0,0 +1,191 @@
+package com.puppytalk.unit.notification;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.puppytalk.chat.ChatRoomId;
+import com.puppytalk.notification.Notification;
+import com.puppytalk.notification.NotificationDispatcher;
+import com.puppytalk.notification.NotificationDispatcher.DispatchReport;
+import com.puppytalk.notification.NotificationDomainService;
+import com.puppytalk.notification.NotificationDomainService.DispatchOutcome;
+import com.puppytalk.notification.NotificationId;
+import com.puppytalk.notification.NotificationSender;
+import com.puppytalk.notification.NotificationStatus;
+import com.puppytalk.notification.NotificationType;
+import com.puppytalk.pet.PetId;
+import com.puppytalk.unit.support.NoOpTransactionManager;
+import com.puppytalk.user.UserId;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("NotificationDispatcher 단위 테스트")
+class NotificationDispatcherTest {
+
+    private NotificationDomainService notificationDomainService;
+    private TestNotificationSender sender;
+    private NotificationDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        notificationDomainService = mock(NotificationDomainService.class);
+        when(notificationDomainService.completeDispatch(anyString(), anyList(), anyList()))
+            .thenAnswer(invocation -> new DispatchOutcome(
+                invocation.<List<?>>getArgument(1).size(), invocation.<List<?>>getArgument(2).size(), 0, 0));
+        sender = new TestNotificationSender();
+        dispatcher = new NotificationDispatcher(
+            notificationDomainService, sender, new NoOpTransactionManager(), 4, 4, 10, 5_000);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        dispatcher.destroy();
+    }
+
+    @DisplayName("선점한 알림을 발송하고 성공/실패를 일괄 반영한다")
+    @Test
+    void dispatchPending_WritesResultsInBatch() {
+        // given
+        sender.failingIds = Set.of(2L);
+        List<Notification> claimed = notifications(1, 3);
+        when(notificationDomainService.claimPendingNotifications(anyString(), anyInt(), any()))
+            .thenReturn(claimed);
+
+        // when
+        DispatchReport report = dispatcher.dispatchPending();
+
+        // then
+        assertEquals(new DispatchReport(1, 3, 2, 1, 0, 0, 0, report.durationMillis()), report);
+        verify(notificationDomainService).completeDispatch(
+            anyString(),
+            eq(List.of(claimed.get(0), claimed.get(2))),
+            eq(List.of(claimed.get(1)))
+        );
+    }
+
+    @DisplayName("선점이 만료되어 반영되지 않은 결과는 stale로 집계한다")
+    @Test
+    void dispatchPending_LeaseLost_ReportsStale() {
+        // given
+        List<Notification> claimed = notifications(1, 3);
+        when(notificationDomainService.claimPendingNotifications(anyString(), anyInt(), any()))
+            .thenReturn(claimed);
+        when(notificationDomainService.completeDispatch(anyString(), anyList(), anyList()))
+            .thenReturn(new DispatchOutcome(1, 0, 0, 2));
+
+        // when
+        DispatchReport report = dispatcher.dispatchPending();
+
+        // then
+        assertEquals(1, report.sent());
+        assertEquals(2, report.stale());
+    }
+
+    @DisplayName("선점 개수가 배치 크기만큼이면 대기 알림이 없을 때까지 반복한다")
+    @Test
+    void dispatchPending_FullBatch_ClaimsAgain() {
+        // given
+        when(notificationDomainService.claimPendingNotifications(anyString(), anyInt(), any()))
+            .thenReturn(notifications(1, 4), notifications(5, 6));
+
+        // when
+        DispatchReport report = dispatcher.dispatchPending();
+
+        // then
+        assertEquals(2, report.batches());
+        assertEquals(6, report.sent());
+        verify(notificationDomainService, times(2)).claimPendingNotifications(anyString(), anyInt(), any());
+    }
+
+    @DisplayName("선점한 알림은 스레드 풀에서 동시에 발송된다")
+    @Test
+    void dispatchPending_SendsConcurrently() {
+        // given: 4건이 모두 동시에 발송 중이어야 통과하는 발송기
+        sender.concurrentBarrier = new CountDownLatch(4);
+        when(notificationDomainService.claimPendingNotifications(anyString(), anyInt(), any()))
+            .thenReturn(notifications(1, 4), List.of());
+
+        // when
+        DispatchReport report = dispatcher.dispatchPending();
+
+        // then
+        assertEquals(4, report.sent());
+        assertEquals(0, sender.concurrentBarrier.getCount());
+    }
+
+    @DisplayName("발송 서비스를 사용할 수 없으면 선점한 알림을 실패로 반영하여 재발송을 예약한다")
+    @Test
+    void dispatchPending_SenderUnavailable_MarksFailed() {
+        // given
+        sender.available = false;
+        List<Notification> claimed = notifications(1, 2);
+        when(notificationDomainService.claimPendingNotifications(anyString(), anyInt(), any()))
+            .thenReturn(claimed);
+
+        // when
+        DispatchReport report = dispatcher.dispatchPending();
+
+        // then
+        assertEquals(2, report.failed());
+        assertEquals(0, sender.sentCount);
+        verify(notificationDomainService).completeDispatch(anyString(), eq(List.of()), eq(claimed));
+    }
+
+    private List<Notification> notifications(long fromId, long toId) {
+        LocalDateTime now = LocalDateTime.now();
+        return LongStream.rangeClosed(fromId, toId)
+            .mapToObj(id -> Notification.of(
+                NotificationId.from(id), UserId.from(id), PetId.from(id), ChatRoomId.from(id),
+                NotificationType.INACTIVITY_MESSAGE, "제목", "내용", NotificationStatus.SENDING,
+                now, null, null, now, now))
+            .toList();
+    }
+
+    private static class TestNotificationSender implements NotificationSender {
+
+        private volatile boolean available = true;
+        private volatile Set<Long> failingIds = Set.of();
+        private volatile CountDownLatch concurrentBarrier;
+        private volatile int sentCount;
+
+        @Override
+        public boolean sendPushNotification(Long userId, String title, String content, Long notificationId) {
+            if (concurrentBarrier != null) {
+                concurrentBarrier.countDown();
+                try {
+                    if (!concurrentBarrier.await(2, TimeUnit.SECONDS)) {
+                        return false;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+            synchronized (this) {
+                sentCount++;
+            }
+            return !failingIds.contains(notificationId);
+        }
+
+        @Override
+        public boolean isAvailable() {
+            return available;
+        }
+    }
+}
@@ -3,22 +3,37 @@ package com.puppytalk.unit.notification;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.puppytalk.chat.ChatRoomId;
+import com.puppytalk.notification.DeliveryFailure;
+import com.puppytalk.notification.InactivityTarget;
 import com.puppytalk.notification.Notification;
+import com.puppytalk.notification.NotificationDeliveryRecorder;
 import com.puppytalk.notification.NotificationDomainService;
+import com.puppytalk.notification.NotificationDomainService.DispatchOutcome;
 import com.puppytalk.notification.NotificationId;
+import com.puppytalk.notification.NotificationPurgeChunk;
+import com.puppytalk.notification.NotificationPurgeTarget;
 import com.puppytalk.notification.NotificationRepository;
+import com.puppytalk.notification.NotificationRetryPolicy;
+import com.puppytalk.notification.NotificationStatsBucket;
 import com.puppytalk.notification.NotificationStatus;
 import com.puppytalk.notification.NotificationType;
+import com.puppytalk.notification.StatsGranularity;
+import com.puppytalk.notification.UnreadCountChunk;
+import com.puppytalk.notification.exception.NotificationException;
 import com.puppytalk.pet.PetId;
 import com.puppytalk.user.UserId;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -58,6 +73,41 @@ class NotificationDomainServiceTest {
         assertEquals(NotificationStatus.CREATED, savedNotification.getStatus());
     }
     
+    @DisplayName("비활성 사용자 알림 생성 - 발송 중인 비활성 알림이 있으면 한 번의 조회로 중복 판단")
+    @Test
+    void createInactivityNotification_SendingExists_ThrowsDuplicate() {
+        // given
+        mockRepository.setPendingStatuses(List.of(NotificationStatus.SENDING));
+        
+        // when & then
+        assertThrows(
+            NotificationException.class,
+            () -> notificationDomainService.createInactivityNotification(
+                UserId.from(1L), PetId.from(1L), ChatRoomId.from(1L), "알림 제목", "알림 내용")
+        );
+        assertEquals(1, mockRepository.getExistsQueryCount());
+        assertEquals(List.of(NotificationStatus.CREATED, NotificationStatus.QUEUED,
+            NotificationStatus.SENDING, NotificationStatus.FAILED), mockRepository.getLastExistsStatuses());
+        assertFalse(mockRepository.isSaveCalled());
+    }
+    
+    @DisplayName("비활성 알림 대상 조회로 선정된 사용자 알림 생성 - 사용자별 중복 확인 쿼리 없이 저장")
+    @Test
+    void createInactivityNotification_Target_SkipsDuplicateCheck() {
+        // given
+        InactivityTarget target = target(1L);
+        
+        // when
+        notificationDomainService.createInactivityNotification(target, "버디가 보고싶어해요!", "오랜만이에요! 대화해요.");
+        
+        // then
+        Notification savedNotification = mockRepository.getLastSavedNotification();
+        assertEquals(target.userId(), savedNotification.getUserId());
+        assertEquals(target.petId(), savedNotification.getPetId());
+        assertEquals(target.chatRoomId(), savedNotification.getChatRoomId());
+        assertEquals(0, mockRepository.getExistsQueryCount());
+    }
+    
     @DisplayName("비활성 사용자 알림 생성 - null UserId로 실패")
     @Test
     void createInactivityNotification_NullUserId_ThrowsException() {
@@ -195,6 +245,224 @@ class NotificationDomainServiceTest {
         assertEquals(NotificationStatus.READ, mockRepository.getLastUpdateStatusStatus());
     }
     
+    @DisplayName("비활성 알림 대상 순회 - 사용자 수와 무관하게 페이지 단위로만 조회하고 페이지마다 전달")
+    @Test
+    void forEachInactivityNotificationTargetPage_QueriesPerPageOnly() {
+        // given
+        List<InactivityTarget> targets = LongStream.rangeClosed(1, 2500)
+            .mapToObj(NotificationDomainServiceTest::target)
+            .toList();
+        mockRepository.setInactivityTargets(targets);
+        List<Integer> pageSizes = new ArrayList<>();
+        List<InactivityTarget> visited = new ArrayList<>();
+        
+        // when
+        notificationDomainService.forEachInactivityNotificationTargetPage(LocalDateTime.now().minusHours(2), page -> {
+            pageSizes.add(page.size());
+            visited.addAll(page);
+            return true;
+        });
+        
+        // then
+        assertEquals(List.of(1000, 1000, 500), pageSizes);
+        assertEquals(targets, visited);
+        assertEquals(3, mockRepository.getTargetQueryCount());
+        assertEquals(0, mockRepository.getExistsQueryCount());
+    }
+    
+    @DisplayName("비활성 알림 대상 순회 - 대상이 페이지 크기보다 적으면 한 번만 조회")
+    @Test
+    void forEachInactivityNotificationTargetPage_SinglePage() {
+        // given
+        mockRepository.setInactivityTargets(List.of(target(3L), target(7L)));
+        List<List<InactivityTarget>> pages = new ArrayList<>();
+        
+        // when
+        notificationDomainService.forEachInactivityNotificationTargetPage(LocalDateTime.now().minusHours(2), pages::add);
+        
+        // then
+        assertEquals(List.of(List.of(target(3L), target(7L))), pages);
+        assertEquals(1, mockRepository.getTargetQueryCount());
+    }
+    
+    @DisplayName("비활성 알림 대상 순회 - 처리기가 false를 반환하면 다음 페이지를 조회하지 않음")
+    @Test
+    void forEachInactivityNotificationTargetPage_StopsWhenHandlerDeclines() {
+        // given
+        List<InactivityTarget> targets = LongStream.rangeClosed(1, 2500)
+            .mapToObj(NotificationDomainServiceTest::target)
+            .toList();
+        mockRepository.setInactivityTargets(targets);
+        List<Integer> pageSizes = new ArrayList<>();
+
+        // when
+        notificationDomainService.forEachInactivityNotificationTargetPage(LocalDateTime.now().minusHours(2), page -> {
+            pageSizes.add(page.size());
+            return false;
+        });
+
+        // then
+        assertEquals(List.of(1000), pageSizes);
+        assertEquals(1, mockRepository.getTargetQueryCount());
+    }
+    
+    @DisplayName("비활성 알림 대상 순회 - 대상이 없으면 처리기를 호출하지 않음")
+    @Test
+    void forEachInactivityNotificationTargetPage_NoTargets() {
+        // given
+        List<List<InactivityTarget>> pages = new ArrayList<>();
+        
+        // when
+        notificationDomainService.forEachInactivityNotificationTargetPage(LocalDateTime.now().minusHours(2), pages::add);
+        
+        // then
+        assertTrue(pages.isEmpty());
+        assertEquals(1, mockRepository.getTargetQueryCount());
+    }
+    
+    private static InactivityTarget target(long userId) {
+        return new InactivityTarget(UserId.from(userId), PetId.from(userId + 100), ChatRoomId.from(userId + 200));
+    }
+    
+    @DisplayName("발송 결과 반영 - 실패 알림은 백오프 후 재발송 예약, 최대 시도에 도달하면 DEAD_LETTER")
+    @Test
+    void completeDispatch_SchedulesRetryOrDeadLetter() {
+        // given: 최대 3회 시도, 지터 없이 최대 대기 시간 적용
+        notificationDomainService = new NotificationDomainService(mockRepository,
+            new NotificationRetryPolicy(3, Duration.ofSeconds(30), Duration.ofHours(1), () -> 0.999999), null);
+        Notification sent = storedNotification(1L, 0);
+        Notification firstFailure = storedNotification(2L, 0);
+        Notification lastFailure = storedNotification(3L, 2);
+        LocalDateTime before = LocalDateTime.now();
+        
+        // when
+        DispatchOutcome outcome = notificationDomainService.completeDispatch(
+            "node-1", List.of(sent), List.of(firstFailure, lastFailure));
+        
+        // then
+        assertEquals(new DispatchOutcome(1, 1, 1, 0), outcome);
+        assertEquals(List.of(NotificationId.from(1L)), mockRepository.lastStatusBatchIds);
+        assertEquals(NotificationStatus.SENT, mockRepository.lastStatusBatchStatus);
+        assertEquals("node-1", mockRepository.lastStatusBatchClaimedBy);
+        
+        DeliveryFailure retry = mockRepository.recordedFailures.get(0);
+        assertEquals(NotificationStatus.FAILED, retry.status());
+        assertEquals(1, retry.retryCount());
+        assertFalse(retry.nextAttemptAt().isBefore(before.plusSeconds(29)));
+        assertTrue(retry.nextAttemptAt().isBefore(before.plusSeconds(31)));
+        
+        DeliveryFailure deadLetter = mockRepository.recordedFailures.get(1);
+        assertEquals(NotificationStatus.DEAD_LETTER, deadLetter.status());
+        assertEquals(3, deadLetter.retryCount());
+        assertNull(deadLetter.nextAttemptAt());
+    }
+    
+    @DisplayName("발송 결과 반영 - 선점이 만료되어 다른 노드가 가져간 알림은 반영되지 않고 stale로 집계")
+    @Test
+    void completeDispatch_LeaseLost_CountsStale() {
+        // given
+        mockRepository.lostClaims = 1;
+        List<Integer> deliveredAttempts = new ArrayList<>();
+        notificationDomainService = new NotificationDomainService(mockRepository, null,
+            new NotificationDeliveryRecorder() {
+                @Override
+                public void delivered(int attempts, Duration timeToDelivery) {
+                    deliveredAttempts.add(attempts);
+                }
+                
+                @Override
+                public void retryScheduled(int failedAttempts) {
+                }
+                
+                @Override
+                public void deadLettered(int failedAttempts) {
+                }
+            });
+        
+        // when
+        DispatchOutcome outcome = notificationDomainService.completeDispatch(
+            "node-1", List.of(storedNotification(1L, 0), storedNotification(2L, 1)), List.of());
+        
+        // then: 선점을 잃은 알림은 발송 성공 지표에도 기록되지 않는다
+        assertEquals(new DispatchOutcome(1, 0, 0, 1), outcome);
+        assertEquals(List.of(1), deliveredAttempts);
+    }
+    
+    @DisplayName("발송 결과 반영 - 선점을 잃은 실패 알림은 재발송 예약에서 빠지고 stale로 집계")
+    @Test
+    void completeDispatch_FailureLeaseLost_CountsStale() {
+        // given: 두 번째 실패 알림은 다른 노드가 다시 선점
+        mockRepository.lostClaims = 1;
+        
+        // when
+        DispatchOutcome outcome = notificationDomainService.completeDispatch(
+            "node-1", List.of(), List.of(storedNotification(1L, 0), storedNotification(2L, 0)));
+        
+        // then
+        assertEquals(new DispatchOutcome(0, 1, 0, 1), outcome);
+        assertEquals("node-1", mockRepository.lastFailuresClaimedBy);
+    }
+    
+    @DisplayName("알림 선점 - 선점 기한 만료로 최대 시도 횟수에 도달한 알림은 발송하지 않고 DEAD_LETTER로 전환")
+    @Test
+    void claimPendingNotifications_LeaseExpiryExhausted_DeadLetters() {
+        // given: 최대 3회 시도, 2번은 기한 만료로 세 번째 시도가 실패로 집계된 상태
+        notificationDomainService = new NotificationDomainService(mockRepository,
+            new NotificationRetryPolicy(3, Duration.ofSeconds(30), Duration.ofHours(1)), null);
+        Notification pending = storedNotification(1L, 1);
+        Notification exhausted = storedNotification(2L, 3);
+        mockRepository.claimResult = List.of(pending, exhausted);
+        
+        // when
+        List<Notification> claimed = notificationDomainService.claimPendingNotifications(
+            "node-1", 10, Duration.ofMinutes(1));
+        
+        // then
+        assertEquals(List.of(pending), claimed);
+        assertEquals(1, mockRepository.recordedFailures.size());
+        DeliveryFailure deadLetter = mockRepository.recordedFailures.get(0);
+        assertEquals(NotificationId.from(2L), deadLetter.notificationId());
+        assertEquals(NotificationStatus.DEAD_LETTER, deadLetter.status());
+        assertEquals(3, deadLetter.retryCount());
+        assertEquals("node-1", mockRepository.lastFailuresClaimedBy);
+    }
+    
+    @DisplayName("통계 시계열 - 일 단위는 시간 버킷을 날짜별로 합산한다")
+    @Test
+    void getStatsTimeSeries_Day_MergesHourlyBuckets() {
+        // given
+        LocalDateTime day = LocalDateTime.of(2024, 3, 1, 0, 0);
+        mockRepository.hourlyStats = List.of(
+            new NotificationStatsBucket(day.plusHours(1), NotificationType.INACTIVITY_MESSAGE, NotificationStatus.SENT, 3),
+            new NotificationStatsBucket(day.plusHours(1), NotificationType.INACTIVITY_MESSAGE, NotificationStatus.FAILED, 1),
+            new NotificationStatsBucket(day.plusHours(5), NotificationType.INACTIVITY_MESSAGE, NotificationStatus.SENT, 2),
+            new NotificationStatsBucket(day.plusDays(1), NotificationType.INACTIVITY_MESSAGE, NotificationStatus.SENT, 4)
+        );
+        
+        // when
+        List<NotificationStatsBucket> series = notificationDomainService.getStatsTimeSeries(
+            day.plusHours(7), day.plusDays(2), StatsGranularity.DAY);
+        
+        // then
+        assertEquals(day, mockRepository.lastStatsFrom);
+        assertEquals(List.of(
+            new NotificationStatsBucket(day, NotificationType.INACTIVITY_MESSAGE, NotificationStatus.FAILED, 1),
+            new NotificationStatsBucket(day, NotificationType.INACTIVITY_MESSAGE, NotificationStatus.SENT, 5),
+            new NotificationStatsBucket(day.plusDays(1), NotificationType.INACTIVITY_MESSAGE, NotificationStatus.SENT, 4)
+        ), series);
+    }
+    
+    @DisplayName("통계 시계열 - 집계 단위별 최대 기간을 넘으면 실패")
+    @Test
+    void getStatsTimeSeries_RangeTooLong_ThrowsException() {
+        LocalDateTime from = LocalDateTime.of(2024, 1, 1, 0, 0);
+        
+        assertThrows(IllegalArgumentException.class,
+            () -> notificationDomainService.getStatsTimeSeries(from, from.plusDays(32), StatsGranularity.HOUR));
+        assertThrows(IllegalArgumentException.class,
+            () -> notificationDomainService.getStatsTimeSeries(from, from, StatsGranularity.DAY));
+    }
+    
     @DisplayName("생성자 - null 레포지토리로 실패")
     @Test
     void constructor_NullRepository_ThrowsException() {
@@ -207,6 +475,13 @@ class NotificationDomainServiceTest {
         assertEquals("NotificationRepository must not be null", exception.getMessage());
     }
     
+    private Notification storedNotification(long id, int retryCount) {
+        LocalDateTime now = LocalDateTime.now();
+        return Notification.of(NotificationId.from(id), UserId.from(id), PetId.from(id), ChatRoomId.from(id),
+            NotificationType.INACTIVITY_MESSAGE, "제목", "내용", NotificationStatus.SENDING,
+            now, null, null, now, now, retryCount);
+    }
+    
     /**
      * Mock NotificationRepository 구현체
      */
@@ -221,6 +496,20 @@ class NotificationDomainServiceTest {
         private NotificationStatus lastUpdateStatusStatus;
         
         private List<Notification> findPendingNotificationsResult = Arrays.asList();
+        private List<InactivityTarget> inactivityTargets = Arrays.asList();
+        private int targetQueryCount = 0;
+        private List<NotificationStatus> pendingStatuses = List.of();
+        private List<NotificationStatus> lastExistsStatuses = List.of();
+        private int existsQueryCount = 0;
+        private List<NotificationId> lastStatusBatchIds;
+        private NotificationStatus lastStatusBatchStatus;
+        private String lastStatusBatchClaimedBy;
+        private int lostClaims;
+        private List<Notification> claimResult = List.of();
+        private String lastFailuresClaimedBy;
+        private final List<DeliveryFailure> recordedFailures = new ArrayList<>();
+        private List<NotificationStatsBucket> hourlyStats = List.of();
+        private LocalDateTime lastStatsFrom;
         
         @Override
         public NotificationId save(Notification notification) {
@@ -236,6 +525,12 @@ class NotificationDomainServiceTest {
             return findPendingNotificationsResult;
         }
         
+        @Override
+        public List<Notification> claimPendingNotifications(
+            String owner, LocalDateTime now, LocalDateTime leaseUntil, int limit) {
+            return claimResult;
+        }
+        
         @Override
         public void updateStatus(NotificationId notificationId, NotificationStatus status) {
             updateStatusCalled = true;
@@ -244,8 +539,21 @@ class NotificationDomainServiceTest {
         }
         
         @Override
-        public boolean existsByUserIdAndTypeAndStatus(UserId userId, NotificationType type, NotificationStatus status) {
-            return false; // mock implementation
+        public boolean existsByUserIdAndTypeAndStatusIn(UserId userId, NotificationType type, List<NotificationStatus> statuses) {
+            existsQueryCount++;
+            lastExistsStatuses = statuses;
+            return statuses.stream().anyMatch(pendingStatuses::contains);
+        }
+        
+        @Override
+        public List<InactivityTarget> findInactivityNotificationTargets(
+            LocalDateTime inactiveBefore, LocalDateTime dormantBefore, UserId afterUserId, int limit) {
+            targetQueryCount++;
+            long afterId = afterUserId != null ? afterUserId.value() : 0L;
+            return inactivityTargets.stream()
+                .filter(target -> target.userId().value() > afterId)
+                .limit(limit)
+                .toList();
         }
         
         // 다른 필요한 메서드들 (최소 구현)
@@ -264,13 +572,35 @@ class NotificationDomainServiceTest {
         public List<Notification> findByTypeAndStatus(NotificationType type, NotificationStatus status, int limit) { return Arrays.asList(); }
         
         @Override
-        public void updateStatusBatch(List<NotificationId> ids, NotificationStatus status) {}
+        public List<NotificationId> updateStatusBatch(List<NotificationId> ids, NotificationStatus status, String claimedBy) {
+            lastStatusBatchIds = ids;
+            lastStatusBatchStatus = status;
+            lastStatusBatchClaimedBy = claimedBy;
+            return ids.subList(0, ids.size() - lostClaims);
+        }
+        
+        @Override
+        public List<DeliveryFailure> recordFailures(List<DeliveryFailure> failures, String claimedBy) {
+            recordedFailures.addAll(failures);
+            lastFailuresClaimedBy = claimedBy;
+            return failures.subList(0, failures.size() - lostClaims);
+        }
+        
+        @Override
+        public UnreadCountChunk reconcileUnreadCounts(Long afterUserId, int limit) {
+            return new UnreadCountChunk(0, 0, afterUserId, true);
+        }
         
         @Override
-        public int deleteExpiredNotifications(LocalDateTime cutoffDate) { return 0; }
+        public List<NotificationStatsBucket> findHourlyStats(LocalDateTime from, LocalDateTime to) {
+            lastStatsFrom = from;
+            return hourlyStats;
+        }
         
         @Override
-        public int deleteCompletedNotificationsOlderThan(LocalDateTime cutoffDate) { return 0; }
+        public NotificationPurgeChunk purgeChunk(NotificationPurgeTarget target, LocalDateTime cutoff, Long afterId, int limit) {
+            return new NotificationPurgeChunk(0, 0, afterId, true);
+        }
         
         @Override
         public NotificationRepository.NotificationStats getNotificationStats(LocalDateTime startDate, LocalDateTime endDate) {
@@ -285,6 +615,18 @@ class NotificationDomainServiceTest {
             this.findPendingNotificationsResult = result;
         }
         
+        public void setInactivityTargets(List<InactivityTarget> targets) {
+            this.inactivityTargets = targets;
+        }
+        
+        public int getTargetQueryCount() { return targetQueryCount; }
+        public int getExistsQueryCount() { return existsQueryCount; }
+        public List<NotificationStatus> getLastExistsStatuses() { return lastExistsStatuses; }
+        
+        public void setPendingStatuses(List<NotificationStatus> statuses) {
+            this.pendingStatuses = statuses;
+        }
+        
         public boolean isSaveCalled() { return saveCalled; }
         public boolean isFindPendingNotificationsCalled() { return findPendingNotificationsCalled; }
         public boolean isUpdateStatusCalled() { return updateStatusCalled; }
@@ -0,0 +1,158 @@
+package com.puppytalk.unit.notification;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.puppytalk.batch.BatchCheckpointRepository;
+import com.puppytalk.notification.NotificationDomainService;
+import com.puppytalk.notification.NotificationPurgeChunk;
+import com.puppytalk.notification.NotificationPurgeJob;
+import com.puppytalk.notification.NotificationPurgeJob.PurgeReport;
+import com.puppytalk.notification.NotificationPurgeJob.TargetReport;
+import com.puppytalk.notification.NotificationPurgeRecorder;
+import com.puppytalk.notification.NotificationPurgeTarget;
+import com.puppytalk.unit.support.NoOpTransactionManager;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("NotificationPurgeJob 단위 테스트")
+class NotificationPurgeJobTest {
+
+    private static final LocalDateTime EXPIRED_CUTOFF = LocalDateTime.now().minusHours(24);
+    private static final LocalDateTime COMPLETED_CUTOFF = LocalDateTime.now().minusDays(30);
+
+    private NotificationDomainService notificationDomainService;
+    private InMemoryCheckpointRepository checkpointRepository;
+    private RecordingPurgeRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        notificationDomainService = mock(NotificationDomainService.class);
+        checkpointRepository = new InMemoryCheckpointRepository();
+        recorder = new RecordingPurgeRecorder();
+        when(notificationDomainService.purgeCutoff(NotificationPurgeTarget.EXPIRED)).thenReturn(EXPIRED_CUTOFF);
+        when(notificationDomainService.purgeCutoff(NotificationPurgeTarget.COMPLETED)).thenReturn(COMPLETED_CUTOFF);
+        when(notificationDomainService.purgeChunk(eq(NotificationPurgeTarget.COMPLETED), eq(COMPLETED_CUTOFF), isNull(), eq(2)))
+            .thenReturn(new NotificationPurgeChunk(0, 0, null, true));
+    }
+
+    @DisplayName("청크마다 체크포인트를 저장하고 대상을 끝까지 처리하면 삭제한다")
+    @Test
+    void run_PurgesChunks_CheckpointPerChunk() {
+        // given
+        NotificationPurgeJob job = job(60_000);
+        when(notificationDomainService.purgeChunk(eq(NotificationPurgeTarget.EXPIRED), eq(EXPIRED_CUTOFF), isNull(), eq(2)))
+            .thenReturn(new NotificationPurgeChunk(2, 2, 2L, false));
+        when(notificationDomainService.purgeChunk(NotificationPurgeTarget.EXPIRED, EXPIRED_CUTOFF, 2L, 2))
+            .thenReturn(new NotificationPurgeChunk(1, 1, 3L, true));
+
+        // when
+        PurgeReport report = job.run();
+
+        // then
+        assertEquals(new TargetReport(NotificationPurgeTarget.EXPIRED, null, 2, 3, true), report.expired());
+        assertEquals(new TargetReport(NotificationPurgeTarget.COMPLETED, null, 0, 0, true), report.completed());
+        assertEquals(List.of(2L, 3L), checkpointRepository.savedIds);
+        assertEquals(Optional.empty(), checkpointRepository.findLastProcessedId("notification-purge-expired"));
+        assertEquals(List.of(2L, 3L), recorder.lastIds);
+    }
+
+    @DisplayName("실행 예산을 다 쓰면 체크포인트를 남기고 다음 실행에서 이어서 처리한다")
+    @Test
+    void run_BudgetExhausted_ResumesNextRun() {
+        // given: 예산이 첫 청크 안에 끝나도 대상마다 한 청크씩은 처리
+        NotificationPurgeJob job = job(1);
+        when(notificationDomainService.purgeChunk(eq(NotificationPurgeTarget.EXPIRED), eq(EXPIRED_CUTOFF), isNull(), eq(2)))
+            .thenAnswer(invocation -> {
+                Thread.sleep(5);
+                return new NotificationPurgeChunk(2, 2, 2L, false);
+            });
+        when(notificationDomainService.purgeChunk(NotificationPurgeTarget.EXPIRED, EXPIRED_CUTOFF, 2L, 2))
+            .thenReturn(new NotificationPurgeChunk(1, 1, 3L, true));
+
+        // when
+        PurgeReport first = job.run();
+
+        // then
+        assertFalse(first.expired().completed());
+        assertEquals(1, first.expired().chunks());
+        assertEquals(Optional.of(2L), checkpointRepository.findLastProcessedId("notification-purge-expired"));
+        verify(notificationDomainService, never()).purgeChunk(NotificationPurgeTarget.EXPIRED, EXPIRED_CUTOFF, 2L, 2);
+
+        // when
+        PurgeReport second = job.run();
+
+        // then
+        assertEquals(new TargetReport(NotificationPurgeTarget.EXPIRED, 2L, 1, 1, true), second.expired());
+        assertTrue(second.completed().completed());
+        assertEquals(Optional.empty(), checkpointRepository.findLastProcessedId("notification-purge-expired"));
+    }
+
+    @DisplayName("삭제 중 실패하면 마지막으로 커밋된 청크의 체크포인트가 남는다")
+    @Test
+    void run_Failure_KeepsLastCommittedCheckpoint() {
+        // given
+        NotificationPurgeJob job = job(60_000);
+        when(notificationDomainService.purgeChunk(eq(NotificationPurgeTarget.EXPIRED), eq(EXPIRED_CUTOFF), isNull(), eq(2)))
+            .thenReturn(new NotificationPurgeChunk(2, 2, 2L, false));
+        when(notificationDomainService.purgeChunk(NotificationPurgeTarget.EXPIRED, EXPIRED_CUTOFF, 2L, 2))
+            .thenThrow(new IllegalStateException("Lock wait timeout exceeded"));
+
+        // when & then
+        assertThrows(IllegalStateException.class, job::run);
+        assertEquals(Optional.of(2L), checkpointRepository.findLastProcessedId("notification-purge-expired"));
+    }
+
+    private NotificationPurgeJob job(long runBudgetMillis) {
+        return new NotificationPurgeJob(notificationDomainService, checkpointRepository, new NoOpTransactionManager(),
+            recorder, 2, 0, runBudgetMillis);
+    }
+
+    private static class RecordingPurgeRecorder implements NotificationPurgeRecorder {
+
+        private final List<Long> lastIds = new ArrayList<>();
+
+        @Override
+        public void chunkPurged(NotificationPurgeTarget target, int deleted, long lastId, Duration duration) {
+            lastIds.add(lastId);
+        }
+    }
+
+    private static class InMemoryCheckpointRepository implements BatchCheckpointRepository {
+
+        private final Map<String, Long> checkpoints = new HashMap<>();
+        private final List<Long> savedIds = new ArrayList<>();
+
+        @Override
+        public Optional<Long> findLastProcessedId(String jobName) {
+            return Optional.ofNullable(checkpoints.get(jobName));
+        }
+
+        @Override
+        public void save(String jobName, long lastProcessedId) {
+            checkpoints.put(jobName, lastProcessedId);
+            savedIds.add(lastProcessedId);
+        }
+
+        @Override
+        public void delete(String jobName) {
+            checkpoints.remove(jobName);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.puppytalk.unit.notification;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.puppytalk.notification.NotificationRetryPolicy;
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("NotificationRetryPolicy 단위 테스트")
+class NotificationRetryPolicyTest {
+
+    @DisplayName("대기 시간은 실패할 때마다 두 배로 늘고 상한을 넘지 않는다")
+    @Test
+    void backoff_DoublesUntilCap() {
+        // given: 지터 최대값 (대기 시간 상한보다 1ms 짧음)
+        NotificationRetryPolicy policy =
+            new NotificationRetryPolicy(10, Duration.ofSeconds(30), Duration.ofMinutes(5), () -> 0.999999);
+
+        // when & then
+        assertEquals(Duration.ofSeconds(30), policy.backoff(1).plusMillis(1));
+        assertEquals(Duration.ofSeconds(60), policy.backoff(2).plusMillis(1));
+        assertEquals(Duration.ofSeconds(120), policy.backoff(3).plusMillis(1));
+        assertEquals(Duration.ofSeconds(300), policy.backoff(5).plusMillis(1));
+        assertEquals(Duration.ofSeconds(300), policy.backoff(100).plusMillis(1));
+    }
+
+    @DisplayName("지터는 대기 시간의 절반 이상을 보장하며 나머지 절반 안에서 분산한다")
+    @Test
+    void backoff_JitterWithinUpperHalf() {
+        // given
+        NotificationRetryPolicy earliest =
+            new NotificationRetryPolicy(5, Duration.ofSeconds(30), Duration.ofHours(1), () -> 0.0);
+        NotificationRetryPolicy middle =
+            new NotificationRetryPolicy(5, Duration.ofSeconds(30), Duration.ofHours(1), () -> 0.5);
+
+        // when & then
+        assertEquals(Duration.ofSeconds(60), earliest.backoff(3));
+        assertEquals(Duration.ofSeconds(90), middle.backoff(3));
+    }
+
+    @DisplayName("실패 횟수가 최대 시도 횟수에 도달하면 재발송하지 않는다")
+    @Test
+    void canRetry_UntilMaxAttempts() {
+        // given
+        NotificationRetryPolicy policy = new NotificationRetryPolicy(3, Duration.ofSeconds(1), Duration.ofSeconds(10));
+
+        // when & then
+        assertTrue(policy.canRetry(1));
+        assertTrue(policy.canRetry(2));
+        assertFalse(policy.canRetry(3));
+    }
+
+    @DisplayName("잘못된 설정은 거부한다")
+    @Test
+    void constructor_InvalidSettings_ThrowsException() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new NotificationRetryPolicy(0, Duration.ofSeconds(1), Duration.ofSeconds(10)));
+        assertThrows(IllegalArgumentException.class,
+            () -> new NotificationRetryPolicy(3, Duration.ofSeconds(10), Duration.ofSeconds(1)));
+    }
+}
@@ -0,0 +1,127 @@
+package com.puppytalk.unit.notification;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.puppytalk.notification.NotificationStatsBucket;
+import com.puppytalk.notification.NotificationStatsRollup;
+import com.puppytalk.notification.NotificationStatus;
+import com.puppytalk.notification.NotificationType;
+import com.puppytalk.unit.support.NoOpTransactionManager;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DisplayName("NotificationStatsRollup 단위 테스트")
+class NotificationStatsRollupTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private NotificationStatsRollup rollup;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource("jdbc:h2:mem:stats_rollup;DB_CLOSE_DELAY=-1"));
+        jdbcTemplate.execute("CREATE TABLE notifications (id BIGINT PRIMARY KEY, type VARCHAR(30) NOT NULL, status VARCHAR(20) NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE notification_stats_hourly (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+            + "bucket_start TIMESTAMP NOT NULL, type VARCHAR(30) NOT NULL, status VARCHAR(20) NOT NULL, event_count BIGINT NOT NULL, "
+            + "created_at TIMESTAMP NOT NULL, updated_at TIMESTAMP NOT NULL, version BIGINT NOT NULL, "
+            + "CONSTRAINT uk_bucket UNIQUE (bucket_start, type, status))");
+        rollup = new NotificationStatsRollup(jdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE notification_stats_hourly");
+        jdbcTemplate.execute("DROP TABLE notifications");
+    }
+
+    @DisplayName("같은 시간, 타입, 상태의 전환은 하나의 버킷에 누적된다")
+    @Test
+    void record_SameBucket_Accumulated() {
+        // when
+        rollup.record(NotificationType.INACTIVITY_MESSAGE, NotificationStatus.CREATED);
+        rollup.record(NotificationType.INACTIVITY_MESSAGE, NotificationStatus.CREATED);
+        rollup.record(NotificationType.INACTIVITY_MESSAGE, NotificationStatus.SENT);
+        rollup.flush();
+
+        // then
+        LocalDateTime hour = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+        assertEquals(List.of(
+            new NotificationStatsBucket(hour, NotificationType.INACTIVITY_MESSAGE, NotificationStatus.CREATED, 2),
+            new NotificationStatsBucket(hour, NotificationType.INACTIVITY_MESSAGE, NotificationStatus.SENT, 1)
+        ), rollup.findBuckets(hour, hour.plusHours(1)));
+    }
+
+    @DisplayName("조건에 맞는 알림은 타입별로 집계하여 누적한다")
+    @Test
+    void recordMatching_GroupsByType() {
+        // given
+        jdbcTemplate.update("INSERT INTO notifications VALUES (1, 'INACTIVITY_MESSAGE', 'SENDING')");
+        jdbcTemplate.update("INSERT INTO notifications VALUES (2, 'INACTIVITY_MESSAGE', 'SENDING')");
+        jdbcTemplate.update("INSERT INTO notifications VALUES (3, 'PET_MESSAGE', 'SENDING')");
+        jdbcTemplate.update("INSERT INTO notifications VALUES (4, 'PET_MESSAGE', 'SENDING')");
+
+        // when
+        rollup.recordMatching("n.id IN (?, ?, ?)", List.of(1L, 2L, 3L), NotificationStatus.SENT);
+        rollup.flush();
+
+        // then
+        LocalDateTime hour = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+        assertEquals(List.of(
+            new NotificationStatsBucket(hour, NotificationType.INACTIVITY_MESSAGE, NotificationStatus.SENT, 2),
+            new NotificationStatsBucket(hour, NotificationType.PET_MESSAGE, NotificationStatus.SENT, 1)
+        ), rollup.findBuckets(hour, hour.plusHours(1)));
+    }
+
+    @DisplayName("증가분은 반영 전까지 버킷 행을 갱신하지 않고, 반영 시 기존 버킷에 더한다")
+    @Test
+    void flush_AggregatesPendingIntoExistingBucket() {
+        // given
+        LocalDateTime hour = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+        rollup.record(NotificationType.PET_MESSAGE, NotificationStatus.SENT);
+        rollup.flush();
+
+        // when
+        rollup.record(NotificationType.PET_MESSAGE, NotificationStatus.SENT);
+        rollup.record(NotificationType.PET_MESSAGE, NotificationStatus.SENT);
+
+        // then
+        assertEquals(List.of(new NotificationStatsBucket(hour, NotificationType.PET_MESSAGE, NotificationStatus.SENT, 1)),
+            rollup.findBuckets(hour, hour.plusHours(1)));
+        assertEquals(1, rollup.pendingCount());
+
+        assertEquals(1, rollup.flush());
+        assertEquals(List.of(new NotificationStatsBucket(hour, NotificationType.PET_MESSAGE, NotificationStatus.SENT, 3)),
+            rollup.findBuckets(hour, hour.plusHours(1)));
+        assertEquals(0, rollup.pendingCount());
+    }
+
+    @DisplayName("트랜잭션 안의 전환은 커밋된 경우에만 집계한다")
+    @Test
+    void record_InTransaction_CountedOnlyAfterCommit() {
+        // given
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new NoOpTransactionManager());
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            rollup.record(NotificationType.PET_MESSAGE, NotificationStatus.SENT);
+            assertEquals(0, rollup.pendingCount());
+        });
+        transactionTemplate.executeWithoutResult(status -> {
+            rollup.record(NotificationType.PET_MESSAGE, NotificationStatus.FAILED);
+            status.setRollbackOnly();
+        });
+        rollup.flush();
+
+        // then
+        LocalDateTime hour = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+        assertEquals(List.of(new NotificationStatsBucket(hour, NotificationType.PET_MESSAGE, NotificationStatus.SENT, 1)),
+            rollup.findBuckets(hour, hour.plusHours(1)));
+    }
+}
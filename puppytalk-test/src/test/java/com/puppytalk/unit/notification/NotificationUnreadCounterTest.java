@@ -0,0 +1,113 @@
+package com.puppytalk.unit.notification;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.puppytalk.notification.NotificationUnreadCounter;
+import com.puppytalk.notification.UnreadCountChunk;
+import java.util.List;
+import java.util.OptionalLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+@DisplayName("NotificationUnreadCounter 단위 테스트")
+class NotificationUnreadCounterTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private NotificationUnreadCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource("jdbc:h2:mem:unread_counter;DB_CLOSE_DELAY=-1"));
+        jdbcTemplate.execute("CREATE TABLE users (id BIGINT PRIMARY KEY)");
+        jdbcTemplate.execute("CREATE TABLE notifications (id BIGINT PRIMARY KEY, user_id BIGINT NOT NULL, status VARCHAR(20) NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE notification_unread_counters (user_id BIGINT PRIMARY KEY, unread_count BIGINT NOT NULL, "
+            + "created_at TIMESTAMP NOT NULL, updated_at TIMESTAMP NOT NULL, version BIGINT NOT NULL)");
+        for (long id = 1; id <= 3; id++) {
+            jdbcTemplate.update("INSERT INTO users VALUES (?)", id);
+        }
+        counter = new NotificationUnreadCounter(jdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE notification_unread_counters");
+        jdbcTemplate.execute("DROP TABLE notifications");
+        jdbcTemplate.execute("DROP TABLE users");
+    }
+
+    @DisplayName("카운터가 없으면 실제 개수로 초기화하고 이후에는 증감만 반영한다")
+    @Test
+    void add_WithoutCounter_InitializedThenIncremented() {
+        // when
+        counter.add(1L, 1, () -> 7L);
+        counter.add(1L, 1, () -> { throw new AssertionError("already initialized"); });
+        counter.add(1L, -3, () -> 0L);
+
+        // then
+        assertEquals(OptionalLong.of(5), counter.find(1L));
+        assertEquals(OptionalLong.empty(), counter.find(2L));
+    }
+
+    @DisplayName("카운터는 0 아래로 내려가지 않는다")
+    @Test
+    void add_BelowZero_Clamped() {
+        // given
+        counter.add(1L, 1, () -> 1L);
+
+        // when
+        counter.add(1L, -5, () -> 0L);
+
+        // then
+        assertEquals(OptionalLong.of(0), counter.find(1L));
+    }
+
+    @DisplayName("조건에 맞는 알림 수만큼 사용자별로 한 문장에서 차감한다")
+    @Test
+    void addMatching_DecrementsPerUser() {
+        // given
+        insertNotification(1L, 1L, "SENT");
+        insertNotification(2L, 1L, "SENT");
+        insertNotification(3L, 1L, "CREATED");
+        insertNotification(4L, 2L, "SENT");
+        counter.add(1L, 1, () -> 3L);
+        counter.add(2L, 1, () -> 1L);
+
+        // when
+        int updated = counter.addMatching("n.status = ?", -1, List.of("SENT"));
+
+        // then
+        assertEquals(2, updated);
+        assertEquals(OptionalLong.of(1), counter.find(1L));
+        assertEquals(OptionalLong.of(0), counter.find(2L));
+    }
+
+    @DisplayName("보정은 어긋난 카운터를 실제 개수로 맞추고 알림이 있는 사용자의 카운터를 만든다")
+    @Test
+    void reconcile_CorrectsDriftAndCreatesMissing() {
+        // given: 1번은 오차, 2번은 카운터 없음, 3번은 알림 없음
+        insertNotification(1L, 1L, "SENT");
+        insertNotification(2L, 1L, "READ");
+        insertNotification(3L, 2L, "FAILED");
+        insertNotification(4L, 2L, "SENT");
+        counter.add(1L, 1, () -> 4L);
+
+        // when
+        UnreadCountChunk first = counter.reconcile(null, 2);
+        UnreadCountChunk second = counter.reconcile(first.lastUserId(), 2);
+
+        // then
+        assertEquals(new UnreadCountChunk(2, 2, 2L, false), first);
+        assertEquals(new UnreadCountChunk(1, 0, 3L, true), second);
+        assertEquals(OptionalLong.of(1), counter.find(1L));
+        assertEquals(OptionalLong.of(2), counter.find(2L));
+        assertEquals(OptionalLong.empty(), counter.find(3L));
+    }
+
+    private void insertNotification(long id, long userId, String status) {
+        jdbcTemplate.update("INSERT INTO notifications VALUES (?, ?, ?)", id, userId, status);
+    }
+}
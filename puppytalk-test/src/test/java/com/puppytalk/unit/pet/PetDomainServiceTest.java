@@ -293,6 +293,11 @@ class PetDomainServiceTest {
             return Optional.empty();
         }
         
+        @Override
+        public List<Pet> findAllByIds(List<PetId> ids) {
+            return List.of();
+        }
+        
         
         @Override
         public boolean existsById(PetId id) {
@@ -0,0 +1,143 @@
+package com.puppytalk.unit.user;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.puppytalk.user.BoundedPasswordEncoder;
+import com.puppytalk.user.PasswordEncoder;
+import com.puppytalk.user.exception.PasswordHashingBusyException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("BoundedPasswordEncoder 단위 테스트")
+class BoundedPasswordEncoderTest {
+
+    private final BlockingPasswordEncoder delegate = new BlockingPasswordEncoder();
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        delegate.release.countDown();
+        if (encoder != null) {
+            encoder.destroy();
+        }
+    }
+
+    @DisplayName("연산 결과를 그대로 반환하고 대기/연산 시간을 기록한다")
+    @Test
+    void encodeAndMatches_DelegatesAndRecordsTimings() {
+        // given
+        delegate.release.countDown();
+        encoder = new BoundedPasswordEncoder(delegate, new BoundedPasswordEncoder.Settings(1, 1, Duration.ofSeconds(5)));
+        List<Duration> queueWaits = new ArrayList<>();
+        List<Duration> latencies = new ArrayList<>();
+        encoder.recordTimingsWith(queueWaits::add, latencies::add);
+
+        // when
+        String encoded = encoder.encode("password");
+        boolean matches = encoder.matches("password", encoded);
+
+        // then
+        assertEquals("hashed_password", encoded);
+        assertTrue(matches);
+        assertEquals(2, queueWaits.size());
+        assertEquals(2, latencies.size());
+    }
+
+    @DisplayName("실행 중 연산과 대기열이 가득 차면 즉시 거절한다")
+    @Test
+    void encode_Saturated_RejectedImmediately() throws Exception {
+        // given: 스레드 1개가 연산 중이고 대기열 1칸이 찬 상태
+        encoder = new BoundedPasswordEncoder(delegate, new BoundedPasswordEncoder.Settings(1, 1, Duration.ofSeconds(5)));
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("first"));
+        assertTrue(delegate.started.await(1, TimeUnit.SECONDS));
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("second"));
+        waitUntilQueued(1);
+
+        // when & then
+        assertThrows(PasswordHashingBusyException.class, () -> encoder.encode("third"));
+        assertEquals(1, encoder.rejectedCount());
+
+        delegate.release.countDown();
+        assertEquals("hashed_first", running.get(1, TimeUnit.SECONDS));
+        assertEquals("hashed_second", queued.get(1, TimeUnit.SECONDS));
+    }
+
+    @DisplayName("최대 대기 시간 안에 처리되지 않으면 거절한다")
+    @Test
+    void encode_WaitExceeded_Rejected() {
+        // given
+        encoder = new BoundedPasswordEncoder(delegate, new BoundedPasswordEncoder.Settings(1, 1, Duration.ofMillis(50)));
+
+        // when & then
+        assertThrows(PasswordHashingBusyException.class, () -> encoder.encode("password"));
+        assertEquals(1, encoder.rejectedCount());
+    }
+
+    @DisplayName("재암호화 여부 확인은 스레드 풀을 거치지 않는다")
+    @Test
+    void upgradeEncoding_Delegated() {
+        // given
+        encoder = new BoundedPasswordEncoder(delegate, new BoundedPasswordEncoder.Settings(1, 1, Duration.ofMillis(50)));
+
+        // when & then
+        assertTrue(encoder.upgradeEncoding("old_hash"));
+        assertEquals(0, encoder.rejectedCount());
+    }
+
+    private void waitUntilQueued(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (encoder.queuedCount() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(expected, encoder.queuedCount());
+    }
+
+    /**
+     * release 전까지 연산을 붙잡아 두는 인코더
+     */
+    private static class BlockingPasswordEncoder implements PasswordEncoder {
+
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public String encode(String rawPassword) {
+            await();
+            return "hashed_" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(String rawPassword, String encodedPassword) {
+            await();
+            return encodedPassword.equals("hashed_" + rawPassword);
+        }
+
+        @Override
+        public boolean upgradeEncoding(String encodedPassword) {
+            return encodedPassword.startsWith("old_");
+        }
+
+        @Override
+        public String getAlgorithm() {
+            return "TEST";
+        }
+
+        private void await() {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.puppytalk.unit.user;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.puppytalk.batch.BatchCheckpointRepository;
+import com.puppytalk.unit.support.NoOpTransactionManager;
+import com.puppytalk.user.DormantUserBatchJob;
+import com.puppytalk.user.DormantUserBatchJob.BatchReport;
+import com.puppytalk.user.DormantUserChunk;
+import com.puppytalk.user.UserDomainService;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("DormantUserBatchJob 단위 테스트")
+class DormantUserBatchJobTest {
+
+    private static final LocalDateTime CUTOFF = LocalDateTime.now().minusDays(28);
+
+    private UserDomainService userDomainService;
+    private InMemoryCheckpointRepository checkpointRepository;
+    private DormantUserBatchJob job;
+
+    @BeforeEach
+    void setUp() {
+        userDomainService = mock(UserDomainService.class);
+        checkpointRepository = new InMemoryCheckpointRepository();
+        job = new DormantUserBatchJob(userDomainService, checkpointRepository, new NoOpTransactionManager(), 2);
+        when(userDomainService.dormantCutoffTime()).thenReturn(CUTOFF);
+    }
+
+    @DisplayName("청크마다 체크포인트를 저장하고 완료 시 삭제한다")
+    @Test
+    void run_ProcessesChunks_CheckpointPerChunk() {
+        // given
+        when(userDomainService.markDormantChunk(eq(CUTOFF), isNull(), eq(2)))
+            .thenReturn(new DormantUserChunk(2, 2, 2L, false));
+        when(userDomainService.markDormantChunk(CUTOFF, 2L, 2))
+            .thenReturn(new DormantUserChunk(2, 1, 4L, false));
+        when(userDomainService.markDormantChunk(CUTOFF, 4L, 2))
+            .thenReturn(new DormantUserChunk(1, 1, 5L, true));
+
+        // when
+        BatchReport report = job.run();
+
+        // then
+        assertEquals(new BatchReport(null, 3, 5, 4, report.durationMillis()), report);
+        assertEquals(List.of(2L, 4L, 5L), checkpointRepository.savedIds);
+        assertEquals(Optional.empty(), checkpointRepository.findLastProcessedId("dormant-users"));
+    }
+
+    @DisplayName("저장된 체크포인트 다음부터 이어서 처리한다")
+    @Test
+    void run_WithCheckpoint_Resumes() {
+        // given
+        checkpointRepository.save("dormant-users", 100L);
+        when(userDomainService.markDormantChunk(CUTOFF, 100L, 2))
+            .thenReturn(new DormantUserChunk(1, 1, 101L, true));
+
+        // when
+        BatchReport report = job.run();
+
+        // then
+        assertEquals(100L, report.resumedFrom());
+        assertEquals(1, report.marked());
+        verify(userDomainService).markDormantChunk(CUTOFF, 100L, 2);
+    }
+
+    @DisplayName("처리 중 실패하면 마지막으로 커밋된 청크의 체크포인트가 남는다")
+    @Test
+    void run_Failure_KeepsLastCommittedCheckpoint() {
+        // given
+        when(userDomainService.markDormantChunk(eq(CUTOFF), isNull(), eq(2)))
+            .thenReturn(new DormantUserChunk(2, 2, 2L, false));
+        when(userDomainService.markDormantChunk(CUTOFF, 2L, 2))
+            .thenThrow(new IllegalStateException("DB unavailable"));
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> job.run());
+        assertEquals(Optional.of(2L), checkpointRepository.findLastProcessedId("dormant-users"));
+    }
+
+    @DisplayName("전환 대상이 없으면 체크포인트를 남기지 않는다")
+    @Test
+    void run_NoCandidates_NoCheckpoint() {
+        // given
+        when(userDomainService.markDormantChunk(any(), isNull(), eq(2)))
+            .thenReturn(new DormantUserChunk(0, 0, null, true));
+
+        // when
+        BatchReport report = job.run();
+
+        // then
+        assertEquals(0, report.chunks());
+        assertNull(report.resumedFrom());
+        assertEquals(List.of(), checkpointRepository.savedIds);
+    }
+
+    private static class InMemoryCheckpointRepository implements BatchCheckpointRepository {
+
+        private final Map<String, Long> checkpoints = new HashMap<>();
+        private final List<Long> savedIds = new ArrayList<>();
+
+        @Override
+        public Optional<Long> findLastProcessedId(String jobName) {
+            return Optional.ofNullable(checkpoints.get(jobName));
+        }
+
+        @Override
+        public void save(String jobName, long lastProcessedId) {
+            checkpoints.put(jobName, lastProcessedId);
+            savedIds.add(lastProcessedId);
+        }
+
+        @Override
+        public void delete(String jobName) {
+            checkpoints.remove(jobName);
+        }
+    }
+}
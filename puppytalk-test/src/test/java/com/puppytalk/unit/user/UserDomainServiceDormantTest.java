@@ -7,8 +7,10 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -39,11 +41,11 @@ class UserDomainServiceDormantTest {
         
         // 휴면 대상 사용자들 설정
         User dormantUser1 = User.of(userId1, "user1", "user1@test.com", "pass1", 
-                                  now, now, dormantDate, false);
+                                  now, now, dormantDate, false, false);
         User dormantUser2 = User.of(userId2, "user2", "user2@test.com", "pass2", 
-                                  now, now, dormantDate, false);
+                                  now, now, dormantDate, false, false);
         User deletedUser = User.of(userId3, "user3", "user3@test.com", "pass3", 
-                                 now, now, dormantDate, true); // 삭제된 사용자
+                                 now, now, dormantDate, true, false); // 삭제된 사용자
         
         // Mock 설정
         mockUserRepository.setInactiveUserIds(List.of(1L, 2L, 3L));
@@ -56,7 +58,49 @@ class UserDomainServiceDormantTest {
 
         // then
         assertEquals(2, processedCount); // 삭제된 사용자 제외하고 2명 처리
-        assertTrue(mockUserRepository.isInactiveUsersCalled());
+        assertTrue(mockUserRepository.isDormantCandidatesCalled());
+    }
+
+    @Test
+    @DisplayName("휴면 처리 - 전환된 사용자는 휴면 상태로 저장되어 다시 처리되지 않음")
+    void processDormantUsers_persists_dormant_flag() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        UserId userId = UserId.from(1L);
+        mockUserRepository.setInactiveUserIds(List.of(1L));
+        mockUserRepository.addUser(userId, User.of(userId, "user1", "user1@test.com", "pass1",
+                                                   now, now, now.minusDays(User.DORMANT_DAYS + 1), false, false));
+
+        // when
+        int firstRun = userDomainService.processDormantUsers();
+        int secondRun = userDomainService.processDormantUsers();
+
+        // then
+        assertEquals(1, firstRun);
+        assertEquals(0, secondRun);
+        assertTrue(mockUserRepository.isMarkedDormant(1L));
+    }
+
+    @Test
+    @DisplayName("휴면 청크 처리 - 청크 크기만큼 조회하고 마지막 ID를 다음 시작점으로 반환")
+    void markDormantChunk_returns_keyset_position() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        for (long id = 1; id <= 3; id++) {
+            UserId userId = UserId.from(id);
+            mockUserRepository.addUser(userId, User.of(userId, "user" + id, "user" + id + "@test.com", "pass",
+                                                       now, now, now.minusDays(User.DORMANT_DAYS + 1), false, false));
+        }
+        mockUserRepository.setInactiveUserIds(List.of(1L, 2L, 3L));
+        LocalDateTime cutoffTime = userDomainService.dormantCutoffTime();
+
+        // when
+        DormantUserChunk first = userDomainService.markDormantChunk(cutoffTime, null, 2);
+        DormantUserChunk second = userDomainService.markDormantChunk(cutoffTime, first.lastUserId(), 2);
+
+        // then
+        assertEquals(new DormantUserChunk(2, 2, 2L, false), first);
+        assertEquals(new DormantUserChunk(1, 1, 3L, true), second);
     }
 
     @Test
@@ -68,7 +112,7 @@ class UserDomainServiceDormantTest {
         
         UserId userId1 = UserId.from(1L);
         User activeUser = User.of(userId1, "user1", "user1@test.com", "pass1", 
-                                now, now, recentDate, false);
+                                now, now, recentDate, false, false);
         
         // Mock 설정
         mockUserRepository.setInactiveUserIds(List.of(1L));
@@ -96,6 +140,26 @@ class UserDomainServiceDormantTest {
         assertEquals(0, processedCount); // 존재하지 않는 사용자는 스킵
     }
 
+    @Test
+    @DisplayName("비활성 사용자 순회 - 키셋 페이지 단위로 조회")
+    void forEachInactiveUserPage_iterates_in_keyset_pages() {
+        // given
+        mockUserRepository.setInactiveUserIds(LongStream.rangeClosed(1, 2500).boxed().toList());
+        List<Integer> pageSizes = new ArrayList<>();
+        List<UserId> visited = new ArrayList<>();
+
+        // when
+        userDomainService.forEachInactiveUserPage(LocalDateTime.now(), 1000, page -> {
+            pageSizes.add(page.size());
+            visited.addAll(page);
+        });
+
+        // then
+        assertEquals(List.of(1000, 1000, 500), pageSizes);
+        assertEquals(2500, visited.size());
+        assertEquals(UserId.from(2500L), visited.get(visited.size() - 1));
+    }
+
     @Test
     @DisplayName("사용자 활성화 - 마지막 활동 시간 업데이트")
     void activateUser_updates_last_active_time() {
@@ -105,7 +169,7 @@ class UserDomainServiceDormantTest {
         LocalDateTime oldDate = now.minusDays(30);
         
         User dormantUser = User.of(userId, "user1", "user1@test.com", "pass1", 
-                                 now, now, oldDate, false);
+                                 now, now, oldDate, false, true);
         mockUserRepository.addUser(userId, dormantUser);
 
         // when
@@ -136,9 +200,11 @@ class UserDomainServiceDormantTest {
      */
     private static class MockUserRepository implements UserRepository {
         private boolean inactiveUsersCalled = false;
+        private boolean dormantCandidatesCalled = false;
         private boolean saveCalled = false;
         private List<Long> inactiveUserIds = List.of();
         private java.util.Map<UserId, User> users = new java.util.HashMap<>();
+        private final java.util.Set<Long> dormantUserIds = new java.util.HashSet<>();
         private User lastSavedUser;
 
         public void setInactiveUserIds(List<Long> ids) {
@@ -153,6 +219,14 @@ class UserDomainServiceDormantTest {
             return inactiveUsersCalled;
         }
 
+        public boolean isMarkedDormant(Long userId) {
+            return dormantUserIds.contains(userId);
+        }
+
+        public boolean isDormantCandidatesCalled() {
+            return dormantCandidatesCalled;
+        }
+
         public boolean isSaveCalled() {
             return saveCalled;
         }
@@ -162,9 +236,45 @@ class UserDomainServiceDormantTest {
         }
 
         @Override
-        public List<Long> findInactiveUsers(LocalDateTime cutoffTime) {
+        public List<Long> findInactiveUserIds(LocalDateTime cutoffTime, Long afterUserId, int limit) {
             this.inactiveUsersCalled = true;
-            return inactiveUserIds;
+            long afterId = afterUserId != null ? afterUserId : 0L;
+            return inactiveUserIds.stream()
+                .filter(id -> id > afterId)
+                .limit(limit)
+                .toList();
+        }
+
+        @Override
+        public List<Long> findDormantCandidateIds(LocalDateTime cutoffTime, Long afterUserId, int limit) {
+            this.dormantCandidatesCalled = true;
+            long afterId = afterUserId != null ? afterUserId : 0L;
+            return inactiveUserIds.stream()
+                .filter(id -> id > afterId)
+                .filter(id -> isDormantCandidate(id, cutoffTime))
+                .limit(limit)
+                .toList();
+        }
+
+        @Override
+        public int markDormant(List<Long> userIds, LocalDateTime cutoffTime) {
+            int marked = 0;
+            for (Long id : userIds) {
+                if (isDormantCandidate(id, cutoffTime)) {
+                    dormantUserIds.add(id);
+                    marked++;
+                }
+            }
+            return marked;
+        }
+
+        /**
+         * is_dormant 컬럼과 같이 저장소에 기록된 휴면 상태로 대상 여부를 판단한다
+         */
+        private boolean isDormantCandidate(Long id, LocalDateTime cutoffTime) {
+            User user = users.get(UserId.from(id));
+            return user != null && !user.isDeleted() && !dormantUserIds.contains(id)
+                && user.isInactiveSince(cutoffTime);
         }
 
         @Override
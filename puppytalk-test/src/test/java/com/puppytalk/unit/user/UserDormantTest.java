@@ -14,68 +14,72 @@ import static org.junit.jupiter.api.Assertions.*;
 class UserDormantTest {
 
     @Test
-    @DisplayName("4주 미만 비활성 사용자는 활성 상태")
-    void user_active_when_last_activity_within_4_weeks() {
+    @DisplayName("4주 미만 비활성 사용자는 휴면 전환 대상이 아니다")
+    void user_not_dormant_candidate_when_last_activity_within_4_weeks() {
         // given
         UserId userId = UserId.from(1L);
         LocalDateTime now = LocalDateTime.now();
         LocalDateTime recentActivity = now.minusDays(20); // 20일 전 활동
         
         User user = User.of(userId, "testuser", "test@example.com", "password", 
-                           now, now, recentActivity, false);
+                           now, now, recentActivity, false, false);
 
         // when & then
+        assertFalse(user.isInactiveSince(now.minusDays(User.DORMANT_DAYS)));
         assertFalse(user.isDormant());
         assertEquals(UserStatus.ACTIVE, user.getCurrentStatus());
         assertTrue(user.canReceiveNotifications());
     }
 
     @Test
-    @DisplayName("정확히 4주(28일) 전 활동한 사용자는 휴면 상태")
-    void user_dormant_when_last_activity_exactly_4_weeks_ago() {
+    @DisplayName("정확히 4주(28일) 전 활동한 사용자는 휴면 전환 대상")
+    void user_dormant_candidate_when_last_activity_exactly_4_weeks_ago() {
         // given
         UserId userId = UserId.from(1L);
         LocalDateTime now = LocalDateTime.now();
         LocalDateTime exactlyDormantDate = now.minusDays(User.DORMANT_DAYS);
         
         User user = User.of(userId, "testuser", "test@example.com", "password", 
-                           now, now, exactlyDormantDate, false);
+                           now, now, exactlyDormantDate, false, false);
 
         // when & then
-        assertTrue(user.isDormant());
-        assertEquals(UserStatus.DORMANT, user.getCurrentStatus());
-        assertFalse(user.canReceiveNotifications());
+        assertTrue(user.isInactiveSince(now.minusDays(User.DORMANT_DAYS)));
     }
 
     @Test
-    @DisplayName("4주 초과 비활성 사용자는 휴면 상태")
-    void user_dormant_when_last_activity_over_4_weeks_ago() {
+    @DisplayName("휴면 여부는 마지막 활동 시간이 아니라 저장된 휴면 상태로 판단")
+    void user_dormant_status_follows_stored_flag() {
         // given
         UserId userId = UserId.from(1L);
         LocalDateTime now = LocalDateTime.now();
         LocalDateTime longTimeAgo = now.minusDays(35); // 35일 전 활동
         
-        User user = User.of(userId, "testuser", "test@example.com", "password", 
-                           now, now, longTimeAgo, false);
+        User notYetMarked = User.of(userId, "testuser", "test@example.com", "password", 
+                           now, now, longTimeAgo, false, false);
+        User marked = User.of(userId, "testuser", "test@example.com", "password", 
+                           now, now, longTimeAgo, false, true);
 
         // when & then
-        assertTrue(user.isDormant());
-        assertEquals(UserStatus.DORMANT, user.getCurrentStatus());
-        assertFalse(user.canReceiveNotifications());
+        assertTrue(notYetMarked.isInactiveSince(now.minusDays(User.DORMANT_DAYS)));
+        assertFalse(notYetMarked.isDormant());
+        assertEquals(UserStatus.ACTIVE, notYetMarked.getCurrentStatus());
+        assertTrue(marked.isDormant());
+        assertEquals(UserStatus.DORMANT, marked.getCurrentStatus());
+        assertFalse(marked.canReceiveNotifications());
     }
 
     @Test
-    @DisplayName("lastActiveAt이 null인 사용자는 활성 상태")
-    void user_active_when_last_active_at_is_null() {
+    @DisplayName("lastActiveAt이 null인 사용자는 휴면 전환 대상이 아니다")
+    void user_not_dormant_candidate_when_last_active_at_is_null() {
         // given
         UserId userId = UserId.from(1L);
         LocalDateTime now = LocalDateTime.now();
         
         User user = User.of(userId, "testuser", "test@example.com", "password", 
-                           now, now, null, false);
+                           now, now, null, false, false);
 
         // when & then
-        assertFalse(user.isDormant());
+        assertFalse(user.isInactiveSince(now.minusDays(User.DORMANT_DAYS)));
         assertEquals(UserStatus.ACTIVE, user.getCurrentStatus());
         assertTrue(user.canReceiveNotifications());
     }
@@ -89,10 +93,10 @@ class UserDormantTest {
         LocalDateTime longTimeAgo = now.minusDays(50); // 50일 전 활동
         
         User user = User.of(userId, "testuser", "test@example.com", "password", 
-                           now, now, longTimeAgo, true); // 삭제된 사용자
+                           now, now, longTimeAgo, true, true); // 삭제된 휴면 사용자
 
         // when & then
-        assertTrue(user.isDormant()); // 휴면 조건은 만족
+        assertTrue(user.isDormant());
         assertEquals(UserStatus.DELETED, user.getCurrentStatus()); // 하지만 삭제 상태
         assertFalse(user.canReceiveNotifications()); // 알림 수신 불가
     }
@@ -106,7 +110,7 @@ class UserDormantTest {
         LocalDateTime longTimeAgo = now.minusDays(35); // 35일 전 활동
         
         User dormantUser = User.of(userId, "testuser", "test@example.com", "password", 
-                                 now, now, longTimeAgo, false);
+                                 now, now, longTimeAgo, false, true);
         
         // when - 활동 시간 업데이트
         User activeUser = dormantUser.updateLastActiveTime();
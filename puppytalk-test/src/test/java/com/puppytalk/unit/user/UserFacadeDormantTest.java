@@ -76,11 +76,11 @@ class UserFacadeDormantTest {
         // 활성 사용자만 알림 수신 가능하도록 Mock 설정
         LocalDateTime now = LocalDateTime.now();
         User activeUser = User.of(activeUserId, "active", "active@test.com", "pass", 
-                                now, now, now, false);
+                                now, now, now, false, false);
         User dormantUser = User.of(dormantUserId, "dormant", "dormant@test.com", "pass", 
-                                 now, now, now.minusDays(30), false);
+                                 now, now, now.minusDays(30), false, true);
         User deletedUser = User.of(deletedUserId, "deleted", "deleted@test.com", "pass", 
-                                 now, now, now, true);
+                                 now, now, now, true, false);
         
         mockUserDomainService.addUser(activeUserId, activeUser);
         mockUserDomainService.addUser(dormantUserId, dormantUser);
@@ -119,46 +119,15 @@ class UserFacadeDormantTest {
         });
     }
 
-    @Test
-    @DisplayName("비활성 사용자 ID 조회 - 정상 처리")
-    void findInactiveUserIds_returns_inactive_users() {
-        // given
-        LocalDateTime cutoffTime = LocalDateTime.now().minusHours(2);
-        List<UserId> inactiveUsers = List.of(UserId.from(1L), UserId.from(2L));
-        mockUserDomainService.setFindInactiveUsersResult(inactiveUsers);
-
-        // when
-        List<UserId> result = userFacade.findInactiveUserIds(cutoffTime);
-
-        // then
-        assertEquals(2, result.size());
-        assertEquals(inactiveUsers, result);
-        assertTrue(mockUserDomainService.isFindInactiveUsersCalled());
-    }
-
-    @Test
-    @DisplayName("비활성 사용자 ID 조회 - null cutoffTime으로 예외 발생")
-    void findInactiveUserIds_throws_exception_for_null_cutoff_time() {
-        // given
-        LocalDateTime cutoffTime = null;
-
-        // when & then
-        assertThrows(IllegalArgumentException.class, () -> {
-            userFacade.findInactiveUserIds(cutoffTime);
-        });
-    }
-
     /**
      * Mock UserDomainService 구현체
      */
     private static class MockUserDomainService extends UserDomainService {
         private boolean processDormantUsersCalled = false;
         private boolean activateUserCalled = false;
-        private boolean findInactiveUsersCalled = false;
         
         private int processDormantUsersResult = 0;
         private UserId lastActivatedUserId;
-        private List<UserId> findInactiveUsersResult = List.of();
         private java.util.Map<UserId, User> users = new java.util.HashMap<>();
 
         public MockUserDomainService() {
@@ -169,10 +138,6 @@ class UserFacadeDormantTest {
             this.processDormantUsersResult = result;
         }
 
-        public void setFindInactiveUsersResult(List<UserId> result) {
-            this.findInactiveUsersResult = result;
-        }
-
         public void addUser(UserId userId, User user) {
             this.users.put(userId, user);
         }
@@ -185,10 +150,6 @@ class UserFacadeDormantTest {
             return activateUserCalled;
         }
 
-        public boolean isFindInactiveUsersCalled() {
-            return findInactiveUsersCalled;
-        }
-
         public UserId getLastActivatedUserId() {
             return lastActivatedUserId;
         }
@@ -205,12 +166,6 @@ class UserFacadeDormantTest {
             this.lastActivatedUserId = userId;
         }
 
-        @Override
-        public List<UserId> findInactiveUsers(LocalDateTime cutoffTime) {
-            this.findInactiveUsersCalled = true;
-            return findInactiveUsersResult;
-        }
-
         @Override
         public User getUserById(UserId userId) {
             User user = users.get(userId);
@@ -152,7 +152,7 @@ class UserTest {
 
         // when
         LocalDateTime lastActiveAt = LocalDateTime.now();
-        User user = User.of(userId, username, email, encryptedPassword, createdAt, updatedAt, lastActiveAt, isDeleted);
+        User user = User.of(userId, username, email, encryptedPassword, createdAt, updatedAt, lastActiveAt, isDeleted, false);
 
         // then
         assertEquals(userId, user.getId());
@@ -180,7 +180,7 @@ class UserTest {
         // when & then
         IllegalArgumentException exception = assertThrows(
             IllegalArgumentException.class,
-            () -> User.of(userId, username, email, encryptedPassword, createdAt, updatedAt, lastActiveAt, isDeleted)
+            () -> User.of(userId, username, email, encryptedPassword, createdAt, updatedAt, lastActiveAt, isDeleted, false)
         );
 
         assertTrue(exception.getMessage().contains("UserId"));
@@ -202,7 +202,7 @@ class UserTest {
         // when & then
         IllegalArgumentException exception = assertThrows(
             IllegalArgumentException.class,
-            () -> User.of(userId, username, email, encryptedPassword, createdAt, updatedAt, lastActiveAt, isDeleted)
+            () -> User.of(userId, username, email, encryptedPassword, createdAt, updatedAt, lastActiveAt, isDeleted, false)
         );
 
         assertEquals("CreatedAt must not be null", exception.getMessage());
@@ -349,9 +349,9 @@ class UserTest {
         UserId userId = UserId.from(1L);
         LocalDateTime now = LocalDateTime.now();
         User user1 = User.of(userId, "user1", "user1@test.com", "pass1", 
-                           now, now, now, false);
+                           now, now, now, false, false);
         User user2 = User.of(userId, "user2", "user2@test.com", "pass2", 
-                           now, now, now, false);
+                           now, now, now, false, false);
 
         // when & then
         assertEquals(user1, user2); // 같은 ID이면 equals
@@ -366,9 +366,9 @@ class UserTest {
         UserId userId2 = UserId.from(2L);
         LocalDateTime now = LocalDateTime.now();
         User user1 = User.of(userId1, "user1", "user1@test.com", "pass1", 
-                           now, now, now, false);
+                           now, now, now, false, false);
         User user2 = User.of(userId2, "user1", "user1@test.com", "pass1", 
-                           now, now, now, false);
+                           now, now, now, false, false);
 
         // when & then
         assertNotEquals(user1, user2); // 다른 ID이면 not equals
@@ -380,7 +380,7 @@ class UserTest {
         // given
         UserId userId = UserId.from(1L);
         User user = User.of(userId, "testuser", "test@example.com", "password", 
-                          LocalDateTime.now(), LocalDateTime.now(), false);
+                          LocalDateTime.now(), LocalDateTime.now(), LocalDateTime.now(), false, false);
 
         // when
         String result = user.toString();
@@ -0,0 +1,124 @@
+package com.puppytalk.unit.user;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.puppytalk.user.UserId;
+import com.puppytalk.user.WriteBehindUserActivityRecorder;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+@DisplayName("WriteBehindUserActivityRecorder 단위 테스트")
+class WriteBehindUserActivityRecorderTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+    private JdbcTemplate jdbcTemplate;
+    private WriteBehindUserActivityRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource("jdbc:h2:mem:user_activity;DB_CLOSE_DELAY=-1"));
+        jdbcTemplate.execute("CREATE TABLE users (id BIGINT PRIMARY KEY, last_active_at TIMESTAMP NOT NULL, is_dormant BOOLEAN NOT NULL, version BIGINT NOT NULL)");
+        for (long id = 1; id <= 5; id++) {
+            jdbcTemplate.update("INSERT INTO users VALUES (?, ?, TRUE, 0)", id, Timestamp.valueOf(BASE.minusDays(1)));
+        }
+        recorder = new WriteBehindUserActivityRecorder(jdbcTemplate, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE users");
+    }
+
+    @DisplayName("같은 사용자의 기록은 가장 최근 시각 하나로 합쳐져 반영된다")
+    @Test
+    void record_SameUser_Coalesced() {
+        // when
+        recorder.record(UserId.from(1L), BASE.plusSeconds(1));
+        recorder.record(UserId.from(1L), BASE.plusSeconds(3));
+        recorder.record(UserId.from(1L), BASE.plusSeconds(2));
+
+        // then
+        assertEquals(1, recorder.pendingCount());
+        assertEquals(1, recorder.flush());
+        assertEquals(BASE.plusSeconds(3), lastActiveAt(1L));
+        assertEquals(0, recorder.pendingCount());
+    }
+
+    @DisplayName("여러 사용자를 배치 크기 단위의 UPDATE로 반영하고 휴면을 해제하며 버전은 변경하지 않는다")
+    @Test
+    void flush_ManyUsers_BatchedWithoutVersionBump() {
+        // given
+        for (long id = 1; id <= 5; id++) {
+            recorder.record(UserId.from(id), BASE.plusSeconds(id));
+        }
+
+        // when
+        int flushed = recorder.flush();
+
+        // then
+        assertEquals(5, flushed);
+        for (long id = 1; id <= 5; id++) {
+            assertEquals(BASE.plusSeconds(id), lastActiveAt(id));
+        }
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT SUM(version) FROM users", Long.class));
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users WHERE is_dormant", Long.class));
+    }
+
+    @DisplayName("이미 저장된 더 최근 활동시각은 덮어쓰지 않는다")
+    @Test
+    void flush_OlderThanStored_Kept() {
+        // given
+        jdbcTemplate.update("UPDATE users SET last_active_at = ? WHERE id = 1", Timestamp.valueOf(BASE.plusHours(1)));
+        recorder.record(UserId.from(1L), BASE);
+
+        // when
+        recorder.flush();
+
+        // then
+        assertEquals(BASE.plusHours(1), lastActiveAt(1L));
+    }
+
+    @DisplayName("반영에 실패한 기록은 다음 주기에 다시 반영된다")
+    @Test
+    void flush_Failure_Retained() {
+        // given
+        recorder.record(UserId.from(1L), BASE);
+        jdbcTemplate.execute("ALTER TABLE users RENAME TO users_renamed");
+
+        // when
+        int flushed = recorder.flush();
+        jdbcTemplate.execute("ALTER TABLE users_renamed RENAME TO users");
+
+        // then
+        assertEquals(0, flushed);
+        assertEquals(1, recorder.pendingCount());
+        assertEquals(1, recorder.flush());
+        assertEquals(BASE, lastActiveAt(1L));
+    }
+
+    @DisplayName("종료 시 남은 기록을 반영한다")
+    @Test
+    void destroy_FlushesPending() {
+        // given
+        recorder.record(UserId.from(2L), BASE);
+
+        // when
+        recorder.destroy();
+
+        // then
+        assertEquals(BASE, lastActiveAt(2L));
+    }
+
+    private LocalDateTime lastActiveAt(long userId) {
+        return jdbcTemplate.queryForObject("SELECT last_active_at FROM users WHERE id = ?", Timestamp.class, userId)
+            .toLocalDateTime();
+    }
+}
@@ -113,4 +113,15 @@ class BCryptPasswordEncoderTest {
         assertThatThrownBy(() -> new BCryptPasswordEncoder(32))
                 .isInstanceOf(IllegalArgumentException.class);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("현재 strength보다 낮은 해시는 재암호화 대상이다")
+    void upgradeEncodingForWeakerHash() {
+        String weakHash = new BCryptPasswordEncoder(4).encode("password");
+        String currentHash = new BCryptPasswordEncoder(5).encode("password");
+
+        assertThat(new BCryptPasswordEncoder(5).upgradeEncoding(weakHash)).isTrue();
+        assertThat(new BCryptPasswordEncoder(5).upgradeEncoding(currentHash)).isFalse();
+        assertThat(new BCryptPasswordEncoder(5).upgradeEncoding(null)).isFalse();
+    }
+}
@@ -1,6 +1,7 @@
 package com.puppytalk.user;
 
 import com.puppytalk.user.exception.DuplicateUserException;
+import com.puppytalk.user.exception.PasswordHashingBusyException;
 import com.puppytalk.user.exception.UserNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -305,6 +306,53 @@ class UserDomainServiceTest {
             User updatedUser = userRepository.savedUsers.get(0);
             assertThat(updatedUser.getPassword()).isEqualTo("encoded_" + newPassword);
         }
+
+        @Test
+        @DisplayName("암호화 설정이 바뀐 해시는 로그인 시 다시 암호화하여 저장한다")
+        void upgradePasswordIfNeeded_WeakerHash_Rehashed() {
+            // given
+            User user = createTestUser(UserId.from(1L));
+            passwordEncoder.upgradeResult = true;
+
+            // when
+            boolean upgraded = userDomainService.upgradePasswordIfNeeded(user, "password123");
+
+            // then
+            assertThat(upgraded).isTrue();
+            assertThat(userRepository.savedUsers).hasSize(1);
+            assertThat(userRepository.savedUsers.get(0).getPassword()).isEqualTo("encoded_password123");
+        }
+
+        @Test
+        @DisplayName("현재 설정의 해시는 다시 암호화하지 않는다")
+        void upgradePasswordIfNeeded_CurrentHash_Skipped() {
+            // given
+            User user = createTestUser(UserId.from(1L));
+
+            // when
+            boolean upgraded = userDomainService.upgradePasswordIfNeeded(user, "password123");
+
+            // then
+            assertThat(upgraded).isFalse();
+            assertThat(passwordEncoder.encodeCalled).isFalse();
+            assertThat(userRepository.savedUsers).isEmpty();
+        }
+
+        @Test
+        @DisplayName("암호화기가 포화 상태이면 재암호화를 건너뛴다")
+        void upgradePasswordIfNeeded_EncoderBusy_Skipped() {
+            // given
+            User user = createTestUser(UserId.from(1L));
+            passwordEncoder.upgradeResult = true;
+            passwordEncoder.busy = true;
+
+            // when
+            boolean upgraded = userDomainService.upgradePasswordIfNeeded(user, "password123");
+
+            // then
+            assertThat(upgraded).isFalse();
+            assertThat(userRepository.savedUsers).isEmpty();
+        }
     }
 
     @Nested
@@ -363,26 +411,43 @@ class UserDomainServiceTest {
             assertThat(updatedUser.getLastActiveAt()).isAfter(originalActiveTime);
         }
 
+        @Test
+        @DisplayName("활동시간 기록기가 있으면 사용자를 조회/저장하지 않고 기록만 한다")
+        void updateLastActiveTime_WithRecorder_RecordsOnly() {
+            // given
+            UserId userId = UserId.from(1L);
+            List<UserId> recordedUserIds = new java.util.ArrayList<>();
+            UserDomainService service = new UserDomainService(
+                userRepository, passwordEncoder, (id, activeAt) -> recordedUserIds.add(id));
+
+            // when
+            service.updateLastActiveTime(userId);
+
+            // then
+            assertThat(recordedUserIds).containsExactly(userId);
+            assertThat(userRepository.savedUsers).isEmpty();
+        }
+
         @Test
         @DisplayName("비활성 사용자 조회에 성공한다")
-        void findInactiveUsers_WithCutoffTime_ReturnsInactiveUsers() {
+        void forEachInactiveUserPage_WithCutoffTime_ReturnsInactiveUsers() {
             // given
             LocalDateTime cutoffTime = LocalDateTime.now().minusDays(1);
-            List<Long> inactiveUserIds = List.of(1L, 2L, 3L);
-            userRepository.inactiveUserIds = inactiveUserIds;
+            userRepository.inactiveUserIds = List.of(1L, 2L, 3L);
+            List<UserId> result = new java.util.ArrayList<>();
 
             // when
-            List<Long> result = userDomainService.findInactiveUsers(cutoffTime);
+            userDomainService.forEachInactiveUserPage(cutoffTime, 1000, result::addAll);
 
             // then
-            assertThat(result).isEqualTo(inactiveUserIds);
+            assertThat(result).containsExactly(UserId.from(1L), UserId.from(2L), UserId.from(3L));
         }
     }
 
     // 테스트용 더미 구현체들
     private User createTestUser(UserId userId) {
         LocalDateTime now = LocalDateTime.now();
-        return User.of(userId, "testuser", "test@example.com", "encoded_password", now, now, now, false);
+        return User.of(userId, "testuser", "test@example.com", "encoded_password", now, now, now, false, false);
     }
 
     private static class TestUserRepository implements UserRepository {
@@ -443,8 +508,22 @@ class UserDomainServiceTest {
         }
 
         @Override
-        public List<Long> findInactiveUsers(LocalDateTime cutoffTime) {
-            return inactiveUserIds;
+        public List<Long> findInactiveUserIds(LocalDateTime cutoffTime, Long afterUserId, int limit) {
+            long afterId = afterUserId != null ? afterUserId : 0L;
+            return inactiveUserIds.stream()
+                .filter(id -> id > afterId)
+                .limit(limit)
+                .toList();
+        }
+
+        @Override
+        public List<Long> findDormantCandidateIds(LocalDateTime cutoffTime, Long afterUserId, int limit) {
+            return List.of();
+        }
+
+        @Override
+        public int markDormant(List<Long> userIds, LocalDateTime cutoffTime) {
+            return 0;
         }
     }
 
@@ -452,13 +531,23 @@ class UserDomainServiceTest {
         private boolean encodeCalled = false;
         private boolean matchesCalled = false;
         private boolean matchesResult = true;
+        private boolean upgradeResult = false;
+        private boolean busy = false;
 
         @Override
         public String encode(String rawPassword) {
             encodeCalled = true;
+            if (busy) {
+                throw PasswordHashingBusyException.queueFull(0);
+            }
             return "encoded_" + rawPassword;
         }
 
+        @Override
+        public boolean upgradeEncoding(String encodedPassword) {
+            return upgradeResult;
+        }
+
         @Override
         public boolean matches(String rawPassword, String encodedPassword) {
             matchesCalled = true;
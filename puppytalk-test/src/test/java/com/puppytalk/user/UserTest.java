@@ -151,7 +151,7 @@ class UserTest {
             LocalDateTime lastActiveAt = LocalDateTime.now().minusHours(1);
 
             // when
-            User user = User.of(userId, username, email, password, createdAt, updatedAt, lastActiveAt, false);
+            User user = User.of(userId, username, email, password, createdAt, updatedAt, lastActiveAt, false, false);
 
             // then
             assertThat(user.getId()).isEqualTo(userId);
@@ -174,7 +174,7 @@ class UserTest {
             LocalDateTime createdAt = LocalDateTime.now();
 
             // when & then
-            assertThatThrownBy(() -> User.of(null, username, email, password, createdAt, null, null, false))
+            assertThatThrownBy(() -> User.of(null, username, email, password, createdAt, null, null, false, false))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("UserId");
         }
@@ -189,7 +189,7 @@ class UserTest {
             String password = "encrypted_password_123";
 
             // when & then
-            assertThatThrownBy(() -> User.of(userId, username, email, password, null, null, null, false))
+            assertThatThrownBy(() -> User.of(userId, username, email, password, null, null, null, false, false))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("CreatedAt must not be null");
         }
@@ -203,7 +203,7 @@ class UserTest {
             UserId userId = UserId.from(1L);
             LocalDateTime baseTime = LocalDateTime.now().minusDays(1);
             return User.of(userId, "testuser", "test@example.com", "password", 
-                baseTime, baseTime, baseTime, false);
+                baseTime, baseTime, baseTime, false, false);
         }
 
         @Test
@@ -294,8 +294,8 @@ class UserTest {
             UserId userId = UserId.from(1L);
             LocalDateTime now = LocalDateTime.now();
             
-            User user1 = User.of(userId, "user1", "user1@example.com", "password1", now, now, now, false);
-            User user2 = User.of(userId, "user2", "user2@example.com", "password2", now, now, now, false);
+            User user1 = User.of(userId, "user1", "user1@example.com", "password1", now, now, now, false, false);
+            User user2 = User.of(userId, "user2", "user2@example.com", "password2", now, now, now, false, false);
 
             // when & then
             assertThat(user1).isEqualTo(user2);
@@ -308,8 +308,8 @@ class UserTest {
             // given
             LocalDateTime now = LocalDateTime.now();
             
-            User user1 = User.of(UserId.from(1L), "user", "user@example.com", "password", now, now, now, false);
-            User user2 = User.of(UserId.from(2L), "user", "user@example.com", "password", now, now, now, false);
+            User user1 = User.of(UserId.from(1L), "user", "user@example.com", "password", now, now, now, false, false);
+            User user2 = User.of(UserId.from(2L), "user", "user@example.com", "password", now, now, now, false, false);
 
             // when & then
             assertThat(user1).isNotEqualTo(user2);
@@ -338,7 +338,7 @@ class UserTest {
             // given
             UserId userId = UserId.from(1L);
             LocalDateTime now = LocalDateTime.now();
-            User user = User.of(userId, "testuser", "test@example.com", "password", now, now, now, false);
+            User user = User.of(userId, "testuser", "test@example.com", "password", now, now, now, false, false);
 
             // when
             String result = user.toString();